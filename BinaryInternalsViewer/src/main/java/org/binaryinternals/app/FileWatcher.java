@@ -0,0 +1,131 @@
+/*
+ * FileWatcher.java    October 19, 2026, 19:20
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.app;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watch one file by a {@link WatchService} on its directory, and notify a
+ * listener on a background thread after the file has been changed.
+ *
+ * <p>
+ * A rebuild usually writes the file in several steps, so the listener is
+ * notified only after there has been no more change for
+ * {@link #QUIET_PERIOD_MILLIS}, and only if the size or the last modified
+ * time of the file differs from the last notification.
+ * </p>
+ *
+ * @author Amos Shi
+ */
+final class FileWatcher implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(FileWatcher.class.getName());
+
+    /**
+     * Time without any change before the listener is notified.
+     */
+    static final long QUIET_PERIOD_MILLIS = 300;
+
+    private final File file;
+    private final Runnable listener;
+    private final WatchService watchService;
+    private final Thread thread;
+    private long lastModified;
+    private long lastLength;
+
+    /**
+     * Start watching a file.
+     *
+     * @param file The file to watch
+     * @param listener Called on the watching thread after the file changed
+     * @throws IOException Failed to watch the directory of the file
+     */
+    FileWatcher(final File file, final Runnable listener) throws IOException {
+        this.file = file.getAbsoluteFile();
+        this.listener = listener;
+        this.lastModified = this.file.lastModified();
+        this.lastLength = this.file.length();
+
+        final Path dir = this.file.getParentFile().toPath();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        dir.register(this.watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        this.thread = new Thread(this::run, "FileWatcher-" + this.file.getName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!this.isFileChanged(this.watchService.take())) {
+                    continue;
+                }
+
+                // Wait until the file is quiet
+                WatchKey key;
+                while ((key = this.watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    this.isFileChanged(key);
+                }
+
+                final long modified = this.file.lastModified();
+                final long length = this.file.length();
+                if (this.file.isFile() && (modified != this.lastModified || length != this.lastLength)) {
+                    this.lastModified = modified;
+                    this.lastLength = length;
+                    this.listener.run();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ex) {
+            // Closed by close()
+        } catch (RuntimeException ex) {
+            LOG.log(Level.WARNING, String.format("Stopped watching the file %s", this.file), ex);
+        }
+    }
+
+    /**
+     * Consume the events of a key.
+     *
+     * @return true if any event is about the watched file
+     */
+    private boolean isFileChanged(final WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || this.file.getName().equals(String.valueOf(event.context()))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    @Override
+    public void close() {
+        this.thread.interrupt();
+        try {
+            this.watchService.close();
+        } catch (IOException ex) {
+            LOG.log(Level.FINE, String.format("Failed to close the watch service of %s", this.file), ex);
+        }
+    }
+}
@@ -10,7 +10,17 @@ import java.awt.Component;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javax.swing.Icon;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -18,6 +28,7 @@ import javax.swing.JScrollPane;
 import javax.swing.JSplitPane;
 import javax.swing.JTabbedPane;
 import javax.swing.JTree;
+import javax.swing.SwingUtilities;
 import javax.swing.event.TreeSelectionEvent;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeCellRenderer;
@@ -32,15 +43,28 @@ import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
 /**
  * A split panel created from a class file byte array.
  *
+ * <p>
+ * While the panel is displayed, the file is watched by a {@link FileWatcher}.
+ * After the file changed, it is parsed again off the Event Dispatch Thread,
+ * and the new tree is merged into the displayed tree: only the changed
+ * nodes are replaced, so the expansion, selection and scroll state of the
+ * unchanged nodes are kept.
+ * </p>
+ *
  * @author Amos Shi
  */
 public class JSplitPaneFile extends JSplitPane {
 
     private static final long serialVersionUID = 4876543219876500000L;
+    private static final Logger LOG = Logger.getLogger(JSplitPaneFile.class.getName());
     private final JFrame topLevelFrame;
-    private final FileFormat file;
+    private final File sourceFile;
+    private transient volatile FileFormat file;
     private final JTabbedPane tabbedPane = new JTabbedPane();
     private final JBinaryViewer binaryViewer = new JBinaryViewer();
+    private JTree tree;
+    private DefaultTreeModel treeModel;
+    private transient FileWatcher watcher;
 
     /**
      * Creates a split panel from a Java class file byte array.
@@ -55,6 +79,7 @@ public class JSplitPaneFile extends JSplitPane {
      */
     @edu.umd.cs.findbugs.annotations.SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "We need it")
     public JSplitPaneFile(final File file, final JFrame frame) throws FileFormatException, NoSuchMethodException, SecurityException, InstantiationException, IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+        this.sourceFile = file;
         this.file = PluginManager.getFile(file);
         this.topLevelFrame = frame;
         this.createAndShowGUI();
@@ -80,17 +105,23 @@ public class JSplitPaneFile extends JSplitPane {
         }
     }
 
+    private static DefaultMutableTreeNode createRootNode(final FileFormat fileFormat) {
+        final DefaultMutableTreeNode root = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                0,
+                fileFormat.fileByteArray.length,
+                fileFormat.fileName,
+                fileFormat.getIcon(),
+                fileFormat.filePath));
+        fileFormat.generateTreeNode(root);
+        return root;
+    }
+
     @SuppressWarnings("java:S3776") // Cognitive Complexity of methods should not be too high
     private void createAndShowGUI() {
 
-        final DefaultMutableTreeNode root = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
-                0,
-                this.file.fileByteArray.length,
-                this.file.fileName,
-                this.file.getIcon(),
-                this.file.filePath));
-        this.file.generateTreeNode(root);
-        final JTree tree = new JTree(new DefaultTreeModel(root));
+        this.treeModel = new DefaultTreeModel(createRootNode(this.file));
+        final JTree tree = new JTree(this.treeModel);
+        this.tree = tree;
 
         tree.setCellRenderer(new DefaultTreeCellRenderer() {
 
@@ -158,6 +189,202 @@ public class JSplitPaneFile extends JSplitPane {
         binaryViewerView.getVerticalScrollBar().setValue(0);
     }
 
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (this.watcher == null) {
+            try {
+                this.watcher = new FileWatcher(this.sourceFile, this::reload);
+            } catch (IOException ex) {
+                LOG.log(Level.WARNING, String.format("Failed to watch the file %s", this.sourceFile), ex);
+            }
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        if (this.watcher != null) {
+            this.watcher.close();
+            this.watcher = null;
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Parse the changed file and build its tree on the watching thread, then
+     * merge the tree on the Event Dispatch Thread.
+     *
+     * <pre>
+     * java:S1181 - Throwable and Error should not be caught  --- A broken file being written must not stop the watching
+     * </pre>
+     */
+    @SuppressWarnings("java:S1181")
+    private void reload() {
+        final FileFormat newFile;
+        final DefaultMutableTreeNode newRoot;
+        try {
+            newFile = PluginManager.getFile(this.sourceFile);
+            newRoot = createRootNode(newFile);
+        } catch (Throwable ex) {
+            LOG.log(Level.WARNING, String.format("Failed to reload the file %s", this.sourceFile), ex);
+            return;
+        }
+        SwingUtilities.invokeLater(() -> this.applyReload(newFile, newRoot));
+    }
+
+    private void applyReload(final FileFormat newFile, final DefaultMutableTreeNode newRoot) {
+        this.file = newFile;
+        this.binaryViewer.setData(newFile.fileByteArray);
+        this.mergeNode((DefaultMutableTreeNode) this.treeModel.getRoot(), newRoot);
+
+        final TreePath selection = this.tree.getSelectionPath();
+        if (selection != null && selection.getLastPathComponent() instanceof DefaultMutableTreeNode) {
+            final Object obj = ((DefaultMutableTreeNode) selection.getLastPathComponent()).getUserObject();
+            if (obj instanceof JTreeNodeFileComponent) {
+                final JTreeNodeFileComponent objTnfc = (JTreeNodeFileComponent) obj;
+                this.binaryViewer.setSelection(objTnfc.getStartPos(), objTnfc.getLength());
+            }
+        }
+    }
+
+    /**
+     * Merge a node of the new tree into the displayed node. The children are
+     * matched in order by their offset, length and icon; then the children
+     * left between two matches are paired in order by their icon, since a
+     * change in size shifts the offsets of all the following components.
+     * Matched children are merged recursively and kept, the others are
+     * removed or inserted, with the fine grained {@link DefaultTreeModel}
+     * events.
+     */
+    private void mergeNode(final DefaultMutableTreeNode oldNode, final DefaultMutableTreeNode newNode) {
+        final Object oldObj = oldNode.getUserObject();
+        final Object newObj = newNode.getUserObject();
+        oldNode.setUserObject(newObj);
+        if (!isSameContent(oldObj, newObj)) {
+            this.treeModel.nodeChanged(oldNode);
+        }
+
+        final int oldCount = oldNode.getChildCount();
+        final DefaultMutableTreeNode[] newChildren = new DefaultMutableTreeNode[newNode.getChildCount()];
+        for (int i = 0; i < newChildren.length; i++) {
+            newChildren[i] = (DefaultMutableTreeNode) newNode.getChildAt(i);
+        }
+
+        // Match the children in order
+        final Map<List<Object>, ArrayDeque<Integer>> oldByKey = new HashMap<>();
+        for (int i = 0; i < oldCount; i++) {
+            oldByKey.computeIfAbsent(nodeKey((DefaultMutableTreeNode) oldNode.getChildAt(i)), k -> new ArrayDeque<>()).add(i);
+        }
+        final int[] matched = new int[newChildren.length];
+        final boolean[] oldMatched = new boolean[oldCount];
+        int next = 0;
+        for (int j = 0; j < newChildren.length; j++) {
+            matched[j] = -1;
+            final ArrayDeque<Integer> candidates = oldByKey.get(nodeKey(newChildren[j]));
+            while (candidates != null && !candidates.isEmpty() && candidates.peek() < next) {
+                candidates.poll();
+            }
+            if (candidates != null && !candidates.isEmpty()) {
+                matched[j] = candidates.poll();
+                oldMatched[matched[j]] = true;
+                next = matched[j] + 1;
+            }
+        }
+        this.matchByIcon(oldNode, newChildren, matched, oldMatched);
+
+        final DefaultMutableTreeNode[] keptChildren = new DefaultMutableTreeNode[newChildren.length];
+        for (int j = 0; j < newChildren.length; j++) {
+            if (matched[j] != -1) {
+                keptChildren[j] = (DefaultMutableTreeNode) oldNode.getChildAt(matched[j]);
+            }
+        }
+
+        // Remove the unmatched old children
+        final List<Integer> removedIndexes = new ArrayList<>();
+        final List<Object> removedNodes = new ArrayList<>();
+        for (int i = oldCount - 1; i >= 0; i--) {
+            if (!oldMatched[i]) {
+                removedIndexes.add(0, i);
+                removedNodes.add(0, oldNode.getChildAt(i));
+                oldNode.remove(i);
+            }
+        }
+        if (!removedIndexes.isEmpty()) {
+            this.treeModel.nodesWereRemoved(oldNode, removedIndexes.stream().mapToInt(Integer::intValue).toArray(), removedNodes.toArray());
+        }
+
+        // Insert the unmatched new children
+        final List<Integer> insertedIndexes = new ArrayList<>();
+        for (int j = 0; j < newChildren.length; j++) {
+            if (matched[j] == -1) {
+                oldNode.insert(newChildren[j], j);
+                insertedIndexes.add(j);
+            }
+        }
+        if (!insertedIndexes.isEmpty()) {
+            this.treeModel.nodesWereInserted(oldNode, insertedIndexes.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        for (int j = 0; j < newChildren.length; j++) {
+            if (keptChildren[j] != null) {
+                this.mergeNode(keptChildren[j], newChildren[j]);
+            }
+        }
+    }
+
+    private void matchByIcon(final DefaultMutableTreeNode oldNode, final DefaultMutableTreeNode[] newChildren, final int[] matched, final boolean[] oldMatched) {
+        final int[] nextMatched = new int[newChildren.length + 1];
+        nextMatched[newChildren.length] = oldMatched.length;
+        for (int j = newChildren.length - 1; j >= 0; j--) {
+            nextMatched[j] = (matched[j] == -1) ? nextMatched[j + 1] : matched[j];
+        }
+
+        int cursor = 0;
+        for (int j = 0; j < newChildren.length; j++) {
+            if (matched[j] != -1) {
+                cursor = matched[j] + 1;
+                continue;
+            }
+            final Icon icon = getIcon(newChildren[j]);
+            while (cursor < nextMatched[j] && oldMatched[cursor]) {
+                cursor++;
+            }
+            if (cursor < nextMatched[j] && Objects.equals(icon, getIcon((DefaultMutableTreeNode) oldNode.getChildAt(cursor)))) {
+                matched[j] = cursor;
+                oldMatched[cursor] = true;
+                cursor++;
+            }
+        }
+    }
+
+    private static Icon getIcon(final DefaultMutableTreeNode node) {
+        final Object obj = node.getUserObject();
+        return (obj instanceof JTreeNodeFileComponent) ? ((JTreeNodeFileComponent) obj).getIcon() : null;
+    }
+
+    private static List<Object> nodeKey(final DefaultMutableTreeNode node) {
+        final Object obj = node.getUserObject();
+        if (obj instanceof JTreeNodeFileComponent) {
+            final JTreeNodeFileComponent comp = (JTreeNodeFileComponent) obj;
+            return Arrays.asList(comp.getStartPos(), comp.getLength(), comp.getIcon());
+        }
+        return Arrays.asList(obj);
+    }
+
+    private static boolean isSameContent(final Object oldObj, final Object newObj) {
+        if (oldObj instanceof JTreeNodeFileComponent && newObj instanceof JTreeNodeFileComponent) {
+            final JTreeNodeFileComponent a = (JTreeNodeFileComponent) oldObj;
+            final JTreeNodeFileComponent b = (JTreeNodeFileComponent) newObj;
+            return a.getStartPos() == b.getStartPos()
+                    && a.getLength() == b.getLength()
+                    && Objects.equals(a.getText(), b.getText())
+                    && Objects.equals(a.getDescription(), b.getDescription())
+                    && Objects.equals(a.getIcon(), b.getIcon())
+                    && a.isDetailAvailable() == b.isDetailAvailable();
+        }
+        return Objects.equals(oldObj, newObj);
+    }
+
     private void treeSelectionChanged(final TreeSelectionEvent evt) {
         Object obj = evt.getPath().getLastPathComponent();
         if (obj instanceof DefaultMutableTreeNode) {
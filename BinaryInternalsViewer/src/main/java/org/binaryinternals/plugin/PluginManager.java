@@ -134,7 +134,7 @@ public class PluginManager {
 
         for (PluginDescriptor plugin : PLUGINS.values()) {
             if (isContain(plugin.getExtensions(), ext)) {
-                fileFormatClass = plugin.getFileFormatClass();
+                fileFormatClass = plugin.getFileFormatClass(ext);
             }
         }
         if (fileFormatClass == null) {
@@ -19,4 +19,15 @@ public interface PluginDescriptor {
     String[] getExtensions();
 
     Class<? extends FileFormat> getFileFormatClass();
+
+    /**
+     * Get the {@link FileFormat} class for a specific file extension. A plugin
+     * supporting more than one kind of file could override this method.
+     *
+     * @param extension File extension, without the leading dot
+     * @return The {@link FileFormat} class to open the file
+     */
+    default Class<? extends FileFormat> getFileFormatClass(final String extension) {
+        return this.getFileFormatClass();
+    }
 }
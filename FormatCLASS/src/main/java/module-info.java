@@ -20,6 +20,7 @@ module org.binaryinternals.formatclass {
     requires transitive org.binaryinternals.commonlib;
 
     exports org.binaryinternals.format.classfile;
+    exports org.binaryinternals.format.classfile.analysis;
     exports org.binaryinternals.format.classfile.attribute;
     exports org.binaryinternals.format.classfile.attribute.aspectj;
     exports org.binaryinternals.format.classfile.attribute.scala;
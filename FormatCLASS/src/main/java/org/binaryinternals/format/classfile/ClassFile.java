@@ -21,6 +21,8 @@ import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
 import org.binaryinternals.format.classfile.attribute.Code_attribute;
 import org.binaryinternals.format.classfile.attribute.attribute_info;
 import org.binaryinternals.format.classfile.constant.CONSTANT_Class_info;
+import org.binaryinternals.format.classfile.constant.CONSTANT_NameAndType_info;
+import org.binaryinternals.format.classfile.constant.CONSTANT_Ref;
 import org.binaryinternals.format.classfile.constant.CONSTANT_Utf8_info;
 import org.binaryinternals.format.classfile.constant.cp_info;
 import org.binaryinternals.format.classfile.constant.cp_info.ConstantType;
@@ -223,6 +225,12 @@ public class ClassFile extends FileFormat {
     public final U2ClassComponent attributes_count;
     public final attribute_info[] attributes;
 
+    /**
+     * Lazily resolved result of {@link #getCPDescription(int)}, indexed by the
+     * {@link #constant_pool} index.
+     */
+    private volatile String[] cpDescriptions;
+
     /**
      * Creates a new instance of ClassFile from byte array.
      *
@@ -417,14 +425,15 @@ public class ClassFile extends FileFormat {
     // Get raw data
     /**
      * Returns a string of the constant pool item at the specified
-     * {@code index}.
+     * {@code index}. The string is resolved once and cached for this class
+     * file.
      *
      * @param index Index in the constant pool
      * @return String of the constant pool item at {@code index}
      */
     public String getCPDescription(final int index) {
         // Invalid index
-        if (index >= this.constant_pool_count.value) {
+        if (index < 0 || index >= this.constant_pool_count.value) {
             throw new IllegalArgumentException(String.format("Index is bigger than constant pool size. size=%d, index=%d", this.constant_pool_count.value, index));
         }
 
@@ -439,7 +448,79 @@ public class ClassFile extends FileFormat {
             throw new IllegalArgumentException("Nothing exist at the Constant Pool Index. index=" + index);
         }
 
-        return cp.toString(this.constant_pool);
+        String[] descriptions = this.cpDescriptions;
+        if (descriptions == null) {
+            descriptions = new String[this.constant_pool.length];
+            this.cpDescriptions = descriptions;
+        }
+        String description = descriptions[index];
+        if (description == null) {
+            description = cp.toString(this.constant_pool);
+            descriptions[index] = description;
+        }
+        return description;
+    }
+
+    /**
+     * Get the class name of a {@code CONSTANT_Class_info},
+     * {@code CONSTANT_Fieldref_info}, {@code CONSTANT_Methodref_info} or
+     * {@code CONSTANT_InterfaceMethodref_info} item. For the reference items
+     * the name of the class referred by {@code class_index} is returned.
+     *
+     * @param cpIndex {@link #constant_pool} item index
+     * @return Class name in internal form
+     * @throws FileFormatException Invalid {@link #constant_pool} item found
+     */
+    public String getCPClassName(final int cpIndex) throws FileFormatException {
+        final cp_info cp = this.getCPItem(cpIndex);
+        if (cp instanceof CONSTANT_Ref) {
+            return this.getConstantClassInfoName(((CONSTANT_Ref) cp).class_index.value);
+        }
+        return this.getConstantClassInfoName(cpIndex);
+    }
+
+    /**
+     * Get the member name of a {@code CONSTANT_NameAndType_info},
+     * {@code CONSTANT_Fieldref_info}, {@code CONSTANT_Methodref_info} or
+     * {@code CONSTANT_InterfaceMethodref_info} item.
+     *
+     * @param cpIndex {@link #constant_pool} item index
+     * @return Field or method name
+     * @throws FileFormatException Invalid {@link #constant_pool} item found
+     */
+    public String getCPMemberName(final int cpIndex) throws FileFormatException {
+        return getConstantUtf8Value(this.getCPNameAndType(cpIndex).name_index.value, this.constant_pool);
+    }
+
+    /**
+     * Get the descriptor of a {@code CONSTANT_NameAndType_info},
+     * {@code CONSTANT_Fieldref_info}, {@code CONSTANT_Methodref_info} or
+     * {@code CONSTANT_InterfaceMethodref_info} item.
+     *
+     * @param cpIndex {@link #constant_pool} item index
+     * @return Field or method descriptor
+     * @throws FileFormatException Invalid {@link #constant_pool} item found
+     */
+    public String getCPDescriptor(final int cpIndex) throws FileFormatException {
+        return getConstantUtf8Value(this.getCPNameAndType(cpIndex).descriptor_index.value, this.constant_pool);
+    }
+
+    private cp_info getCPItem(final int cpIndex) throws FileFormatException {
+        if (cpIndex <= 0 || cpIndex >= this.constant_pool.length || this.constant_pool[cpIndex] == null) {
+            throw new FileFormatException(String.format("Constant Pool index (value = %d) is out of range, or it is empty.", cpIndex));
+        }
+        return this.constant_pool[cpIndex];
+    }
+
+    private CONSTANT_NameAndType_info getCPNameAndType(final int cpIndex) throws FileFormatException {
+        cp_info cp = this.getCPItem(cpIndex);
+        if (cp instanceof CONSTANT_Ref) {
+            cp = this.getCPItem(((CONSTANT_Ref) cp).name_and_type_index.value);
+        }
+        if (!(cp instanceof CONSTANT_NameAndType_info)) {
+            throw new FileFormatException(String.format("Constant Pool index (value = %d) is not a CONSTANT_NameAndType_info or reference.", cpIndex));
+        }
+        return (CONSTANT_NameAndType_info) cp;
     }
 
     /**
@@ -0,0 +1,60 @@
+/*
+ * JPanelControlFlowGraph.java    October 19, 2026, 16:02
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.classfile;
+
+import java.awt.BorderLayout;
+import java.awt.Font;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import org.binaryinternals.format.classfile.attribute.Code_attribute;
+
+/**
+ * Panel displaying the basic block control flow graph of a method. The graph
+ * is built when the panel is displayed the first time, so creating the panel
+ * for each method of a class file is cheap.
+ *
+ * @author Amos Shi
+ * @see Code_attribute#getControlFlowGraph()
+ */
+class JPanelControlFlowGraph extends JPanel {
+
+    private static final long serialVersionUID = 4876543219876500006L;
+
+    private final transient Code_attribute codeAttr;
+    private boolean generated;
+
+    /**
+     * Constructor.
+     *
+     * @param code The {@code Code} attribute of the method
+     */
+    JPanelControlFlowGraph(final Code_attribute code) {
+        this.codeAttr = code;
+        this.setLayout(new BorderLayout());
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (this.generated) {
+            return;
+        }
+        this.generated = true;
+
+        String text;
+        try {
+            text = this.codeAttr.getControlFlowGraph().generateReport().toString();
+        } catch (IllegalArgumentException ex) {
+            text = String.format("Failed to build the control flow graph: %s", ex.getMessage());
+        }
+        final JTextArea textArea = new JTextArea(text);
+        textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, textArea.getFont().getSize()));
+        textArea.setEditable(false);
+        this.add(new JScrollPane(textArea), BorderLayout.CENTER);
+    }
+}
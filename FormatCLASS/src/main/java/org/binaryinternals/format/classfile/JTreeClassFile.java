@@ -13,6 +13,7 @@ import org.binaryinternals.commonlib.core.FileFormat;
 import org.binaryinternals.commonlib.ui.HTMLKit;
 import org.binaryinternals.commonlib.ui.Icons;
 import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
+import org.binaryinternals.format.classfile.attribute.Code_attribute;
 import org.binaryinternals.format.classfile.attribute.attribute_info;
 import org.binaryinternals.format.classfile.constant.cp_info;
 
@@ -255,6 +256,21 @@ public class JTreeClassFile implements GenerateTreeNodeClassFile {
                         Icons.Method
                 );
                 methods[i].generateTreeNode(methodNode, classFile);
+                this.setControlFlowGraphPanel(methodNode, methods[i]);
+            }
+        }
+    }
+
+    /**
+     * Set the control flow graph as the detail panel of a method node, if the
+     * method has a {@code Code} attribute.
+     */
+    private void setControlFlowGraphPanel(final DefaultMutableTreeNode methodNode, final method_info method) {
+        for (int i = 0; i < method.attributes_count.value; i++) {
+            final attribute_info attr = method.getAttribute(i);
+            if (attr instanceof Code_attribute) {
+                ((JTreeNodeFileComponent) methodNode.getUserObject()).setDetailPanel(new JPanelControlFlowGraph((Code_attribute) attr));
+                break;
             }
         }
     }
@@ -9,6 +9,7 @@ package org.binaryinternals.format.classfile;
 
 import org.binaryinternals.commonlib.core.PluginDescriptor;
 import org.binaryinternals.commonlib.core.FileFormat;
+import org.binaryinternals.format.classfile.analysis.ClassArchive;
 
 /**
  *
@@ -18,12 +19,12 @@ public class PluginDescriptorClass implements PluginDescriptor{
 
     @Override
     public String getExtensionDescription() {
-        return "Java class File (*.class)";
+        return "Java class File (*.class, *.jmod)";
     }
 
     @Override
     public String[] getExtensions() {
-        return new String[]{"class"};
+        return new String[]{"class", "jmod"};
     }
 
     @Override
@@ -31,4 +32,9 @@ public class PluginDescriptorClass implements PluginDescriptor{
         return ClassFile.class;
     }
 
+    @Override
+    public Class<? extends FileFormat> getFileFormatClass(final String extension) {
+        return "jmod".equalsIgnoreCase(extension) ? ClassArchive.class : ClassFile.class;
+    }
+
 }
@@ -7,10 +7,12 @@
 package org.binaryinternals.format.classfile;
 
 import org.binaryinternals.format.classfile.attribute.Signature_attribute;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import org.binaryinternals.commonlib.core.FileFormatException;
 import org.binaryinternals.format.classfile.attribute.Signature_attribute.ReferenceType;
+import org.binaryinternals.format.classfile.constant.CONSTANT_Utf8_info;
 
 /**
  * Convert the Internal Form of Names into java language specification type
@@ -62,9 +64,244 @@ public final class SignatureConvertor {
      */
     public static final String METHODRETURN_VOID = "V";
 
+    /**
+     * Parameter index passed to {@link DescriptorVisitor} for the return type
+     * of a method descriptor.
+     */
+    public static final int RETURN_TYPE = -1;
+
+    /**
+     * Number of the {@link #JLS_CACHE} slots, a power of two.
+     */
+    static final int JLS_CACHE_SIZE = 16384;
+
+    /**
+     * Rendered Java Language Specification (JLS) format of the descriptors,
+     * shared by all the class files. The descriptors like
+     * <code>(Ljava/lang/String;)V</code> are repeated in almost every class,
+     * so the result is rendered once. The cache is direct mapped: a new
+     * descriptor only replaces the one in its slot, so the frequent
+     * descriptors stay cached on big archives. The entries are immutable, so
+     * the cache could be used by several threads without locking.
+     */
+    private static final CacheEntry[] JLS_CACHE = new CacheEntry[JLS_CACHE_SIZE];
+
+    /**
+     * Kind of the rendering of a {@link #JLS_CACHE} entry, to distinguish
+     * the renderings of the same descriptor.
+     */
+    private static final char CACHE_PARAMETERS = 'P';
+    private static final char CACHE_RETURN = 'R';
+    private static final char CACHE_FIELD = 'F';
+
     private SignatureConvertor() {
     }
 
+    /**
+     * Parse a field or method descriptor in the {@code bytes} of a
+     * {@code CONSTANT_Utf8_info} structure, without creating any object. Each
+     * field type found is passed to the {@code visitor}.
+     *
+     * @param bytes Descriptor in modified UTF-8
+     * @param offset Start position of the descriptor in {@code bytes}
+     * @param length Length of the descriptor
+     * @param visitor Callback for each field type
+     * @return Number of method parameters, or <code>0</code> for a field
+     * descriptor
+     * @throws FileFormatException Invalid descriptor found
+     * @see
+     * <a href="https://docs.oracle.com/javase/specs/jvms/se25/html/jvms-4.html#jvms-4.3">
+     * VM Spec: Descriptors
+     * </a>
+     */
+    public static int parseDescriptor(final byte[] bytes, final int offset, final int length, final DescriptorVisitor visitor)
+            throws FileFormatException {
+        final int end = offset + length;
+        if (length < 1 || end > bytes.length) {
+            throw new FileFormatException("Empty or truncated descriptor");
+        }
+
+        int cursor = offset;
+        if (bytes[cursor] != METHODDESCRIPTOR_LEFT) {
+            cursor = parseFieldType(bytes, cursor, end, 0, visitor);
+            if (cursor != end) {
+                throw new FileFormatException(String.format("Unexpected data at %d in field descriptor", cursor - offset));
+            }
+            return 0;
+        }
+
+        int index = 0;
+        cursor++;
+        while (cursor < end && bytes[cursor] != METHODDESCRIPTOR_RIGHT) {
+            cursor = parseFieldType(bytes, cursor, end, index, visitor);
+            index++;
+        }
+        if (cursor >= end) {
+            throw new FileFormatException("There is no ')' in the method descriptor");
+        }
+        cursor++;
+        if (cursor >= end) {
+            throw new FileFormatException("Missing return type in method descriptor");
+        }
+        if (cursor == end - 1 && bytes[cursor] == METHODRETURN_VOID.charAt(0)) {
+            visitor.visitType(RETURN_TYPE, 0, METHODRETURN_VOID.charAt(0), bytes, -1, -1);
+            cursor++;
+        } else if (cursor < end) {
+            cursor = parseFieldType(bytes, cursor, end, RETURN_TYPE, visitor);
+        }
+        if (cursor != end) {
+            throw new FileFormatException("Invalid method descriptor");
+        }
+        return index;
+    }
+
+    /**
+     * Parse one field type at {@code start}.
+     *
+     * @return Position after the field type
+     */
+    private static int parseFieldType(final byte[] bytes, final int start, final int end, final int index, final DescriptorVisitor visitor)
+            throws FileFormatException {
+        int cursor = start;
+        while (cursor < end && bytes[cursor] == ReferenceType.ArrayTypeSignature.signature) {
+            cursor++;
+        }
+        if (cursor >= end) {
+            throw new FileFormatException(String.format("Truncated field type at %d", start));
+        }
+
+        final int dimension = cursor - start;
+        final char type = (char) bytes[cursor];
+        if (type == ReferenceType.ClassTypeSignature.signature) {
+            final int nameStart = cursor + 1;
+            cursor = nameStart;
+            while (cursor < end && bytes[cursor] != ReferenceType.ClassTypeSignatureSuffix.signature) {
+                cursor++;
+            }
+            if (cursor >= end || cursor == nameStart) {
+                throw new FileFormatException(String.format("Invalid class type at %d", start));
+            }
+            visitor.visitType(index, dimension, type, bytes, nameStart, cursor);
+        } else if (Boolean.TRUE.equals(Signature_attribute.BaseType.isPrimitiveType(type))) {
+            visitor.visitType(index, dimension, type, bytes, -1, -1);
+        } else {
+            throw new FileFormatException(String.format("Unrecognized field type '%c' at %d", type, cursor));
+        }
+        return cursor + 1;
+    }
+
+    /**
+     * Get the Java Language Specification (JLS) format of a descriptor from
+     * the {@link #JLS_CACHE}, render it on cache miss.
+     *
+     * @param kind {@link #CACHE_PARAMETERS}, {@link #CACHE_RETURN} or
+     * {@link #CACHE_FIELD}
+     * @param descriptor Field or method descriptor
+     * @param bytes The {@code descriptor} in modified UTF-8, like the
+     * {@link CONSTANT_Utf8_info#bytes}, or <code>null</code> to encode the
+     * {@code descriptor} on cache miss
+     * @return The rendered result
+     * @throws FileFormatException Invalid descriptor found
+     */
+    private static String renderCached(final char kind, final String descriptor, final byte[] bytes) throws FileFormatException {
+        final int hash = descriptor.hashCode() * 31 + kind;
+        final int slot = (hash ^ (hash >>> 16)) & (JLS_CACHE_SIZE - 1);
+        final CacheEntry entry = JLS_CACHE[slot];
+        if (entry != null && entry.kind == kind && entry.descriptor.equals(descriptor)) {
+            return entry.value;
+        }
+
+        final String result = render(kind, (bytes != null) ? bytes : descriptor.getBytes(StandardCharsets.UTF_8));
+        JLS_CACHE[slot] = new CacheEntry(kind, descriptor, result);
+        return result;
+    }
+
+    private static String render(final char kind, final byte[] bytes) throws FileFormatException {
+        final StringBuilder sb = new StringBuilder(bytes.length + 16);
+        if (kind == CACHE_PARAMETERS) {
+            sb.append(METHODDESCRIPTOR_LEFT);
+        }
+        parseDescriptor(bytes, 0, bytes.length, (index, dimension, type, b, nameStart, nameEnd) -> {
+            final boolean selected = (kind == CACHE_PARAMETERS) ? index >= 0 : index == RETURN_TYPE || kind == CACHE_FIELD;
+            if (!selected) {
+                return;
+            }
+            if (kind == CACHE_PARAMETERS && index > 0) {
+                sb.append(',');
+            }
+            if (nameStart >= 0) {
+                sb.append(new String(b, nameStart, nameEnd - nameStart, StandardCharsets.UTF_8).replace(BINARY_NAME_SEPARATOR, JLS_NAME_SEPARATOR));
+            } else if (type == METHODRETURN_VOID.charAt(0)) {
+                sb.append(JavaLangSpec.Keyword.VOID.text);
+            } else {
+                sb.append(Signature_attribute.BaseType.extractPrimitiveType(type));
+            }
+            for (int i = 0; i < dimension; i++) {
+                sb.append("[]");
+            }
+        });
+        if (kind == CACHE_PARAMETERS) {
+            sb.append(METHODDESCRIPTOR_RIGHT);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Get the Java Language Specification (JLS) format of a method return
+     * type. The result is cached and shared by all the class files.
+     *
+     * @param descriptor Method descriptor, like <code>(I)Ljava/lang/String;</code>
+     * @return Return type, like <code>java.lang.String</code>
+     * @throws FileFormatException Invalid descriptor found
+     */
+    public static String methodReturnType2Readable(final String descriptor) throws FileFormatException {
+        if (descriptor == null || descriptor.isEmpty() || descriptor.charAt(0) != METHODDESCRIPTOR_LEFT) {
+            throw new FileFormatException(String.format("There is no '(' in the method signature: %s", descriptor));
+        }
+        return renderCached(CACHE_RETURN, descriptor, null);
+    }
+
+    /**
+     * Get the Java Language Specification (JLS) format of a method return
+     * type, parsed from the bytes of the constant on cache miss.
+     *
+     * @param descriptor Method descriptor constant
+     * @return Return type, like <code>java.lang.String</code>
+     * @throws FileFormatException Invalid descriptor found
+     * @see #methodReturnType2Readable(String)
+     */
+    public static String methodReturnType2Readable(final CONSTANT_Utf8_info descriptor) throws FileFormatException {
+        if (descriptor.bytes.length == 0 || descriptor.bytes[0] != METHODDESCRIPTOR_LEFT) {
+            throw new FileFormatException(String.format("There is no '(' in the method signature: %s", descriptor.getValue()));
+        }
+        return renderCached(CACHE_RETURN, descriptor.getValue(), descriptor.bytes);
+    }
+
+    /**
+     * Get the Java Language Specification (JLS) format of a field
+     * descriptor. The result is cached and shared by all the class files.
+     *
+     * @param descriptor Field descriptor, like <code>[Ljava/lang/String;</code>
+     * @return Field type, like <code>java.lang.String[]</code>
+     * @throws FileFormatException Invalid descriptor found
+     */
+    public static String fieldDescriptor2Readable(final String descriptor) throws FileFormatException {
+        return renderCached(CACHE_FIELD, descriptor, null);
+    }
+
+    /**
+     * Get the Java Language Specification (JLS) format of a field
+     * descriptor, parsed from the bytes of the constant on cache miss.
+     *
+     * @param descriptor Field descriptor constant
+     * @return Field type, like <code>java.lang.String[]</code>
+     * @throws FileFormatException Invalid descriptor found
+     * @see #fieldDescriptor2Readable(String)
+     */
+    public static String fieldDescriptor2Readable(final CONSTANT_Utf8_info descriptor) throws FileFormatException {
+        return renderCached(CACHE_FIELD, descriptor.getValue(), descriptor.bytes);
+    }
+
     /**
      * Get return type from method descriptor {@link method_info#descriptor_index}.
      *
@@ -120,28 +357,36 @@ public final class SignatureConvertor {
      * <code>(int, String, int[])</code>
      * </p>
      *
+     * <p>
+     * The result is cached and shared by all the class files.
+     * </p>
+     *
      * @param signature JVM internal format of method signature
      * @return Java Language Specification (JLS) format of parameters
      * @throws FileFormatException Invalid signature string found
      */
     public static String methodParameters2Readable(final String signature)
             throws FileFormatException {
-        List<SignatureResult> paramters = methodParametersSplit(signature);
-        StringBuilder result = new StringBuilder();
-
-        result.append(METHODDESCRIPTOR_LEFT);
-        int size = paramters.size();
-        if (size > 0) {
-            for (int i = 0; i < size; i++) {
-                result.append(paramters.get(i).toString());
-                if (i != size - 1) {
-                    result.append(',');
-                }
-            }
+        if (signature == null || signature.isEmpty() || signature.charAt(0) != METHODDESCRIPTOR_LEFT) {
+            throw new FileFormatException(String.format("There is no '(' in the method signature: %s", signature));
         }
-        result.append(METHODDESCRIPTOR_RIGHT);
+        return renderCached(CACHE_PARAMETERS, signature, null);
+    }
 
-        return result.toString();
+    /**
+     * Get parameters type from a method descriptor constant, parsed from the
+     * bytes of the constant on cache miss.
+     *
+     * @param descriptor Method descriptor constant
+     * @return Java Language Specification (JLS) format of parameters
+     * @throws FileFormatException Invalid descriptor found
+     * @see #methodParameters2Readable(String)
+     */
+    public static String methodParameters2Readable(final CONSTANT_Utf8_info descriptor) throws FileFormatException {
+        if (descriptor.bytes.length == 0 || descriptor.bytes[0] != METHODDESCRIPTOR_LEFT) {
+            throw new FileFormatException(String.format("There is no '(' in the method signature: %s", descriptor.getValue()));
+        }
+        return renderCached(CACHE_PARAMETERS, descriptor.getValue(), descriptor.bytes);
     }
 
     // (com/sun/java/accessibility/AccessBridge;Ljavax/accessibility/AccessibleContext;)V
@@ -289,6 +534,47 @@ public final class SignatureConvertor {
         }
     }
 
+    /**
+     * Entry of the {@link #JLS_CACHE}.
+     */
+    private static final class CacheEntry {
+
+        final char kind;
+        final String descriptor;
+        final String value;
+
+        CacheEntry(final char kind, final String descriptor, final String value) {
+            this.kind = kind;
+            this.descriptor = descriptor;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Callback of {@link #parseDescriptor(byte[], int, int, DescriptorVisitor)}
+     * for each field type in a descriptor.
+     */
+    @FunctionalInterface
+    public interface DescriptorVisitor {
+
+        /**
+         * Visit one field type.
+         *
+         * @param index Parameter index starting from <code>0</code>,
+         * {@link #RETURN_TYPE} for the method return type, or <code>0</code>
+         * for a field descriptor
+         * @param arrayDimension Dimension if it is an array
+         * @param type Base type character, <code>L</code> for class types, or
+         * <code>V</code> for <code>void</code> return type
+         * @param bytes The descriptor bytes
+         * @param nameStart Start of the class name in internal form in
+         * {@code bytes}, or <code>-1</code> if it is not a class type
+         * @param nameEnd End, exclusive, of the class name in {@code bytes},
+         * or <code>-1</code> if it is not a class type
+         */
+        void visitType(int index, int arrayDimension, char type, byte[] bytes, int nameStart, int nameEnd);
+    }
+
     /**
      * Signature parse result.
      */
@@ -0,0 +1,734 @@
+/*
+ * AnnotationIndex.java    October 19, 2026, 17:45
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.classfile.analysis;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.format.classfile.attribute.attribute_info.AttributeTypes;
+import org.binaryinternals.format.classfile.attribute.Signature_attribute.ReferenceType;
+import org.binaryinternals.format.classfile.constant.cp_info.ConstantType;
+
+/**
+ * Index from annotation types to the annotated classes, fields, methods and
+ * method parameters, in the spirit of
+ * <a href="https://github.com/smallrye/jandex">Jandex</a>.
+ *
+ * <p>
+ * The {@link Builder} scans the raw {@code class} bytes and decodes only the
+ * constant pool offsets and the {@code Runtime*Annotations} attributes of the
+ * class, its fields and its methods; other attributes, including
+ * {@code Code}, are skipped. Only the top level annotations are indexed. The
+ * result is written to a compact index file, which is opened with
+ * {@link #open(Path)} by memory mapping, and queried without reading the
+ * whole file.
+ * </p>
+ *
+ * <pre>
+ * Index file, big endian:
+ *     u4 magic = 0x42495641 ("BIVA");
+ *     u4 version;
+ *     u4 string_count;
+ *     u4 string_offsets[string_count + 1];   // relative to string_data
+ *     u1 string_data[];                      // UTF-8, sorted
+ *     u4 annotation_count;
+ *     {   u4 type_string;                    // sorted by type_string
+ *         u4 first_target;
+ *         u4 target_count;
+ *     } annotations[annotation_count];
+ *     {   u1 kind;
+ *         u1 visible;
+ *         u2 parameter;
+ *         u4 class_string;
+ *         u4 name_string;
+ *         u4 descriptor_string;
+ *     } targets[];
+ * </pre>
+ *
+ * @author Amos Shi
+ */
+public final class AnnotationIndex {
+
+    /**
+     * Magic number of the index file.
+     */
+    public static final int MAGIC = 0x42495641;
+
+    /**
+     * Version of the index file format.
+     */
+    public static final int VERSION = 1;
+
+    private static final int ANNOTATION_SIZE = 12;
+    private static final int TARGET_SIZE = 16;
+
+    private final ByteBuffer buffer;
+    private final int stringCount;
+    private final int stringOffsetsPos;
+    private final int stringDataPos;
+    private final int annotationCount;
+    private final int annotationsPos;
+    private final int targetsPos;
+
+    private AnnotationIndex(final ByteBuffer buf) throws FileFormatException {
+        this.buffer = buf.order(ByteOrder.BIG_ENDIAN);
+        if (buf.limit() < 12 || buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) {
+            throw new FileFormatException("Not an annotation index file, or unsupported version");
+        }
+        this.stringCount = buf.getInt(8);
+        this.stringOffsetsPos = 12;
+        this.stringDataPos = this.stringOffsetsPos + (this.stringCount + 1) * 4;
+        final int annotationCountPos = this.stringDataPos + buf.getInt(this.stringOffsetsPos + this.stringCount * 4);
+        this.annotationCount = buf.getInt(annotationCountPos);
+        this.annotationsPos = annotationCountPos + 4;
+        this.targetsPos = this.annotationsPos + this.annotationCount * ANNOTATION_SIZE;
+    }
+
+    /**
+     * Open an index file by memory mapping it.
+     *
+     * @param file The index file
+     * @return The index
+     * @throws IOException Failed to read the file
+     * @throws FileFormatException Not an index file
+     */
+    public static AnnotationIndex open(final Path file) throws IOException, FileFormatException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new AnnotationIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Use an index already in memory.
+     *
+     * @param data Content of an index file
+     * @return The index
+     * @throws FileFormatException Not an index file
+     */
+    public static AnnotationIndex wrap(final byte[] data) throws FileFormatException {
+        return new AnnotationIndex(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Get all the indexed annotation types.
+     *
+     * @return Annotation type names in internal form, sorted
+     */
+    public List<String> getAnnotationTypes() {
+        final List<String> result = new ArrayList<>(this.annotationCount);
+        for (int i = 0; i < this.annotationCount; i++) {
+            result.add(this.getString(this.buffer.getInt(this.annotationsPos + i * ANNOTATION_SIZE)));
+        }
+        return result;
+    }
+
+    /**
+     * Get the targets annotated by an annotation type.
+     *
+     * @param annotationType Annotation type name in internal form, like
+     * {@code java/lang/Deprecated}
+     * @return The targets, in the order they were indexed
+     */
+    public List<Target> getTargets(final String annotationType) {
+        final int stringId = this.findString(annotationType.getBytes(StandardCharsets.UTF_8));
+        final int annotation = (stringId < 0) ? -1 : this.findAnnotation(stringId);
+        if (annotation < 0) {
+            return new ArrayList<>();
+        }
+
+        final int pos = this.annotationsPos + annotation * ANNOTATION_SIZE;
+        final int first = this.buffer.getInt(pos + 4);
+        final int count = this.buffer.getInt(pos + 8);
+        final List<Target> result = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            final int t = this.targetsPos + i * TARGET_SIZE;
+            result.add(new Target(
+                    Kind.values()[this.buffer.get(t)],
+                    this.buffer.get(t + 1) != 0,
+                    this.buffer.getShort(t + 2) & 0xFFFF,
+                    this.getString(this.buffer.getInt(t + 4)),
+                    this.getString(this.buffer.getInt(t + 8)),
+                    this.getString(this.buffer.getInt(t + 12))));
+        }
+        return result;
+    }
+
+    /**
+     * Get the classes annotated by an annotation type.
+     *
+     * @param annotationType Annotation type name in internal form
+     * @return Class names in internal form
+     */
+    public List<String> getAnnotatedClasses(final String annotationType) {
+        final List<String> result = new ArrayList<>();
+        for (Target t : this.getTargets(annotationType)) {
+            if (t.kind == Kind.CLASS) {
+                result.add(t.className);
+            }
+        }
+        return result;
+    }
+
+    private String getString(final int id) {
+        final int start = this.buffer.getInt(this.stringOffsetsPos + id * 4);
+        final int end = this.buffer.getInt(this.stringOffsetsPos + id * 4 + 4);
+        final byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = this.buffer.get(this.stringDataPos + start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Binary search the sorted string table.
+     */
+    private int findString(final byte[] key) {
+        int low = 0;
+        int high = this.stringCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = this.compareString(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareString(final int id, final byte[] key) {
+        final int start = this.stringDataPos + this.buffer.getInt(this.stringOffsetsPos + id * 4);
+        final int length = this.stringDataPos + this.buffer.getInt(this.stringOffsetsPos + id * 4 + 4) - start;
+        final int n = Math.min(length, key.length);
+        for (int i = 0; i < n; i++) {
+            final int cmp = (this.buffer.get(start + i) & 0xFF) - (key[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length - key.length;
+    }
+
+    private int findAnnotation(final int stringId) {
+        int low = 0;
+        int high = this.annotationCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int value = this.buffer.getInt(this.annotationsPos + mid * ANNOTATION_SIZE);
+            if (value < stringId) {
+                low = mid + 1;
+            } else if (value > stringId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AnnotationIndex: %d annotation type(s), %d string(s)", this.annotationCount, this.stringCount);
+    }
+
+    /**
+     * Kind of the annotated target.
+     */
+    public enum Kind {
+        /**
+         * Annotation on a class or interface.
+         */
+        CLASS,
+        /**
+         * Annotation on a field.
+         */
+        FIELD,
+        /**
+         * Annotation on a method.
+         */
+        METHOD,
+        /**
+         * Annotation on a method parameter.
+         */
+        METHOD_PARAMETER,
+        /**
+         * Type annotation on a class, field or method signature.
+         */
+        TYPE
+    }
+
+    /**
+     * One annotated target.
+     *
+     * <pre>
+     * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+     * </pre>
+     */
+    @SuppressWarnings("java:S1104")
+    public static final class Target {
+
+        public final Kind kind;
+        /**
+         * Whether the annotation is in a {@code RuntimeVisible*} attribute.
+         */
+        public final boolean visible;
+        /**
+         * Parameter index for {@link Kind#METHOD_PARAMETER}, or the
+         * {@code target_type} for {@link Kind#TYPE}, otherwise zero.
+         */
+        public final int parameter;
+        /**
+         * Class name in internal form.
+         */
+        public final String className;
+        /**
+         * Field or method name, or an empty string for a class.
+         */
+        public final String name;
+        /**
+         * Field or method descriptor, or an empty string for a class.
+         */
+        public final String descriptor;
+
+        Target(final Kind kind, final boolean visible, final int parameter, final String className, final String name, final String descriptor) {
+            this.kind = kind;
+            this.visible = visible;
+            this.parameter = parameter;
+            this.className = className;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        @Override
+        public String toString() {
+            if (this.kind == Kind.CLASS) {
+                return String.format("%s %s", this.kind, this.className);
+            }
+            return String.format("%s %s.%s:%s [%d]", this.kind, this.className, this.name, this.descriptor, this.parameter);
+        }
+    }
+
+    /**
+     * Builder scanning {@code class} files and writing the index file. The
+     * {@code add} methods could be called from multiple threads.
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final List<String> stringList = new ArrayList<>();
+        private final Map<Integer, IntList> targetsByType = new HashMap<>();
+
+        /**
+         * Scan all the {@code class} files in the archives concurrently.
+         *
+         * @param archives The {@code jar} or {@code jmod} files
+         * @return this builder
+         * @throws IOException Failed to read the archives
+         */
+        public Builder addArchives(final Collection<File> archives) throws IOException {
+            for (File archive : archives) {
+                for (List<Found> found : ClassArchive.parse(archive, (entryName, classBytes) -> scan(classBytes))) {
+                    this.addFound(found);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Scan one {@code class} file.
+         *
+         * @param classBytes The {@code class} file content
+         * @return this builder
+         * @throws FileFormatException Invalid {@code class} file
+         */
+        public Builder add(final byte[] classBytes) throws FileFormatException {
+            this.addFound(scan(classBytes));
+            return this;
+        }
+
+        private synchronized void addFound(final List<Found> found) {
+            for (Found item : found) {
+                final IntList list = this.targetsByType.computeIfAbsent(this.intern(item.annotationType), k -> new IntList());
+                list.add(item.kind.ordinal());
+                list.add(item.visible ? 1 : 0);
+                list.add(item.parameter);
+                list.add(this.intern(item.className));
+                list.add(this.intern(item.name));
+                list.add(this.intern(item.descriptor));
+            }
+        }
+
+        private int intern(final String s) {
+            Integer id = this.strings.get(s);
+            if (id == null) {
+                id = this.stringList.size();
+                this.strings.put(s, id);
+                this.stringList.add(s);
+            }
+            return id;
+        }
+
+        /**
+         * Get the index file content.
+         *
+         * @return The index file content
+         */
+        public synchronized byte[] toByteArray() {
+            // Sort the strings, and map the old ids to the sorted ids
+            final int count = this.stringList.size();
+            final byte[][] encoded = new byte[count][];
+            final Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                encoded[i] = this.stringList.get(i).getBytes(StandardCharsets.UTF_8);
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> compareBytes(encoded[a], encoded[b]));
+            final int[] newId = new int[count];
+            int dataSize = 0;
+            for (int i = 0; i < count; i++) {
+                newId[order[i]] = i;
+                dataSize += encoded[i].length;
+            }
+
+            final int[] types = new int[this.targetsByType.size()];
+            int t = 0;
+            int targetCount = 0;
+            for (Map.Entry<Integer, IntList> entry : this.targetsByType.entrySet()) {
+                types[t++] = entry.getKey();
+                targetCount += entry.getValue().size / 6;
+            }
+            final int[] sortedTypes = Arrays.stream(types).map(id -> newId[id]).sorted().toArray();
+            final int[] oldIdOf = new int[count];
+            for (int i = 0; i < count; i++) {
+                oldIdOf[newId[i]] = i;
+            }
+
+            final ByteBuffer buf = ByteBuffer.allocate(12 + (count + 1) * 4 + dataSize + 4
+                    + types.length * ANNOTATION_SIZE + targetCount * TARGET_SIZE);
+            buf.putInt(MAGIC).putInt(VERSION).putInt(count);
+            int offset = 0;
+            for (int i = 0; i < count; i++) {
+                buf.putInt(offset);
+                offset += encoded[order[i]].length;
+            }
+            buf.putInt(offset);
+            for (int i = 0; i < count; i++) {
+                buf.put(encoded[order[i]]);
+            }
+
+            buf.putInt(sortedTypes.length);
+            int first = 0;
+            for (int type : sortedTypes) {
+                final int n = this.targetsByType.get(oldIdOf[type]).size / 6;
+                buf.putInt(type).putInt(first).putInt(n);
+                first += n;
+            }
+            for (int type : sortedTypes) {
+                final IntList list = this.targetsByType.get(oldIdOf[type]);
+                for (int i = 0; i < list.size; i += 6) {
+                    buf.put((byte) list.values[i]).put((byte) list.values[i + 1]).putShort((short) list.values[i + 2]);
+                    buf.putInt(newId[list.values[i + 3]]).putInt(newId[list.values[i + 4]]).putInt(newId[list.values[i + 5]]);
+                }
+            }
+            return buf.array();
+        }
+
+        /**
+         * Write the index file.
+         *
+         * @param file The index file
+         * @throws IOException Failed to write the file
+         */
+        public void write(final Path file) throws IOException {
+            Files.write(file, this.toByteArray());
+        }
+
+        /**
+         * Build the index in memory.
+         *
+         * @return The index
+         */
+        public AnnotationIndex build() {
+            try {
+                return AnnotationIndex.wrap(this.toByteArray());
+            } catch (FileFormatException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        private static int compareBytes(final byte[] a, final byte[] b) {
+            final int n = Math.min(a.length, b.length);
+            for (int i = 0; i < n; i++) {
+                final int cmp = (a[i] & 0xFF) - (b[i] & 0xFF);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return a.length - b.length;
+        }
+    }
+
+    /**
+     * Scan the annotations of one {@code class} file.
+     */
+    static List<Found> scan(final byte[] classBytes) throws FileFormatException {
+        try {
+            return new Scanner(classBytes).scan();
+        } catch (IndexOutOfBoundsException ex) {
+            throw new FileFormatException("Truncated class file", ex);
+        }
+    }
+
+    /**
+     * Streaming scanner over the raw {@code class} bytes.
+     */
+    private static final class Scanner {
+
+        private static final int[] CONSTANT_SIZE = new int[32];
+
+        static {
+            Arrays.fill(CONSTANT_SIZE, -1);
+            for (ConstantType type : ConstantType.values()) {
+                CONSTANT_SIZE[type.tag] = 4;
+            }
+            CONSTANT_SIZE[ConstantType.CONSTANT_Utf8.tag] = 0;
+            CONSTANT_SIZE[ConstantType.CONSTANT_Class.tag] = 2;
+            CONSTANT_SIZE[ConstantType.CONSTANT_String.tag] = 2;
+            CONSTANT_SIZE[ConstantType.CONSTANT_MethodType.tag] = 2;
+            CONSTANT_SIZE[ConstantType.CONSTANT_Module.tag] = 2;
+            CONSTANT_SIZE[ConstantType.CONSTANT_Package.tag] = 2;
+            CONSTANT_SIZE[ConstantType.CONSTANT_MethodHandle.tag] = 3;
+            CONSTANT_SIZE[ConstantType.CONSTANT_Long.tag] = 8;
+            CONSTANT_SIZE[ConstantType.CONSTANT_Double.tag] = 8;
+        }
+
+        private final byte[] data;
+        private final List<Found> found = new ArrayList<>();
+        private int pos;
+        private int[] cpOffset;
+        private String className;
+
+        Scanner(final byte[] classBytes) {
+            this.data = classBytes;
+        }
+
+        List<Found> scan() throws FileFormatException {
+            this.pos = 8;
+            final int cpCount = this.u2();
+            this.cpOffset = new int[cpCount];
+            for (int i = 1; i < cpCount; i++) {
+                final int tag = this.u1();
+                final int size = (tag < CONSTANT_SIZE.length) ? CONSTANT_SIZE[tag] : -1;
+                if (size < 0) {
+                    throw new FileFormatException(String.format("Unrecognized constant pool tag %d at index %d", tag, i));
+                }
+                this.cpOffset[i] = this.pos;
+                this.skip((size == 0) ? this.u2() : size);
+                if (size == 8) {
+                    i++;
+                }
+            }
+
+            this.pos += 2;
+            this.className = this.utf8(this.u2At(this.cpOffset[this.u2()]));
+            this.pos += 2;
+            this.skip(this.u2() * 2);
+
+            for (int kind = 0; kind < 2; kind++) {
+                final int count = this.u2();
+                for (int i = 0; i < count; i++) {
+                    this.pos += 2;
+                    final String name = this.utf8(this.u2());
+                    final String descriptor = this.utf8(this.u2());
+                    this.scanAttributes(kind == 0 ? Kind.FIELD : Kind.METHOD, name, descriptor);
+                }
+            }
+            this.scanAttributes(Kind.CLASS, "", "");
+            return this.found;
+        }
+
+        private void scanAttributes(final Kind kind, final String name, final String descriptor) {
+            final int count = this.u2();
+            for (int i = 0; i < count; i++) {
+                final String attrName = this.utf8(this.u2());
+                final int length = this.u4();
+                final int end = this.pos + length;
+                if (AttributeTypes.RuntimeVisibleAnnotations.getName().equals(attrName)
+                        || AttributeTypes.RuntimeInvisibleAnnotations.getName().equals(attrName)) {
+                    final boolean visible = attrName.startsWith("RuntimeVisible");
+                    final int n = this.u2();
+                    for (int a = 0; a < n; a++) {
+                        this.annotation(kind, visible, 0, name, descriptor);
+                    }
+                } else if (AttributeTypes.RuntimeVisibleParameterAnnotations.getName().equals(attrName)
+                        || AttributeTypes.RuntimeInvisibleParameterAnnotations.getName().equals(attrName)) {
+                    final boolean visible = attrName.startsWith("RuntimeVisible");
+                    final int parameters = this.u1();
+                    for (int p = 0; p < parameters; p++) {
+                        final int n = this.u2();
+                        for (int a = 0; a < n; a++) {
+                            this.annotation(Kind.METHOD_PARAMETER, visible, p, name, descriptor);
+                        }
+                    }
+                } else if (AttributeTypes.RuntimeVisibleTypeAnnotations.getName().equals(attrName)
+                        || AttributeTypes.RuntimeInvisibleTypeAnnotations.getName().equals(attrName)) {
+                    final boolean visible = attrName.startsWith("RuntimeVisible");
+                    final int n = this.u2();
+                    for (int a = 0; a < n; a++) {
+                        final int targetType = this.u1();
+                        this.skipTargetInfo(targetType);
+                        this.skip(this.u1() * 2);
+                        this.annotation(Kind.TYPE, visible, targetType, name, descriptor);
+                    }
+                }
+                this.pos = end;
+            }
+        }
+
+        private void annotation(final Kind kind, final boolean visible, final int parameter, final String name, final String descriptor) {
+            final String type = this.utf8(this.u2());
+            this.found.add(new Found(toInternalName(type), kind, visible, parameter, this.className, name, descriptor));
+            this.skipElementValuePairs();
+        }
+
+        private void skipElementValuePairs() {
+            final int pairs = this.u2();
+            for (int i = 0; i < pairs; i++) {
+                this.pos += 2;
+                this.skipElementValue();
+            }
+        }
+
+        private void skipElementValue() {
+            final int tag = this.u1();
+            if (tag == 'e') {
+                this.pos += 4;
+            } else if (tag == '@') {
+                this.pos += 2;
+                this.skipElementValuePairs();
+            } else if (tag == '[') {
+                final int n = this.u2();
+                for (int i = 0; i < n; i++) {
+                    this.skipElementValue();
+                }
+            } else {
+                // const_value_index or class_info_index
+                this.pos += 2;
+            }
+        }
+
+        /**
+         * Skip the {@code target_info} of a {@code type_annotation}.
+         */
+        private void skipTargetInfo(final int targetType) {
+            if (targetType == 0x00 || targetType == 0x01 || targetType == 0x16) {
+                this.pos += 1;
+            } else if (targetType == 0x10 || targetType == 0x11 || targetType == 0x12 || targetType == 0x17
+                    || (targetType >= 0x42 && targetType <= 0x46)) {
+                this.pos += 2;
+            } else if (targetType == 0x40 || targetType == 0x41) {
+                this.skip(this.u2() * 6);
+            } else if (targetType >= 0x47 && targetType <= 0x4B) {
+                this.pos += 3;
+            }
+        }
+
+        private static String toInternalName(final String typeDescriptor) {
+            if (typeDescriptor.length() > 2 && typeDescriptor.charAt(0) == ReferenceType.ClassTypeSignature.signature
+                    && typeDescriptor.charAt(typeDescriptor.length() - 1) == ReferenceType.ClassTypeSignatureSuffix.signature) {
+                return typeDescriptor.substring(1, typeDescriptor.length() - 1);
+            }
+            return typeDescriptor;
+        }
+
+        private String utf8(final int cpIndex) {
+            final int offset = this.cpOffset[cpIndex];
+            final int length = this.u2At(offset);
+            return new String(this.data, offset + 2, length, StandardCharsets.UTF_8);
+        }
+
+        private void skip(final int n) {
+            this.pos += n;
+        }
+
+        private int u1() {
+            return this.data[this.pos++] & 0xFF;
+        }
+
+        private int u2() {
+            final int v = this.u2At(this.pos);
+            this.pos += 2;
+            return v;
+        }
+
+        private int u2At(final int offset) {
+            return ((this.data[offset] & 0xFF) << 8) | (this.data[offset + 1] & 0xFF);
+        }
+
+        private int u4() {
+            final int v = (this.u2At(this.pos) << 16) | this.u2At(this.pos + 2);
+            this.pos += 4;
+            return v;
+        }
+    }
+
+    /**
+     * One annotation found by the {@link Scanner}.
+     */
+    private static final class Found {
+
+        final String annotationType;
+        final Kind kind;
+        final boolean visible;
+        final int parameter;
+        final String className;
+        final String name;
+        final String descriptor;
+
+        Found(final String annotationType, final Kind kind, final boolean visible, final int parameter, final String className, final String name, final String descriptor) {
+            this.annotationType = annotationType;
+            this.kind = kind;
+            this.visible = visible;
+            this.parameter = parameter;
+            this.className = className;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+    }
+
+    /**
+     * Growable <code>int</code> list.
+     */
+    private static final class IntList {
+
+        private int[] values = new int[12];
+        private int size;
+
+        void add(final int v) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size++] = v;
+        }
+    }
+}
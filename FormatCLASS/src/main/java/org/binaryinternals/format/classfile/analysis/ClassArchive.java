@@ -0,0 +1,482 @@
+/*
+ * ClassArchive.java    October 19, 2026, 10:12
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.classfile.analysis;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.swing.JTabbedPane;
+import javax.swing.JTextPane;
+import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.BytesTool;
+import org.binaryinternals.commonlib.core.FileFormat;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.commonlib.ui.Icons;
+import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
+import org.binaryinternals.format.classfile.ClassFile;
+import org.binaryinternals.format.classfile.SignatureConvertor;
+import org.binaryinternals.format.classfile.constant.Utf8Pool;
+
+/**
+ * A {@code jar} or {@code jmod} file analysed as a set of {@code class} files.
+ * All {@code .class} entries of the archive are parsed concurrently on the
+ * common fork/join pool, then merged into the class hierarchy, the package
+ * list, the major version histogram, the size of each class and the
+ * {@link ReferenceIndex}.
+ *
+ * @author Amos Shi
+ * @see <a href="https://openjdk.org/jeps/261">JEP 261: Module System</a>
+ */
+public class ClassArchive extends FileFormat {
+
+    private static final Logger LOG = Logger.getLogger(ClassArchive.class.getName());
+
+    /**
+     * File extension of the entries to be parsed.
+     */
+    public static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * Max number of archive entries parsed by one fork/join leaf task.
+     */
+    static final int PARALLEL_THRESHOLD = 32;
+
+    /**
+     * All parsed classes, in the order of the archive entries.
+     */
+    public final List<ClassEntry> classes;
+
+    /**
+     * Entries failed to be parsed, entry name and the failure message.
+     */
+    public final SortedMap<String, String> failures = new TreeMap<>();
+
+    /**
+     * Package name in internal form, and the number of classes in the package.
+     */
+    public final SortedMap<String, Integer> packages = new TreeMap<>();
+
+    /**
+     * Class file {@code major_version} and the number of classes using it.
+     */
+    public final SortedMap<Integer, Integer> majorVersions = new TreeMap<>();
+
+    /**
+     * Super class name in internal form, and its direct sub classes found in
+     * this archive.
+     */
+    public final Map<String, List<ClassEntry>> subclasses = new HashMap<>();
+
+    /**
+     * Cross-class references of all the parsed classes.
+     */
+    public final ReferenceIndex references = new ReferenceIndex();
+
+    /**
+     * Class name in internal form, and the parsed class.
+     */
+    private final Map<String, ClassEntry> byName = new HashMap<>();
+
+    /**
+     * Archive entry name, and the parsed class.
+     */
+    private final Map<String, ClassEntry> byEntry = new HashMap<>();
+
+    /**
+     * Parse all the {@code class} files in a {@code jar} or {@code jmod} file.
+     *
+     * @param file The {@code jar} or {@code jmod} file
+     * @throws IOException Failed to read the file
+     * @throws FileFormatException The file is empty
+     */
+    public ClassArchive(final File file) throws IOException, FileFormatException {
+        super(file);
+
+        final List<ClassEntry> parsed = parse(file, ClassEntry::new);
+        final List<ClassEntry> succeeded = new ArrayList<>(parsed.size());
+        for (ClassEntry entry : parsed) {
+            if (entry.error == null) {
+                succeeded.add(entry);
+            } else {
+                this.failures.put(entry.entryName, entry.error);
+            }
+        }
+        this.classes = Collections.unmodifiableList(succeeded);
+        this.merge();
+    }
+
+    /**
+     * Parse the {@code .class} entries of an archive concurrently. The
+     * {@code mapper} is called from the fork/join worker threads, so it should
+     * not update any shared state without synchronization.
+     *
+     * <p>
+     * The {@code CONSTANT_Utf8} contents are interned only if a shared
+     * {@link Utf8Pool} has been set by the caller before parsing.
+     * </p>
+     *
+     * @param <T> Type of the mapped result
+     * @param archive The {@code jar} or {@code jmod} file
+     * @param mapper Convert an entry to the result
+     * @return Results in the order of the archive entries; the entries mapped
+     * to {@code null} are skipped
+     * @throws IOException Failed to read the archive
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> parse(final File archive, final EntryMapper<T> mapper) throws IOException {
+        try (ZipFile zip = new ZipFile(archive)) {
+            final List<ZipEntry> entries = new ArrayList<>();
+            zip.stream().filter(ClassArchive::isClassEntry).forEachOrdered(entries::add);
+
+            final Object[] results = new Object[entries.size()];
+            try {
+                ForkJoinPool.commonPool().invoke(new ParseTask(zip, entries, mapper, results, 0, entries.size()));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+
+            final List<T> list = new ArrayList<>(results.length);
+            for (Object result : results) {
+                if (result != null) {
+                    list.add((T) result);
+                }
+            }
+            return list;
+        }
+    }
+
+    /**
+     * Whether the archive entry is a {@code class} file or not.
+     *
+     * @param entry Archive entry
+     * @return true if the entry is a {@code class} file
+     */
+    static boolean isClassEntry(final ZipEntry entry) {
+        return !entry.isDirectory() && entry.getName().endsWith(CLASS_FILE_EXTENSION);
+    }
+
+    /**
+     * Get the package name from a class name in internal form.
+     *
+     * @param className Class name in internal form, like
+     * {@code java/lang/Object}
+     * @return Package name in internal form, or an empty string for the
+     * unnamed package
+     */
+    public static String getPackageName(final String className) {
+        final int lastIndex = className.lastIndexOf(SignatureConvertor.BINARY_NAME_SEPARATOR);
+        return (lastIndex == -1) ? "" : className.substring(0, lastIndex);
+    }
+
+    private void merge() {
+        for (ClassEntry entry : this.classes) {
+            this.byName.put(entry.className, entry);
+            this.byEntry.put(entry.entryName, entry);
+            if (entry.references != null) {
+                this.references.update(entry.references);
+                entry.references = null;
+            }
+            this.packages.merge(getPackageName(entry.className), 1, Integer::sum);
+            this.majorVersions.merge(entry.majorVersion, 1, Integer::sum);
+            this.subclasses.computeIfAbsent(entry.superClassName, k -> new ArrayList<>()).add(entry);
+        }
+        for (List<ClassEntry> list : this.subclasses.values()) {
+            list.sort((a, b) -> a.className.compareTo(b.className));
+        }
+    }
+
+    /**
+     * Get a parsed class by its name.
+     *
+     * @param className Class name in internal form
+     * @return The parsed class, or {@code null} if it does not exist in this
+     * archive
+     */
+    public ClassEntry getClass(final String className) {
+        return this.byName.get(className);
+    }
+
+    /**
+     * Get the top classes of the hierarchy, whose super classes do not exist
+     * in this archive.
+     *
+     * @return Classes sorted by name
+     */
+    public List<ClassEntry> getHierarchyRoots() {
+        final List<ClassEntry> roots = new ArrayList<>();
+        for (ClassEntry entry : this.classes) {
+            if (!this.byName.containsKey(entry.superClassName)) {
+                roots.add(entry);
+            }
+        }
+        roots.sort((a, b) -> a.className.compareTo(b.className));
+        return roots;
+    }
+
+    /**
+     * Get the direct sub classes of a class.
+     *
+     * @param className Class name in internal form
+     * @return Sub classes sorted by name
+     */
+    public List<ClassEntry> getSubclasses(final String className) {
+        return this.subclasses.getOrDefault(className, Collections.emptyList());
+    }
+
+    @Override
+    public String getContentTabName() {
+        return "Java Class Archive";
+    }
+
+    @Override
+    public Icons getIcon() {
+        return Icons.Java;
+    }
+
+    @Override
+    public void generateTreeNode(DefaultMutableTreeNode parentNode) {
+        new JTreeClassArchive().generateTreeNode(parentNode, this);
+    }
+
+    @Override
+    public void treeSelectionChanged(final JTreeNodeFileComponent tnfc, final JTabbedPane tabs) {
+        super.treeSelectionChanged(tnfc, tabs);
+
+        final ClassEntry entry = (tnfc.getDescription() == null) ? null : this.byEntry.get(tnfc.getDescription());
+        if (entry != null) {
+            JTextPane pane = super.tabAddTextPane(tabs, "References");
+            pane.setText(this.generateReferenceReport(entry.className).toString());
+        }
+    }
+
+    /**
+     * Generate the report of the references from and to a class.
+     *
+     * @param className Class name in internal form
+     * @return The report
+     */
+    public StringBuilder generateReferenceReport(final String className) {
+        final StringBuilder sb = new StringBuilder(1024);
+        this.appendReferences(sb, "Sub classes", this.references.getSubclasses(className));
+        this.appendReferences(sb, "Implementors", this.references.getImplementors(className));
+        this.appendReferences(sb, "Referenced by", this.references.getClassReferences(className));
+        this.appendReferences(sb, "References to", this.references.getReferenced(ReferenceIndex.Kind.CLASS, className));
+        this.appendReferences(sb, "Field references", this.references.getReferenced(ReferenceIndex.Kind.FIELD, className));
+        this.appendReferences(sb, "Method references", this.references.getReferenced(ReferenceIndex.Kind.METHOD, className));
+        this.appendReferences(sb, "Interface method references", this.references.getReferenced(ReferenceIndex.Kind.INTERFACE_METHOD, className));
+        return sb;
+    }
+
+    private void appendReferences(final StringBuilder sb, final String title, final List<String> names) {
+        sb.append(String.format("%s [%d]%n", title, names.size()));
+        for (String name : names) {
+            sb.append("    ").append(name).append(System.lineSeparator());
+        }
+        sb.append(System.lineSeparator());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Archive contains %d class(es) in %d package(s)", this.classes.size(), this.packages.size());
+    }
+
+    /**
+     * Convert one archive entry to a result.
+     *
+     * @param <T> Type of the result
+     */
+    @FunctionalInterface
+    public interface EntryMapper<T> {
+
+        /**
+         * Convert one archive entry.
+         *
+         * @param entryName Name of the archive entry
+         * @param classBytes Content of the {@code class} file
+         * @return Mapped result, or {@code null} to skip the entry
+         * @throws IOException Failed to read the content
+         * @throws FileFormatException Invalid {@code class} file
+         */
+        T map(String entryName, byte[] classBytes) throws IOException, FileFormatException;
+    }
+
+    /**
+     * Fork/join task parsing a range of the archive entries.
+     */
+    private static final class ParseTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 4876543219876500000L;
+
+        private final transient ZipFile zip;
+        private final transient List<ZipEntry> entries;
+        private final transient EntryMapper<?> mapper;
+        private final transient Object[] results;
+        private final int from;
+        private final int to;
+
+        ParseTask(final ZipFile zip, final List<ZipEntry> entries, final EntryMapper<?> mapper, final Object[] results, final int from, final int to) {
+            this.zip = zip;
+            this.entries = entries;
+            this.mapper = mapper;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= PARALLEL_THRESHOLD) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.results[i] = this.map(this.entries.get(i));
+                }
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new ParseTask(this.zip, this.entries, this.mapper, this.results, this.from, middle),
+                        new ParseTask(this.zip, this.entries, this.mapper, this.results, middle, this.to));
+            }
+        }
+
+        private Object map(final ZipEntry entry) {
+            final byte[] bytes;
+            try {
+                bytes = BytesTool.readZipEntryAsBytes(this.zip, entry);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+
+            try {
+                return this.mapper.map(entry.getName(), bytes);
+            } catch (IOException | FileFormatException | RuntimeException ex) {
+                LOG.log(Level.WARNING, String.format("Failed to parse the archive entry %s", entry.getName()), ex);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Summary of one {@code class} file in the archive.
+     *
+     * <pre>
+     * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+     * </pre>
+     */
+    @SuppressWarnings("java:S1104")
+    public static final class ClassEntry {
+
+        private static final String[] NO_INTERFACES = {};
+
+        /**
+         * Name of the archive entry.
+         */
+        public final String entryName;
+        /**
+         * Size of the {@code class} file in bytes.
+         */
+        public final int size;
+        /**
+         * Class name in internal form.
+         */
+        public final String className;
+        /**
+         * Super class name in internal form, or an empty string for
+         * {@code java/lang/Object} and {@code module-info}.
+         */
+        public final String superClassName;
+        /**
+         * Direct super interface names in internal form.
+         */
+        public final String[] interfaces;
+        /**
+         * Value of the {@code access_flags} item.
+         */
+        public final int accessFlags;
+        /**
+         * Class file {@code major_version}.
+         */
+        public final int majorVersion;
+        /**
+         * Class file {@code minor_version}.
+         */
+        public final int minorVersion;
+        /**
+         * Failure message if the entry cannot be parsed, otherwise
+         * {@code null}.
+         */
+        final String error;
+        /**
+         * References extracted on the parsing thread, released after being
+         * merged into {@link ClassArchive#references}.
+         */
+        ReferenceIndex.ClassReferences references;
+
+        ClassEntry(final String entryName, final byte[] classBytes) {
+            this.entryName = entryName;
+            this.size = classBytes.length;
+
+            String name = entryName;
+            String superName = "";
+            String[] itfs = NO_INTERFACES;
+            int flags = 0;
+            int major = 0;
+            int minor = 0;
+            String message = null;
+            try {
+                final ClassFile cf = new ClassFile(classBytes, entryName, entryName);
+                name = cf.getThisClassName();
+                superName = cf.getSuperClassName();
+                if (cf.interfaces != null) {
+                    itfs = new String[cf.interfaces.length];
+                    for (int i = 0; i < itfs.length; i++) {
+                        itfs[i] = cf.getConstantClassInfoName(cf.interfaces[i].getValue());
+                    }
+                }
+                flags = cf.access_flags.getValue();
+                major = cf.major_version.value;
+                minor = cf.minor_version.value;
+                this.references = new ReferenceIndex.ClassReferences(cf);
+            } catch (IOException | FileFormatException | RuntimeException ex) {
+                LOG.log(Level.WARNING, String.format("Failed to parse the class file %s", entryName), ex);
+                message = ex.toString();
+            }
+
+            this.className = name;
+            this.superClassName = superName;
+            this.interfaces = itfs;
+            this.accessFlags = flags;
+            this.majorVersion = major;
+            this.minorVersion = minor;
+            this.error = message;
+        }
+
+        /**
+         * Get the class name in Java Language Specification (JLS) format.
+         *
+         * @return Class name like {@code java.lang.Object}
+         */
+        public String getJLSName() {
+            return SignatureConvertor.parseClassSignature(this.className);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s - %,d bytes, version %d.%d", this.getJLSName(), this.size, this.majorVersion, this.minorVersion);
+        }
+    }
+}
@@ -0,0 +1,552 @@
+/*
+ * ControlFlowGraph.java    October 19, 2026, 15:20
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.classfile.analysis;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import org.binaryinternals.format.classfile.Opcode.Instruction;
+import org.binaryinternals.format.classfile.attribute.Code_attribute;
+
+/**
+ * Basic block control flow graph of the {@code code} array in a
+ * {@link Code_attribute}, with the immediate dominator of each block.
+ *
+ * <p>
+ * A basic block starts at offset 0, at a branch or switch target, at an
+ * exception handler, at a {@code start_pc} or {@code end_pc} of the exception
+ * table, or after an instruction ending the control flow. All the data is kept
+ * in <code>int</code> arrays, so a 64 KB method like a generated
+ * {@code <clinit>} does not create one object per instruction or per edge.
+ * </p>
+ *
+ * <p>
+ * A {@link Instruction#jsr} or {@link Instruction#jsr_w} is treated as a
+ * branch to the subroutine plus a fall through to the next instruction, and a
+ * {@link Instruction#ret} has no successor.
+ * </p>
+ *
+ * @author Amos Shi
+ * @see
+ * <a href="https://docs.oracle.com/javase/specs/jvms/se25/html/jvms-4.html#jvms-4.10">
+ * VM Spec: Verification of class Files
+ * </a>
+ * @see
+ * <a href="https://www.cs.tufts.edu/comp/150FP/archive/keith-cooper/dom14.pdf">
+ * Cooper, Harvey, Kennedy: A Simple, Fast Dominance Algorithm
+ * </a>
+ */
+public final class ControlFlowGraph {
+
+    /**
+     * Block start offsets, with {@code code.length} appended, so block
+     * <code>i</code> covers <code>[blockStart[i], blockStart[i + 1])</code>.
+     */
+    private final int[] blockStart;
+
+    /**
+     * Successors of block <code>i</code> are
+     * <code>succ[succIndex[i] .. succIndex[i + 1])</code>.
+     */
+    private final int[] succIndex;
+    private final int[] succ;
+
+    /**
+     * Predecessors of block <code>i</code> are
+     * <code>pred[predIndex[i] .. predIndex[i + 1])</code>.
+     */
+    private final int[] predIndex;
+    private final int[] pred;
+
+    /**
+     * Immediate dominator of each block; the entry block dominates itself, and
+     * the unreachable blocks have <code>-1</code>.
+     */
+    private final int[] idom;
+
+    /**
+     * Bytes of each instruction; zero means variable length.
+     */
+    private static final byte[] INSTRUCTION_LENGTH = new byte[256];
+
+    static {
+        Arrays.fill(INSTRUCTION_LENGTH, (byte) 1);
+        setLength(2, Instruction.bipush, Instruction.ldc, Instruction.newarray,
+                Instruction.iload, Instruction.lload, Instruction.fload, Instruction.dload, Instruction.aload,
+                Instruction.istore, Instruction.lstore, Instruction.fstore, Instruction.dstore, Instruction.astore,
+                Instruction.ret);
+        setLength(3, Instruction.sipush, Instruction.ldc_w, Instruction.ldc2_w, Instruction.iinc,
+                Instruction.ifeq, Instruction.ifne, Instruction.iflt, Instruction.ifge, Instruction.ifgt, Instruction.ifle,
+                Instruction.if_icmpeq, Instruction.if_icmpne, Instruction.if_icmplt, Instruction.if_icmpge,
+                Instruction.if_icmpgt, Instruction.if_icmple, Instruction.if_acmpeq, Instruction.if_acmpne,
+                Instruction.goto_, Instruction.jsr, Instruction.ifnull, Instruction.ifnonnull,
+                Instruction.getstatic, Instruction.putstatic, Instruction.getfield, Instruction.putfield,
+                Instruction.invokevirtual, Instruction.invokespecial, Instruction.invokestatic,
+                Instruction.new_, Instruction.anewarray, Instruction.checkcast, Instruction.instanceof_);
+        setLength(4, Instruction.multianewarray);
+        setLength(5, Instruction.invokeinterface, Instruction.invokedynamic, Instruction.goto_w, Instruction.jsr_w);
+        setLength(0, Instruction.tableswitch, Instruction.lookupswitch, Instruction.wide);
+    }
+
+    private static void setLength(final int length, final Instruction... instructions) {
+        for (Instruction i : instructions) {
+            INSTRUCTION_LENGTH[i.code] = (byte) length;
+        }
+    }
+
+    /**
+     * Build the control flow graph of a {@link Code_attribute}.
+     *
+     * @param codeAttr The code attribute
+     * @throws IllegalArgumentException The {@code code} array is truncated or
+     * a branch target is out of range
+     * @see Code_attribute#getControlFlowGraph()
+     */
+    public ControlFlowGraph(final Code_attribute codeAttr) {
+        final byte[] code = codeAttr.code;
+        final int count = codeAttr.exception_table_length.value;
+        final int[] handlers = new int[count * 3];
+        for (int i = 0; i < count; i++) {
+            final Code_attribute.exception_table et = codeAttr.getExceptionTable(i);
+            handlers[i * 3] = et.start_pc.value;
+            handlers[i * 3 + 1] = et.end_pc.value;
+            handlers[i * 3 + 2] = et.handler_pc.value;
+        }
+
+        this.blockStart = findBlocks(code, handlers);
+        final int blockCount = this.blockStart.length - 1;
+
+        final IntPairs edges = findEdges(code, handlers, this.blockStart);
+        this.succIndex = new int[blockCount + 1];
+        this.succ = edges.toAdjacency(blockCount, true, this.succIndex);
+        this.predIndex = new int[blockCount + 1];
+        this.pred = edges.toAdjacency(blockCount, false, this.predIndex);
+
+        this.idom = this.computeDominators();
+    }
+
+    /**
+     * Find the leaders, the first instruction of each basic block.
+     */
+    private static int[] findBlocks(final byte[] code, final int[] handlers) {
+        final BitSet leaders = new BitSet(code.length + 1);
+        leaders.set(0);
+        for (int i = 0; i < handlers.length; i++) {
+            leaders.set(checkTarget(code, handlers[i], i % 3 == 1));
+        }
+
+        int pc = 0;
+        while (pc < code.length) {
+            final int opcode = code[pc] & 0xFF;
+            final int next = pc + instructionLength(code, pc);
+            if (isBranch(opcode)) {
+                leaders.set(checkTarget(code, branchTarget(code, pc, opcode), false));
+                leaders.set(next);
+            } else if (opcode == Instruction.tableswitch.code || opcode == Instruction.lookupswitch.code) {
+                final int[] targets = switchTargets(code, pc, opcode);
+                for (int target : targets) {
+                    leaders.set(checkTarget(code, target, false));
+                }
+                leaders.set(next);
+            } else if (isExit(opcode)) {
+                leaders.set(next);
+            }
+            pc = next;
+        }
+
+        leaders.set(code.length);
+        final int[] starts = new int[leaders.cardinality()];
+        int i = 0;
+        for (int bit = leaders.nextSetBit(0); bit >= 0 && bit <= code.length; bit = leaders.nextSetBit(bit + 1)) {
+            starts[i++] = bit;
+        }
+        return (i == starts.length) ? starts : Arrays.copyOf(starts, i);
+    }
+
+    private static IntPairs findEdges(final byte[] code, final int[] handlers, final int[] starts) {
+        final IntPairs edges = new IntPairs(starts.length * 2);
+        int block = 0;
+        int pc = 0;
+        while (pc < code.length) {
+            final int opcode = code[pc] & 0xFF;
+            final int next = pc + instructionLength(code, pc);
+            if (next > starts[block + 1]) {
+                throw new IllegalArgumentException(String.format("Target %d is not an instruction boundary", starts[block + 1]));
+            } else if (next == starts[block + 1]) {
+                // Last instruction of the block
+                if (isBranch(opcode)) {
+                    edges.add(block, blockOf(starts, branchTarget(code, pc, opcode)));
+                    if (opcode != Instruction.goto_.code && opcode != Instruction.goto_w.code && next < code.length) {
+                        edges.add(block, block + 1);
+                    }
+                } else if (opcode == Instruction.tableswitch.code || opcode == Instruction.lookupswitch.code) {
+                    for (int target : switchTargets(code, pc, opcode)) {
+                        edges.add(block, blockOf(starts, target));
+                    }
+                } else if (!isExit(opcode) && next < code.length) {
+                    edges.add(block, block + 1);
+                }
+                block++;
+            }
+            pc = next;
+        }
+
+        for (int i = 0; i < handlers.length; i += 3) {
+            final int handler = blockOf(starts, handlers[i + 2]);
+            for (int b = blockOf(starts, handlers[i]); b < starts.length - 1 && starts[b] < handlers[i + 1]; b++) {
+                edges.add(b, handler);
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Compute the immediate dominators with the iterative algorithm of Cooper,
+     * Harvey and Kennedy over the reverse post order.
+     */
+    private int[] computeDominators() {
+        final int blockCount = this.getBlockCount();
+        if (blockCount == 0) {
+            return new int[0];
+        }
+        final int[] order = new int[blockCount];
+        final int[] rpoNumber = new int[blockCount];
+        Arrays.fill(rpoNumber, -1);
+
+        // Iterative depth first search, post order written backwards
+        final int[] stack = new int[blockCount];
+        final int[] cursor = new int[blockCount];
+        final boolean[] visited = new boolean[blockCount];
+        int top = 0;
+        int next = blockCount;
+        stack[top++] = 0;
+        visited[0] = true;
+        cursor[0] = this.succIndex[0];
+        while (top > 0) {
+            final int b = stack[top - 1];
+            if (cursor[b] < this.succIndex[b + 1]) {
+                final int s = this.succ[cursor[b]++];
+                if (!visited[s]) {
+                    visited[s] = true;
+                    cursor[s] = this.succIndex[s];
+                    stack[top++] = s;
+                }
+            } else {
+                top--;
+                order[--next] = b;
+            }
+        }
+        final int reachable = blockCount - next;
+        final int[] rpo = Arrays.copyOfRange(order, next, blockCount);
+        for (int i = 0; i < reachable; i++) {
+            rpoNumber[rpo[i]] = i;
+        }
+
+        final int[] doms = new int[blockCount];
+        Arrays.fill(doms, -1);
+        doms[0] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 1; i < reachable; i++) {
+                final int b = rpo[i];
+                int newIdom = -1;
+                for (int p = this.predIndex[b]; p < this.predIndex[b + 1]; p++) {
+                    final int pb = this.pred[p];
+                    if (doms[pb] != -1) {
+                        newIdom = (newIdom == -1) ? pb : intersect(doms, rpoNumber, pb, newIdom);
+                    }
+                }
+                if (doms[b] != newIdom) {
+                    doms[b] = newIdom;
+                    changed = true;
+                }
+            }
+        }
+        return doms;
+    }
+
+    private static int intersect(final int[] doms, final int[] rpoNumber, final int b1, final int b2) {
+        int finger1 = b1;
+        int finger2 = b2;
+        while (finger1 != finger2) {
+            while (rpoNumber[finger1] > rpoNumber[finger2]) {
+                finger1 = doms[finger1];
+            }
+            while (rpoNumber[finger2] > rpoNumber[finger1]) {
+                finger2 = doms[finger2];
+            }
+        }
+        return finger1;
+    }
+
+    /**
+     * Get the length of the instruction at {@code pc}.
+     *
+     * @param code The {@code code} array
+     * @param pc Offset of the instruction
+     * @return Instruction length in bytes
+     */
+    public static int instructionLength(final byte[] code, final int pc) {
+        final int opcode = code[pc] & 0xFF;
+        int length = INSTRUCTION_LENGTH[opcode];
+        if (length == 0) {
+            if (opcode == Instruction.wide.code) {
+                checkRange(code, pc + 1);
+                length = ((code[pc + 1] & 0xFF) == Instruction.iinc.code) ? 6 : 4;
+            } else {
+                final int base = (pc + 4) & ~3;
+                if (opcode == Instruction.tableswitch.code) {
+                    final long count = (long) readInt(code, base + 8) - readInt(code, base + 4) + 1;
+                    length = (count < 1 || count > code.length) ? -1 : base - pc + 12 + (int) count * 4;
+                } else {
+                    final int count = readInt(code, base + 4);
+                    length = (count < 0 || count > code.length) ? -1 : base - pc + 8 + count * 8;
+                }
+            }
+        }
+        if (length <= 0 || pc + length > code.length) {
+            throw new IllegalArgumentException(String.format("Truncated instruction %d at pc %d", opcode, pc));
+        }
+        return length;
+    }
+
+    private static boolean isBranch(final int opcode) {
+        return (opcode >= Instruction.ifeq.code && opcode <= Instruction.jsr.code)
+                || opcode == Instruction.ifnull.code || opcode == Instruction.ifnonnull.code
+                || opcode == Instruction.goto_w.code || opcode == Instruction.jsr_w.code;
+    }
+
+    private static boolean isExit(final int opcode) {
+        return (opcode >= Instruction.ireturn.code && opcode <= Instruction.return_.code)
+                || opcode == Instruction.athrow.code || opcode == Instruction.ret.code;
+    }
+
+    private static int branchTarget(final byte[] code, final int pc, final int opcode) {
+        if (opcode == Instruction.goto_w.code || opcode == Instruction.jsr_w.code) {
+            return pc + readInt(code, pc + 1);
+        }
+        return pc + (short) (((code[pc + 1] & 0xFF) << 8) | (code[pc + 2] & 0xFF));
+    }
+
+    private static int[] switchTargets(final byte[] code, final int pc, final int opcode) {
+        final int base = (pc + 4) & ~3;
+        final int[] targets;
+        if (opcode == Instruction.tableswitch.code) {
+            final int count = readInt(code, base + 8) - readInt(code, base + 4) + 1;
+            targets = new int[count + 1];
+            for (int i = 0; i < count; i++) {
+                targets[i + 1] = pc + readInt(code, base + 12 + i * 4);
+            }
+        } else {
+            final int count = readInt(code, base + 4);
+            targets = new int[count + 1];
+            for (int i = 0; i < count; i++) {
+                targets[i + 1] = pc + readInt(code, base + 12 + i * 8);
+            }
+        }
+        targets[0] = pc + readInt(code, base);
+        return targets;
+    }
+
+    private static int readInt(final byte[] code, final int pos) {
+        checkRange(code, pos + 3);
+        return ((code[pos] & 0xFF) << 24) | ((code[pos + 1] & 0xFF) << 16) | ((code[pos + 2] & 0xFF) << 8) | (code[pos + 3] & 0xFF);
+    }
+
+    private static void checkRange(final byte[] code, final int pos) {
+        if (pos >= code.length) {
+            throw new IllegalArgumentException(String.format("Truncated code at %d, code length %d", pos, code.length));
+        }
+    }
+
+    private static int checkTarget(final byte[] code, final int target, final boolean endAllowed) {
+        if (target < 0 || target > code.length || (target == code.length && !endAllowed)) {
+            throw new IllegalArgumentException(String.format("Target %d out of code length %d", target, code.length));
+        }
+        return target;
+    }
+
+    private static int blockOf(final int[] starts, final int pc) {
+        final int i = Arrays.binarySearch(starts, 0, starts.length - 1, pc);
+        return (i >= 0) ? i : -i - 2;
+    }
+
+    /**
+     * Get the number of basic blocks.
+     *
+     * @return Number of basic blocks
+     */
+    public int getBlockCount() {
+        return this.blockStart.length - 1;
+    }
+
+    /**
+     * Get the start offset of a block in the {@code code} array.
+     *
+     * @param block Block index
+     * @return Start offset
+     */
+    public int getBlockStart(final int block) {
+        return this.blockStart[block];
+    }
+
+    /**
+     * Get the end offset, exclusive, of a block in the {@code code} array.
+     *
+     * @param block Block index
+     * @return End offset
+     */
+    public int getBlockEnd(final int block) {
+        return this.blockStart[block + 1];
+    }
+
+    /**
+     * Get the block containing an offset of the {@code code} array.
+     *
+     * @param pc Offset in the {@code code} array
+     * @return Block index
+     */
+    public int getBlock(final int pc) {
+        return blockOf(this.blockStart, pc);
+    }
+
+    /**
+     * Get the successors of a block, including the exception handlers.
+     *
+     * @param block Block index
+     * @return Successor block indexes, sorted
+     */
+    public int[] getSuccessors(final int block) {
+        return Arrays.copyOfRange(this.succ, this.succIndex[block], this.succIndex[block + 1]);
+    }
+
+    /**
+     * Get the predecessors of a block.
+     *
+     * @param block Block index
+     * @return Predecessor block indexes, sorted
+     */
+    public int[] getPredecessors(final int block) {
+        return Arrays.copyOfRange(this.pred, this.predIndex[block], this.predIndex[block + 1]);
+    }
+
+    /**
+     * Get the immediate dominator of a block.
+     *
+     * @param block Block index
+     * @return Immediate dominator block index, 0 for the entry block, or
+     * <code>-1</code> if the block is unreachable
+     */
+    public int getImmediateDominator(final int block) {
+        return this.idom[block];
+    }
+
+    /**
+     * Whether block {@code a} dominates block {@code b} or not.
+     *
+     * @param a Block index
+     * @param b Block index
+     * @return true if every path from the entry to {@code b} goes through
+     * {@code a}
+     */
+    public boolean dominates(final int a, final int b) {
+        if (this.idom[b] == -1) {
+            return false;
+        }
+        int cur = b;
+        while (cur != a && cur != 0) {
+            cur = this.idom[cur];
+        }
+        return cur == a;
+    }
+
+    /**
+     * Generate the text report of the blocks.
+     *
+     * @return The report
+     */
+    public StringBuilder generateReport() {
+        final int blockCount = this.getBlockCount();
+        final StringBuilder sb = new StringBuilder(blockCount * 48 + 64);
+        sb.append(String.format("Basic blocks: %,d, edges: %,d%n%n", blockCount, this.succ.length));
+        for (int b = 0; b < blockCount; b++) {
+            sb.append(String.format("B%d [%d, %d)", b, this.blockStart[b], this.blockStart[b + 1]));
+            sb.append(this.idom[b] == -1 ? "  unreachable" : String.format("  idom=B%d", this.idom[b]));
+            sb.append("  ->");
+            for (int i = this.succIndex[b]; i < this.succIndex[b + 1]; i++) {
+                sb.append(" B").append(this.succ[i]);
+            }
+            sb.append(System.lineSeparator());
+        }
+        return sb;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ControlFlowGraph: %d block(s), %d edge(s)", this.getBlockCount(), this.succ.length);
+    }
+
+    /**
+     * Growable list of <code>int</code> pairs, used for the edges.
+     */
+    private static final class IntPairs {
+
+        private int[] from;
+        private int[] to;
+        private int size;
+
+        IntPairs(final int capacity) {
+            this.from = new int[Math.max(capacity, 4)];
+            this.to = new int[this.from.length];
+        }
+
+        void add(final int a, final int b) {
+            if (this.size == this.from.length) {
+                this.from = Arrays.copyOf(this.from, this.size * 2);
+                this.to = Arrays.copyOf(this.to, this.size * 2);
+            }
+            this.from[this.size] = a;
+            this.to[this.size] = b;
+            this.size++;
+        }
+
+        /**
+         * Convert to the compressed adjacency array, sorted and without
+         * duplicates.
+         */
+        int[] toAdjacency(final int nodeCount, final boolean forward, final int[] index) {
+            final int[] keys = forward ? this.from : this.to;
+            final int[] values = forward ? this.to : this.from;
+            final int[] offset = new int[nodeCount + 1];
+            for (int i = 0; i < this.size; i++) {
+                offset[keys[i] + 1]++;
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                offset[i + 1] += offset[i];
+            }
+            final int[] fill = Arrays.copyOf(offset, nodeCount);
+            final int[] adj = new int[this.size];
+            for (int i = 0; i < this.size; i++) {
+                adj[fill[keys[i]]++] = values[i];
+            }
+
+            // Sort each node and remove the duplicates in place
+            int write = 0;
+            for (int n = 0; n < nodeCount; n++) {
+                Arrays.sort(adj, offset[n], offset[n + 1]);
+                index[n] = write;
+                for (int i = offset[n]; i < offset[n + 1]; i++) {
+                    if (i == offset[n] || adj[i] != adj[i - 1]) {
+                        adj[write++] = adj[i];
+                    }
+                }
+            }
+            index[nodeCount] = write;
+            return (write == adj.length) ? adj : Arrays.copyOf(adj, write);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * JTreeClassArchive.java    October 19, 2026, 10:48
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.classfile.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.FileFormat;
+import org.binaryinternals.commonlib.ui.Icons;
+import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
+import org.binaryinternals.format.classfile.GenerateTreeNodeClassFile;
+import org.binaryinternals.format.classfile.SignatureConvertor;
+
+/**
+ * A tree for {@link ClassArchive} displaying the merged analysis result.
+ *
+ * @author Amos Shi
+ * @see ClassArchive
+ */
+class JTreeClassArchive implements GenerateTreeNodeClassFile {
+
+    private static final String UNNAMED_PACKAGE = "(unnamed package)";
+
+    private ClassArchive archive;
+
+    @Override
+    public void generateTreeNode(DefaultMutableTreeNode parentNode, FileFormat fileFormat) {
+        this.archive = (ClassArchive) fileFormat;
+
+        this.generatePackages(parentNode);
+        this.generateVersions(parentNode);
+        this.generateHierarchy(parentNode);
+        this.generateFailures(parentNode);
+    }
+
+    private void generatePackages(final DefaultMutableTreeNode parentNode) {
+        final Map<String, List<ClassArchive.ClassEntry>> byPackage = new TreeMap<>();
+        long totalSize = 0;
+        for (ClassArchive.ClassEntry entry : this.archive.classes) {
+            byPackage.computeIfAbsent(ClassArchive.getPackageName(entry.className), k -> new ArrayList<>()).add(entry);
+            totalSize += entry.size;
+        }
+
+        final DefaultMutableTreeNode packagesNode = this.addNode(parentNode,
+                0, 0,
+                String.format("packages[%d]", byPackage.size()),
+                String.format("%,d classes, %,d bytes", this.archive.classes.size(), totalSize),
+                "msg_archive_packages",
+                Icons.Package);
+
+        for (Map.Entry<String, List<ClassArchive.ClassEntry>> item : byPackage.entrySet()) {
+            final String packageName = item.getKey().isEmpty()
+                    ? UNNAMED_PACKAGE
+                    : SignatureConvertor.parseClassSignature(item.getKey());
+            final DefaultMutableTreeNode packageNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                    0, 0,
+                    String.format("%s [%d]", packageName, item.getValue().size()),
+                    Icons.Package));
+            packagesNode.add(packageNode);
+
+            for (ClassArchive.ClassEntry entry : item.getValue()) {
+                packageNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                        0, 0,
+                        entry.toString(),
+                        Icons.Class,
+                        entry.entryName)));
+            }
+        }
+    }
+
+    private void generateVersions(final DefaultMutableTreeNode parentNode) {
+        final DefaultMutableTreeNode versionsNode = this.addNode(parentNode,
+                0, 0,
+                "major_version",
+                String.format("%d version(s)", this.archive.majorVersions.size()),
+                "msg_archive_versions",
+                Icons.Versions);
+
+        for (Map.Entry<Integer, Integer> item : this.archive.majorVersions.entrySet()) {
+            this.addNode(versionsNode,
+                    0, 0,
+                    String.valueOf(item.getKey()),
+                    String.format("%,d classes", item.getValue()),
+                    "msg_version",
+                    Icons.Counter);
+        }
+    }
+
+    private void generateHierarchy(final DefaultMutableTreeNode parentNode) {
+        final List<ClassArchive.ClassEntry> roots = this.archive.getHierarchyRoots();
+        final DefaultMutableTreeNode hierarchyNode = this.addNode(parentNode,
+                0, 0,
+                "class hierarchy",
+                String.format("%d root(s)", roots.size()),
+                "msg_archive_hierarchy",
+                Icons.Shortcut);
+
+        for (ClassArchive.ClassEntry root : roots) {
+            this.generateHierarchy(hierarchyNode, root);
+        }
+    }
+
+    private void generateHierarchy(final DefaultMutableTreeNode parentNode, final ClassArchive.ClassEntry entry) {
+        final List<ClassArchive.ClassEntry> children = this.archive.getSubclasses(entry.className);
+        final String text = children.isEmpty()
+                ? entry.getJLSName()
+                : String.format("%s [%d]", entry.getJLSName(), children.size());
+        final DefaultMutableTreeNode node = new DefaultMutableTreeNode(new JTreeNodeFileComponent(0, 0, text, Icons.Class, entry.entryName));
+        parentNode.add(node);
+
+        for (ClassArchive.ClassEntry child : children) {
+            this.generateHierarchy(node, child);
+        }
+    }
+
+    private void generateFailures(final DefaultMutableTreeNode parentNode) {
+        if (this.archive.failures.isEmpty()) {
+            return;
+        }
+
+        final DefaultMutableTreeNode failuresNode = this.addNode(parentNode,
+                0, 0,
+                "failures",
+                this.archive.failures.size(),
+                "msg_archive_failures",
+                Icons.Exception);
+        for (Map.Entry<String, String> item : this.archive.failures.entrySet()) {
+            failuresNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                    0, 0,
+                    item.getKey(),
+                    Icons.Exception,
+                    item.getValue())));
+        }
+    }
+}
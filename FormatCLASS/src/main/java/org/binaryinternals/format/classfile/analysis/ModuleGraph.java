@@ -0,0 +1,812 @@
+/*
+ * ModuleGraph.java    October 19, 2026, 18:30
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.classfile.analysis;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.binaryinternals.commonlib.core.BytesTool;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.format.classfile.AccessFlag;
+import org.binaryinternals.format.classfile.ClassFile;
+import org.binaryinternals.format.classfile.attribute.ModuleHashes_attribute;
+import org.binaryinternals.format.classfile.attribute.ModuleMainClass_attribute;
+import org.binaryinternals.format.classfile.attribute.ModulePackages_attribute;
+import org.binaryinternals.format.classfile.attribute.Module_attribute;
+import org.binaryinternals.format.classfile.attribute.attribute_info;
+import org.binaryinternals.format.classfile.constant.CONSTANT_Module_info;
+import org.binaryinternals.format.classfile.constant.CONSTANT_Package_info;
+import org.binaryinternals.format.classfile.constant.cp_info;
+import org.binaryinternals.format.classfile.u2;
+
+/**
+ * Module graph of the {@code jmod} files and modular {@code jar} files, built
+ * from the {@code Module}, {@code ModulePackages}, {@code ModuleMainClass}
+ * and {@code ModuleHashes} attributes of their {@code module-info.class}.
+ *
+ * <p>
+ * Only the {@code module-info.class} of each file is read, and the files are
+ * read in parallel. The graph reports the modules required but not found,
+ * the {@code requires} cycles and the split packages. The
+ * {@code ModuleHashes} recorded by a module are checked by
+ * {@link #verifyHashes()}, which reads the whole content of the hashed
+ * modules and so is kept separate from {@link #build(Collection)}.
+ * </p>
+ *
+ * @author Amos Shi
+ * @see
+ * <a href="https://docs.oracle.com/javase/specs/jvms/se21/html/jvms-4.html#jvms-4.7.25">
+ * VM Spec: The Module Attribute
+ * </a>
+ */
+public final class ModuleGraph {
+
+    private static final Logger LOG = Logger.getLogger(ModuleGraph.class.getName());
+
+    /**
+     * File name extension of a {@code jmod} file.
+     */
+    public static final String JMOD_EXTENSION = ".jmod";
+
+    /**
+     * File name extension of a {@code jar} file.
+     */
+    public static final String JAR_EXTENSION = ".jar";
+
+    /**
+     * Name of the module declaration {@code class} file.
+     */
+    public static final String MODULE_INFO = "module-info.class";
+
+    /**
+     * Section in a {@code jmod} file holding the {@code class} files and
+     * resources.
+     */
+    static final String JMOD_CLASSES_SECTION = "classes/";
+
+    private final Map<String, ModuleNode> modules = new TreeMap<>();
+    private final Map<String, String> failures = new TreeMap<>();
+    private final Map<String, List<String>> requiredBy = new TreeMap<>();
+
+    private ModuleGraph() {
+    }
+
+    /**
+     * Build the graph from the {@code jmod} and {@code jar} files in a
+     * directory.
+     *
+     * @param directory Directory like {@code $JAVA_HOME/jmods}
+     * @return The module graph
+     * @throws IOException Failed to list the directory
+     */
+    public static ModuleGraph build(final Path directory) throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return build(stream
+                    .filter(p -> p.toString().endsWith(JMOD_EXTENSION) || p.toString().endsWith(JAR_EXTENSION))
+                    .sorted()
+                    .map(Path::toFile)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Build the graph from {@code jmod} and {@code jar} files. Files without
+     * a {@code module-info.class} are ignored, and files failed to be parsed
+     * are reported by {@link #getFailures()}.
+     *
+     * @param files The {@code jmod} and {@code jar} files
+     * @return The module graph
+     */
+    public static ModuleGraph build(final Collection<File> files) {
+        final ModuleGraph graph = new ModuleGraph();
+        final Map<File, Object> parsed = new ConcurrentHashMap<>();
+        files.parallelStream().forEach(file -> {
+            try {
+                final ModuleNode node = readModule(file);
+                if (node != null) {
+                    parsed.put(file, node);
+                }
+            } catch (IOException | FileFormatException | RuntimeException ex) {
+                LOG.log(Level.WARNING, String.format("Failed to read the module declaration of %s", file), ex);
+                parsed.put(file, ex.toString());
+            }
+        });
+
+        for (File file : files) {
+            final Object result = parsed.get(file);
+            if (result instanceof ModuleNode) {
+                final ModuleNode node = (ModuleNode) result;
+                final ModuleNode old = graph.modules.putIfAbsent(node.name, node);
+                if (old != null) {
+                    graph.failures.put(file.getPath(), String.format("Duplicate module %s, already defined by %s", node.name, old.file));
+                }
+            } else if (result != null) {
+                graph.failures.put(file.getPath(), (String) result);
+            }
+        }
+        for (ModuleNode node : graph.modules.values()) {
+            for (Requires r : node.requires) {
+                graph.requiredBy.computeIfAbsent(r.name, k -> new ArrayList<>()).add(node.name);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Read the module declaration of a {@code jmod} or {@code jar} file.
+     *
+     * @param file The {@code jmod} or {@code jar} file
+     * @return The module, or {@code null} if there is no
+     * {@code module-info.class}
+     * @throws IOException Failed to read the file
+     * @throws FileFormatException Invalid {@code module-info.class}
+     */
+    public static ModuleNode readModule(final File file) throws IOException, FileFormatException {
+        final String entryName = file.getName().endsWith(JMOD_EXTENSION)
+                ? JMOD_CLASSES_SECTION + MODULE_INFO
+                : MODULE_INFO;
+        try (ZipFile zip = new ZipFile(file)) {
+            final ZipEntry entry = zip.getEntry(entryName);
+            if (entry == null) {
+                return null;
+            }
+            final byte[] bytes = BytesTool.readZipEntryAsBytes(zip, entry);
+            return new ModuleNode(file, new ClassFile(bytes, entryName, entryName));
+        }
+    }
+
+    /**
+     * Get all the modules.
+     *
+     * @return Module name to module, sorted by the name
+     */
+    public Map<String, ModuleNode> getModules() {
+        return Collections.unmodifiableMap(this.modules);
+    }
+
+    /**
+     * Get a module by its name.
+     *
+     * @param name Module name, like {@code java.base}
+     * @return The module, or {@code null} if not found
+     */
+    public ModuleNode getModule(final String name) {
+        return this.modules.get(name);
+    }
+
+    /**
+     * Get the files failed to be read.
+     *
+     * @return File path to the error message
+     */
+    public Map<String, String> getFailures() {
+        return Collections.unmodifiableMap(this.failures);
+    }
+
+    /**
+     * Get the modules directly requiring a module.
+     *
+     * @param name Module name
+     * @return Names of the requiring modules
+     */
+    public List<String> getRequiredBy(final String name) {
+        final List<String> list = this.requiredBy.get(name);
+        return (list == null) ? Collections.emptyList() : Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Get the modules read by a module at run time, following the
+     * {@code requires} of the module and then the
+     * {@code requires transitive} of the required modules. The
+     * {@code requires static} dependences are not followed.
+     *
+     * @param name Module name
+     * @return Names of the readable modules, sorted
+     */
+    public Set<String> getReadableModules(final String name) {
+        final Set<String> result = new TreeSet<>();
+        final ModuleNode start = this.modules.get(name);
+        if (start == null) {
+            return result;
+        }
+
+        final Deque<String> pending = new ArrayDeque<>();
+        for (Requires r : start.requires) {
+            if (!r.isStatic() && result.add(r.name)) {
+                pending.add(r.name);
+            }
+        }
+        while (!pending.isEmpty()) {
+            final ModuleNode node = this.modules.get(pending.poll());
+            if (node == null) {
+                continue;
+            }
+            for (Requires r : node.requires) {
+                if (r.isTransitive() && result.add(r.name)) {
+                    pending.add(r.name);
+                }
+            }
+        }
+        result.remove(name);
+        return result;
+    }
+
+    /**
+     * Get the modules required but not found. The {@code requires static}
+     * dependences are optional at run time, and so are not reported.
+     *
+     * @return Missing module name to the requiring module names
+     */
+    public Map<String, List<String>> getMissingModules() {
+        final Map<String, List<String>> result = new TreeMap<>();
+        for (ModuleNode node : this.modules.values()) {
+            for (Requires r : node.requires) {
+                if (!r.isStatic() && !this.modules.containsKey(r.name)) {
+                    result.computeIfAbsent(r.name, k -> new ArrayList<>()).add(node.name);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the packages contained by more than one module.
+     *
+     * @return Package name in internal form to the module names
+     */
+    public Map<String, List<String>> getSplitPackages() {
+        final Map<String, List<String>> owners = new HashMap<>();
+        for (ModuleNode node : this.modules.values()) {
+            for (String pkg : node.packages) {
+                owners.computeIfAbsent(pkg, k -> new ArrayList<>(1)).add(node.name);
+            }
+        }
+
+        final Map<String, List<String>> result = new TreeMap<>();
+        for (Map.Entry<String, List<String>> item : owners.entrySet()) {
+            if (item.getValue().size() > 1) {
+                result.put(item.getKey(), item.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the cycles in the {@code requires} graph, as the strongly connected
+     * components with more than one module, or with a module requiring
+     * itself.
+     *
+     * @return Module names of each cycle
+     */
+    public List<List<String>> getCycles() {
+        final String[] names = this.modules.keySet().toArray(new String[0]);
+        final Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            ids.put(names[i], i);
+        }
+        final int[][] edges = new int[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            edges[i] = this.modules.get(names[i]).requires.stream()
+                    .map(r -> ids.get(r.name))
+                    .filter(id -> id != null)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        // Iterative Tarjan, to avoid deep recursion on a large graph
+        final int[] index = new int[names.length];
+        final int[] low = new int[names.length];
+        final boolean[] onStack = new boolean[names.length];
+        final int[] stack = new int[names.length];
+        final int[] callNode = new int[names.length];
+        final int[] callEdge = new int[names.length];
+        Arrays.fill(index, -1);
+        int stackSize = 0;
+        int counter = 0;
+        final List<List<String>> result = new ArrayList<>();
+
+        for (int root = 0; root < names.length; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int depth = 0;
+            callNode[0] = root;
+            callEdge[0] = 0;
+            index[root] = low[root] = counter++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+
+            while (depth >= 0) {
+                final int v = callNode[depth];
+                if (callEdge[depth] < edges[v].length) {
+                    final int w = edges[v][callEdge[depth]++];
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        depth++;
+                        callNode[depth] = w;
+                        callEdge[depth] = 0;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+
+                if (low[v] == index[v]) {
+                    final List<String> component = new ArrayList<>();
+                    int w;
+                    do {
+                        w = stack[--stackSize];
+                        onStack[w] = false;
+                        component.add(names[w]);
+                    } while (w != v);
+                    if (component.size() > 1 || Arrays.stream(edges[v]).anyMatch(e -> e == v)) {
+                        Collections.sort(component);
+                        result.add(component);
+                    }
+                }
+                depth--;
+                if (depth >= 0) {
+                    final int parent = callNode[depth];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Verify the {@code ModuleHashes} of all the modules, against the content
+     * of the hashed modules in this graph. The hashed modules are read in
+     * parallel.
+     *
+     * @return Result of each recorded hash
+     */
+    public List<HashCheck> verifyHashes() {
+        final Map<String, Object> computed = new ConcurrentHashMap<>();
+        final Map<String, File> toCompute = new LinkedHashMap<>();
+        final Map<String, String> algorithms = new HashMap<>();
+        for (ModuleNode node : this.modules.values()) {
+            for (String target : node.hashes.keySet()) {
+                final ModuleNode targetNode = this.modules.get(target);
+                if (targetNode != null) {
+                    final String key = node.hashAlgorithm + '/' + target;
+                    toCompute.put(key, targetNode.file);
+                    algorithms.put(key, node.hashAlgorithm);
+                }
+            }
+        }
+        toCompute.entrySet().parallelStream().forEach(item -> {
+            try {
+                computed.put(item.getKey(), computeHash(item.getValue(), algorithms.get(item.getKey())));
+            } catch (IOException | NoSuchAlgorithmException ex) {
+                computed.put(item.getKey(), ex.toString());
+            }
+        });
+
+        final List<HashCheck> result = new ArrayList<>();
+        for (ModuleNode node : this.modules.values()) {
+            for (Map.Entry<String, byte[]> item : node.hashes.entrySet()) {
+                final Object actual = computed.get(node.hashAlgorithm + '/' + item.getKey());
+                final HashStatus status;
+                if (actual == null) {
+                    status = HashStatus.MISSING;
+                } else if (actual instanceof String) {
+                    status = HashStatus.FAILED;
+                } else {
+                    status = MessageDigest.isEqual((byte[]) actual, item.getValue()) ? HashStatus.MATCH : HashStatus.MISMATCH;
+                }
+                result.add(new HashCheck(node.name, item.getKey(), status));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compute the hash of a module in the same way as the JDK
+     * {@code ModuleHashes} does for {@code jmod --hash-modules}: the sorted
+     * resource names listed by the module reader, each followed by the
+     * resource content.
+     *
+     * <p>
+     * For a {@code jmod} file, the resources are the entries in the
+     * {@code classes} section. For a {@code jar} file, they are the entries of
+     * the versioned view of the jar for the running Java version, like the
+     * JDK module reader opens it: a multi-release jar lists each resource by
+     * its base name with the content of the highest version not above the
+     * runtime version, and the {@code META-INF/versions} entries are not
+     * listed by themselves. The directory entries are listed as well, with
+     * no content.
+     * </p>
+     *
+     * @param file The {@code jmod} or {@code jar} file
+     * @param algorithm Digest algorithm, like {@code SHA-256}
+     * @return The hash
+     * @throws IOException Failed to read the file
+     * @throws NoSuchAlgorithmException The algorithm is not supported
+     */
+    public static byte[] computeHash(final File file, final String algorithm) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest md = MessageDigest.getInstance(algorithm);
+        final byte[] buffer = new byte[32 * 1024];
+        if (file.getName().endsWith(JMOD_EXTENSION)) {
+            try (ZipFile zip = new ZipFile(file)) {
+                final List<ZipEntry> entries = zip.stream()
+                        .filter(e -> e.getName().startsWith(JMOD_CLASSES_SECTION))
+                        .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                        .collect(Collectors.toList());
+                for (ZipEntry entry : entries) {
+                    updateHash(md, entry.getName().substring(JMOD_CLASSES_SECTION.length()), zip, entry, buffer);
+                }
+            }
+        } else {
+            try (JarFile jar = new JarFile(file, false, ZipFile.OPEN_READ, JarFile.runtimeVersion())) {
+                final List<String> names = jar.versionedStream()
+                        .map(ZipEntry::getName)
+                        .sorted()
+                        .collect(Collectors.toList());
+                for (String name : names) {
+                    updateHash(md, name, jar, jar.getJarEntry(name), buffer);
+                }
+            }
+        }
+        return md.digest();
+    }
+
+    private static void updateHash(final MessageDigest md, final String name, final ZipFile zip, final ZipEntry entry, final byte[] buffer)
+            throws IOException {
+        md.update(name.getBytes(StandardCharsets.UTF_8));
+        try (InputStream in = zip.getInputStream(entry)) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                md.update(buffer, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Generate a text report of the graph, without the hash verification.
+     *
+     * @return The report
+     */
+    public StringBuilder generateReport() {
+        final StringBuilder sb = new StringBuilder(this.modules.size() * 128);
+        sb.append(String.format("Modules: %,d%n", this.modules.size()));
+        for (ModuleNode node : this.modules.values()) {
+            sb.append(String.format("%n%s%s  (%s)%n", node.name, node.version == null ? "" : "@" + node.version, node.file.getName()));
+            for (Requires r : node.requires) {
+                sb.append(String.format("    requires %s%s%n", r.getFlags(), r.name));
+            }
+            sb.append(String.format("    packages: %,d, exports: %,d, opens: %,d, uses: %,d, provides: %,d%n",
+                    node.packages.size(), node.exports.size(), node.opens.size(), node.uses.size(), node.provides.size()));
+            final List<String> users = this.getRequiredBy(node.name);
+            if (!users.isEmpty()) {
+                sb.append(String.format("    required by: %s%n", String.join(", ", users)));
+            }
+        }
+
+        sb.append(String.format("%nMissing modules: %s%n", this.getMissingModules()));
+        sb.append(String.format("Cycles: %s%n", this.getCycles()));
+        sb.append(String.format("Split packages: %s%n", this.getSplitPackages()));
+        if (!this.failures.isEmpty()) {
+            sb.append(String.format("Failures: %s%n", this.failures));
+        }
+        return sb;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ModuleGraph: %d module(s), %d failure(s)", this.modules.size(), this.failures.size());
+    }
+
+    /**
+     * Status of a recorded {@code ModuleHashes} hash.
+     */
+    public enum HashStatus {
+        /**
+         * The recorded hash equals to the module content hash.
+         */
+        MATCH,
+        /**
+         * The recorded hash differs from the module content hash.
+         */
+        MISMATCH,
+        /**
+         * The hashed module is not in the graph.
+         */
+        MISSING,
+        /**
+         * The hashed module could not be read, or the algorithm is not
+         * supported.
+         */
+        FAILED
+    }
+
+    /**
+     * Result of verifying one recorded {@code ModuleHashes} hash.
+     *
+     * <pre>
+     * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+     * </pre>
+     */
+    @SuppressWarnings("java:S1104")
+    public static final class HashCheck {
+
+        /**
+         * The module recording the hash.
+         */
+        public final String module;
+        /**
+         * The hashed module.
+         */
+        public final String target;
+        public final HashStatus status;
+
+        HashCheck(final String module, final String target, final HashStatus status) {
+            this.module = module;
+            this.target = target;
+            this.status = status;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s -> %s: %s", this.module, this.target, this.status);
+        }
+    }
+
+    /**
+     * One {@code requires} of a module.
+     *
+     * <pre>
+     * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+     * </pre>
+     */
+    @SuppressWarnings("java:S1104")
+    public static final class Requires {
+
+        public final String name;
+        /**
+         * The {@code requires_flags}.
+         */
+        public final int flags;
+        /**
+         * The compiled version of the required module, or {@code null}.
+         */
+        public final String version;
+
+        Requires(final String name, final int flags, final String version) {
+            this.name = name;
+            this.flags = flags;
+            this.version = version;
+        }
+
+        /**
+         * Whether it is {@code requires transitive}.
+         *
+         * @return true if {@link AccessFlag#ACC_TRANSITIVE} is set
+         */
+        public boolean isTransitive() {
+            return (this.flags & AccessFlag.ACC_TRANSITIVE.value) != 0;
+        }
+
+        /**
+         * Whether it is {@code requires static}.
+         *
+         * @return true if {@link AccessFlag#ACC_STATIC_PHASE} is set
+         */
+        public boolean isStatic() {
+            return (this.flags & AccessFlag.ACC_STATIC_PHASE.value) != 0;
+        }
+
+        String getFlags() {
+            return (this.isTransitive() ? "transitive " : "") + (this.isStatic() ? "static " : "");
+        }
+
+        @Override
+        public String toString() {
+            return this.getFlags() + this.name;
+        }
+    }
+
+    /**
+     * Module declaration read from a {@code module-info.class}. Package and
+     * class names are in internal form.
+     *
+     * <pre>
+     * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+     * </pre>
+     */
+    @SuppressWarnings("java:S1104")
+    public static final class ModuleNode {
+
+        public final File file;
+        public final String name;
+        /**
+         * The {@code module_flags}.
+         */
+        public final int flags;
+        /**
+         * Module version, or {@code null}.
+         */
+        public final String version;
+        public final List<Requires> requires = new ArrayList<>();
+        /**
+         * Exported package to the target modules; no target module for an
+         * unqualified export.
+         */
+        public final Map<String, List<String>> exports = new TreeMap<>();
+        /**
+         * Opened package to the target modules; no target module for an
+         * unqualified open.
+         */
+        public final Map<String, List<String>> opens = new TreeMap<>();
+        public final List<String> uses = new ArrayList<>();
+        /**
+         * Service interface to the implementation classes.
+         */
+        public final Map<String, List<String>> provides = new TreeMap<>();
+        /**
+         * Packages from the {@code ModulePackages} attribute, plus the
+         * exported and opened packages.
+         */
+        public final Set<String> packages = new TreeSet<>();
+        /**
+         * Main class from the {@code ModuleMainClass} attribute, or
+         * {@code null}.
+         */
+        public final String mainClass;
+        /**
+         * Algorithm of the {@link #hashes}, or {@code null}.
+         */
+        public final String hashAlgorithm;
+        /**
+         * Hashes from the {@code ModuleHashes} attribute, by the module name.
+         */
+        public final Map<String, byte[]> hashes = new TreeMap<>();
+
+        ModuleNode(final File file, final ClassFile cf) throws FileFormatException {
+            this.file = file;
+
+            Module_attribute module = null;
+            String main = null;
+            String algorithm = null;
+            for (attribute_info attr : cf.attributes) {
+                if (attr instanceof Module_attribute) {
+                    module = (Module_attribute) attr;
+                } else if (attr instanceof ModulePackages_attribute && ((ModulePackages_attribute) attr).package_index != null) {
+                    for (u2 index : ((ModulePackages_attribute) attr).package_index) {
+                        this.packages.add(getPackageName(cf, index.value));
+                    }
+                } else if (attr instanceof ModuleMainClass_attribute) {
+                    main = cf.getConstantClassInfoName(((ModuleMainClass_attribute) attr).main_class_index.value);
+                } else if (attr instanceof ModuleHashes_attribute) {
+                    final ModuleHashes_attribute hashesAttr = (ModuleHashes_attribute) attr;
+                    algorithm = getUtf8(cf, hashesAttr.algorithm_index.value);
+                    if (hashesAttr.hashes != null) {
+                        for (ModuleHashes_attribute.Hashes h : hashesAttr.hashes) {
+                            final byte[] hash = new byte[h.hash.length];
+                            for (int i = 0; i < hash.length; i++) {
+                                hash[i] = (byte) h.hash[i].value;
+                            }
+                            this.hashes.put(getModuleName(cf, h.module_name_index.value), hash);
+                        }
+                    }
+                }
+            }
+            if (module == null) {
+                throw new FileFormatException(String.format("No Module attribute in %s", MODULE_INFO));
+            }
+
+            this.name = getModuleName(cf, module.module_name_index.value);
+            this.flags = module.module_flags.value;
+            this.version = getUtf8(cf, module.module_version_index.value);
+            this.mainClass = main;
+            this.hashAlgorithm = algorithm;
+
+            if (module.requires != null) {
+                for (Module_attribute.Requires r : module.requires) {
+                    this.requires.add(new Requires(getModuleName(cf, r.requires_index.value), r.requires_flags.value, getUtf8(cf, r.requires_version_index.value)));
+                }
+            }
+            if (module.exports != null) {
+                for (Module_attribute.Exports e : module.exports) {
+                    this.exports.put(getPackageName(cf, e.exports_index.value), getModuleNames(cf, e.exports_to_index));
+                }
+            }
+            if (module.opens != null) {
+                for (Module_attribute.Opens o : module.opens) {
+                    this.opens.put(getPackageName(cf, o.opens_index.value), getModuleNames(cf, o.opens_to_index));
+                }
+            }
+            if (module.uses_index != null) {
+                for (u2 index : module.uses_index) {
+                    this.uses.add(cf.getConstantClassInfoName(index.value));
+                }
+            }
+            if (module.provides != null) {
+                for (Module_attribute.Provides p : module.provides) {
+                    final List<String> impls = new ArrayList<>(p.provides_with_index.length);
+                    for (u2 index : p.provides_with_index) {
+                        impls.add(cf.getConstantClassInfoName(index.value));
+                    }
+                    this.provides.put(cf.getConstantClassInfoName(p.provides_index.value), impls);
+                }
+            }
+            this.packages.addAll(this.exports.keySet());
+            this.packages.addAll(this.opens.keySet());
+        }
+
+        private static List<String> getModuleNames(final ClassFile cf, final u2[] indexes) throws FileFormatException {
+            if (indexes == null) {
+                return Collections.emptyList();
+            }
+            final List<String> names = new ArrayList<>(indexes.length);
+            for (u2 index : indexes) {
+                names.add(getModuleName(cf, index.value));
+            }
+            return names;
+        }
+
+        private static String getModuleName(final ClassFile cf, final int cpIndex) throws FileFormatException {
+            final cp_info cp = getCPItem(cf, cpIndex);
+            if (!(cp instanceof CONSTANT_Module_info)) {
+                throw new FileFormatException(String.format("Constant pool index %d is not a CONSTANT_Module_info", cpIndex));
+            }
+            return ClassFile.getConstantUtf8Value(((CONSTANT_Module_info) cp).name_index.value, cf.constant_pool);
+        }
+
+        private static String getPackageName(final ClassFile cf, final int cpIndex) throws FileFormatException {
+            final cp_info cp = getCPItem(cf, cpIndex);
+            if (!(cp instanceof CONSTANT_Package_info)) {
+                throw new FileFormatException(String.format("Constant pool index %d is not a CONSTANT_Package_info", cpIndex));
+            }
+            return ClassFile.getConstantUtf8Value(((CONSTANT_Package_info) cp).name_index.value, cf.constant_pool);
+        }
+
+        private static String getUtf8(final ClassFile cf, final int cpIndex) throws FileFormatException {
+            return (cpIndex == 0) ? null : ClassFile.getConstantUtf8Value(cpIndex, cf.constant_pool);
+        }
+
+        private static cp_info getCPItem(final ClassFile cf, final int cpIndex) throws FileFormatException {
+            if (cpIndex <= 0 || cpIndex >= cf.constant_pool.length) {
+                throw new FileFormatException(String.format("Invalid constant pool index %d", cpIndex));
+            }
+            return cf.constant_pool[cpIndex];
+        }
+
+        @Override
+        public String toString() {
+            return (this.version == null) ? this.name : this.name + '@' + this.version;
+        }
+    }
+}
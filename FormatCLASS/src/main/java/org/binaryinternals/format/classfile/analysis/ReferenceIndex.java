@@ -0,0 +1,499 @@
+/*
+ * ReferenceIndex.java    October 19, 2026, 14:05
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.classfile.analysis;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.format.classfile.ClassFile;
+import org.binaryinternals.format.classfile.attribute.Signature_attribute.ReferenceType;
+import org.binaryinternals.format.classfile.constant.CONSTANT_Class_info;
+import org.binaryinternals.format.classfile.constant.CONSTANT_Fieldref_info;
+import org.binaryinternals.format.classfile.constant.CONSTANT_InterfaceMethodref_info;
+import org.binaryinternals.format.classfile.constant.CONSTANT_Methodref_info;
+import org.binaryinternals.format.classfile.constant.cp_info;
+
+/**
+ * Cross-class reference index, answering who extends, who implements, who
+ * references a class, and who calls a method or accesses a field.
+ *
+ * <p>
+ * The index is built from {@link ClassFile#super_class},
+ * {@link ClassFile#interfaces} and the {@code CONSTANT_Class},
+ * {@code CONSTANT_Fieldref}, {@code CONSTANT_Methodref} and
+ * {@code CONSTANT_InterfaceMethodref} items of
+ * {@link ClassFile#constant_pool}. Class names and member names are interned
+ * into <code>int</code> ids, and the edges are kept in <code>int</code> arrays
+ * indexed by the ids. A single class could be re-indexed by
+ * {@link #update(ClassReferences)} after it changed.
+ * </p>
+ *
+ * @author Amos Shi
+ */
+public final class ReferenceIndex {
+
+    /**
+     * Separator between the owner class and the member name in a member key.
+     */
+    public static final char MEMBER_SEPARATOR = '.';
+
+    /**
+     * Separator between the member name and the descriptor in a member key.
+     */
+    public static final char DESCRIPTOR_SEPARATOR = ':';
+
+    private final NameTable names = new NameTable();
+
+    /**
+     * Referencing class id to the target ids, per {@link Kind}.
+     */
+    private final IntMultiMap[] forward = new IntMultiMap[Kind.values().length];
+
+    /**
+     * Target id to the referencing class ids, per {@link Kind}.
+     */
+    private final IntMultiMap[] reverse = new IntMultiMap[Kind.values().length];
+
+    /**
+     * Ids of the indexed classes.
+     */
+    private final IntMultiMap indexed = new IntMultiMap();
+
+    /**
+     * Creates an empty index.
+     */
+    public ReferenceIndex() {
+        for (int i = 0; i < this.forward.length; i++) {
+            this.forward[i] = new IntMultiMap();
+            this.reverse[i] = new IntMultiMap();
+        }
+    }
+
+    /**
+     * Build the index for all the classes in the {@code jar} or {@code jmod}
+     * files. The classes are parsed concurrently.
+     *
+     * @param archives The {@code jar} or {@code jmod} files
+     * @return The reference index
+     * @throws IOException Failed to read the archive files
+     */
+    public static ReferenceIndex build(final Collection<File> archives) throws IOException {
+        final ReferenceIndex index = new ReferenceIndex();
+        for (File archive : archives) {
+            final List<ClassReferences> refs = ClassArchive.parse(archive,
+                    (entryName, classBytes) -> new ClassReferences(new ClassFile(classBytes, entryName, entryName)));
+            for (ClassReferences ref : refs) {
+                index.update(ref);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Add a class to the index, or replace the references of a class already
+     * in the index.
+     *
+     * @param refs References of the class
+     */
+    public synchronized void update(final ClassReferences refs) {
+        final int source = this.names.intern(refs.className);
+        this.removeEdges(source);
+        this.indexed.set(source, new int[]{source});
+
+        this.addEdges(source, Kind.SUPER_CLASS, refs.superClassName.isEmpty() ? new String[0] : new String[]{refs.superClassName});
+        this.addEdges(source, Kind.INTERFACE, refs.interfaces);
+        this.addEdges(source, Kind.CLASS, refs.classes);
+        this.addEdges(source, Kind.FIELD, refs.fields);
+        this.addEdges(source, Kind.METHOD, refs.methods);
+        this.addEdges(source, Kind.INTERFACE_METHOD, refs.interfaceMethods);
+    }
+
+    /**
+     * Remove a class from the index.
+     *
+     * @param className Class name in internal form
+     */
+    public synchronized void remove(final String className) {
+        final int source = this.names.find(className);
+        if (source != -1) {
+            this.removeEdges(source);
+            this.indexed.set(source, null);
+        }
+    }
+
+    private void addEdges(final int source, final Kind kind, final String[] targets) {
+        final int[] ids = new int[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            ids[i] = this.names.intern(targets[i]);
+            this.reverse[kind.ordinal()].add(ids[i], source);
+        }
+        this.forward[kind.ordinal()].set(source, ids);
+    }
+
+    private void removeEdges(final int source) {
+        for (Kind kind : Kind.values()) {
+            for (int target : this.forward[kind.ordinal()].get(source)) {
+                this.reverse[kind.ordinal()].remove(target, source);
+            }
+            this.forward[kind.ordinal()].set(source, null);
+        }
+    }
+
+    /**
+     * Get the number of indexed classes.
+     *
+     * @return Number of indexed classes
+     */
+    public synchronized int size() {
+        return this.indexed.keyCount();
+    }
+
+    /**
+     * Get the classes referencing the target with a kind of reference.
+     *
+     * @param kind Kind of the reference
+     * @param target Class name in internal form, or member key created by
+     * {@link #memberKey(String, String, String)}
+     * @return Referencing class names in internal form, sorted
+     */
+    public synchronized List<String> getReferencing(final Kind kind, final String target) {
+        final int id = this.names.find(target);
+        if (id == -1) {
+            return new ArrayList<>();
+        }
+        return this.names.toSortedNames(this.reverse[kind.ordinal()].get(id));
+    }
+
+    /**
+     * Get the targets referenced by a class with a kind of reference.
+     *
+     * @param kind Kind of the reference
+     * @param className Class name in internal form
+     * @return Referenced class names or member keys, sorted
+     */
+    public synchronized List<String> getReferenced(final Kind kind, final String className) {
+        final int id = this.names.find(className);
+        if (id == -1) {
+            return new ArrayList<>();
+        }
+        return this.names.toSortedNames(this.forward[kind.ordinal()].get(id));
+    }
+
+    /**
+     * Get the classes directly extending a class.
+     *
+     * @param className Class name in internal form
+     * @return Sub class names in internal form, sorted
+     */
+    public List<String> getSubclasses(final String className) {
+        return this.getReferencing(Kind.SUPER_CLASS, className);
+    }
+
+    /**
+     * Get the classes or interfaces directly implementing or extending an
+     * interface.
+     *
+     * @param interfaceName Interface name in internal form
+     * @return Implementor names in internal form, sorted
+     */
+    public List<String> getImplementors(final String interfaceName) {
+        return this.getReferencing(Kind.INTERFACE, interfaceName);
+    }
+
+    /**
+     * Get the classes having a {@code CONSTANT_Class} item of a class in
+     * their constant pools. Field, method and array references to the class
+     * are included since they require a {@code CONSTANT_Class} item too.
+     *
+     * @param className Class name in internal form
+     * @return Referencing class names in internal form, sorted
+     */
+    public List<String> getClassReferences(final String className) {
+        return this.getReferencing(Kind.CLASS, className);
+    }
+
+    /**
+     * Get the classes calling a method.
+     *
+     * @param owner Method owner class name in internal form, or the array
+     * descriptor for a method of a primitive array, like {@code [I}
+     * @param name Method name
+     * @param descriptor Method descriptor
+     * @return Calling class names in internal form, sorted
+     */
+    public synchronized List<String> getMethodCallers(final String owner, final String name, final String descriptor) {
+        final String key = memberKey(owner, name, descriptor);
+        final List<String> result = this.getReferencing(Kind.METHOD, key);
+        result.addAll(this.getReferencing(Kind.INTERFACE_METHOD, key));
+        result.sort(null);
+        return result;
+    }
+
+    /**
+     * Get the classes reading or writing a field.
+     *
+     * @param owner Field owner class name in internal form
+     * @param name Field name
+     * @param descriptor Field descriptor
+     * @return Accessing class names in internal form, sorted
+     */
+    public List<String> getFieldAccessors(final String owner, final String name, final String descriptor) {
+        return this.getReferencing(Kind.FIELD, memberKey(owner, name, descriptor));
+    }
+
+    /**
+     * Create the key of a field or method used in this index.
+     *
+     * @param owner Owner class name in internal form
+     * @param name Member name
+     * @param descriptor Member descriptor
+     * @return Key like {@code java/lang/Object.hashCode:()I}
+     */
+    public static String memberKey(final String owner, final String name, final String descriptor) {
+        return owner + MEMBER_SEPARATOR + name + DESCRIPTOR_SEPARATOR + descriptor;
+    }
+
+    /**
+     * Kind of the references.
+     */
+    public enum Kind {
+        /**
+         * The {@code super_class} item.
+         */
+        SUPER_CLASS,
+        /**
+         * The {@code interfaces} items.
+         */
+        INTERFACE,
+        /**
+         * The {@code CONSTANT_Class} items.
+         */
+        CLASS,
+        /**
+         * The {@code CONSTANT_Fieldref} items.
+         */
+        FIELD,
+        /**
+         * The {@code CONSTANT_Methodref} items.
+         */
+        METHOD,
+        /**
+         * The {@code CONSTANT_InterfaceMethodref} items.
+         */
+        INTERFACE_METHOD
+    }
+
+    /**
+     * References from one class, extracted from its {@link ClassFile}.
+     * Extracting could run on any thread; only {@link #update(ClassReferences)}
+     * touches the shared index.
+     *
+     * <pre>
+     * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+     * </pre>
+     */
+    @SuppressWarnings("java:S1104")
+    public static final class ClassReferences {
+
+        public final String className;
+        public final String superClassName;
+        public final String[] interfaces;
+        public final String[] classes;
+        public final String[] fields;
+        public final String[] methods;
+        public final String[] interfaceMethods;
+
+        /**
+         * Extract the references of a class.
+         *
+         * @param cf The class file
+         * @throws FileFormatException Invalid {@link ClassFile#constant_pool}
+         * item found
+         */
+        public ClassReferences(final ClassFile cf) throws FileFormatException {
+            this.className = cf.getThisClassName();
+            this.superClassName = cf.getSuperClassName();
+
+            final int interfaceCount = cf.interfaces_count.getValue();
+            this.interfaces = new String[interfaceCount];
+            for (int i = 0; i < interfaceCount; i++) {
+                this.interfaces[i] = cf.getConstantClassInfoName(cf.interfaces[i].getValue());
+            }
+
+            final cp_info[] cp = cf.constant_pool;
+            final List<String> classList = new ArrayList<>();
+            final List<String> fieldList = new ArrayList<>();
+            final List<String> methodList = new ArrayList<>();
+            final List<String> interfaceMethodList = new ArrayList<>();
+            for (int i = 1; i < cp.length; i++) {
+                if (cp[i] instanceof CONSTANT_Class_info) {
+                    final String name = elementClassName(ClassFile.getConstantUtf8Value(((CONSTANT_Class_info) cp[i]).name_index.value, cp));
+                    if (name != null && !name.equals(this.className)) {
+                        classList.add(name);
+                    }
+                } else if (cp[i] instanceof CONSTANT_Fieldref_info) {
+                    fieldList.add(memberKey(cf, i));
+                } else if (cp[i] instanceof CONSTANT_Methodref_info) {
+                    methodList.add(memberKey(cf, i));
+                } else if (cp[i] instanceof CONSTANT_InterfaceMethodref_info) {
+                    interfaceMethodList.add(memberKey(cf, i));
+                }
+            }
+
+            this.classes = distinct(classList);
+            this.fields = distinct(fieldList);
+            this.methods = distinct(methodList);
+            this.interfaceMethods = distinct(interfaceMethodList);
+        }
+
+        private static String memberKey(final ClassFile cf, final int cpIndex) throws FileFormatException {
+            // A member of a primitive array, like [I.clone(), is keyed by the array descriptor
+            final String owner = cf.getCPClassName(cpIndex);
+            final String element = elementClassName(owner);
+            return ReferenceIndex.memberKey((element != null) ? element : owner,
+                    cf.getCPMemberName(cpIndex),
+                    cf.getCPDescriptor(cpIndex));
+        }
+
+        /**
+         * Get the element class of an array class, since a
+         * {@code CONSTANT_Class} item could be an array type.
+         *
+         * @param name Class name in internal form, or array descriptor
+         * @return Class name in internal form, or {@code null} for arrays of
+         * primitive types
+         */
+        static String elementClassName(final String name) {
+            if (name.isEmpty() || name.charAt(0) != ReferenceType.ArrayTypeSignature.signature) {
+                return name;
+            }
+
+            int start = 0;
+            while (start < name.length() && name.charAt(start) == ReferenceType.ArrayTypeSignature.signature) {
+                start++;
+            }
+            if (start < name.length() && name.charAt(start) == ReferenceType.ClassTypeSignature.signature
+                    && name.charAt(name.length() - 1) == ReferenceType.ClassTypeSignatureSuffix.signature) {
+                return name.substring(start + 1, name.length() - 1);
+            }
+            return null;
+        }
+
+        private static String[] distinct(final List<String> list) {
+            return list.stream().distinct().toArray(String[]::new);
+        }
+    }
+
+    /**
+     * Interned names, with dense <code>int</code> ids starting from zero.
+     */
+    static final class NameTable {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        int intern(final String name) {
+            Integer id = this.ids.get(name);
+            if (id == null) {
+                id = this.names.size();
+                this.ids.put(name, id);
+                this.names.add(name);
+            }
+            return id;
+        }
+
+        int find(final String name) {
+            final Integer id = this.ids.get(name);
+            return (id == null) ? -1 : id;
+        }
+
+        List<String> toSortedNames(final int[] list) {
+            final List<String> result = new ArrayList<>(list.length);
+            for (int id : list) {
+                result.add(this.names.get(id));
+            }
+            result.sort(null);
+            return result;
+        }
+    }
+
+    /**
+     * Map from an <code>int</code> id to an <code>int</code> array, backed by
+     * an array indexed by the id.
+     */
+    static final class IntMultiMap {
+
+        private static final int[] EMPTY = {};
+        private int[][] values = new int[1024][];
+        private int[] sizes = new int[1024];
+
+        private void ensureCapacity(final int key) {
+            if (key >= this.values.length) {
+                final int capacity = Math.max(key + 1, this.values.length * 2);
+                this.values = Arrays.copyOf(this.values, capacity);
+                this.sizes = Arrays.copyOf(this.sizes, capacity);
+            }
+        }
+
+        int[] get(final int key) {
+            if (key >= this.values.length || this.values[key] == null) {
+                return EMPTY;
+            }
+            return Arrays.copyOf(this.values[key], this.sizes[key]);
+        }
+
+        void set(final int key, final int[] list) {
+            this.ensureCapacity(key);
+            this.values[key] = list;
+            this.sizes[key] = (list == null) ? 0 : list.length;
+        }
+
+        void add(final int key, final int value) {
+            this.ensureCapacity(key);
+            int[] list = this.values[key];
+            if (list == null) {
+                list = new int[4];
+                this.values[key] = list;
+            } else if (this.sizes[key] == list.length) {
+                list = Arrays.copyOf(list, list.length * 2);
+                this.values[key] = list;
+            }
+            list[this.sizes[key]++] = value;
+        }
+
+        void remove(final int key, final int value) {
+            if (key >= this.values.length || this.values[key] == null) {
+                return;
+            }
+            final int[] list = this.values[key];
+            final int size = this.sizes[key];
+            for (int i = 0; i < size; i++) {
+                if (list[i] == value) {
+                    list[i] = list[size - 1];
+                    this.sizes[key] = size - 1;
+                    return;
+                }
+            }
+        }
+
+        int keyCount() {
+            int count = 0;
+            for (int i = 0; i < this.values.length; i++) {
+                if (this.values[i] != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
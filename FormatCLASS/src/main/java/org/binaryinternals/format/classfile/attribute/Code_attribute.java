@@ -19,6 +19,7 @@ import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
 import org.binaryinternals.format.classfile.ClassFile;
 import org.binaryinternals.format.classfile.GenerateTreeNodeClassFile;
 import org.binaryinternals.format.classfile.Opcode;
+import org.binaryinternals.format.classfile.analysis.ControlFlowGraph;
 import org.binaryinternals.format.classfile.constant.cp_info;
 import org.binaryinternals.format.classfile.u2;
 import org.binaryinternals.format.classfile.u4;
@@ -86,6 +87,11 @@ public class Code_attribute extends attribute_info {
     public final u2 attributes_count;
     public final attribute_info[] attributes;
 
+    /**
+     * Cached result of {@link #getControlFlowGraph()}.
+     */
+    private volatile ControlFlowGraph controlFlowGraph;
+
     Code_attribute(final u2 nameIndex, final String type, final PosDataInputStream posDataInputStream, final cp_info[] cp) throws IOException, FileFormatException {
         super(nameIndex, type, posDataInputStream);
 
@@ -135,6 +141,22 @@ public class Code_attribute extends attribute_info {
         }
     }
 
+    /**
+     * Get the basic block control flow graph of {@link #code}. The graph is
+     * built on the first call, and cached for this method.
+     *
+     * @return The control flow graph
+     * @throws IllegalArgumentException The {@link #code} is malformed
+     */
+    public ControlFlowGraph getControlFlowGraph() {
+        ControlFlowGraph cfg = this.controlFlowGraph;
+        if (cfg == null) {
+            cfg = new ControlFlowGraph(this);
+            this.controlFlowGraph = cfg;
+        }
+        return cfg;
+    }
+
     /**
      * Get the value of {@code exception_table}[{@code index}].
      *
@@ -9,10 +9,15 @@ package org.binaryinternals.format.classfile.attribute;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javax.swing.tree.DefaultMutableTreeNode;
 import org.binaryinternals.commonlib.core.FileComponent;
 import org.binaryinternals.commonlib.core.FileFormat;
 import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.commonlib.core.PosByteArrayInputStream;
 import org.binaryinternals.commonlib.core.PosDataInputStream;
 import org.binaryinternals.commonlib.ui.Icons;
 import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
@@ -25,6 +30,12 @@ import org.binaryinternals.format.classfile.u2;
  * A variable-length attribute in the {@code attributes} table of a {@code Code}
  * attribute.
  *
+ * <p>
+ * Only the bytes of the {@code entries} table are kept when the class file is
+ * parsed. Use {@link #frameIterator()} to walk the frames without creating
+ * objects, or {@link #getEntries()} for the full object form.
+ * </p>
+ *
  * @author Amos Shi
  * @since Java 6
  * @see <a
@@ -46,30 +57,82 @@ public class StackMapTable_attribute extends attribute_info {
 
     /**
      * Gives the number of {@link stack_map_frame} entries in the
-     * {@link #entries} table.
+     * {@code entries} table.
      */
     public final u2 number_of_entries;
     /**
-     * Each entry in the {@link #entries} table describes one stack map frame of
+     * The {@code entries} table, kept as bytes and decoded on demand by
+     * {@link #frameIterator()} or {@link #getEntries()}.
+     */
+    private final byte[] entriesData;
+
+    /**
+     * Each entry in the {@code entries} table describes one stack map frame of
      * the method. The order of the stack map frames in the entries table is
-     * significant.
+     * significant. Created on the first call of {@link #getEntries()}.
      */
-    public final stack_map_frame[] entries;
+    private stack_map_frame[] entries;
 
     StackMapTable_attribute(final u2 nameIndex, final String type, final PosDataInputStream posDataInputStream) throws java.io.IOException, FileFormatException {
         super(nameIndex, type, posDataInputStream);
 
         this.number_of_entries = new u2(posDataInputStream);
-        if (this.number_of_entries.value > 0) {
-            this.entries = new stack_map_frame[this.number_of_entries.value];
-            for (int i = 0; i < this.number_of_entries.value; i++) {
-                this.entries[i] = new stack_map_frame(posDataInputStream);
-            }
-        } else {
-            this.entries = null;
+        final int size = this.attribute_length.value - u2.LENGTH;
+        if (size < 0) {
+            throw new FileFormatException(String.format("Invalid StackMapTable attribute_length %d", this.attribute_length.value));
         }
+        this.entriesData = new byte[size];
+        posDataInputStream.readFully(this.entriesData);
 
         super.checkSize(posDataInputStream.getPos());
+
+        // Validate the structure once, without creating the frame objects
+        final FrameIterator it = new FrameIterator();
+        try {
+            while (it.hasNext()) {
+                it.next();
+            }
+        } catch (IllegalStateException ex) {
+            throw new FileFormatException(ex.getMessage(), ex);
+        }
+        if (it.cursor != size) {
+            throw new FileFormatException(String.format("StackMapTable entries length mismatch, expected %d, actual %d", size, it.cursor));
+        }
+    }
+
+    /**
+     * Get an iterator decoding the {@code entries} table on demand. The same
+     * {@link Frame} object is returned by every call of
+     * {@link Iterator#next()}, updated to the current entry, so copy the
+     * values needed before moving to the next entry.
+     *
+     * @return The frame iterator
+     */
+    public Iterator<Frame> frameIterator() {
+        return new FrameIterator();
+    }
+
+    /**
+     * Get the {@code entries} table as objects. The objects are created on
+     * the first call, which is normally when the tree node is generated.
+     *
+     * @return The stack map frames; an empty array if there is no entry
+     * @throws FileFormatException Invalid stack map frame found
+     */
+    public synchronized stack_map_frame[] getEntries() throws FileFormatException {
+        if (this.entries == null) {
+            final stack_map_frame[] frames = new stack_map_frame[this.number_of_entries.value];
+            final PosDataInputStream pdis = new PosDataInputStream(new PosByteArrayInputStream(this.entriesData), super.startPos + 8);
+            try {
+                for (int i = 0; i < frames.length; i++) {
+                    frames[i] = new stack_map_frame(pdis);
+                }
+            } catch (IOException ex) {
+                throw new FileFormatException("Failed to parse the StackMapTable entries", ex);
+            }
+            this.entries = frames;
+        }
+        return this.entries;
     }
 
     @Override
@@ -84,6 +147,14 @@ public class StackMapTable_attribute extends attribute_info {
         );
 
         if (this.number_of_entries.value > 0) {
+            final stack_map_frame[] frames;
+            try {
+                frames = this.getEntries();
+            } catch (FileFormatException ex) {
+                Logger.getLogger(StackMapTable_attribute.class.getName()).log(Level.SEVERE, "Failed to generate the StackMapTable entries", ex);
+                return;
+            }
+
             DefaultMutableTreeNode entriesNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                     super.startPos + 8,
                     this.getLength() - 8,
@@ -94,14 +165,14 @@ public class StackMapTable_attribute extends attribute_info {
 
             for (int i = 0; i < this.number_of_entries.value; i++) {
                 DefaultMutableTreeNode entry = this.addNode(entriesNode,
-                        this.entries[i].getStartPos(),
-                        this.entries[i].getLength(),
+                        frames[i].getStartPos(),
+                        frames[i].getLength(),
                         String.format("entry %d", i + 1),
-                        this.entries[i].getFrameTypeName(),
-                        this.entries[i].getFrameMessageKey(),
+                        frames[i].getFrameTypeName(),
+                        frames[i].getFrameMessageKey(),
                         Icons.Stack
                 );
-                this.entries[i].generateTreeNode(entry, classFile);
+                frames[i].generateTreeNode(entry, classFile);
             }
         }
     }
@@ -170,6 +241,244 @@ public class StackMapTable_attribute extends attribute_info {
         }
     }
 
+    /**
+     * One decoded stack map frame, reused by {@link #frameIterator()}. The
+     * {@code verification_type_info} items are kept as the tag and the
+     * {@code cpool_index} or {@code offset} value.
+     */
+    public static final class Frame {
+
+        private int frameType;
+        private int offsetDelta;
+        private int bytecodeOffset = -1;
+        private int localsCount;
+        private int stackCount;
+        private int[] localTags = new int[8];
+        private int[] localValues = new int[8];
+        private int[] stackTags = new int[4];
+        private int[] stackValues = new int[4];
+
+        /**
+         * Get the {@code frame_type} value.
+         *
+         * @return The {@code frame_type}
+         */
+        public int getFrameType() {
+            return this.frameType;
+        }
+
+        /**
+         * Get the kind of the frame.
+         *
+         * @return Kind of {@link #getFrameType()}
+         */
+        public FrameTypeEnum getFrameTypeEnum() {
+            return FrameTypeEnum.valueOf((short) this.frameType);
+        }
+
+        /**
+         * Get the {@code offset_delta}, explicit or implied by the
+         * {@code frame_type}.
+         *
+         * @return The {@code offset_delta}
+         */
+        public int getOffsetDelta() {
+            return this.offsetDelta;
+        }
+
+        /**
+         * Get the bytecode offset the frame applies to, calculated from the
+         * {@code offset_delta} of this and the previous frames.
+         *
+         * @return Offset in the {@code code} array
+         */
+        public int getBytecodeOffset() {
+            return this.bytecodeOffset;
+        }
+
+        /**
+         * Get the number of locals, which are the appended locals of an
+         * {@code append_frame}, or all the locals of a {@code full_frame}.
+         *
+         * @return Number of locals in this entry
+         */
+        public int getLocalsCount() {
+            return this.localsCount;
+        }
+
+        /**
+         * Get the number of absent locals of a {@code chop_frame}.
+         *
+         * @return Number of chopped locals, or <code>0</code> for the other
+         * frame types
+         */
+        public int getChoppedLocals() {
+            return FrameTypeEnum.CHOP.inRange((short) this.frameType) ? 251 - this.frameType : 0;
+        }
+
+        /**
+         * Get the {@code tag} of a local.
+         *
+         * @param i Index of the local
+         * @return Value of {@link verification_type_info.TagEnum}
+         */
+        public int getLocalTag(final int i) {
+            return this.localTags[i];
+        }
+
+        /**
+         * Get the {@code cpool_index} of an {@code ITEM_Object} local, or the
+         * {@code offset} of an {@code ITEM_Uninitialized} local.
+         *
+         * @param i Index of the local
+         * @return The value, or <code>0</code> for the other tags
+         */
+        public int getLocalValue(final int i) {
+            return this.localValues[i];
+        }
+
+        /**
+         * Get the number of the operand stack items.
+         *
+         * @return Number of stack items
+         */
+        public int getStackCount() {
+            return this.stackCount;
+        }
+
+        /**
+         * Get the {@code tag} of a stack item.
+         *
+         * @param i Index of the stack item
+         * @return Value of {@link verification_type_info.TagEnum}
+         */
+        public int getStackTag(final int i) {
+            return this.stackTags[i];
+        }
+
+        /**
+         * Get the {@code cpool_index} of an {@code ITEM_Object} stack item, or
+         * the {@code offset} of an {@code ITEM_Uninitialized} stack item.
+         *
+         * @param i Index of the stack item
+         * @return The value, or <code>0</code> for the other tags
+         */
+        public int getStackValue(final int i) {
+            return this.stackValues[i];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s at %d, locals %d, stack %d",
+                    this.getFrameTypeEnum().unionName, this.bytecodeOffset, this.localsCount, this.stackCount);
+        }
+    }
+
+    /**
+     * Iterator decoding {@link #entriesData} into one {@link Frame}.
+     */
+    private final class FrameIterator implements Iterator<Frame> {
+
+        private final Frame frame = new Frame();
+        private int index;
+        private int cursor;
+
+        @Override
+        public boolean hasNext() {
+            return this.index < StackMapTable_attribute.this.number_of_entries.value;
+        }
+
+        @Override
+        public Frame next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Frame f = this.frame;
+            f.frameType = this.readU1();
+            f.localsCount = 0;
+            f.stackCount = 0;
+            switch (FrameTypeEnum.valueOf((short) f.frameType)) {
+                case SAME:
+                    f.offsetDelta = f.frameType;
+                    break;
+                case SAME_LOCALS_1_STACK_ITEM:
+                    f.offsetDelta = f.frameType - 64;
+                    this.readStack(1);
+                    break;
+                case SAME_LOCALS_1_STACK_ITEM_EXTENDED:
+                    f.offsetDelta = this.readU2();
+                    this.readStack(1);
+                    break;
+                case CHOP:
+                case SAME_FRAME_EXTENDED:
+                    f.offsetDelta = this.readU2();
+                    break;
+                case APPEND:
+                    f.offsetDelta = this.readU2();
+                    this.readLocals(f.frameType - 251);
+                    break;
+                case FULL_FRAME:
+                    f.offsetDelta = this.readU2();
+                    this.readLocals(this.readU2());
+                    this.readStack(this.readU2());
+                    break;
+                default:
+                    // Reserved frame types carry no data
+                    f.offsetDelta = 0;
+                    break;
+            }
+            f.bytecodeOffset = (this.index == 0) ? f.offsetDelta : f.bytecodeOffset + f.offsetDelta + 1;
+            this.index++;
+            return f;
+        }
+
+        private void readLocals(final int count) {
+            final Frame f = this.frame;
+            if (f.localTags.length < count) {
+                f.localTags = new int[count];
+                f.localValues = new int[count];
+            }
+            for (int i = 0; i < count; i++) {
+                f.localTags[i] = this.readU1();
+                f.localValues[i] = this.readVerificationValue(f.localTags[i]);
+            }
+            f.localsCount = count;
+        }
+
+        private void readStack(final int count) {
+            final Frame f = this.frame;
+            if (f.stackTags.length < count) {
+                f.stackTags = new int[count];
+                f.stackValues = new int[count];
+            }
+            for (int i = 0; i < count; i++) {
+                f.stackTags[i] = this.readU1();
+                f.stackValues[i] = this.readVerificationValue(f.stackTags[i]);
+            }
+            f.stackCount = count;
+        }
+
+        private int readVerificationValue(final int tag) {
+            if (tag == verification_type_info.TagEnum.ITEM_Object.value || tag == verification_type_info.TagEnum.ITEM_Uninitialized.value) {
+                return this.readU2();
+            }
+            return 0;
+        }
+
+        private int readU1() {
+            final byte[] data = StackMapTable_attribute.this.entriesData;
+            if (this.cursor >= data.length) {
+                throw new IllegalStateException(String.format("StackMapTable entry %d is truncated", this.index + 1));
+            }
+            return data[this.cursor++] & 0xFF;
+        }
+
+        private int readU2() {
+            return (this.readU1() << 8) | this.readU1();
+        }
+    }
+
     public abstract static class stack_frame extends FileComponent implements GenerateTreeNodeClassFile {
         /**
          * Get the calculated <code>offset_delta</code>.
@@ -90,7 +90,7 @@ public class CONSTANT_MethodType_info extends cp_info {
         }
 
         try {
-            returnType = SignatureConvertor.methodReturnTypeExtractor(descriptor).toString();
+            returnType = SignatureConvertor.methodReturnType2Readable(descriptor);
         } catch (FileFormatException ex) {
             returnType = descriptor + UNRECOGNIZED_TYPE;
             Logger.getLogger(this.getClass().getName()).log(Level.SEVERE, "Failed to parse the method return type: " + descriptor, ex);
@@ -68,7 +68,7 @@ public abstract class CONSTANT_Ref extends cp_info {
         }
 
         try {
-            returnType = SignatureConvertor.methodReturnTypeExtractor(typeStr).toString();
+            returnType = SignatureConvertor.methodReturnType2Readable(typeStr);
         } catch (FileFormatException ex) {
             returnType = typeStr + UNRECOGNIZED_TYPE;
             Logger.getLogger(this.getClass().getName()).log(Level.SEVERE, "Failed to parse the method return type: " + typeStr, ex);
@@ -46,7 +46,8 @@ public class CONSTANT_Utf8_info extends cp_info {
     public final byte[] bytes;
 
     /**
-     * Buffer for {@link #getValue()}.
+     * Buffer for {@link #getValue()}, shared with other class files when
+     * {@link Utf8Pool#getShared()} is enabled.
      */
     private String value = null;
 
@@ -55,12 +56,21 @@ public class CONSTANT_Utf8_info extends cp_info {
         super.startPos = posDataInputStream.getPos() - 1;
 
         this.length_utf8 = new u2(posDataInputStream);
-        this.bytes = new byte[this.length_utf8.value];
-        final int bytesRead = posDataInputStream.read(this.bytes);
+        final byte[] data = new byte[this.length_utf8.value];
+        final int bytesRead = posDataInputStream.read(data);
         if (bytesRead != this.length_utf8.value) {
             throw new FileFormatException("Read bytes for CONSTANT_Utf8 error.");
         }
 
+        final Utf8Pool pool = Utf8Pool.getShared();
+        final Utf8Pool.Entry entry = (pool == null) ? null : pool.intern(data);
+        if (entry == null) {
+            this.bytes = data;
+        } else {
+            this.bytes = entry.bytes;
+            this.value = entry.value;
+        }
+
         super.length = this.length_utf8.value + 1 + 2;
     }
 
@@ -0,0 +1,158 @@
+/*
+ * Utf8Pool.java    October 19, 2026, 17:10
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.classfile.constant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interning pool of {@link CONSTANT_Utf8_info} contents shared by many class
+ * files, for batch analysis keeping lots of {@code ClassFile} objects alive.
+ *
+ * <p>
+ * The pool is looked up with the raw modified UTF-8 bytes, so a hit needs no
+ * decoding; the matched {@link CONSTANT_Utf8_info} then shares both the
+ * {@code bytes} array and the decoded {@link String}. The pool is safe for
+ * concurrent parsing threads, and stops growing when it has
+ * {@link #getMaxEntries()} entries. It is disabled by default; enable it by
+ * {@link #setShared(Utf8Pool)} before parsing.
+ * </p>
+ *
+ * @author Amos Shi
+ */
+public final class Utf8Pool {
+
+    /**
+     * Default max number of entries.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1 << 18;
+
+    /**
+     * Longer contents are rarely shared, so they are not pooled.
+     */
+    public static final int MAX_INTERN_LENGTH = 256;
+
+    private static volatile Utf8Pool shared;
+
+    private final Map<Entry, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    /**
+     * Creates a pool with {@link #DEFAULT_MAX_ENTRIES}.
+     */
+    public Utf8Pool() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param max Max number of entries
+     */
+    public Utf8Pool(final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException("Max entries should be positive: " + max);
+        }
+        this.maxEntries = max;
+    }
+
+    /**
+     * Get the pool used by the constant pool parser.
+     *
+     * @return The shared pool, or <code>null</code> if interning is disabled
+     */
+    public static Utf8Pool getShared() {
+        return shared;
+    }
+
+    /**
+     * Set the pool used by the constant pool parser of all the class files
+     * parsed afterwards.
+     *
+     * @param pool The shared pool, or <code>null</code> to disable interning
+     */
+    public static void setShared(final Utf8Pool pool) {
+        shared = pool;
+    }
+
+    /**
+     * Get the pooled entry having the same content as {@code bytes}, adding
+     * {@code bytes} to the pool if it is not found and the pool is not full.
+     *
+     * @param bytes Modified UTF-8 bytes
+     * @return The pooled entry, or <code>null</code> if the content is not
+     * pooled
+     */
+    Entry intern(final byte[] bytes) {
+        if (bytes.length > MAX_INTERN_LENGTH) {
+            return null;
+        }
+
+        final Entry probe = new Entry(bytes);
+        Entry entry = this.entries.get(probe);
+        if (entry == null && this.entries.size() < this.maxEntries) {
+            probe.value = new String(bytes, StandardCharsets.UTF_8);
+            entry = this.entries.putIfAbsent(probe, probe);
+            if (entry == null) {
+                entry = probe;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Get the number of pooled entries.
+     *
+     * @return Number of entries
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Get the max number of entries.
+     *
+     * @return Max number of entries
+     */
+    public int getMaxEntries() {
+        return this.maxEntries;
+    }
+
+    /**
+     * Remove all the entries.
+     */
+    public void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Pooled content, compared by the bytes only.
+     */
+    static final class Entry {
+
+        final byte[] bytes;
+        private final int hash;
+        String value;
+
+        Entry(final byte[] b) {
+            this.bytes = b;
+            this.hash = Arrays.hashCode(b);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return (obj instanceof Entry) && this.hash == ((Entry) obj).hash && Arrays.equals(this.bytes, ((Entry) obj).bytes);
+        }
+    }
+}
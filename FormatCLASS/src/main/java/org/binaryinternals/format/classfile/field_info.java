@@ -16,6 +16,7 @@ import org.binaryinternals.commonlib.core.FileFormatException;
 import org.binaryinternals.commonlib.ui.Icons;
 import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
 import org.binaryinternals.format.classfile.attribute.attribute_info;
+import org.binaryinternals.format.classfile.constant.CONSTANT_Utf8_info;
 import org.binaryinternals.format.classfile.constant.cp_info;
 
 /**
@@ -137,7 +138,7 @@ public class field_info extends FileComponent implements GenerateTreeNodeClassFi
 
         String type;
         try {
-            type = SignatureConvertor.fieldDescriptorExtractor(this.descriptor).toString();
+            type = SignatureConvertor.fieldDescriptor2Readable((CONSTANT_Utf8_info) cpInfo[this.descriptor_index.value]);
         } catch (FileFormatException se) {
             type = "[Unexpected signature type]: " + this.descriptor;
         }
@@ -16,6 +16,7 @@ import org.binaryinternals.commonlib.core.PosDataInputStream;
 import org.binaryinternals.commonlib.ui.Icons;
 import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
 import org.binaryinternals.format.classfile.attribute.attribute_info;
+import org.binaryinternals.format.classfile.constant.CONSTANT_Utf8_info;
 import org.binaryinternals.format.classfile.constant.cp_info;
 
 /**
@@ -146,18 +147,19 @@ public class method_info extends FileComponent implements GenerateTreeNodeClassF
     private void parse(final cp_info[] cpInfo) throws FileFormatException {
         this.descriptor = ClassFile.getConstantUtf8Value(this.descriptor_index.value, cpInfo);
         this.name = ClassFile.getConstantUtf8Value(this.name_index.value, cpInfo);
+        final CONSTANT_Utf8_info descriptorInfo = (CONSTANT_Utf8_info) cpInfo[this.descriptor_index.value];
 
         //
         String returnType;
         String parameters;
 
         try {
-            returnType = SignatureConvertor.methodReturnTypeExtractor(this.descriptor).toString();
+            returnType = SignatureConvertor.methodReturnType2Readable(descriptorInfo);
         } catch (FileFormatException se) {
             returnType = String.format("[Unexpected method return type: %s]", this.descriptor);
         }
         try {
-            parameters = SignatureConvertor.methodParameters2Readable(this.descriptor);
+            parameters = SignatureConvertor.methodParameters2Readable(descriptorInfo);
         } catch (FileFormatException se) {
             parameters = String.format("[Unexpected method parameters: %s]", this.descriptor);
         }
@@ -19,4 +19,5 @@ module org.binaryinternals.formatdex {
     requires static org.binaryinternals.formatclass;
 
     exports org.binaryinternals.format.dex;
+    exports org.binaryinternals.format.dex.analysis;
 }
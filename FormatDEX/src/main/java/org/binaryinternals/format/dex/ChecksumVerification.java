@@ -0,0 +1,252 @@
+/*
+ * ChecksumVerification.java    October 19, 2026, 23:40
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.dex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.Adler32;
+
+/**
+ * Verification of the {@link header_item#checksum} and
+ * {@link header_item#signature} of a DEX file.
+ *
+ * <p>
+ * The Adler-32 checksum and the SHA-1 signature are computed over a
+ * {@link ByteBuffer} view of the file, which is either the
+ * {@link DexFile#fileByteArray} or a memory mapped file, so the content is
+ * never copied. {@link DexFile} computes them in parallel with the structural
+ * parsing; {@link #verify(List)} checks files in bulk without parsing them.
+ * </p>
+ *
+ * <pre>
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ *
+ * @author Amos Shi
+ * @see <a href="https://source.android.com/docs/core/runtime/dex-format#header-item">header_item</a>
+ */
+@SuppressWarnings("java:S1104")
+public final class ChecksumVerification {
+
+    /**
+     * Offset of the {@link header_item#checksum}, after the magic.
+     */
+    static final int CHECKSUM_OFFSET = 8;
+
+    /**
+     * Offset of the {@link header_item#signature}.
+     */
+    static final int SIGNATURE_OFFSET = 12;
+
+    /**
+     * Length of the {@link header_item#signature}.
+     */
+    static final int SIGNATURE_LENGTH = 20;
+
+    /**
+     * Offset of the {@link header_item#file_size}, the start of the content
+     * covered by the {@link header_item#signature}.
+     */
+    static final int FILE_SIZE_OFFSET = 32;
+
+    /**
+     * The {@link header_item#checksum} stored in the file.
+     */
+    public final long expectedChecksum;
+
+    /**
+     * The Adler-32 checksum computed from the file content.
+     */
+    public final long actualChecksum;
+
+    /**
+     * The {@link header_item#signature} stored in the file.
+     */
+    public final byte[] expectedSignature;
+
+    /**
+     * The SHA-1 signature computed from the file content.
+     */
+    public final byte[] actualSignature;
+
+    /**
+     * The {@link header_item#file_size} stored in the file.
+     */
+    public final long expectedFileSize;
+
+    /**
+     * The actual file size.
+     */
+    public final long actualFileSize;
+
+    private ChecksumVerification(final ByteBuffer buf) {
+        final ByteBuffer header = buf.duplicate().order(buf.get(40) == 0x78 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        this.expectedChecksum = header.getInt(CHECKSUM_OFFSET) & 0xFFFFFFFFL;
+        this.expectedSignature = new byte[SIGNATURE_LENGTH];
+        header.position(SIGNATURE_OFFSET).get(this.expectedSignature);
+        this.expectedFileSize = header.getInt(FILE_SIZE_OFFSET) & 0xFFFFFFFFL;
+        this.actualFileSize = buf.limit();
+
+        final Adler32 adler32 = new Adler32();
+        adler32.update(buf.duplicate().position(SIGNATURE_OFFSET));
+        this.actualChecksum = adler32.getValue();
+
+        final MessageDigest sha1;
+        try {
+            sha1 = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-1
+            throw new IllegalStateException(ex);
+        }
+        sha1.update(buf.duplicate().position(FILE_SIZE_OFFSET));
+        this.actualSignature = sha1.digest();
+    }
+
+    /**
+     * Verify a DEX file content.
+     *
+     * @param buf Content of the DEX file, at least {@link header_item#ITEM_SIZE}
+     * bytes; it is read from 0 to its limit, and is not modified
+     * @return The verification result
+     */
+    public static ChecksumVerification verify(final ByteBuffer buf) {
+        if (buf.limit() < header_item.ITEM_SIZE) {
+            throw new IllegalArgumentException(String.format("The DEX file is too small: %d bytes", buf.limit()));
+        }
+        return new ChecksumVerification(buf);
+    }
+
+    /**
+     * Verify a DEX file content.
+     *
+     * @param bytes Content of the DEX file
+     * @return The verification result
+     */
+    public static ChecksumVerification verify(final byte[] bytes) {
+        return verify(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Verify a DEX file, which is memory mapped instead of being read.
+     *
+     * @param file The DEX file
+     * @return The verification result
+     * @throws IOException Read file failed
+     */
+    public static ChecksumVerification verify(final File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return verify(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Verify the DEX files in parallel.
+     *
+     * @param files The DEX files
+     * @return Result of each file, in the same order; the result is
+     * <code>null</code> if the file could not be read or is too small
+     */
+    public static ChecksumVerification[] verify(final List<File> files) {
+        final List<CompletableFuture<ChecksumVerification>> futures = new ArrayList<>(files.size());
+        for (File file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return verify(file);
+                } catch (IOException | IllegalArgumentException ex) {
+                    return null;
+                }
+            }));
+        }
+
+        final ChecksumVerification[] results = new ChecksumVerification[futures.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = futures.get(i).join();
+        }
+        return results;
+    }
+
+    /**
+     * Whether the {@link header_item#checksum} matches the file content.
+     *
+     * @return true if valid
+     */
+    public boolean isChecksumValid() {
+        return this.expectedChecksum == this.actualChecksum;
+    }
+
+    /**
+     * Whether the {@link header_item#signature} matches the file content.
+     *
+     * @return true if valid
+     */
+    public boolean isSignatureValid() {
+        return Arrays.equals(this.expectedSignature, this.actualSignature);
+    }
+
+    /**
+     * Whether the {@link header_item#file_size} matches the file size.
+     *
+     * @return true if valid
+     */
+    public boolean isFileSizeValid() {
+        return this.expectedFileSize == this.actualFileSize;
+    }
+
+    /**
+     * Whether the checksum, signature and file size are all valid.
+     *
+     * @return true if valid
+     */
+    public boolean isValid() {
+        return this.isChecksumValid() && this.isSignatureValid() && this.isFileSizeValid();
+    }
+
+    /**
+     * Hex string of a signature.
+     *
+     * @param signature The signature
+     * @return Hex string
+     */
+    public static String toHexString(final byte[] signature) {
+        final StringBuilder sb = new StringBuilder(signature.length * 2);
+        for (byte b : signature) {
+            sb.append(String.format("%02x", b & 0xFF));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        if (this.isValid()) {
+            return "OK";
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        if (!this.isChecksumValid()) {
+            sb.append(String.format("checksum mismatch (0x%08X, computed 0x%08X)", this.expectedChecksum, this.actualChecksum));
+        }
+        if (!this.isSignatureValid()) {
+            sb.append(sb.length() > 0 ? "; " : "").append("signature mismatch (computed ")
+                    .append(toHexString(this.actualSignature)).append(')');
+        }
+        if (!this.isFileSizeValid()) {
+            sb.append(sb.length() > 0 ? "; " : "").append(String.format("file_size mismatch (%d, actual %d)",
+                    this.expectedFileSize, this.actualFileSize));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * DataSection.java    October 19, 2026, 20:10
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.dex;
+
+import java.util.Arrays;
+import org.binaryinternals.commonlib.core.FileComponent;
+
+/**
+ * The parsed items of the {@link DexFile} {@code data} section, indexed by
+ * their file offset.
+ *
+ * <p>
+ * The offsets are kept in a sorted <code>long</code> array, parallel to the
+ * items array, and looked up by binary search; there is no per item entry
+ * object or boxed key. The items are mostly added in the offset order, and
+ * are appended; an item referred by another one could be added out of
+ * order, and is inserted at its place, so a lookup never has to sort the
+ * arrays. A later item replaces an earlier one at the same offset.
+ * </p>
+ *
+ * <p>
+ * This class is not thread safe while items are being added.
+ * </p>
+ *
+ * @author Amos Shi
+ */
+public final class DataSection {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private FileComponent[] items = new FileComponent[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Add an item.
+     *
+     * @param offset File offset of the item
+     * @param item The item
+     */
+    void put(final long offset, final FileComponent item) {
+        if (this.size > 0 && offset <= this.offsets[this.size - 1]) {
+            final int index = Arrays.binarySearch(this.offsets, 0, this.size, offset);
+            if (index >= 0) {
+                this.items[index] = item;
+                return;
+            }
+
+            final int insert = -index - 1;
+            this.ensureCapacity(this.size + 1);
+            System.arraycopy(this.offsets, insert, this.offsets, insert + 1, this.size - insert);
+            System.arraycopy(this.items, insert, this.items, insert + 1, this.size - insert);
+            this.offsets[insert] = offset;
+            this.items[insert] = item;
+            this.size++;
+            return;
+        }
+
+        this.ensureCapacity(this.size + 1);
+        this.offsets[this.size] = offset;
+        this.items[this.size] = item;
+        this.size++;
+    }
+
+    /**
+     * Add all the items of another data section, by one merge of the two
+     * sorted sections.
+     *
+     * @param other The other data section
+     */
+    void putAll(final DataSection other) {
+        if (other.size == 0) {
+            return;
+        }
+        if (this.size == 0 || other.offsets[0] > this.offsets[this.size - 1]) {
+            this.ensureCapacity(this.size + other.size);
+            System.arraycopy(other.offsets, 0, this.offsets, this.size, other.size);
+            System.arraycopy(other.items, 0, this.items, this.size, other.size);
+            this.size += other.size;
+            return;
+        }
+
+        final int capacity = Math.max(this.offsets.length, this.size + other.size);
+        final long[] newOffsets = new long[capacity];
+        final FileComponent[] newItems = new FileComponent[capacity];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < this.size || j < other.size) {
+            if (j == other.size || (i < this.size && this.offsets[i] < other.offsets[j])) {
+                newOffsets[count] = this.offsets[i];
+                newItems[count] = this.items[i];
+                i++;
+            } else {
+                if (i < this.size && this.offsets[i] == other.offsets[j]) {
+                    i++;
+                }
+                newOffsets[count] = other.offsets[j];
+                newItems[count] = other.items[j];
+                j++;
+            }
+            count++;
+        }
+
+        this.offsets = newOffsets;
+        this.items = newItems;
+        this.size = count;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.offsets.length) {
+            final int newCapacity = Math.max(capacity, this.offsets.length * 2);
+            this.offsets = Arrays.copyOf(this.offsets, newCapacity);
+            this.items = Arrays.copyOf(this.items, newCapacity);
+        }
+    }
+
+    /**
+     * Get an item by its offset.
+     *
+     * @param offset File offset of the item
+     * @return The item, or <code>null</code> if there is no item at the offset
+     */
+    public FileComponent get(final long offset) {
+        final int index = this.indexOf(offset);
+        return (index < 0) ? null : this.items[index];
+    }
+
+    /**
+     * Whether there is an item at the offset.
+     *
+     * @param offset File offset of the item
+     * @return true if there is an item at the offset
+     */
+    public boolean contains(final long offset) {
+        return this.indexOf(offset) >= 0;
+    }
+
+    /**
+     * Index of the item at the offset.
+     *
+     * @param offset File offset of the item
+     * @return Index of the item, or a negative value if not found
+     */
+    public int indexOf(final long offset) {
+        return Arrays.binarySearch(this.offsets, 0, this.size, offset);
+    }
+
+    /**
+     * Number of the items.
+     *
+     * @return Number of the items
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the offset of an item by index, in the offset order.
+     *
+     * @param index Index of the item, from 0 to {@link #size()} - 1
+     * @return File offset of the item
+     */
+    public long getOffset(final int index) {
+        return this.offsets[index];
+    }
+
+    /**
+     * Get an item by index, in the offset order.
+     *
+     * @param index Index of the item, from 0 to {@link #size()} - 1
+     * @return The item
+     */
+    public FileComponent getItem(final int index) {
+        return this.items[index];
+    }
+
+    /**
+     * Release the unused capacity, after all the items have been added.
+     */
+    void trimToSize() {
+        this.offsets = Arrays.copyOf(this.offsets, this.size);
+        this.items = Arrays.copyOf(this.items, this.size);
+    }
+}
@@ -8,11 +8,21 @@ package org.binaryinternals.format.dex;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.swing.tree.DefaultMutableTreeNode;
@@ -48,6 +58,11 @@ public final class DexFile extends FileFormat {
     public static final long NO_INDEX = 0xffffffffL;
     private static final Logger LOGGER = Logger.getLogger(DexFile.class.getName());
 
+    /**
+     * Number of the data items parsed by one fork/join task.
+     */
+    static final int PARALLEL_THRESHOLD = 256;
+
     /**
      * The constant array/string
      * {@link #DEX_FILE_MAGIC1}|{@link #DEX_FILE_MAGIC2} is the list of bytes
@@ -83,29 +98,83 @@ public final class DexFile extends FileFormat {
      * String identifiers list, or <code>null</code>.
      */
     public final string_id_item[] string_ids;
+    /**
+     * The strings of {@link #string_ids}, decoded on demand.
+     */
+    public final StringTable strings;
     public final type_id_item[] type_ids;
     public final proto_id_item[] proto_ids;
     public final field_id_item[] field_ids;
     public final method_id_item[] method_ids;
     public final class_def_item[] class_defs;
     /**
-     * The parsed file components.
+     * The parsed file components in the {@code data} section.
      */
-    public final SortedMap<Long, FileComponent> data = new TreeMap<>();
+    public final DataSection data = new DataSection();
     public Type_ubyte[] link_data;
+    /**
+     * The {@link map_list} at {@link header_item#map_off}, or
+     * <code>null</code> if it is absent or invalid.
+     */
+    public final map_list map;
+    /**
+     * Problems of the file layout found by the {@link #map}: sections not
+     * agreeing with the {@link #header}, gaps, overlaps, and referenced
+     * items not listed in the {@link #map}.
+     */
+    public final List<String> layout_issues;
+    /**
+     * Result of the {@link header_item#checksum} and
+     * {@link header_item#signature} verification.
+     */
+    public final ChecksumVerification verification;
+
+    /**
+     * Bitmap of the offsets of the data items already claimed by a parsing
+     * thread, to parse an item referred by several items only once. Only
+     * used while parsing the data items.
+     */
+    private AtomicIntegerArray claimedOffsets;
+
+    /**
+     * The {@link debug_info_item} offset of each method, packed with the
+     * <code>method_idx</code> as <code>(method_idx &lt;&lt; 32) |
+     * debug_info_off</code>, sorted. Built on the first lookup, see
+     * {@link #get_debug_info(int)}.
+     */
+    private volatile long[] debugInfoIndex;
+
+    /**
+     * Parse a DEX file.
+     *
+     * @param file Input file
+     * @throws IOException Read file failed
+     * @throws FileFormatException Invalid file format
+     */
+    public DexFile(File file) throws IOException, FileFormatException {
+        this(readFile(file), file.getName(), file.getCanonicalPath());
+    }
 
     /**
+     * Parse a DEX file in memory, for example an entry of an {@code apk}
+     * file.
+     *
      * <pre>
      * java:S3776 - Cognitive Complexity of methods should not be too high - We need this logic together
      * </pre>
      *
-     * @param file Input file
+     * @param bytes Content of the DEX file
+     * @param fileName File name
+     * @param filePath File path
      * @throws IOException Read file failed
      * @throws FileFormatException Invalid file format
      */
     @SuppressWarnings("java:S3776")
-    public DexFile(File file) throws IOException, FileFormatException {
-        super(file);
+    public DexFile(byte[] bytes, String fileName, String filePath) throws IOException, FileFormatException {
+        super(bytes, fileName, filePath);
+        if (bytes.length < header_item.ITEM_SIZE) {
+            throw new FileFormatException(String.format("The DEX file is too small: %d bytes, name = %s", bytes.length, fileName));
+        }
 
         // Check the file signature
         this.magic1 = new byte[DEX_FILE_MAGIC1.length];
@@ -118,6 +187,10 @@ public final class DexFile extends FileFormat {
             throw new FileFormatException("This is not a valid DEX file, because the DEX file signature does not exist at the beginning of this file.");
         }
 
+        // Verify the checksum and signature while parsing the structure
+        final CompletableFuture<ChecksumVerification> verifying = CompletableFuture.supplyAsync(
+                () -> ChecksumVerification.verify(bytes));
+
         // Parse section by section
         PosDataInputStream parseEndian = new PosDataInputStream(new PosByteArrayInputStream(super.fileByteArray));
 
@@ -147,7 +220,7 @@ public final class DexFile extends FileFormat {
         }
 
         PosDataInputStreamDex stream = new PosDataInputStreamDex(new PosByteArrayInputStream(super.fileByteArray), endian);
-        SortedMap<Long, Class<?>> todoData = new TreeMap<>();
+        final DataTodo todoData = new DataTodo();
 
         // Header
         BytesTool.skip(stream, DEX_FILE_MAGIC1.length);
@@ -162,9 +235,14 @@ public final class DexFile extends FileFormat {
             this.string_ids = new string_id_item[this.header.string_ids_size.intValue()];
             for (int i = 0; i < this.string_ids.length; i++) {
                 this.string_ids[i] = new string_id_item(stream);
-                todoData.put(this.string_ids[i].string_data_off.value, string_data_item.class);
+                todoData.add(this.string_ids[i].string_data_off.value, map_list.TypeCodes.TYPE_STRING_DATA_ITEM);
             }
         }
+        final int[] stringOffsets = new int[(this.string_ids == null) ? 0 : this.string_ids.length];
+        for (int i = 0; i < stringOffsets.length; i++) {
+            stringOffsets[i] = this.string_ids[i].string_data_off.intValue();
+        }
+        this.strings = new StringTable(super.fileByteArray, stringOffsets);
 
         // type_ids
         if (this.header.type_ids_off.intValue() == 0) {
@@ -186,7 +264,7 @@ public final class DexFile extends FileFormat {
             for (int i = 0; i < this.proto_ids.length; i++) {
                 this.proto_ids[i] = new proto_id_item(stream);
                 if (this.proto_ids[i].parameters_off.value != 0) {
-                    todoData.put(this.proto_ids[i].parameters_off.value, type_list.class);
+                    todoData.add(this.proto_ids[i].parameters_off.value, map_list.TypeCodes.TYPE_TYPE_LIST);
                 }
             }
         }
@@ -220,54 +298,495 @@ public final class DexFile extends FileFormat {
             stream.flyTo(this.header.class_defs_off.intValue());
             this.class_defs = new class_def_item[this.header.class_defs_size.intValue()];
             for (int i = 0; i < this.class_defs.length; i++) {
-                this.class_defs[i] = new class_def_item(stream, this);
+                this.class_defs[i] = new class_def_item(stream);
 
                 if (this.class_defs[i].interfaces_off.value != 0) {
-                    todoData.put(this.class_defs[i].interfaces_off.value, type_list.class);
+                    todoData.add(this.class_defs[i].interfaces_off.value, map_list.TypeCodes.TYPE_TYPE_LIST);
                 }
                 if (this.class_defs[i].annotations_off.value != 0) {
-                    todoData.put(this.class_defs[i].annotations_off.value, annotations_directory_item.class);
+                    todoData.add(this.class_defs[i].annotations_off.value, map_list.TypeCodes.TYPE_ANNOTATIONS_DIRECTORY_ITEM);
                 }
                 if (this.class_defs[i].class_data_off.value != 0) {
-                    todoData.put(this.class_defs[i].class_data_off.value, class_data_item.class);
+                    todoData.add(this.class_defs[i].class_data_off.value, map_list.TypeCodes.TYPE_CLASS_DATA_ITEM);
                 }
                 if (this.class_defs[i].static_values_off.value != 0) {
-                    todoData.put(this.class_defs[i].static_values_off.value, encoded_array_item.class);
+                    todoData.add(this.class_defs[i].static_values_off.value, map_list.TypeCodes.TYPE_ENCODED_ARRAY_ITEM);
                 }
             }
         }
 
-        // data
-        for (Map.Entry<Long, Class<?>> todoItem : todoData.entrySet()) {
-            this.parseData(todoItem.getKey(), todoItem.getValue(), stream);
+        // data, by walking the map_list sections in file order; or by the
+        // references, if the map_list could not be used
+        final List<String> issues = new ArrayList<>();
+        this.map = this.parseMapList(stream, issues);
+        if (this.map == null || !this.parseSections(endian, todoData, issues)) {
+            this.parseData(todoData, endian);
         }
+        this.layout_issues = Collections.unmodifiableList(issues);
+
+        this.verification = verifying.join();
     }
 
-    void parseData(Long offset, Class<?> type, PosDataInputStreamDex stream) throws IOException, FileFormatException{
-        int breakPos = stream.getPos();
+    private map_list parseMapList(final PosDataInputStreamDex stream, final List<String> issues) throws IOException {
+        final long mapOff = this.header.map_off.value;
+        if (mapOff == 0) {
+            issues.add("There is no map_list, map_off is 0");
+            return null;
+        }
+        if ((mapOff & 3) != 0 || mapOff + Type_uint.LENGTH > super.fileByteArray.length) {
+            issues.add(String.format("Invalid map_off 0x%X", mapOff));
+            return null;
+        }
 
-        Constructor<?> cons = type.getDeclaredConstructors()[0];
-        stream.flyTo(offset.intValue());
+        stream.flyTo((int) mapOff);
         try {
-            switch(cons.getParameterCount()) {
-                case 1:
-                    this.data.put(offset, (FileComponent) cons.newInstance(stream));
-                    break;
-                case 2:
-                    this.data.put(offset, (FileComponent) cons.newInstance(stream, this));
-                    break;
-                default:
-                    throw new FileFormatException(String.format("Coding issue: no suitable constructor for type %s at 0x%X", type.getSimpleName(), offset.intValue()));
+            return new map_list(stream);
+        } catch (FileFormatException ex) {
+            issues.add("Invalid map_list: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Parse the data items by the {@link #map} sections. Each section is
+     * walked forward from its offset, item by item, so the end of each
+     * section is known, and the sections are checked to be contiguous and to
+     * agree with the {@link #header}. The sections are walked in parallel.
+     *
+     * @return false if the {@link #map} could not be used to parse the data
+     * items
+     */
+    private boolean parseSections(final Endian endian, final DataTodo todoData, final List<String> issues) throws IOException, FileFormatException {
+        final map_list.map_item[] items = this.map.list;
+        if (items == null) {
+            issues.add("The map_list is empty");
+            return false;
+        }
+
+        final map_list.TypeCodes[] types = new map_list.TypeCodes[items.length];
+        final long[] ends = new long[items.length];
+        final List<SectionTask> tasks = new ArrayList<>();
+        for (int i = 0; i < items.length; i++) {
+            final map_list.TypeCodes type = map_list.TypeCodes.of(items[i].type.value);
+            final long offset = items[i].offset.value;
+            final long count = items[i].size.value;
+            if (i > 0 && offset <= items[i - 1].offset.value) {
+                issues.add(String.format("The map_list is not sorted by offset: map_item[%d] at 0x%X", i, offset));
+                return false;
+            }
+            if (offset > super.fileByteArray.length || count > super.fileByteArray.length) {
+                issues.add(String.format("map_item[%d] is beyond the end of file: %,d items at 0x%X", i, count, offset));
+                return false;
+            }
+
+            types[i] = type;
+            ends[i] = -1;
+            if (type == null) {
+                issues.add(String.format("Unknown map_item type 0x%04X at 0x%X", items[i].type.value, offset));
+            } else if (type == map_list.TypeCodes.TYPE_MAP_LIST) {
+                ends[i] = offset + Type_uint.LENGTH + (long) items.length * map_list.map_item.ITEM_SIZE;
+            } else if (type.item_size > 0) {
+                ends[i] = offset + count * type.item_size;
+            } else if (type.factory != null) {
+                tasks.add(new SectionTask(this, endian, i, type, offset, count));
+            }
+        }
+
+        final List<SectionStream> results = new ArrayList<>(tasks.size());
+        for (Future<SectionStream> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            final SectionStream result;
+            try {
+                result = future.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new FileFormatException("Interrupted while parsing the data items", ex);
+            } catch (ExecutionException ex) {
+                throw new FileFormatException(ex.getCause().toString(), ex.getCause());
             }
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-            String msg = String.format("newInstance failed for data item for type %s at 0x%X", type.getSimpleName(), offset.intValue());
-            LOGGER.severe(msg);
-            throw new IOException(msg, e);
+            if (result.failure != null) {
+                issues.add(String.format("Failed to parse map_item[%d] %s: %s", result.section, types[result.section], result.failure));
+                return false;
+            }
+            ends[result.section] = result.end;
+            results.add(result);
+        }
+
+        // The sections are in the offset order, so are the items
+        for (SectionStream result : results) {
+            this.data.putAll(result.items);
+        }
+
+        this.checkSections(types, ends, issues);
+        this.checkReferences(endian, todoData, results, issues);
+        this.data.trimToSize();
+        return true;
+    }
+
+    /**
+     * Check the {@link #map} sections are contiguous, in the file, and agree
+     * with the {@link #header}.
+     *
+     * @param ends End offset of each section, or -1 if unknown
+     */
+    private void checkSections(final map_list.TypeCodes[] types, final long[] ends, final List<String> issues) {
+        final map_list.map_item[] items = this.map.list;
+        final long dataStart = this.header.data_off.value;
+        final long dataEnd = dataStart + this.header.data_size.value;
+        final EnumSet<map_list.TypeCodes> listed = EnumSet.noneOf(map_list.TypeCodes.class);
+
+        long prevEnd = 0;
+        for (int i = 0; i < items.length; i++) {
+            final map_list.TypeCodes type = types[i];
+            final long offset = items[i].offset.value;
+            if (type == null) {
+                prevEnd = -1;
+                continue;
+            }
+            if (!listed.add(type)) {
+                issues.add(String.format("%s is listed more than once, at 0x%X", type, offset));
+            }
+
+            if (prevEnd >= 0 && i > 0) {
+                final long aligned = (prevEnd + type.alignment - 1) & -type.alignment;
+                if (offset < prevEnd) {
+                    issues.add(String.format("%s at 0x%X overlaps %s ending at 0x%X", type, offset, types[i - 1], prevEnd));
+                } else if (offset > aligned) {
+                    issues.add(String.format("Gap of %,d bytes between %s and %s, from 0x%X to 0x%X", offset - prevEnd, types[i - 1], type, prevEnd, offset));
+                }
+            }
+            prevEnd = ends[i];
+
+            if (ends[i] > super.fileByteArray.length) {
+                issues.add(String.format("%s at 0x%X ends at 0x%X, beyond the end of file 0x%X", type, offset, ends[i], super.fileByteArray.length));
+            }
+            if (type.isData() && (offset < dataStart || ends[i] > dataEnd)) {
+                issues.add(String.format("%s at 0x%X is out of the data section 0x%X - 0x%X", type, offset, dataStart, dataEnd));
+            }
+        }
+        if (prevEnd >= 0 && prevEnd < this.header.file_size.value && this.header.link_size.value == 0) {
+            issues.add(String.format("Gap of %,d bytes after the last section, from 0x%X to 0x%X", this.header.file_size.value - prevEnd, prevEnd, this.header.file_size.value));
+        }
+
+        this.checkSection(types, map_list.TypeCodes.TYPE_HEADER_ITEM, 1, 0, issues);
+        this.checkSection(types, map_list.TypeCodes.TYPE_STRING_ID_ITEM, this.header.string_ids_size.value, this.header.string_ids_off.value, issues);
+        this.checkSection(types, map_list.TypeCodes.TYPE_TYPE_ID_ITEM, this.header.type_ids_size.value, this.header.type_ids_off.value, issues);
+        this.checkSection(types, map_list.TypeCodes.TYPE_PROTO_ID_ITEM, this.header.proto_ids_size.value, this.header.proto_ids_off.value, issues);
+        this.checkSection(types, map_list.TypeCodes.TYPE_FIELD_ID_ITEM, this.header.field_ids_size.value, this.header.field_ids_off.value, issues);
+        this.checkSection(types, map_list.TypeCodes.TYPE_METHOD_ID_ITEM, this.header.method_ids_size.value, this.header.method_ids_off.value, issues);
+        this.checkSection(types, map_list.TypeCodes.TYPE_CLASS_DEF_ITEM, this.header.class_defs_size.value, this.header.class_defs_off.value, issues);
+        this.checkSection(types, map_list.TypeCodes.TYPE_MAP_LIST, 1, this.header.map_off.value, issues);
+    }
+
+    private void checkSection(final map_list.TypeCodes[] types, final map_list.TypeCodes type, final long size, final long offset, final List<String> issues) {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) {
+                final map_list.map_item item = this.map.list[i];
+                if (item.size.value != size || (size > 0 && item.offset.value != offset)) {
+                    issues.add(String.format("%s of map_list (%,d items at 0x%X) does not agree with header_item (%,d items at 0x%X)",
+                            type, item.size.value, item.offset.value, size, offset));
+                }
+                return;
+            }
+        }
+        if (size > 0) {
+            issues.add(String.format("%s is not listed in map_list", type));
         }
+    }
+
+    /**
+     * Check every referenced data item has been parsed by its section; the
+     * missing ones are parsed by the references.
+     */
+    private void checkReferences(final Endian endian, final DataTodo todoData, final List<SectionStream> results, final List<String> issues) throws IOException, FileFormatException {
+        final DataTodo missing = new DataTodo();
+        final int[] mismatched = new int[1];
+        this.checkReferences(todoData, missing, mismatched, issues);
+        for (SectionStream result : results) {
+            this.checkReferences(result.references, missing, mismatched, issues);
+        }
+
+        final long[] keys = missing.sortedKeys();
+        if (keys.length > 0) {
+            issues.add(String.format("%,d referenced items are not listed in map_list, the first one: %s at 0x%X",
+                    keys.length, missing.getType(keys[0]), DataTodo.getOffset(keys[0])));
+            this.parseData(missing, endian);
+        }
+        if (mismatched[0] > 1) {
+            issues.add(String.format("%,d referenced items have unexpected types", mismatched[0]));
+        }
+    }
+
+    private void checkReferences(final DataTodo references, final DataTodo missing, final int[] mismatched, final List<String> issues) {
+        for (long key : references.sortedKeys()) {
+            final long offset = DataTodo.getOffset(key);
+            final map_list.TypeCodes type = references.getType(key);
+            final FileComponent item = this.data.get(offset);
+            if (item == null) {
+                missing.add(offset, type);
+            } else if (!type.item_type.isInstance(item)) {
+                if (mismatched[0]++ == 0) {
+                    issues.add(String.format("%s is expected at 0x%X, but it is %s", type, offset, item.getClass().getSimpleName()));
+                }
+            }
+        }
+    }
 
+    /**
+     * Parse the data items in parallel. The items are independent byte
+     * ranges of the shared {@link #fileByteArray}, so each task reads them by
+     * its own stream, and collects them into its own {@link DataSection},
+     * which are merged after all the tasks finished.
+     */
+    private void parseData(final DataTodo todoData, final Endian endian) throws IOException, FileFormatException {
+        this.claimedOffsets = new AtomicIntegerArray((super.fileByteArray.length >>> 5) + 1);
+        final DataParseTask task = new DataParseTask(this, endian, todoData, todoData.sortedKeys());
+        ForkJoinPool.commonPool().invoke(task);
+        this.claimedOffsets = null;
+
+        final Exception failure = task.failure.get();
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof FileFormatException) {
+            throw (FileFormatException) failure;
+        } else if (failure != null) {
+            throw new FileFormatException(failure.toString(), failure);
+        }
+
+        for (DataSection items : task.results) {
+            this.data.putAll(items);
+        }
+        this.data.trimToSize();
+    }
+
+    /**
+     * Parse a data item, unless it has been claimed by another item.
+     *
+     * @param offset Offset of the data item
+     * @param type Type of the data item
+     * @param stream The stream of the current parsing task
+     * @throws IOException Failed to read the item
+     * @throws FileFormatException Invalid item
+     */
+    void parseData(long offset, map_list.TypeCodes type, PosDataInputStreamDex stream) throws IOException, FileFormatException {
+        if (stream instanceof SectionStream) {
+            // The item is parsed by the walk of its own section, only check it
+            ((SectionStream) stream).references.add(offset, type);
+            return;
+        }
+        if (!(stream instanceof DataItemStream)) {
+            throw new FileFormatException(String.format("Coding issue: data item %s at 0x%X is parsed out of the data phase", type, offset));
+        }
+        if (offset < 0 || offset >= super.fileByteArray.length) {
+            throw new FileFormatException(String.format("Invalid offset 0x%X for data item %s", offset, type));
+        }
+        if (!this.claim((int) offset)) {
+            return;
+        }
+
+        final int breakPos = stream.getPos();
+        stream.flyTo((int) offset);
+        ((DataItemStream) stream).items.put(offset, type.factory.create(stream, this));
         stream.flyTo(breakPos);
     }
 
+    /**
+     * Claim an offset, lock free.
+     *
+     * @return true if the offset has not been claimed before
+     */
+    private boolean claim(final int offset) {
+        final int index = offset >>> 5;
+        final int bit = 1 << (offset & 31);
+        int old;
+        do {
+            old = this.claimedOffsets.get(index);
+            if ((old & bit) != 0) {
+                return false;
+            }
+        } while (!this.claimedOffsets.compareAndSet(index, old, old | bit));
+        return true;
+    }
+
+    /**
+     * Stream of a data parsing task, with the items parsed by the task.
+     */
+    private static final class DataItemStream extends PosDataInputStreamDex {
+
+        final DataSection items = new DataSection();
+
+        DataItemStream(final byte[] bytes, final Endian endian) {
+            super(new PosByteArrayInputStream(bytes), endian);
+        }
+    }
+
+    /**
+     * Stream walking a {@link map_list} section, with the items parsed and the
+     * items referred by them.
+     */
+    private static final class SectionStream extends PosDataInputStreamDex {
+
+        final int section;
+        final DataSection items = new DataSection();
+        final DataTodo references = new DataTodo();
+        long end;
+        Exception failure;
+
+        SectionStream(final byte[] bytes, final Endian endian, final int section) {
+            super(new PosByteArrayInputStream(bytes), endian);
+            this.section = section;
+        }
+    }
+
+    /**
+     * Task parsing the items of a {@link map_list} section, one after
+     * another, in a single forward pass.
+     */
+    private static final class SectionTask implements Callable<SectionStream> {
+
+        private final DexFile dex;
+        private final Endian endian;
+        private final int section;
+        private final map_list.TypeCodes type;
+        private final long offset;
+        private final long count;
+
+        SectionTask(final DexFile dex, final Endian endian, final int section, final map_list.TypeCodes type, final long offset, final long count) {
+            this.dex = dex;
+            this.endian = endian;
+            this.section = section;
+            this.type = type;
+            this.offset = offset;
+            this.count = count;
+        }
+
+        @Override
+        public SectionStream call() {
+            final SectionStream stream = new SectionStream(this.dex.fileByteArray, this.endian, this.section);
+            final int alignment = this.type.alignment;
+            long pos = this.offset;
+            try {
+                for (long i = 0; i < this.count; i++) {
+                    pos = (pos + alignment - 1) & -alignment;
+                    stream.flyTo((int) pos);
+                    stream.items.put(pos, this.type.factory.create(stream, this.dex));
+                    pos = stream.getPos();
+                }
+            } catch (IOException | FileFormatException | RuntimeException ex) {
+                stream.failure = ex;
+            }
+            stream.end = pos;
+            return stream;
+        }
+    }
+
+    /**
+     * Fork/join task parsing a range of the sorted data item keys.
+     */
+    private static final class DataParseTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 4876543219876500000L;
+
+        private final transient DexFile dex;
+        private final Endian endian;
+        private final transient DataTodo todoData;
+        private final long[] keys;
+        private final int from;
+        private final int to;
+        final transient Queue<DataSection> results;
+        final transient AtomicReference<Exception> failure;
+
+        DataParseTask(final DexFile dex, final Endian endian, final DataTodo todoData, final long[] keys) {
+            this(dex, endian, todoData, keys, 0, keys.length, new ConcurrentLinkedQueue<>(), new AtomicReference<>());
+        }
+
+        private DataParseTask(final DexFile dex, final Endian endian, final DataTodo todoData, final long[] keys,
+                final int from, final int to, final Queue<DataSection> results, final AtomicReference<Exception> failure) {
+            this.dex = dex;
+            this.endian = endian;
+            this.todoData = todoData;
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+            this.failure = failure;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > PARALLEL_THRESHOLD) {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(
+                        new DataParseTask(this.dex, this.endian, this.todoData, this.keys, this.from, middle, this.results, this.failure),
+                        new DataParseTask(this.dex, this.endian, this.todoData, this.keys, middle, this.to, this.results, this.failure));
+                return;
+            }
+
+            final DataItemStream stream = new DataItemStream(this.dex.fileByteArray, this.endian);
+            try {
+                for (int i = this.from; i < this.to && this.failure.get() == null; i++) {
+                    this.dex.parseData(DataTodo.getOffset(this.keys[i]), this.todoData.getType(this.keys[i]), stream);
+                }
+            } catch (IOException | FileFormatException | RuntimeException ex) {
+                this.failure.compareAndSet(null, ex);
+            }
+            this.results.add(stream.items);
+        }
+    }
+
+    /**
+     * Data items to be parsed, as the offset and the type. The offset and the
+     * insertion sequence are packed into one <code>long</code> key, and the
+     * type is kept by the sequence.
+     */
+    private static final class DataTodo {
+
+        private long[] keys = new long[64];
+        private map_list.TypeCodes[] types = new map_list.TypeCodes[64];
+        private int size;
+
+        void add(final long offset, final map_list.TypeCodes type) {
+            if (this.size == this.keys.length) {
+                this.keys = Arrays.copyOf(this.keys, this.size * 2);
+                this.types = Arrays.copyOf(this.types, this.size * 2);
+            }
+            this.keys[this.size] = (offset << 32) | this.size;
+            this.types[this.size] = type;
+            this.size++;
+        }
+
+        /**
+         * Keys sorted by offset; for a duplicated offset, only the last added
+         * one is kept.
+         */
+        long[] sortedKeys() {
+            final long[] sorted = Arrays.copyOf(this.keys, this.size);
+            Arrays.sort(sorted);
+            int count = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i + 1 < sorted.length && getOffset(sorted[i + 1]) == getOffset(sorted[i])) {
+                    continue;
+                }
+                sorted[count++] = sorted[i];
+            }
+            return Arrays.copyOf(sorted, count);
+        }
+
+        map_list.TypeCodes getType(final long key) {
+            return this.types[(int) key];
+        }
+
+        static long getOffset(final long key) {
+            return key >>> 32;
+        }
+    }
+
+    private static byte[] readFile(File file) throws IOException, FileFormatException {
+        if (file.length() == 0) {
+            throw new FileFormatException(String.format("The file content is empty. name = %s", file.getPath()));
+        }
+        return BytesTool.readFileAsBytes(file);
+    }
+
     static void check_uint(String fieldName, Type_uint uint, int streamPosition) throws FileFormatException {
         if (uint.value > Integer.MAX_VALUE) {
             throw new FileFormatException(String.format("%s is too big cannot be handled here: %d, position 0x%X", fieldName, uint.value, streamPosition));
@@ -287,17 +806,121 @@ public final class DexFile extends FileFormat {
      * <code>null</code> for invalid index
      */
     public String get_string_ids_string(int index) {
-        if (index < -1 || this.string_ids == null || index >= this.string_ids.length) {
+        if (index < 0 || index >= this.strings.size()) {
             LOGGER.log(Level.WARNING, "Return null for invalid string_ids index={0}", index);
             return null;
         }
 
-        FileComponent fc = this.data.get(this.string_ids[index].string_data_off.value);
-        if (fc instanceof string_data_item) {
-            return ((string_data_item) fc).getString();
-        } else {
+        return this.strings.get(index);
+    }
+
+    /**
+     * Find a {@link #string_ids} item by its String value, by binary search,
+     * since the {@link #string_ids} are sorted by the string contents.
+     *
+     * @param value The String value
+     * @return Index in the {@link #string_ids} array, or a negative value if
+     * not found
+     */
+    public int find_string_ids_index(String value) {
+        return this.strings.indexOf(value);
+    }
+
+    /**
+     * Find the {@link #method_ids} items by method name. The name is looked up
+     * once in the {@link #string_ids}, then the methods are matched by the
+     * string index, without decoding their names.
+     *
+     * @param name The method name
+     * @return Indexes in the {@link #method_ids} array, or an empty array
+     */
+    public int[] find_method_ids_by_name(String name) {
+        final int nameIdx = this.find_string_ids_index(name);
+        if (nameIdx < 0 || this.method_ids == null) {
+            return new int[0];
+        }
+
+        int[] result = new int[4];
+        int count = 0;
+        for (int i = 0; i < this.method_ids.length; i++) {
+            if (this.method_ids[i].name_idx.value == nameIdx) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count * 2);
+                }
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Find the source line of an instruction, for example to symbolicate a
+     * stack trace.
+     *
+     * @param method_idx Index in the {@link #method_ids} array
+     * @param address Address of the instruction in the method, in 16-bit code
+     * units
+     * @return Source line number, or -1 if the method has no debug info, or
+     * the address is before the first positions entry
+     */
+    public int get_source_line(int method_idx, int address) {
+        final debug_info_item debugInfo = this.get_debug_info(method_idx);
+        return (debugInfo == null) ? -1 : debugInfo.getPositions().lineOf(address);
+    }
+
+    /**
+     * Get the {@link debug_info_item} of a method.
+     *
+     * @param method_idx Index in the {@link #method_ids} array
+     * @return The debug info, or <code>null</code> if the method has no code
+     * or no debug info
+     */
+    public debug_info_item get_debug_info(int method_idx) {
+        long[] index = this.debugInfoIndex;
+        if (index == null) {
+            index = this.buildDebugInfoIndex();
+            this.debugInfoIndex = index;
+        }
+
+        int i = Arrays.binarySearch(index, (long) method_idx << 32);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        if (method_idx < 0 || i >= index.length || (index[i] >>> 32) != method_idx) {
             return null;
         }
+        final FileComponent item = this.data.get(index[i] & 0xFFFFFFFFL);
+        return (item instanceof debug_info_item) ? (debug_info_item) item : null;
+    }
+
+    private long[] buildDebugInfoIndex() {
+        long[] index = new long[64];
+        int size = 0;
+        final int classCount = (this.class_defs == null) ? 0 : this.class_defs.length;
+        for (int i = 0; i < classCount; i++) {
+            final FileComponent classData = this.data.get(this.class_defs[i].class_data_off.value);
+            if (!(classData instanceof class_data_item)) {
+                continue;
+            }
+            for (class_data_item.encoded_method[] methods : new class_data_item.encoded_method[][]{
+                ((class_data_item) classData).direct_methods, ((class_data_item) classData).virtual_methods}) {
+                int methodIdx = 0;
+                for (int j = 0; methods != null && j < methods.length; j++) {
+                    methodIdx += methods[j].method_idx_diff.value;
+                    final FileComponent code = (methods[j].code_off.value == 0) ? null : this.data.get(methods[j].code_off.value);
+                    if (code instanceof code_item && ((code_item) code).debug_info_off.value != 0) {
+                        if (size == index.length) {
+                            index = Arrays.copyOf(index, size * 2);
+                        }
+                        index[size++] = ((long) methodIdx << 32) | ((code_item) code).debug_info_off.value;
+                    }
+                }
+            }
+        }
+
+        index = Arrays.copyOf(index, size);
+        Arrays.sort(index);
+        return index;
     }
 
     /**
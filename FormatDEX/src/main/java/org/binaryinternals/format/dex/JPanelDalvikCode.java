@@ -0,0 +1,62 @@
+/*
+ * JPanelDalvikCode.java    October 19, 2026, 21:40
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.dex;
+
+import java.awt.BorderLayout;
+import java.awt.Font;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+
+/**
+ * Panel displaying the disassembled instructions of a {@link code_item}. The
+ * instructions are decoded when the panel is displayed the first time, so
+ * creating the panel for each code item of a DEX file is cheap.
+ *
+ * @author Amos Shi
+ * @see Opcode#disassemble(short[], DexFile)
+ */
+class JPanelDalvikCode extends JPanel {
+
+    private static final long serialVersionUID = 4876543219876500007L;
+
+    private final transient code_item code;
+    private final transient DexFile dexFile;
+    private boolean generated;
+
+    /**
+     * Constructor.
+     *
+     * @param code The code item to disassemble
+     * @param dexFile The DEX file of the code item
+     */
+    JPanelDalvikCode(final code_item code, final DexFile dexFile) {
+        this.code = code;
+        this.dexFile = dexFile;
+        this.setLayout(new BorderLayout());
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (this.generated) {
+            return;
+        }
+        this.generated = true;
+
+        String text;
+        try {
+            text = (this.code.insns == null) ? "" : Opcode.disassemble(this.code.insns, this.dexFile);
+        } catch (IllegalArgumentException ex) {
+            text = String.format("Failed to disassemble the code: %s", ex.getMessage());
+        }
+        final JTextArea textArea = new JTextArea(text);
+        textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, textArea.getFont().getSize()));
+        textArea.setEditable(false);
+        this.add(new JScrollPane(textArea), BorderLayout.CENTER);
+    }
+}
@@ -9,6 +9,7 @@ package org.binaryinternals.format.dex;
 import java.nio.charset.StandardCharsets;
 import java.util.logging.Logger;
 import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.FileComponent;
 import org.binaryinternals.commonlib.core.FileFormat;
 import org.binaryinternals.commonlib.ui.GenerateTreeNode;
 import org.binaryinternals.commonlib.ui.Icons;
@@ -42,6 +43,7 @@ public class JTreeDexFile implements GenerateTreeNodeDexFile {
         this.generate_method_ids(parentNode, dexFile);
         this.generate_class_defs(parentNode, dexFile);
         this.generate_data(parentNode, dexFile);
+        this.generate_map_list(parentNode, dexFile);
     }
 
     private void generate_magic(DefaultMutableTreeNode parentNode, DexFile dexFile) {
@@ -229,7 +231,8 @@ public class JTreeDexFile implements GenerateTreeNodeDexFile {
                 String.format("data [%,d]", dexFile.data.size())));
         parentNode.add(node);
 
-        dexFile.data.entrySet().stream().map(item -> item.getValue()).forEachOrdered(comp -> {
+        for (int i = 0; i < dexFile.data.size(); i++) {
+            final FileComponent comp = dexFile.data.getItem(i);
             int startPos = comp.getStartPos();
 
             DefaultMutableTreeNode itemNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
@@ -238,6 +241,10 @@ public class JTreeDexFile implements GenerateTreeNodeDexFile {
                     Type_uint.toString(startPos) + " - " + comp.getClass().getSimpleName()));
             node.add(itemNode);
 
+            if (comp instanceof code_item) {
+                ((JTreeNodeFileComponent) itemNode.getUserObject()).setDetailPanel(new JPanelDalvikCode((code_item) comp, dexFile));
+            }
+
             if (comp instanceof GenerateTreeNode) {
                 ((GenerateTreeNode) comp).generateTreeNode(itemNode);
             } else if (comp instanceof GenerateTreeNodeDexFile) {
@@ -246,6 +253,36 @@ public class JTreeDexFile implements GenerateTreeNodeDexFile {
                 // This should never happen, or else it is a coding logic error
                 LOGGER.severe(String.format("FileComponent is not added to the tree: position=0x%X type=%s", comp.getStartPos(), comp.getClass().getName()));
             }
-        });
+        }
+    }
+
+    private void generate_map_list(DefaultMutableTreeNode parentNode, DexFile dexFile) {
+        if (dexFile.map != null) {
+            DefaultMutableTreeNode node = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                    dexFile.map.getStartPos(),
+                    dexFile.map.getLength(),
+                    String.format("map_list [%,d]", dexFile.map.size.value)));
+            parentNode.add(node);
+            dexFile.map.generateTreeNode(node, dexFile);
+        }
+
+        if (!dexFile.layout_issues.isEmpty()) {
+            DefaultMutableTreeNode node = this.addNode(parentNode,
+                    0,
+                    0,
+                    "layout issues",
+                    dexFile.layout_issues.size(),
+                    "msg_dex_file_layout_issues",
+                    Icons.Exception);
+            for (String issue : dexFile.layout_issues) {
+                node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                        0,
+                        0,
+                        issue,
+                        Icons.Exception,
+                        GenerateTreeNodeDexFile.MESSAGES.getString("msg_dex_file_layout_issues")
+                )));
+            }
+        }
     }
 }
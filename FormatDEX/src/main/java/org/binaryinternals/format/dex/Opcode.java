@@ -0,0 +1,887 @@
+/*
+ * Opcode.java    October 19, 2026, 21:05
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.dex;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Table driven decoder of the Dalvik bytecode in {@link code_item#insns}.
+ *
+ * <p>
+ * Each opcode is mapped to its {@link Format} and to the kind of the index it
+ * refers to, so decoding an instruction is a table lookup plus the bit
+ * extraction of its format. The decoded instructions are streamed to a
+ * {@link Visitor}, through one reused {@link InstructionParsed}, so no object
+ * is created per instruction.
+ * </p>
+ *
+ * @author Amos Shi
+ * @see
+ * <a href="https://source.android.com/docs/core/runtime/dalvik-bytecode">
+ * Dalvik bytecode format</a>
+ * @see
+ * <a href="https://source.android.com/docs/core/runtime/instruction-formats">
+ * Dalvik Executable instruction formats</a>
+ */
+public final class Opcode {
+
+    private static final int PACKED_SWITCH_PAYLOAD = 0x0100;
+    private static final int SPARSE_SWITCH_PAYLOAD = 0x0200;
+    private static final int FILL_ARRAY_DATA_PAYLOAD = 0x0300;
+
+    /**
+     * The instructions indexed by opcode value; <code>null</code> for the
+     * unused opcodes.
+     */
+    private static final Instruction[] TABLE = new Instruction[256];
+
+    static {
+        for (Instruction insn : Instruction.values()) {
+            TABLE[insn.opcode] = insn;
+        }
+    }
+
+    private Opcode() {
+    }
+
+    /**
+     * Instruction formats. The name is the format ID of the specification,
+     * whose first digit is the number of the 16-bit code units.
+     */
+    public enum Format {
+        F10x(1), F12x(1), F11n(1), F11x(1), F10t(1),
+        F20t(2), F22x(2), F21t(2), F21s(2), F21h(2), F21c(2), F23x(2), F22b(2), F22t(2), F22s(2), F22c(2),
+        F30t(3), F32x(3), F31i(3), F31t(3), F31c(3), F35c(3), F3rc(3),
+        F45cc(4), F4rcc(4),
+        F51l(5);
+
+        /**
+         * Number of the 16-bit code units.
+         */
+        public final int units;
+
+        Format(final int units) {
+            this.units = units;
+        }
+    }
+
+    /**
+     * Kind of the index of an instruction.
+     */
+    public enum IndexType {
+        NONE, STRING, TYPE, FIELD, METHOD, PROTO, CALL_SITE, METHOD_HANDLE
+    }
+
+    /**
+     * The Dalvik instruction set.
+     */
+    public enum Instruction {
+        NOP(0x00, "nop", Format.F10x),
+        MOVE(0x01, "move", Format.F12x),
+        MOVE_FROM16(0x02, "move/from16", Format.F22x),
+        MOVE_16(0x03, "move/16", Format.F32x),
+        MOVE_WIDE(0x04, "move-wide", Format.F12x),
+        MOVE_WIDE_FROM16(0x05, "move-wide/from16", Format.F22x),
+        MOVE_WIDE_16(0x06, "move-wide/16", Format.F32x),
+        MOVE_OBJECT(0x07, "move-object", Format.F12x),
+        MOVE_OBJECT_FROM16(0x08, "move-object/from16", Format.F22x),
+        MOVE_OBJECT_16(0x09, "move-object/16", Format.F32x),
+        MOVE_RESULT(0x0a, "move-result", Format.F11x),
+        MOVE_RESULT_WIDE(0x0b, "move-result-wide", Format.F11x),
+        MOVE_RESULT_OBJECT(0x0c, "move-result-object", Format.F11x),
+        MOVE_EXCEPTION(0x0d, "move-exception", Format.F11x),
+        RETURN_VOID(0x0e, "return-void", Format.F10x),
+        RETURN(0x0f, "return", Format.F11x),
+        RETURN_WIDE(0x10, "return-wide", Format.F11x),
+        RETURN_OBJECT(0x11, "return-object", Format.F11x),
+        CONST_4(0x12, "const/4", Format.F11n),
+        CONST_16(0x13, "const/16", Format.F21s),
+        CONST(0x14, "const", Format.F31i),
+        CONST_HIGH16(0x15, "const/high16", Format.F21h),
+        CONST_WIDE_16(0x16, "const-wide/16", Format.F21s),
+        CONST_WIDE_32(0x17, "const-wide/32", Format.F31i),
+        CONST_WIDE(0x18, "const-wide", Format.F51l),
+        CONST_WIDE_HIGH16(0x19, "const-wide/high16", Format.F21h),
+        CONST_STRING(0x1a, "const-string", Format.F21c, IndexType.STRING),
+        CONST_STRING_JUMBO(0x1b, "const-string/jumbo", Format.F31c, IndexType.STRING),
+        CONST_CLASS(0x1c, "const-class", Format.F21c, IndexType.TYPE),
+        MONITOR_ENTER(0x1d, "monitor-enter", Format.F11x),
+        MONITOR_EXIT(0x1e, "monitor-exit", Format.F11x),
+        CHECK_CAST(0x1f, "check-cast", Format.F21c, IndexType.TYPE),
+        INSTANCE_OF(0x20, "instance-of", Format.F22c, IndexType.TYPE),
+        ARRAY_LENGTH(0x21, "array-length", Format.F12x),
+        NEW_INSTANCE(0x22, "new-instance", Format.F21c, IndexType.TYPE),
+        NEW_ARRAY(0x23, "new-array", Format.F22c, IndexType.TYPE),
+        FILLED_NEW_ARRAY(0x24, "filled-new-array", Format.F35c, IndexType.TYPE),
+        FILLED_NEW_ARRAY_RANGE(0x25, "filled-new-array/range", Format.F3rc, IndexType.TYPE),
+        FILL_ARRAY_DATA(0x26, "fill-array-data", Format.F31t),
+        THROW(0x27, "throw", Format.F11x),
+        GOTO(0x28, "goto", Format.F10t),
+        GOTO_16(0x29, "goto/16", Format.F20t),
+        GOTO_32(0x2a, "goto/32", Format.F30t),
+        PACKED_SWITCH(0x2b, "packed-switch", Format.F31t),
+        SPARSE_SWITCH(0x2c, "sparse-switch", Format.F31t),
+        CMPL_FLOAT(0x2d, "cmpl-float", Format.F23x),
+        CMPG_FLOAT(0x2e, "cmpg-float", Format.F23x),
+        CMPL_DOUBLE(0x2f, "cmpl-double", Format.F23x),
+        CMPG_DOUBLE(0x30, "cmpg-double", Format.F23x),
+        CMP_LONG(0x31, "cmp-long", Format.F23x),
+        IF_EQ(0x32, "if-eq", Format.F22t),
+        IF_NE(0x33, "if-ne", Format.F22t),
+        IF_LT(0x34, "if-lt", Format.F22t),
+        IF_GE(0x35, "if-ge", Format.F22t),
+        IF_GT(0x36, "if-gt", Format.F22t),
+        IF_LE(0x37, "if-le", Format.F22t),
+        IF_EQZ(0x38, "if-eqz", Format.F21t),
+        IF_NEZ(0x39, "if-nez", Format.F21t),
+        IF_LTZ(0x3a, "if-ltz", Format.F21t),
+        IF_GEZ(0x3b, "if-gez", Format.F21t),
+        IF_GTZ(0x3c, "if-gtz", Format.F21t),
+        IF_LEZ(0x3d, "if-lez", Format.F21t),
+        AGET(0x44, "aget", Format.F23x),
+        AGET_WIDE(0x45, "aget-wide", Format.F23x),
+        AGET_OBJECT(0x46, "aget-object", Format.F23x),
+        AGET_BOOLEAN(0x47, "aget-boolean", Format.F23x),
+        AGET_BYTE(0x48, "aget-byte", Format.F23x),
+        AGET_CHAR(0x49, "aget-char", Format.F23x),
+        AGET_SHORT(0x4a, "aget-short", Format.F23x),
+        APUT(0x4b, "aput", Format.F23x),
+        APUT_WIDE(0x4c, "aput-wide", Format.F23x),
+        APUT_OBJECT(0x4d, "aput-object", Format.F23x),
+        APUT_BOOLEAN(0x4e, "aput-boolean", Format.F23x),
+        APUT_BYTE(0x4f, "aput-byte", Format.F23x),
+        APUT_CHAR(0x50, "aput-char", Format.F23x),
+        APUT_SHORT(0x51, "aput-short", Format.F23x),
+        IGET(0x52, "iget", Format.F22c, IndexType.FIELD),
+        IGET_WIDE(0x53, "iget-wide", Format.F22c, IndexType.FIELD),
+        IGET_OBJECT(0x54, "iget-object", Format.F22c, IndexType.FIELD),
+        IGET_BOOLEAN(0x55, "iget-boolean", Format.F22c, IndexType.FIELD),
+        IGET_BYTE(0x56, "iget-byte", Format.F22c, IndexType.FIELD),
+        IGET_CHAR(0x57, "iget-char", Format.F22c, IndexType.FIELD),
+        IGET_SHORT(0x58, "iget-short", Format.F22c, IndexType.FIELD),
+        IPUT(0x59, "iput", Format.F22c, IndexType.FIELD),
+        IPUT_WIDE(0x5a, "iput-wide", Format.F22c, IndexType.FIELD),
+        IPUT_OBJECT(0x5b, "iput-object", Format.F22c, IndexType.FIELD),
+        IPUT_BOOLEAN(0x5c, "iput-boolean", Format.F22c, IndexType.FIELD),
+        IPUT_BYTE(0x5d, "iput-byte", Format.F22c, IndexType.FIELD),
+        IPUT_CHAR(0x5e, "iput-char", Format.F22c, IndexType.FIELD),
+        IPUT_SHORT(0x5f, "iput-short", Format.F22c, IndexType.FIELD),
+        SGET(0x60, "sget", Format.F21c, IndexType.FIELD),
+        SGET_WIDE(0x61, "sget-wide", Format.F21c, IndexType.FIELD),
+        SGET_OBJECT(0x62, "sget-object", Format.F21c, IndexType.FIELD),
+        SGET_BOOLEAN(0x63, "sget-boolean", Format.F21c, IndexType.FIELD),
+        SGET_BYTE(0x64, "sget-byte", Format.F21c, IndexType.FIELD),
+        SGET_CHAR(0x65, "sget-char", Format.F21c, IndexType.FIELD),
+        SGET_SHORT(0x66, "sget-short", Format.F21c, IndexType.FIELD),
+        SPUT(0x67, "sput", Format.F21c, IndexType.FIELD),
+        SPUT_WIDE(0x68, "sput-wide", Format.F21c, IndexType.FIELD),
+        SPUT_OBJECT(0x69, "sput-object", Format.F21c, IndexType.FIELD),
+        SPUT_BOOLEAN(0x6a, "sput-boolean", Format.F21c, IndexType.FIELD),
+        SPUT_BYTE(0x6b, "sput-byte", Format.F21c, IndexType.FIELD),
+        SPUT_CHAR(0x6c, "sput-char", Format.F21c, IndexType.FIELD),
+        SPUT_SHORT(0x6d, "sput-short", Format.F21c, IndexType.FIELD),
+        INVOKE_VIRTUAL(0x6e, "invoke-virtual", Format.F35c, IndexType.METHOD),
+        INVOKE_SUPER(0x6f, "invoke-super", Format.F35c, IndexType.METHOD),
+        INVOKE_DIRECT(0x70, "invoke-direct", Format.F35c, IndexType.METHOD),
+        INVOKE_STATIC(0x71, "invoke-static", Format.F35c, IndexType.METHOD),
+        INVOKE_INTERFACE(0x72, "invoke-interface", Format.F35c, IndexType.METHOD),
+        INVOKE_VIRTUAL_RANGE(0x74, "invoke-virtual/range", Format.F3rc, IndexType.METHOD),
+        INVOKE_SUPER_RANGE(0x75, "invoke-super/range", Format.F3rc, IndexType.METHOD),
+        INVOKE_DIRECT_RANGE(0x76, "invoke-direct/range", Format.F3rc, IndexType.METHOD),
+        INVOKE_STATIC_RANGE(0x77, "invoke-static/range", Format.F3rc, IndexType.METHOD),
+        INVOKE_INTERFACE_RANGE(0x78, "invoke-interface/range", Format.F3rc, IndexType.METHOD),
+        NEG_INT(0x7b, "neg-int", Format.F12x),
+        NOT_INT(0x7c, "not-int", Format.F12x),
+        NEG_LONG(0x7d, "neg-long", Format.F12x),
+        NOT_LONG(0x7e, "not-long", Format.F12x),
+        NEG_FLOAT(0x7f, "neg-float", Format.F12x),
+        NEG_DOUBLE(0x80, "neg-double", Format.F12x),
+        INT_TO_LONG(0x81, "int-to-long", Format.F12x),
+        INT_TO_FLOAT(0x82, "int-to-float", Format.F12x),
+        INT_TO_DOUBLE(0x83, "int-to-double", Format.F12x),
+        LONG_TO_INT(0x84, "long-to-int", Format.F12x),
+        LONG_TO_FLOAT(0x85, "long-to-float", Format.F12x),
+        LONG_TO_DOUBLE(0x86, "long-to-double", Format.F12x),
+        FLOAT_TO_INT(0x87, "float-to-int", Format.F12x),
+        FLOAT_TO_LONG(0x88, "float-to-long", Format.F12x),
+        FLOAT_TO_DOUBLE(0x89, "float-to-double", Format.F12x),
+        DOUBLE_TO_INT(0x8a, "double-to-int", Format.F12x),
+        DOUBLE_TO_LONG(0x8b, "double-to-long", Format.F12x),
+        DOUBLE_TO_FLOAT(0x8c, "double-to-float", Format.F12x),
+        INT_TO_BYTE(0x8d, "int-to-byte", Format.F12x),
+        INT_TO_CHAR(0x8e, "int-to-char", Format.F12x),
+        INT_TO_SHORT(0x8f, "int-to-short", Format.F12x),
+        ADD_INT(0x90, "add-int", Format.F23x),
+        SUB_INT(0x91, "sub-int", Format.F23x),
+        MUL_INT(0x92, "mul-int", Format.F23x),
+        DIV_INT(0x93, "div-int", Format.F23x),
+        REM_INT(0x94, "rem-int", Format.F23x),
+        AND_INT(0x95, "and-int", Format.F23x),
+        OR_INT(0x96, "or-int", Format.F23x),
+        XOR_INT(0x97, "xor-int", Format.F23x),
+        SHL_INT(0x98, "shl-int", Format.F23x),
+        SHR_INT(0x99, "shr-int", Format.F23x),
+        USHR_INT(0x9a, "ushr-int", Format.F23x),
+        ADD_LONG(0x9b, "add-long", Format.F23x),
+        SUB_LONG(0x9c, "sub-long", Format.F23x),
+        MUL_LONG(0x9d, "mul-long", Format.F23x),
+        DIV_LONG(0x9e, "div-long", Format.F23x),
+        REM_LONG(0x9f, "rem-long", Format.F23x),
+        AND_LONG(0xa0, "and-long", Format.F23x),
+        OR_LONG(0xa1, "or-long", Format.F23x),
+        XOR_LONG(0xa2, "xor-long", Format.F23x),
+        SHL_LONG(0xa3, "shl-long", Format.F23x),
+        SHR_LONG(0xa4, "shr-long", Format.F23x),
+        USHR_LONG(0xa5, "ushr-long", Format.F23x),
+        ADD_FLOAT(0xa6, "add-float", Format.F23x),
+        SUB_FLOAT(0xa7, "sub-float", Format.F23x),
+        MUL_FLOAT(0xa8, "mul-float", Format.F23x),
+        DIV_FLOAT(0xa9, "div-float", Format.F23x),
+        REM_FLOAT(0xaa, "rem-float", Format.F23x),
+        ADD_DOUBLE(0xab, "add-double", Format.F23x),
+        SUB_DOUBLE(0xac, "sub-double", Format.F23x),
+        MUL_DOUBLE(0xad, "mul-double", Format.F23x),
+        DIV_DOUBLE(0xae, "div-double", Format.F23x),
+        REM_DOUBLE(0xaf, "rem-double", Format.F23x),
+        ADD_INT_2ADDR(0xb0, "add-int/2addr", Format.F12x),
+        SUB_INT_2ADDR(0xb1, "sub-int/2addr", Format.F12x),
+        MUL_INT_2ADDR(0xb2, "mul-int/2addr", Format.F12x),
+        DIV_INT_2ADDR(0xb3, "div-int/2addr", Format.F12x),
+        REM_INT_2ADDR(0xb4, "rem-int/2addr", Format.F12x),
+        AND_INT_2ADDR(0xb5, "and-int/2addr", Format.F12x),
+        OR_INT_2ADDR(0xb6, "or-int/2addr", Format.F12x),
+        XOR_INT_2ADDR(0xb7, "xor-int/2addr", Format.F12x),
+        SHL_INT_2ADDR(0xb8, "shl-int/2addr", Format.F12x),
+        SHR_INT_2ADDR(0xb9, "shr-int/2addr", Format.F12x),
+        USHR_INT_2ADDR(0xba, "ushr-int/2addr", Format.F12x),
+        ADD_LONG_2ADDR(0xbb, "add-long/2addr", Format.F12x),
+        SUB_LONG_2ADDR(0xbc, "sub-long/2addr", Format.F12x),
+        MUL_LONG_2ADDR(0xbd, "mul-long/2addr", Format.F12x),
+        DIV_LONG_2ADDR(0xbe, "div-long/2addr", Format.F12x),
+        REM_LONG_2ADDR(0xbf, "rem-long/2addr", Format.F12x),
+        AND_LONG_2ADDR(0xc0, "and-long/2addr", Format.F12x),
+        OR_LONG_2ADDR(0xc1, "or-long/2addr", Format.F12x),
+        XOR_LONG_2ADDR(0xc2, "xor-long/2addr", Format.F12x),
+        SHL_LONG_2ADDR(0xc3, "shl-long/2addr", Format.F12x),
+        SHR_LONG_2ADDR(0xc4, "shr-long/2addr", Format.F12x),
+        USHR_LONG_2ADDR(0xc5, "ushr-long/2addr", Format.F12x),
+        ADD_FLOAT_2ADDR(0xc6, "add-float/2addr", Format.F12x),
+        SUB_FLOAT_2ADDR(0xc7, "sub-float/2addr", Format.F12x),
+        MUL_FLOAT_2ADDR(0xc8, "mul-float/2addr", Format.F12x),
+        DIV_FLOAT_2ADDR(0xc9, "div-float/2addr", Format.F12x),
+        REM_FLOAT_2ADDR(0xca, "rem-float/2addr", Format.F12x),
+        ADD_DOUBLE_2ADDR(0xcb, "add-double/2addr", Format.F12x),
+        SUB_DOUBLE_2ADDR(0xcc, "sub-double/2addr", Format.F12x),
+        MUL_DOUBLE_2ADDR(0xcd, "mul-double/2addr", Format.F12x),
+        DIV_DOUBLE_2ADDR(0xce, "div-double/2addr", Format.F12x),
+        REM_DOUBLE_2ADDR(0xcf, "rem-double/2addr", Format.F12x),
+        ADD_INT_LIT16(0xd0, "add-int/lit16", Format.F22s),
+        RSUB_INT(0xd1, "rsub-int", Format.F22s),
+        MUL_INT_LIT16(0xd2, "mul-int/lit16", Format.F22s),
+        DIV_INT_LIT16(0xd3, "div-int/lit16", Format.F22s),
+        REM_INT_LIT16(0xd4, "rem-int/lit16", Format.F22s),
+        AND_INT_LIT16(0xd5, "and-int/lit16", Format.F22s),
+        OR_INT_LIT16(0xd6, "or-int/lit16", Format.F22s),
+        XOR_INT_LIT16(0xd7, "xor-int/lit16", Format.F22s),
+        ADD_INT_LIT8(0xd8, "add-int/lit8", Format.F22b),
+        RSUB_INT_LIT8(0xd9, "rsub-int/lit8", Format.F22b),
+        MUL_INT_LIT8(0xda, "mul-int/lit8", Format.F22b),
+        DIV_INT_LIT8(0xdb, "div-int/lit8", Format.F22b),
+        REM_INT_LIT8(0xdc, "rem-int/lit8", Format.F22b),
+        AND_INT_LIT8(0xdd, "and-int/lit8", Format.F22b),
+        OR_INT_LIT8(0xde, "or-int/lit8", Format.F22b),
+        XOR_INT_LIT8(0xdf, "xor-int/lit8", Format.F22b),
+        SHL_INT_LIT8(0xe0, "shl-int/lit8", Format.F22b),
+        SHR_INT_LIT8(0xe1, "shr-int/lit8", Format.F22b),
+        USHR_INT_LIT8(0xe2, "ushr-int/lit8", Format.F22b),
+        INVOKE_POLYMORPHIC(0xfa, "invoke-polymorphic", Format.F45cc, IndexType.METHOD),
+        INVOKE_POLYMORPHIC_RANGE(0xfb, "invoke-polymorphic/range", Format.F4rcc, IndexType.METHOD),
+        INVOKE_CUSTOM(0xfc, "invoke-custom", Format.F35c, IndexType.CALL_SITE),
+        INVOKE_CUSTOM_RANGE(0xfd, "invoke-custom/range", Format.F3rc, IndexType.CALL_SITE),
+        CONST_METHOD_HANDLE(0xfe, "const-method-handle", Format.F21c, IndexType.METHOD_HANDLE),
+        CONST_METHOD_TYPE(0xff, "const-method-type", Format.F21c, IndexType.PROTO);
+
+        public final int opcode;
+        public final String mnemonic;
+        public final Format format;
+        public final IndexType indexType;
+
+        Instruction(final int opcode, final String mnemonic, final Format format) {
+            this(opcode, mnemonic, format, IndexType.NONE);
+        }
+
+        Instruction(final int opcode, final String mnemonic, final Format format, final IndexType indexType) {
+            this.opcode = opcode;
+            this.mnemonic = mnemonic;
+            this.format = format;
+            this.indexType = indexType;
+        }
+
+        /**
+         * Get the instruction of an opcode.
+         *
+         * @param opcode The opcode value
+         * @return The instruction, or <code>null</code> for an unused opcode
+         */
+        public static Instruction valueOf(final int opcode) {
+            return TABLE[opcode & 0xFF];
+        }
+    }
+
+    /**
+     * Receiver of the decoded instructions.
+     */
+    public interface Visitor {
+
+        /**
+         * A decoded instruction.
+         *
+         * @param insn The instruction, which is reused for the next one, so
+         * it is only valid during this call
+         */
+        void visitInstruction(InstructionParsed insn);
+
+        /**
+         * A code unit of an unused opcode.
+         *
+         * @param address Address of the code unit, in code units
+         * @param unit The code unit
+         */
+        default void visitUnused(final int address, final int unit) {
+        }
+
+        /**
+         * A {@code packed-switch-payload}. The targets are relative to the
+         * address of the {@code packed-switch} instruction.
+         *
+         * @param address Address of the payload, in code units
+         * @param firstKey First (and lowest) switch case value
+         * @param targets Relative branch targets
+         */
+        default void visitPackedSwitchPayload(final int address, final int firstKey, final int[] targets) {
+        }
+
+        /**
+         * A {@code sparse-switch-payload}. The targets are relative to the
+         * address of the {@code sparse-switch} instruction.
+         *
+         * @param address Address of the payload, in code units
+         * @param keys Sorted key values
+         * @param targets Relative branch targets
+         */
+        default void visitSparseSwitchPayload(final int address, final int[] keys, final int[] targets) {
+        }
+
+        /**
+         * A {@code fill-array-data-payload}.
+         *
+         * @param address Address of the payload, in code units
+         * @param elementWidth Number of bytes in each element
+         * @param size Number of elements
+         * @param length Length of the payload, in code units
+         */
+        default void visitFillArrayDataPayload(final int address, final int elementWidth, final long size, final int length) {
+        }
+    }
+
+    /**
+     * A decoded instruction. The fields not used by the {@link Format} of the
+     * instruction are left over from the previous instruction.
+     */
+    public static final class InstructionParsed {
+
+        private static final int MAX_REGISTERS = 5;
+
+        /**
+         * Address of the instruction, in code units.
+         */
+        int address;
+        Instruction instruction;
+        final int[] registers = new int[MAX_REGISTERS];
+        int registerCount;
+        /**
+         * The registers are the range of {@link #registerCount} registers
+         * starting at register {@code registers[0]}.
+         */
+        boolean range;
+        long literal;
+        long index;
+        /**
+         * Prototype index of {@link Format#F45cc} and {@link Format#F4rcc}.
+         */
+        int protoIndex;
+        /**
+         * Signed branch offset, in code units, relative to {@link #address}.
+         */
+        int branch;
+
+        public int getAddress() {
+            return this.address;
+        }
+
+        public Instruction getInstruction() {
+            return this.instruction;
+        }
+
+        public int getRegisterCount() {
+            return this.registerCount;
+        }
+
+        /**
+         * Get a register of the instruction.
+         *
+         * @param i Index of the register, from 0 to
+         * {@link #getRegisterCount()} - 1
+         * @return Register number
+         */
+        public int getRegister(final int i) {
+            return this.range ? this.registers[0] + i : this.registers[i];
+        }
+
+        public long getLiteral() {
+            return this.literal;
+        }
+
+        public long getIndex() {
+            return this.index;
+        }
+
+        public int getProtoIndex() {
+            return this.protoIndex;
+        }
+
+        /**
+         * Get the absolute branch target.
+         *
+         * @return Target address, in code units
+         */
+        public int getBranchTarget() {
+            return this.address + this.branch;
+        }
+
+        /**
+         * Render the instruction, with the indexes resolved against the
+         * {@link DexFile}.
+         *
+         * @param dexFile The DEX file of the instruction
+         * @return Instruction text
+         */
+        public String toString(final DexFile dexFile) {
+            final StringBuilder sb = new StringBuilder(64);
+            sb.append(this.instruction.mnemonic);
+
+            final Format f = this.instruction.format;
+            if (f == Format.F35c || f == Format.F3rc || f == Format.F45cc || f == Format.F4rcc) {
+                sb.append(" {");
+                if (this.range && this.registerCount > 0) {
+                    sb.append('v').append(this.registers[0]).append(" .. v").append(this.registers[0] + this.registerCount - 1);
+                } else {
+                    for (int i = 0; i < this.registerCount; i++) {
+                        sb.append(i == 0 ? "v" : ", v").append(this.registers[i]);
+                    }
+                }
+                sb.append("}, ").append(resolve(dexFile, this.instruction.indexType, this.index));
+                if (f == Format.F45cc || f == Format.F4rcc) {
+                    sb.append(", ").append(resolve(dexFile, IndexType.PROTO, this.protoIndex));
+                }
+                return sb.toString();
+            }
+
+            for (int i = 0; i < this.registerCount; i++) {
+                sb.append(i == 0 ? " v" : ", v").append(this.registers[i]);
+            }
+            switch (f) {
+                case F11n:
+                case F21s:
+                case F21h:
+                case F22b:
+                case F22s:
+                case F31i:
+                case F51l:
+                    sb.append(", #").append(this.literal);
+                    break;
+                case F10t:
+                case F20t:
+                case F30t:
+                    sb.append(String.format(" %04x", this.getBranchTarget()));
+                    break;
+                case F21t:
+                case F22t:
+                case F31t:
+                    sb.append(String.format(", %04x", this.getBranchTarget()));
+                    break;
+                case F21c:
+                case F22c:
+                case F31c:
+                    sb.append(", ").append(resolve(dexFile, this.instruction.indexType, this.index));
+                    break;
+                default:
+                    break;
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Decode the instructions of a {@link code_item}.
+     *
+     * @param insns The code units, see {@link code_item#insns}
+     * @param visitor Receiver of the decoded instructions
+     * @throws IllegalArgumentException An instruction or a payload is beyond
+     * the end of the code units
+     */
+    public static void decode(final short[] insns, final Visitor visitor) {
+        final InstructionParsed insn = new InstructionParsed();
+        int pc = 0;
+        while (pc < insns.length) {
+            final int unit = insns[pc] & 0xFFFF;
+            final Instruction instruction = TABLE[unit & 0xFF];
+            if (instruction == null) {
+                visitor.visitUnused(pc, unit);
+                pc++;
+            } else if (instruction == Instruction.NOP && unit != 0) {
+                pc += decodePayload(insns, pc, unit, visitor);
+            } else {
+                checkLength(insns, pc, instruction.format.units);
+                decodeInstruction(insns, pc, instruction, insn);
+                visitor.visitInstruction(insn);
+                pc += instruction.format.units;
+            }
+        }
+    }
+
+    /**
+     * Render the instructions of a {@link code_item} as text, one instruction
+     * per line.
+     *
+     * @param insns The code units, see {@link code_item#insns}
+     * @param dexFile The DEX file of the code
+     * @return The instructions text
+     */
+    public static String disassemble(final short[] insns, final DexFile dexFile) {
+        final StringBuilder sb = new StringBuilder(insns.length * 24);
+
+        // Payload address to the address of the switch instruction it belongs to
+        final Map<Integer, Integer> switches = new HashMap<>();
+        decode(insns, new Visitor() {
+            @Override
+            public void visitInstruction(final InstructionParsed insn) {
+                if (insn.instruction == Instruction.PACKED_SWITCH || insn.instruction == Instruction.SPARSE_SWITCH) {
+                    switches.put(insn.getBranchTarget(), insn.address);
+                }
+                sb.append(String.format("%04x: %s%n", insn.address, insn.toString(dexFile)));
+            }
+
+            @Override
+            public void visitUnused(final int address, final int unit) {
+                sb.append(String.format("%04x: unused-%02x%n", address, unit & 0xFF));
+            }
+
+            @Override
+            public void visitPackedSwitchPayload(final int address, final int firstKey, final int[] targets) {
+                final int base = switches.getOrDefault(address, 0);
+                sb.append(String.format("%04x: packed-switch-payload%n", address));
+                for (int i = 0; i < targets.length; i++) {
+                    sb.append(String.format("        %d: %04x%n", firstKey + i, base + targets[i]));
+                }
+            }
+
+            @Override
+            public void visitSparseSwitchPayload(final int address, final int[] keys, final int[] targets) {
+                final int base = switches.getOrDefault(address, 0);
+                sb.append(String.format("%04x: sparse-switch-payload%n", address));
+                for (int i = 0; i < targets.length; i++) {
+                    sb.append(String.format("        %d: %04x%n", keys[i], base + targets[i]));
+                }
+            }
+
+            @Override
+            public void visitFillArrayDataPayload(final int address, final int elementWidth, final long size, final int length) {
+                sb.append(String.format("%04x: fill-array-data-payload width=%d size=%d%n", address, elementWidth, size));
+            }
+        });
+        return sb.toString();
+    }
+
+    private static void decodeInstruction(final short[] insns, final int pc, final Instruction instruction, final InstructionParsed insn) {
+        final int hi = (insns[pc] >>> 8) & 0xFF;
+        insn.address = pc;
+        insn.instruction = instruction;
+        insn.registerCount = 0;
+        insn.range = false;
+
+        switch (instruction.format) {
+            case F10x:
+                break;
+            case F12x:
+                registers(insn, hi & 0xF, hi >>> 4);
+                break;
+            case F11n:
+                registers(insn, hi & 0xF);
+                insn.literal = ((byte) hi) >> 4;
+                break;
+            case F11x:
+                registers(insn, hi);
+                break;
+            case F10t:
+                insn.branch = (byte) hi;
+                break;
+            case F20t:
+                insn.branch = insns[pc + 1];
+                break;
+            case F22x:
+                registers(insn, hi, u(insns, pc + 1));
+                break;
+            case F21t:
+                registers(insn, hi);
+                insn.branch = insns[pc + 1];
+                break;
+            case F21s:
+                registers(insn, hi);
+                insn.literal = insns[pc + 1];
+                break;
+            case F21h:
+                registers(insn, hi);
+                insn.literal = ((long) insns[pc + 1]) << (instruction == Instruction.CONST_HIGH16 ? 16 : 48);
+                break;
+            case F21c:
+                registers(insn, hi);
+                insn.index = u(insns, pc + 1);
+                break;
+            case F23x:
+                registers(insn, hi, insns[pc + 1] & 0xFF, u(insns, pc + 1) >>> 8);
+                break;
+            case F22b:
+                registers(insn, hi, insns[pc + 1] & 0xFF);
+                insn.literal = insns[pc + 1] >> 8;
+                break;
+            case F22t:
+                registers(insn, hi & 0xF, hi >>> 4);
+                insn.branch = insns[pc + 1];
+                break;
+            case F22s:
+                registers(insn, hi & 0xF, hi >>> 4);
+                insn.literal = insns[pc + 1];
+                break;
+            case F22c:
+                registers(insn, hi & 0xF, hi >>> 4);
+                insn.index = u(insns, pc + 1);
+                break;
+            case F30t:
+                insn.branch = i32(insns, pc + 1);
+                break;
+            case F32x:
+                registers(insn, u(insns, pc + 1), u(insns, pc + 2));
+                break;
+            case F31i:
+                registers(insn, hi);
+                insn.literal = i32(insns, pc + 1);
+                break;
+            case F31t:
+                registers(insn, hi);
+                insn.branch = i32(insns, pc + 1);
+                break;
+            case F31c:
+                registers(insn, hi);
+                insn.index = i32(insns, pc + 1) & 0xFFFFFFFFL;
+                break;
+            case F35c:
+            case F45cc:
+                decodeArguments(insns, pc, hi, insn);
+                insn.index = u(insns, pc + 1);
+                if (instruction.format == Format.F45cc) {
+                    insn.protoIndex = u(insns, pc + 3);
+                }
+                break;
+            case F3rc:
+            case F4rcc:
+                insn.range = true;
+                insn.registerCount = hi;
+                insn.registers[0] = u(insns, pc + 2);
+                insn.index = u(insns, pc + 1);
+                if (instruction.format == Format.F4rcc) {
+                    insn.protoIndex = u(insns, pc + 3);
+                }
+                break;
+            case F51l:
+                registers(insn, hi);
+                insn.literal = (i32(insns, pc + 1) & 0xFFFFFFFFL) | ((long) i32(insns, pc + 3) << 32);
+                break;
+            default:
+                throw new IllegalStateException("Coding issue: unhandled format " + instruction.format);
+        }
+    }
+
+    /**
+     * Decode the registers of {@link Format#F35c} and {@link Format#F45cc}:
+     * <code>A|G|op BBBB F|E|D|C</code>.
+     */
+    private static void decodeArguments(final short[] insns, final int pc, final int hi, final InstructionParsed insn) {
+        final int count = hi >>> 4;
+        if (count > InstructionParsed.MAX_REGISTERS) {
+            throw new IllegalArgumentException(String.format("Invalid argument count %d at %04x", count, pc));
+        }
+        final int fedc = u(insns, pc + 2);
+        insn.registers[0] = fedc & 0xF;
+        insn.registers[1] = (fedc >>> 4) & 0xF;
+        insn.registers[2] = (fedc >>> 8) & 0xF;
+        insn.registers[3] = (fedc >>> 12) & 0xF;
+        insn.registers[4] = hi & 0xF;
+        insn.registerCount = count;
+    }
+
+    /**
+     * Decode a payload pseudo-instruction.
+     *
+     * @return Length of the payload, in code units
+     */
+    private static int decodePayload(final short[] insns, final int pc, final int ident, final Visitor visitor) {
+        switch (ident) {
+            case PACKED_SWITCH_PAYLOAD: {
+                checkLength(insns, pc, 4);
+                final int size = u(insns, pc + 1);
+                final int length = 4 + size * 2;
+                checkLength(insns, pc, length);
+                final int[] targets = new int[size];
+                for (int i = 0; i < size; i++) {
+                    targets[i] = i32(insns, pc + 4 + i * 2);
+                }
+                visitor.visitPackedSwitchPayload(pc, i32(insns, pc + 2), targets);
+                return length;
+            }
+            case SPARSE_SWITCH_PAYLOAD: {
+                checkLength(insns, pc, 2);
+                final int size = u(insns, pc + 1);
+                final int length = 2 + size * 4;
+                checkLength(insns, pc, length);
+                final int[] keys = new int[size];
+                final int[] targets = new int[size];
+                for (int i = 0; i < size; i++) {
+                    keys[i] = i32(insns, pc + 2 + i * 2);
+                    targets[i] = i32(insns, pc + 2 + (size + i) * 2);
+                }
+                visitor.visitSparseSwitchPayload(pc, keys, targets);
+                return length;
+            }
+            case FILL_ARRAY_DATA_PAYLOAD: {
+                checkLength(insns, pc, 4);
+                final int width = u(insns, pc + 1);
+                final long size = i32(insns, pc + 2) & 0xFFFFFFFFL;
+                final long length = 4 + (size * width + 1) / 2;
+                if (length > insns.length - pc) {
+                    throw new IllegalArgumentException(String.format("Truncated fill-array-data-payload at %04x", pc));
+                }
+                visitor.visitFillArrayDataPayload(pc, width, size, (int) length);
+                return (int) length;
+            }
+            default:
+                // A nop with a non-zero high byte, which is not a payload
+                visitor.visitUnused(pc, ident);
+                return 1;
+        }
+    }
+
+    private static void registers(final InstructionParsed insn, final int a) {
+        insn.registers[0] = a;
+        insn.registerCount = 1;
+    }
+
+    private static void registers(final InstructionParsed insn, final int a, final int b) {
+        insn.registers[0] = a;
+        insn.registers[1] = b;
+        insn.registerCount = 2;
+    }
+
+    private static void registers(final InstructionParsed insn, final int a, final int b, final int c) {
+        insn.registers[0] = a;
+        insn.registers[1] = b;
+        insn.registers[2] = c;
+        insn.registerCount = 3;
+    }
+
+    private static void checkLength(final short[] insns, final int pc, final int units) {
+        if (units > insns.length - pc) {
+            throw new IllegalArgumentException(String.format("Truncated instruction at %04x", pc));
+        }
+    }
+
+    private static int u(final short[] insns, final int i) {
+        return insns[i] & 0xFFFF;
+    }
+
+    private static int i32(final short[] insns, final int i) {
+        return (insns[i] & 0xFFFF) | (insns[i + 1] << 16);
+    }
+
+    private static String resolve(final DexFile dexFile, final IndexType type, final long index) {
+        final int i = (int) index;
+        switch (type) {
+            case STRING:
+                if (dexFile.string_ids != null && index < dexFile.string_ids.length) {
+                    return '"' + escape(dexFile.get_string_ids_string(i)) + '"';
+                }
+                break;
+            case TYPE:
+                if (dexFile.type_ids != null && index < dexFile.type_ids.length) {
+                    return dexFile.get_type_ids_string(i);
+                }
+                break;
+            case FIELD:
+                if (dexFile.field_ids != null && index < dexFile.field_ids.length) {
+                    return dexFile.field_ids[i].toString(dexFile);
+                }
+                break;
+            case METHOD:
+                if (dexFile.method_ids != null && index < dexFile.method_ids.length) {
+                    return dexFile.method_ids[i].toString(dexFile);
+                }
+                break;
+            case PROTO:
+                if (dexFile.proto_ids != null && index < dexFile.proto_ids.length) {
+                    return dexFile.proto_ids[i].toString(dexFile);
+                }
+                break;
+            default:
+                break;
+        }
+        return String.format("%s@%d", type.name().toLowerCase(Locale.ROOT), index);
+    }
+
+    private static String escape(final String s) {
+        if (s == null) {
+            return "";
+        }
+        final StringBuilder sb = new StringBuilder(s.length() + 8);
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -9,6 +9,7 @@ package org.binaryinternals.format.dex;
 
 import org.binaryinternals.commonlib.core.FileFormat;
 import org.binaryinternals.commonlib.core.PluginDescriptor;
+import org.binaryinternals.format.dex.analysis.DexArchive;
 
 
 /**
@@ -19,12 +20,12 @@ public class PluginDescriptorDEX implements PluginDescriptor{
 
     @Override
     public String getExtensionDescription() {
-        return "Android DEX File (*.dex)";
+        return "Android DEX File (*.dex, *.apk, *.aab)";
     }
 
     @Override
     public String[] getExtensions() {
-        return new String[]{"dex"};
+        return new String[]{"dex", "apk", "aab"};
     }
 
     @Override
@@ -32,4 +33,9 @@ public class PluginDescriptorDEX implements PluginDescriptor{
         return DexFile.class;
     }
 
+    @Override
+    public Class<? extends FileFormat> getFileFormatClass(final String extension) {
+        return ("apk".equalsIgnoreCase(extension) || "aab".equalsIgnoreCase(extension)) ? DexArchive.class : DexFile.class;
+    }
+
 }
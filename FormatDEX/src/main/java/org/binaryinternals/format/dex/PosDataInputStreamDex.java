@@ -103,6 +103,31 @@ public class PosDataInputStreamDex extends PosDataInputStream {
         }
     }
 
+    /**
+     * Read an array of 16-bit code units from the input stream, without an
+     * object per unit.
+     *
+     * @param count Number of the units
+     * @return The units
+     * @throws IOException I/O Error
+     */
+    public short[] Dex_ushort_array(final int count) throws IOException {
+        final byte[] bytes = new byte[count * Type_ushort.LENGTH];
+        this.readFully(bytes);
+
+        final short[] units = new short[count];
+        if (this.endian == header_item.Endian.ENDIAN_CONSTANT) {
+            for (int i = 0; i < count; i++) {
+                units[i] = (short) ((bytes[2 * i] << 8) | (bytes[2 * i + 1] & 0xFF));
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                units[i] = (short) ((bytes[2 * i + 1] << 8) | (bytes[2 * i] & 0xFF));
+            }
+        }
+        return units;
+    }
+
     /**
      * Read a {@link Type_int} from the input stream.
      *
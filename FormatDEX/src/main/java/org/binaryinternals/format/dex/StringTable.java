@@ -0,0 +1,189 @@
+/*
+ * StringTable.java    October 19, 2026, 22:10
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.dex;
+
+/**
+ * The strings of {@link DexFile#string_ids}, decoded from the file buffer on
+ * demand.
+ *
+ * <p>
+ * Only the <code>string_data_off</code> of each string is kept; a string is
+ * decoded from its MUTF-8 bytes the first time it is used, and kept in a
+ * bounded, direct mapped cache. The cache entries are immutable, so the table
+ * could be read by several threads.
+ * </p>
+ *
+ * <p>
+ * The DEX format requires the {@code string_ids} to be sorted by the UTF-16
+ * code units of the strings, which is the order of
+ * {@link String#compareTo(String)}, so a string could be found by binary
+ * search, see {@link #indexOf(String)}.
+ * </p>
+ *
+ * @author Amos Shi
+ * @see
+ * <a href="https://source.android.com/docs/core/runtime/dex-format#mutf-8">
+ * MUTF-8 (Modified UTF-8) Encoding</a>
+ */
+public final class StringTable {
+
+    /**
+     * Number of the cache slots, a power of two.
+     */
+    static final int CACHE_SIZE = 4096;
+
+    private final byte[] buf;
+    private final int[] offsets;
+    private final Entry[] cache;
+
+    /**
+     * Constructor.
+     *
+     * @param buf The DEX file buffer
+     * @param offsets The <code>string_data_off</code> of each string
+     */
+    StringTable(final byte[] buf, final int[] offsets) {
+        this.buf = buf;
+        this.offsets = offsets;
+        this.cache = new Entry[Math.min(CACHE_SIZE, Integer.highestOneBit(Math.max(1, offsets.length - 1)) << 1)];
+    }
+
+    /**
+     * Number of the strings.
+     *
+     * @return Number of the strings
+     */
+    public int size() {
+        return this.offsets.length;
+    }
+
+    /**
+     * Get a string.
+     *
+     * @param index Index in {@link DexFile#string_ids}
+     * @return The string
+     * @throws IndexOutOfBoundsException Invalid index, or the string data is
+     * beyond the end of the file
+     */
+    public String get(final int index) {
+        final int slot = index & (this.cache.length - 1);
+        final Entry entry = this.cache[slot];
+        if (entry != null && entry.index == index) {
+            return entry.value;
+        }
+
+        final String value = decode(this.buf, this.offsets[index]);
+        this.cache[slot] = new Entry(index, value);
+        return value;
+    }
+
+    /**
+     * Find a string by binary search.
+     *
+     * @param value The string to find
+     * @return Index in {@link DexFile#string_ids}, or a negative value
+     * <code>(-(insertion point) - 1)</code> if not found
+     */
+    public int indexOf(final String value) {
+        int low = 0;
+        int high = this.offsets.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = this.get(mid).compareTo(value);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Decode a {@code string_data_item}.
+     *
+     * @param buf The DEX file buffer
+     * @param offset Offset of the {@code string_data_item}, pointing to the
+     * <code>utf16_size</code>
+     * @return The string
+     */
+    static String decode(final byte[] buf, final int offset) {
+        int pos = offset;
+        int utf16Size = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = buf[pos++];
+            utf16Size |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0 && shift < 35);
+
+        return decode(buf, pos, utf16Size);
+    }
+
+    /**
+     * Decode the MUTF-8 bytes of a string, until the terminating 0 byte.
+     * Malformed sequences are decoded to U+FFFD.
+     *
+     * @param buf The DEX file buffer
+     * @param start Position of the first byte
+     * @param utf16Size Expected number of UTF-16 code units
+     * @return The string
+     */
+    static String decode(final byte[] buf, final int start, final int utf16Size) {
+        final StringBuilder sb = new StringBuilder(Math.max(0, Math.min(utf16Size, buf.length - start)));
+        int pos = start;
+        int b;
+        while ((b = buf[pos++] & 0xFF) != 0) {
+            if (b < 0x80) {
+                sb.append((char) b);
+            } else if ((b & 0xE0) == 0xC0 && isContinuation(buf, pos)) {
+                sb.append((char) (((b & 0x1F) << 6) | (buf[pos] & 0x3F)));
+                pos++;
+            } else if ((b & 0xF0) == 0xE0 && isContinuation(buf, pos) && isContinuation(buf, pos + 1)) {
+                sb.append((char) (((b & 0x0F) << 12) | ((buf[pos] & 0x3F) << 6) | (buf[pos + 1] & 0x3F)));
+                pos += 2;
+            } else {
+                sb.append('\uFFFD');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Position of the terminating 0 byte of a MUTF-8 string.
+     *
+     * @param buf The DEX file buffer
+     * @param start Position of the first byte
+     * @return Position of the 0 byte
+     * @throws IndexOutOfBoundsException There is no terminating 0 byte
+     */
+    static int findEnd(final byte[] buf, final int start) {
+        int pos = start;
+        while (buf[pos] != 0) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isContinuation(final byte[] buf, final int pos) {
+        return pos < buf.length && (buf[pos] & 0xC0) == 0x80;
+    }
+
+    private static final class Entry {
+
+        final int index;
+        final String value;
+
+        Entry(final int index, final String value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,642 @@
+/*
+ * DexArchive.java    October 19, 2026, 22:45
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.dex.analysis;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.BytesTool;
+import org.binaryinternals.commonlib.core.FileComponent;
+import org.binaryinternals.commonlib.core.FileFormat;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.commonlib.ui.Icons;
+import org.binaryinternals.format.dex.DexFile;
+import org.binaryinternals.format.dex.class_data_item;
+import org.binaryinternals.format.dex.class_def_item;
+import org.binaryinternals.format.dex.field_id_item;
+import org.binaryinternals.format.dex.method_id_item;
+import org.binaryinternals.format.dex.proto_id_item;
+import org.binaryinternals.format.dex.type_list;
+
+/**
+ * An {@code apk} or {@code aab} file analysed as a set of DEX files. The
+ * {@code classes*.dex} entries are read from the archive in memory and parsed
+ * concurrently, then merged into one index of the strings, types, fields and
+ * methods of all the DEX files.
+ *
+ * <p>
+ * A DEX file could refer to at most {@value #REFERENCE_LIMIT} methods, fields
+ * and types, since the indexes in the instructions are 16-bit; this is the
+ * reason an application is split into several DEX files. The
+ * {@link #generateReport()} shows how close each DEX file is to the limits.
+ * </p>
+ *
+ * @author Amos Shi
+ * @see <a href="https://developer.android.com/build/multidex">Enable multidex
+ * for apps with over 64K methods</a>
+ */
+public class DexArchive extends FileFormat {
+
+    private static final Logger LOG = Logger.getLogger(DexArchive.class.getName());
+
+    /**
+     * Max number of method, field or type references of one DEX file.
+     */
+    public static final int REFERENCE_LIMIT = 65536;
+
+    /**
+     * Percentage of {@link #REFERENCE_LIMIT} reported as close to the limit.
+     */
+    static final int WARNING_PERCENT = 90;
+
+    /**
+     * DEX entries of an {@code apk}, like {@code classes.dex},
+     * {@code classes2.dex}, or of an {@code aab} module, like
+     * {@code base/dex/classes.dex}.
+     */
+    private static final Pattern DEX_ENTRY = Pattern.compile("(?:([^/]+)/dex/)?classes(\\d*)\\.dex");
+
+    /**
+     * The parsed DEX files, in the order of {@code classes.dex},
+     * {@code classes2.dex}, ... for each module.
+     */
+    public final List<DexEntry> dexFiles;
+
+    /**
+     * Entries failed to be parsed, entry name and the failure message.
+     */
+    public final SortedMap<String, String> failures = new TreeMap<>();
+
+    /**
+     * Class descriptor defined in more than one DEX file, and the entries
+     * defining it.
+     */
+    public final SortedMap<String, List<String>> duplicateClasses = new TreeMap<>();
+
+    private final String[] strings;
+    private final String[] types;
+    private final String[] fields;
+    private final String[] methods;
+
+    /**
+     * Parse all the DEX files in an {@code apk} or {@code aab} file.
+     *
+     * @param file The {@code apk} or {@code aab} file
+     * @throws IOException Failed to read the file
+     * @throws FileFormatException The file is empty
+     */
+    public DexArchive(final File file) throws IOException, FileFormatException {
+        super(file);
+
+        final List<DexEntry> parsed = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(file)) {
+            final List<ZipEntry> entries = new ArrayList<>();
+            zip.stream().filter(e -> !e.isDirectory() && DEX_ENTRY.matcher(e.getName()).matches()).forEachOrdered(entries::add);
+            entries.sort(DexArchive::compareEntries);
+
+            final String[] errors = new String[entries.size()];
+            final List<Callable<DexEntry>> tasks = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                final int index = i;
+                tasks.add(() -> parseEntry(zip, entries.get(index), errors, index));
+            }
+            final List<Future<DexEntry>> results = ForkJoinPool.commonPool().invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                final DexEntry entry = results.get(i).get();
+                if (entry != null) {
+                    parsed.add(entry);
+                } else {
+                    this.failures.put(entries.get(i).getName(), errors[i]);
+                }
+            }
+        } catch (ExecutionException ex) {
+            throw new IOException("Failed to parse the DEX files", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing the DEX files", ex);
+        }
+        this.dexFiles = Collections.unmodifiableList(parsed);
+
+        this.strings = merge(this.dexFiles, e -> e.stringKeys);
+        this.types = merge(this.dexFiles, e -> e.typeKeys);
+        this.fields = merge(this.dexFiles, e -> e.fieldKeys);
+        this.methods = merge(this.dexFiles, e -> e.methodKeys);
+        for (DexEntry entry : this.dexFiles) {
+            entry.stringMap = map(this.strings, entry.stringKeys);
+            entry.typeMap = map(this.types, entry.typeKeys);
+            entry.fieldMap = map(this.fields, entry.fieldKeys);
+            entry.methodMap = map(this.methods, entry.methodKeys);
+            entry.releaseKeys();
+        }
+        this.findDuplicateClasses();
+    }
+
+    /**
+     * Parse one DEX entry, on a fork/join worker thread.
+     *
+     * @return The parsed entry, or {@code null} with the failure message set
+     * in {@code errors}
+     */
+    private static DexEntry parseEntry(final ZipFile zip, final ZipEntry entry, final String[] errors, final int index) {
+        try {
+            return new DexEntry(entry.getName(), BytesTool.readZipEntryAsBytes(zip, entry));
+        } catch (IOException | FileFormatException | RuntimeException ex) {
+            LOG.log(Level.WARNING, String.format("Failed to parse the archive entry %s", entry.getName()), ex);
+            errors[index] = ex.toString();
+            return null;
+        }
+    }
+
+    /**
+     * Order the DEX entries by module, then by the number in the name, where
+     * {@code classes.dex} is number 1.
+     */
+    private static int compareEntries(final ZipEntry a, final ZipEntry b) {
+        final Matcher ma = DEX_ENTRY.matcher(a.getName());
+        final Matcher mb = DEX_ENTRY.matcher(b.getName());
+        ma.matches();
+        mb.matches();
+        final String moduleA = (ma.group(1) == null) ? "" : ma.group(1);
+        final String moduleB = (mb.group(1) == null) ? "" : mb.group(1);
+        final int cmp = moduleA.compareTo(moduleB);
+        if (cmp != 0) {
+            return cmp;
+        }
+        final String numberA = ma.group(2).isEmpty() ? "1" : ma.group(2);
+        final String numberB = mb.group(2).isEmpty() ? "1" : mb.group(2);
+        return (numberA.length() != numberB.length())
+                ? Integer.compare(numberA.length(), numberB.length())
+                : numberA.compareTo(numberB);
+    }
+
+    private interface KeysGetter {
+
+        String[] get(DexEntry entry);
+    }
+
+    /**
+     * Merge the keys of all the DEX files into one sorted array without
+     * duplicates.
+     */
+    private static String[] merge(final List<DexEntry> entries, final KeysGetter getter) {
+        int total = 0;
+        for (DexEntry entry : entries) {
+            total += getter.get(entry).length;
+        }
+        final String[] all = new String[total];
+        int pos = 0;
+        for (DexEntry entry : entries) {
+            final String[] keys = getter.get(entry);
+            System.arraycopy(keys, 0, all, pos, keys.length);
+            pos += keys.length;
+        }
+        Arrays.sort(all);
+
+        int count = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (count == 0 || !all[count - 1].equals(all[i])) {
+                all[count++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, count);
+    }
+
+    /**
+     * Map the local index of each key to its index in the merged keys.
+     */
+    private static int[] map(final String[] merged, final String[] keys) {
+        final int[] result = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = Arrays.binarySearch(merged, keys[i]);
+        }
+        return result;
+    }
+
+    private void findDuplicateClasses() {
+        final Map<String, List<String>> definedBy = new TreeMap<>();
+        for (DexEntry entry : this.dexFiles) {
+            for (String clazz : entry.definedClasses) {
+                definedBy.computeIfAbsent(clazz, k -> new ArrayList<>(1)).add(entry.entryName);
+            }
+        }
+        for (Map.Entry<String, List<String>> item : definedBy.entrySet()) {
+            if (item.getValue().size() > 1) {
+                this.duplicateClasses.put(item.getKey(), item.getValue());
+            }
+        }
+    }
+
+    /**
+     * Number of the distinct strings of all the DEX files.
+     *
+     * @return Number of the strings
+     */
+    public int getStringCount() {
+        return this.strings.length;
+    }
+
+    /**
+     * Number of the distinct types of all the DEX files.
+     *
+     * @return Number of the types
+     */
+    public int getTypeCount() {
+        return this.types.length;
+    }
+
+    /**
+     * Number of the distinct fields of all the DEX files.
+     *
+     * @return Number of the fields
+     */
+    public int getFieldCount() {
+        return this.fields.length;
+    }
+
+    /**
+     * Number of the distinct methods of all the DEX files.
+     *
+     * @return Number of the methods
+     */
+    public int getMethodCount() {
+        return this.methods.length;
+    }
+
+    /**
+     * Get a string of the merged index.
+     *
+     * @param index Index in the merged strings
+     * @return The string
+     */
+    public String getString(final int index) {
+        return this.strings[index];
+    }
+
+    /**
+     * Get a type descriptor of the merged index.
+     *
+     * @param index Index in the merged types
+     * @return Type descriptor, like {@code Ljava/lang/String;}
+     */
+    public String getType(final int index) {
+        return this.types[index];
+    }
+
+    /**
+     * Get a field of the merged index.
+     *
+     * @param index Index in the merged fields
+     * @return Field in the form {@code Lclass;->name:Ltype;}
+     */
+    public String getField(final int index) {
+        return this.fields[index];
+    }
+
+    /**
+     * Get a method of the merged index.
+     *
+     * @param index Index in the merged methods
+     * @return Method in the form {@code Lclass;->name(Lparameter;)Lreturn;}
+     */
+    public String getMethod(final int index) {
+        return this.methods[index];
+    }
+
+    /**
+     * Find a string in the merged index.
+     *
+     * @param value The string
+     * @return Index in the merged strings, or a negative value if not found
+     */
+    public int indexOfString(final String value) {
+        return Arrays.binarySearch(this.strings, value);
+    }
+
+    /**
+     * Find a type in the merged index.
+     *
+     * @param descriptor Type descriptor, like {@code Ljava/lang/String;}
+     * @return Index in the merged types, or a negative value if not found
+     */
+    public int indexOfType(final String descriptor) {
+        return Arrays.binarySearch(this.types, descriptor);
+    }
+
+    /**
+     * Find a field in the merged index.
+     *
+     * @param field Field in the form {@code Lclass;->name:Ltype;}
+     * @return Index in the merged fields, or a negative value if not found
+     */
+    public int indexOfField(final String field) {
+        return Arrays.binarySearch(this.fields, field);
+    }
+
+    /**
+     * Find a method in the merged index.
+     *
+     * @param method Method in the form
+     * {@code Lclass;->name(Lparameter;)Lreturn;}
+     * @return Index in the merged methods, or a negative value if not found
+     */
+    public int indexOfMethod(final String method) {
+        return Arrays.binarySearch(this.methods, method);
+    }
+
+    /**
+     * Generate the method count and reference limit report of all the DEX
+     * files.
+     *
+     * @return The report
+     */
+    public StringBuilder generateReport() {
+        final StringBuilder sb = new StringBuilder(1024);
+        final String format = "%-32s %8s %8s %8s %8s %8s %12s %9s%n";
+        sb.append(String.format(format, "DEX file", "classes", "methods", "method", "field", "type", "size", "checksum"));
+        sb.append(String.format(format, "", "defined", "defined", "refs", "refs", "refs", "bytes", "signature"));
+
+        int classes = 0;
+        int defined = 0;
+        long size = 0;
+        final List<String> warnings = new ArrayList<>();
+        final List<String> corrupted = new ArrayList<>();
+        for (DexEntry entry : this.dexFiles) {
+            sb.append(String.format(format, entry.entryName,
+                    String.format("%,d", entry.classCount),
+                    String.format("%,d", entry.definedMethodCount),
+                    percent(entry.methodMap.length),
+                    percent(entry.fieldMap.length),
+                    percent(entry.typeMap.length),
+                    String.format("%,d", entry.size),
+                    entry.dex.verification.isValid() ? "OK" : "MISMATCH"));
+            if (!entry.dex.verification.isValid()) {
+                corrupted.add(entry.entryName + ": " + entry.dex.verification);
+            }
+            classes += entry.classCount;
+            defined += entry.definedMethodCount;
+            size += entry.size;
+            checkLimit(warnings, entry.entryName, "method", entry.methodMap.length);
+            checkLimit(warnings, entry.entryName, "field", entry.fieldMap.length);
+            checkLimit(warnings, entry.entryName, "type", entry.typeMap.length);
+        }
+        sb.append(String.format(format, "Total (distinct refs)",
+                String.format("%,d", classes),
+                String.format("%,d", defined),
+                String.format("%,d", this.methods.length),
+                String.format("%,d", this.fields.length),
+                String.format("%,d", this.types.length),
+                String.format("%,d", size),
+                ""));
+        sb.append(String.format("%nDistinct strings: %,d%n", this.strings.length));
+
+        if (!warnings.isEmpty()) {
+            sb.append(String.format("%nClose to the %,d reference limit:%n", REFERENCE_LIMIT));
+            for (String warning : warnings) {
+                sb.append("    ").append(warning).append(System.lineSeparator());
+            }
+        }
+        if (!corrupted.isEmpty()) {
+            sb.append(String.format("%nChecksum or signature mismatch: %,d%n", corrupted.size()));
+            for (String item : corrupted) {
+                sb.append("    ").append(item).append(System.lineSeparator());
+            }
+        }
+        if (!this.duplicateClasses.isEmpty()) {
+            sb.append(String.format("%nClasses defined in more than one DEX file: %,d%n", this.duplicateClasses.size()));
+            for (Map.Entry<String, List<String>> item : this.duplicateClasses.entrySet()) {
+                sb.append(String.format("    %s %s%n", item.getKey(), item.getValue()));
+            }
+        }
+        if (!this.failures.isEmpty()) {
+            sb.append(String.format("%nFailed entries: %,d%n", this.failures.size()));
+            for (Map.Entry<String, String> item : this.failures.entrySet()) {
+                sb.append(String.format("    %s: %s%n", item.getKey(), item.getValue()));
+            }
+        }
+        return sb;
+    }
+
+    private static String percent(final int count) {
+        return String.format("%d%%", count * 100L / REFERENCE_LIMIT);
+    }
+
+    private static void checkLimit(final List<String> warnings, final String entryName, final String kind, final int count) {
+        if (count * 100L >= (long) REFERENCE_LIMIT * WARNING_PERCENT) {
+            warnings.add(String.format("%s: %,d %s references", entryName, count, kind));
+        }
+    }
+
+    @Override
+    public String getContentTabName() {
+        return "Android Application Package";
+    }
+
+    @Override
+    public Icons getIcon() {
+        return Icons.Dex;
+    }
+
+    @Override
+    public void generateTreeNode(final DefaultMutableTreeNode parentNode) {
+        new JTreeDexArchive().generateTreeNode(parentNode, this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Archive contains %d DEX file(s) with %,d distinct method(s)", this.dexFiles.size(), this.methods.length);
+    }
+
+    /**
+     * One DEX file of the archive.
+     *
+     * <pre>
+     * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+     * </pre>
+     */
+    @SuppressWarnings("java:S1104")
+    public static final class DexEntry {
+
+        /**
+         * Name of the archive entry.
+         */
+        public final String entryName;
+        /**
+         * Size of the DEX file in bytes.
+         */
+        public final int size;
+        /**
+         * The parsed DEX file.
+         */
+        public final DexFile dex;
+        /**
+         * Number of the {@code class_defs}.
+         */
+        public final int classCount;
+        /**
+         * Number of the direct and virtual methods defined by the classes.
+         */
+        public final int definedMethodCount;
+
+        /**
+         * Index of each {@link DexFile#string_ids} item in the merged
+         * strings.
+         */
+        int[] stringMap;
+        /**
+         * Index of each {@link DexFile#type_ids} item in the merged types.
+         */
+        int[] typeMap;
+        /**
+         * Index of each {@link DexFile#field_ids} item in the merged fields.
+         */
+        int[] fieldMap;
+        /**
+         * Index of each {@link DexFile#method_ids} item in the merged
+         * methods.
+         */
+        int[] methodMap;
+
+        /**
+         * Descriptors of the classes defined in the DEX file.
+         */
+        final String[] definedClasses;
+
+        /**
+         * Keys built on the parsing thread, released after being merged.
+         */
+        private String[] stringKeys;
+        private String[] typeKeys;
+        private String[] fieldKeys;
+        private String[] methodKeys;
+
+        DexEntry(final String entryName, final byte[] bytes) throws IOException, FileFormatException {
+            this.entryName = entryName;
+            this.size = bytes.length;
+            this.dex = new DexFile(bytes, entryName, entryName);
+
+            this.stringKeys = new String[this.dex.strings.size()];
+            for (int i = 0; i < this.stringKeys.length; i++) {
+                this.stringKeys[i] = this.dex.strings.get(i);
+            }
+            this.typeKeys = new String[length(this.dex.type_ids)];
+            for (int i = 0; i < this.typeKeys.length; i++) {
+                this.typeKeys[i] = this.dex.get_type_ids_string(i);
+            }
+            this.fieldKeys = new String[length(this.dex.field_ids)];
+            for (int i = 0; i < this.fieldKeys.length; i++) {
+                final field_id_item field = this.dex.field_ids[i];
+                this.fieldKeys[i] = field.get_class(this.dex) + "->" + field.get_name(this.dex) + ":" + field.get_type(this.dex);
+            }
+            this.methodKeys = new String[length(this.dex.method_ids)];
+            for (int i = 0; i < this.methodKeys.length; i++) {
+                final method_id_item method = this.dex.method_ids[i];
+                this.methodKeys[i] = method.get_class(this.dex) + "->" + method.get_name(this.dex) + this.getDescriptor(method.get_proto(this.dex));
+            }
+
+            final class_def_item[] classDefs = this.dex.class_defs;
+            this.classCount = length(classDefs);
+            this.definedClasses = new String[this.classCount];
+            int methodCount = 0;
+            for (int i = 0; i < this.classCount; i++) {
+                this.definedClasses[i] = this.dex.get_type_ids_string(classDefs[i].class_idx.intValue());
+                final FileComponent data = this.dex.data.get(classDefs[i].class_data_off.value);
+                if (data instanceof class_data_item) {
+                    methodCount += ((class_data_item) data).direct_methods_size.value + ((class_data_item) data).virtual_methods_size.value;
+                }
+            }
+            this.definedMethodCount = methodCount;
+        }
+
+        private String getDescriptor(final proto_id_item proto) {
+            final StringBuilder sb = new StringBuilder(32).append('(');
+            final type_list params = proto.get_parameters(this.dex);
+            if (params != null && params.list != null) {
+                for (type_list.type_item param : params.list) {
+                    sb.append(param.get_type(this.dex));
+                }
+            }
+            return sb.append(')').append(proto.get_return_type(this.dex)).toString();
+        }
+
+        private static int length(final Object[] array) {
+            return (array == null) ? 0 : array.length;
+        }
+
+        private void releaseKeys() {
+            this.stringKeys = null;
+            this.typeKeys = null;
+            this.fieldKeys = null;
+            this.methodKeys = null;
+        }
+
+        /**
+         * Get the index of a {@link DexFile#method_ids} item in the merged
+         * methods of the archive.
+         *
+         * @param methodIdx Index in {@link DexFile#method_ids}
+         * @return Index in the merged methods
+         */
+        public int getMergedMethodIndex(final int methodIdx) {
+            return this.methodMap[methodIdx];
+        }
+
+        /**
+         * Get the index of a {@link DexFile#field_ids} item in the merged
+         * fields of the archive.
+         *
+         * @param fieldIdx Index in {@link DexFile#field_ids}
+         * @return Index in the merged fields
+         */
+        public int getMergedFieldIndex(final int fieldIdx) {
+            return this.fieldMap[fieldIdx];
+        }
+
+        /**
+         * Get the index of a {@link DexFile#type_ids} item in the merged types
+         * of the archive.
+         *
+         * @param typeIdx Index in {@link DexFile#type_ids}
+         * @return Index in the merged types
+         */
+        public int getMergedTypeIndex(final int typeIdx) {
+            return this.typeMap[typeIdx];
+        }
+
+        /**
+         * Get the index of a {@link DexFile#string_ids} item in the merged
+         * strings of the archive.
+         *
+         * @param stringIdx Index in {@link DexFile#string_ids}
+         * @return Index in the merged strings
+         */
+        public int getMergedStringIndex(final int stringIdx) {
+            return this.stringMap[stringIdx];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %,d classes, %,d method refs", this.entryName, this.classCount, this.methodMap.length);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * JTreeDexArchive.java    October 19, 2026, 23:05
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.dex.analysis;
+
+import java.util.List;
+import java.util.Map;
+import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.FileFormat;
+import org.binaryinternals.commonlib.ui.HTMLKit;
+import org.binaryinternals.commonlib.ui.Icons;
+import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
+import org.binaryinternals.format.dex.GenerateTreeNodeDexFile;
+
+/**
+ * A tree for {@link DexArchive} displaying the merged analysis result.
+ *
+ * @author Amos Shi
+ * @see DexArchive
+ */
+class JTreeDexArchive implements GenerateTreeNodeDexFile {
+
+    private DexArchive archive;
+
+    @Override
+    public void generateTreeNode(DefaultMutableTreeNode parentNode, FileFormat fileFormat) {
+        this.archive = (DexArchive) fileFormat;
+
+        this.generateDexFiles(parentNode);
+        this.generateIndex(parentNode);
+        this.generateReport(parentNode);
+        this.generateDuplicateClasses(parentNode);
+        this.generateFailures(parentNode);
+    }
+
+    private void generateDexFiles(final DefaultMutableTreeNode parentNode) {
+        final DefaultMutableTreeNode dexNode = this.addNode(parentNode,
+                0, 0,
+                String.format("dex files[%d]", this.archive.dexFiles.size()),
+                this.archive.toString(),
+                "msg_archive_dex_files",
+                Icons.Dex);
+
+        for (DexArchive.DexEntry entry : this.archive.dexFiles) {
+            dexNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                    0, 0,
+                    entry.toString(),
+                    Icons.Dex,
+                    entry.entryName)));
+        }
+    }
+
+    private void generateIndex(final DefaultMutableTreeNode parentNode) {
+        final DefaultMutableTreeNode indexNode = this.addNode(parentNode,
+                0, 0,
+                "merged index",
+                String.format("%d DEX file(s)", this.archive.dexFiles.size()),
+                "msg_archive_merged_index",
+                Icons.Index);
+
+        this.addNode(indexNode, 0, 0, "strings", String.format("%,d", this.archive.getStringCount()), null, Icons.Counter);
+        this.addNode(indexNode, 0, 0, "types", String.format("%,d", this.archive.getTypeCount()), null, Icons.Counter);
+        this.addNode(indexNode, 0, 0, "fields", String.format("%,d", this.archive.getFieldCount()), null, Icons.Field);
+        this.addNode(indexNode, 0, 0, "methods", String.format("%,d", this.archive.getMethodCount()), null, Icons.Method);
+    }
+
+    private void generateReport(final DefaultMutableTreeNode parentNode) {
+        final DefaultMutableTreeNode reportNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                0, 0,
+                "method count report",
+                Icons.Max,
+                HTMLKit.START + "<pre>" + HTMLKit.escapeFilter(this.archive.generateReport().toString()) + "</pre>" + HTMLKit.END));
+        parentNode.add(reportNode);
+    }
+
+    private void generateDuplicateClasses(final DefaultMutableTreeNode parentNode) {
+        if (this.archive.duplicateClasses.isEmpty()) {
+            return;
+        }
+
+        final DefaultMutableTreeNode duplicatesNode = this.addNode(parentNode,
+                0, 0,
+                "duplicate classes",
+                this.archive.duplicateClasses.size(),
+                "msg_archive_duplicate_classes",
+                Icons.Class);
+        for (Map.Entry<String, List<String>> item : this.archive.duplicateClasses.entrySet()) {
+            duplicatesNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                    0, 0,
+                    item.getKey(),
+                    Icons.Class,
+                    String.join(", ", item.getValue()))));
+        }
+    }
+
+    private void generateFailures(final DefaultMutableTreeNode parentNode) {
+        if (this.archive.failures.isEmpty()) {
+            return;
+        }
+
+        final DefaultMutableTreeNode failuresNode = this.addNode(parentNode,
+                0, 0,
+                "failures",
+                this.archive.failures.size(),
+                "msg_archive_failures",
+                Icons.Exception);
+        for (Map.Entry<String, String> item : this.archive.failures.entrySet()) {
+            failuresNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                    0, 0,
+                    item.getKey(),
+                    Icons.Exception,
+                    item.getValue())));
+        }
+    }
+}
@@ -112,7 +112,7 @@ public class annotation_set_item extends FileComponent implements GenerateTreeNo
             this.annotation_off = stream.Dex_uint();
             super.length = stream.getPos() - super.startPos;
 
-            dexFile.parseData(this.annotation_off.value, annotation_item.class, stream);
+            dexFile.parseData(this.annotation_off.value, map_list.TypeCodes.TYPE_ANNOTATION_ITEM, stream);
         }
     }
 
@@ -118,8 +118,8 @@ public class annotation_set_ref_list extends FileComponent implements GenerateTr
         annotation_set_ref_item(PosDataInputStreamDex stream, DexFile dex) throws IOException, FileFormatException {
             super.startPos = stream.getPos();
             this.annotations_off = stream.Dex_uint();
-            if ((this.annotations_off.value != 0) && (!dex.data.keySet().contains(this.annotations_off.value))) {
-                dex.parseData(this.annotations_off.value, annotation_set_item.class, stream);
+            if (this.annotations_off.value != 0) {
+                dex.parseData(this.annotations_off.value, map_list.TypeCodes.TYPE_ANNOTATION_SET_ITEM, stream);
             }
             super.length = stream.getPos() - super.startPos;
         }
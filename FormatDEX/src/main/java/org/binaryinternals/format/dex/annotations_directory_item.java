@@ -41,8 +41,8 @@ public class annotations_directory_item extends FileComponent implements Generat
         super.startPos = stream.getPos();
 
         this.class_annotations_off = stream.Dex_uint();
-        if ((this.class_annotations_off.value != 0) && (!dex.data.keySet().contains(this.class_annotations_off.value))) {
-            dex.parseData(this.class_annotations_off.value, annotation_set_item.class, stream);
+        if (this.class_annotations_off.value != 0) {
+            dex.parseData(this.class_annotations_off.value, map_list.TypeCodes.TYPE_ANNOTATION_SET_ITEM, stream);
         }
 
         this.fields_size = stream.Dex_uint();
@@ -222,9 +222,7 @@ public class annotations_directory_item extends FileComponent implements Generat
 
             this.field_idx = stream.Dex_uint();
             this.annotations_off = stream.Dex_uint();
-            if (!dex.data.keySet().contains(this.annotations_off.value)) {
-                dex.parseData(this.annotations_off.value, annotation_set_item.class, stream);
-            }
+            dex.parseData(this.annotations_off.value, map_list.TypeCodes.TYPE_ANNOTATION_SET_ITEM, stream);
 
             super.length = stream.getPos() - super.startPos;
         }
@@ -276,9 +274,7 @@ public class annotations_directory_item extends FileComponent implements Generat
 
             this.method_idx = stream.Dex_uint();
             this.annotations_off = stream.Dex_uint();
-            if (!dex.data.keySet().contains(this.annotations_off.value)) {
-                dex.parseData(this.annotations_off.value, annotation_set_item.class, stream);
-            }
+            dex.parseData(this.annotations_off.value, map_list.TypeCodes.TYPE_ANNOTATION_SET_ITEM, stream);
 
             super.length = stream.getPos() - super.startPos;
         }
@@ -329,9 +325,7 @@ public class annotations_directory_item extends FileComponent implements Generat
             super.startPos = stream.getPos();
             this.method_idx = stream.Dex_uint();
             this.annotations_off = stream.Dex_uint();
-            if (!dex.data.keySet().contains(this.annotations_off.value)) {
-                dex.parseData(this.annotations_off.value, annotation_set_ref_list.class, stream);
-            }
+            dex.parseData(this.annotations_off.value, map_list.TypeCodes.TYPE_ANNOTATION_SET_REF_LIST, stream);
 
             super.length = stream.getPos() - super.startPos;
         }
@@ -272,7 +272,7 @@ public class class_data_item extends FileComponent implements GenerateTreeNodeDe
             this.access_flags = stream.Dex_uleb128();
             this.code_off = stream.Dex_uleb128();
             if (this.code_off.value != 0) {
-                dexFile.parseData(Long.valueOf(this.code_off.value), code_item.class, stream);
+                dexFile.parseData(this.code_off.value, map_list.TypeCodes.TYPE_CODE_ITEM, stream);
             }
             super.length = stream.getPos() - super.startPos;
         }
@@ -309,7 +309,7 @@ public class class_data_item extends FileComponent implements GenerateTreeNodeDe
                     "msg_encoded_method__code_off",
                     Icons.Offset);
             if (this.code_off.value != 0) {
-                code_item item = (code_item) dexFile.data.get(Long.valueOf(this.code_off.value));
+                code_item item = (code_item) dexFile.data.get(this.code_off.value);
                 DefaultMutableTreeNode itemNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                         item.getStartPos(),
                         item.getLength(),
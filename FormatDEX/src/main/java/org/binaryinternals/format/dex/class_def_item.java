@@ -11,7 +11,6 @@ import javax.swing.tree.DefaultMutableTreeNode;
 import org.binaryinternals.commonlib.core.BytesTool;
 import org.binaryinternals.commonlib.core.FileComponent;
 import org.binaryinternals.commonlib.core.FileFormat;
-import org.binaryinternals.commonlib.core.FileFormatException;
 import org.binaryinternals.commonlib.ui.Icons;
 import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
 
@@ -113,7 +112,7 @@ public class class_def_item extends FileComponent implements GenerateTreeNodeDex
      */
     public final Type_uint static_values_off;
 
-    class_def_item(final PosDataInputStreamDex stream, final DexFile dex) throws IOException, FileFormatException {
+    class_def_item(final PosDataInputStreamDex stream) throws IOException {
         super.startPos = stream.getPos();
         this.class_idx = stream.Dex_uint();
         this.access_flags = stream.Dex_uint();
@@ -122,9 +121,6 @@ public class class_def_item extends FileComponent implements GenerateTreeNodeDex
         this.source_file_idx = stream.Dex_uint();
         this.annotations_off = stream.Dex_uint();
         this.class_data_off = stream.Dex_uint();
-        if (this.class_data_off.value != 0) {
-            dex.parseData(this.class_data_off.value, class_data_item.class, stream);
-        }
 
         this.static_values_off = stream.Dex_uint();
         super.length = stream.getPos() - super.startPos;
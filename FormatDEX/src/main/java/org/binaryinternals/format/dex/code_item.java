@@ -34,13 +34,16 @@ public class code_item extends FileComponent implements GenerateTreeNodeDexFile
     public final Type_uint debug_info_off;
 
     public final Type_uint insns_size;
-    public final Type_ushort[] insns;
+    /**
+     * The 16-bit code units of the instructions, decoded by {@link Opcode}.
+     */
+    public final short[] insns;
 
     public final Type_ushort padding;
     public final try_item[] tries;
     public final encoded_catch_handler_list handlers;
 
-    code_item(PosDataInputStreamDex stream) throws IOException, FileFormatException {
+    code_item(PosDataInputStreamDex stream, DexFile dexFile) throws IOException, FileFormatException {
         super.startPos = stream.getPos();
 
         this.registers_size = stream.Dex_ushort();
@@ -48,15 +51,17 @@ public class code_item extends FileComponent implements GenerateTreeNodeDexFile
         this.outs_size = stream.Dex_ushort();
         this.tries_size = stream.Dex_ushort();
         this.debug_info_off = stream.Dex_uint();
-        // TODO Parse debug info
+        if (this.debug_info_off.value != 0) {
+            dexFile.parseData(this.debug_info_off.value, map_list.TypeCodes.TYPE_DEBUG_INFO_ITEM, stream);
+        }
 
         this.insns_size = stream.Dex_uint();
         if (this.insns_size.value > 0) {
             DexFile.check_uint("code_item.insns_size", this.insns_size, stream.getPos());
-            this.insns = new Type_ushort[(int) this.insns_size.value];
-            for (int i = 0; i < this.insns_size.value; i++) {
-                this.insns[i] = stream.Dex_ushort();
+            if (this.insns_size.value * Type_ushort.LENGTH > stream.available()) {
+                throw new FileFormatException(String.format("code_item.insns_size is beyond the end of file: %d, position 0x%X", this.insns_size.value, stream.getPos()));
             }
+            this.insns = stream.Dex_ushort_array((int) this.insns_size.value);
         } else {
             this.insns = null;
         }
@@ -95,6 +100,12 @@ public class code_item extends FileComponent implements GenerateTreeNodeDexFile
         addNode(parentNode, floatPos, Type_ushort.LENGTH, "tries_size", this.tries_size, "msg_code_item__tries_size", Icons.Size);
         floatPos += Type_ushort.LENGTH;
         addNode(parentNode, floatPos, Type_uint.LENGTH, "debug_info_off", this.debug_info_off, "msg_code_item__debug_info_off", Icons.Offset);
+        floatPos += Type_uint.LENGTH;
+        addNode(parentNode, floatPos, Type_uint.LENGTH, "insns_size", this.insns_size, "msg_code_item__insns_size", Icons.Size);
+        floatPos += Type_uint.LENGTH;
+        if (this.insns != null) {
+            addNode(parentNode, floatPos, this.insns.length * Type_ushort.LENGTH, "insns", String.format("[%,d]", this.insns.length), "msg_code_item__insns", Icons.Data);
+        }
     }
 
 
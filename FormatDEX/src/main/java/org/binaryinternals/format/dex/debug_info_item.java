@@ -6,9 +6,25 @@
  */
 package org.binaryinternals.format.dex;
 
+import java.io.IOException;
+import java.util.Arrays;
+import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.BytesTool;
 import org.binaryinternals.commonlib.core.FileComponent;
+import org.binaryinternals.commonlib.core.FileFormat;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.commonlib.ui.Icons;
+import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
 
 /**
+ * The <code>debug_info_item</code>, a byte-coded state machine emitting the
+ * positions table of a {@link code_item}.
+ *
+ * <p>
+ * Only the byte range of the item is kept when the file is parsed. The state
+ * machine is executed the first time the positions are needed, see
+ * {@link #getPositions()}, and the result is cached.
+ * </p>
  *
  * @author Amos Shi
  *
@@ -17,8 +33,315 @@ import org.binaryinternals.commonlib.core.FileComponent;
  * java:S116 - Field names should comply with a naming convention --- We respect the DEX spec name instead
  * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
  * </pre>
+ * @see <a href="https://source.android.com/docs/core/runtime/dex-format#debug-info-item">debug_info_item</a>
  */
 @SuppressWarnings({"java:S101", "java:S116", "java:S1104"})
-public class debug_info_item extends FileComponent{
-    
+public class debug_info_item extends FileComponent implements GenerateTreeNodeDexFile {
+
+    static final int DBG_END_SEQUENCE = 0x00;
+    static final int DBG_ADVANCE_PC = 0x01;
+    static final int DBG_ADVANCE_LINE = 0x02;
+    static final int DBG_START_LOCAL = 0x03;
+    static final int DBG_START_LOCAL_EXTENDED = 0x04;
+    static final int DBG_END_LOCAL = 0x05;
+    static final int DBG_RESTART_LOCAL = 0x06;
+    static final int DBG_SET_PROLOGUE_END = 0x07;
+    static final int DBG_SET_EPILOGUE_BEGIN = 0x08;
+    static final int DBG_SET_FILE = 0x09;
+    static final int DBG_FIRST_SPECIAL = 0x0a;
+    static final int DBG_LINE_BASE = -4;
+    static final int DBG_LINE_RANGE = 15;
+
+    /**
+     * The initial value for the state machine's line register.
+     */
+    public final int line_start;
+    /**
+     * The number of parameter names that are encoded.
+     */
+    public final int parameters_size;
+
+    private final byte[] buf;
+    /**
+     * Position of the first state machine bytecode, after the parameter
+     * names.
+     */
+    private final int bytecodePos;
+    private volatile Positions positions;
+
+    debug_info_item(PosDataInputStreamDex stream) throws IOException, FileFormatException {
+        super.startPos = stream.getPos();
+        this.buf = stream.getBuf();
+
+        final Reader reader = new Reader(this.buf, super.startPos);
+        try {
+            this.line_start = reader.uleb128();
+            this.parameters_size = reader.uleb128();
+            for (int i = 0; i < this.parameters_size; i++) {
+                reader.uleb128();
+            }
+            this.bytecodePos = reader.pos;
+            execute(reader, this.line_start, null);
+        } catch (IndexOutOfBoundsException ex) {
+            throw new FileFormatException(String.format("debug_info_item at 0x%X is not terminated by DBG_END_SEQUENCE", super.startPos), ex);
+        }
+
+        super.length = reader.pos - super.startPos;
+        BytesTool.skip(stream, super.length);
+    }
+
+    /**
+     * Get the positions table, which is emitted by executing the state
+     * machine on the first call.
+     *
+     * @return The positions table
+     */
+    public Positions getPositions() {
+        Positions result = this.positions;
+        if (result == null) {
+            final Positions.Builder builder = new Positions.Builder();
+            execute(new Reader(this.buf, this.bytecodePos), this.line_start, builder);
+            result = builder.build();
+            this.positions = result;
+        }
+        return result;
+    }
+
+    /**
+     * Execute the state machine bytecodes, until {@link #DBG_END_SEQUENCE}.
+     *
+     * @param reader Reader at the first bytecode; after the call, it is just
+     * after the {@link #DBG_END_SEQUENCE}
+     * @param lineStart Initial value of the line register
+     * @param builder Receiver of the position entries, or <code>null</code>
+     * to only skip the bytecodes
+     */
+    private static void execute(final Reader reader, final int lineStart, final Positions.Builder builder) {
+        int address = 0;
+        int line = lineStart;
+        int opcode;
+        while ((opcode = reader.ubyte()) != DBG_END_SEQUENCE) {
+            switch (opcode) {
+                case DBG_ADVANCE_PC:
+                    address += reader.uleb128();
+                    break;
+                case DBG_ADVANCE_LINE:
+                    line += reader.sleb128();
+                    break;
+                case DBG_START_LOCAL:
+                    reader.uleb128();       // register_num
+                    reader.uleb128();       // name_idx
+                    reader.uleb128();       // type_idx
+                    break;
+                case DBG_START_LOCAL_EXTENDED:
+                    reader.uleb128();       // register_num
+                    reader.uleb128();       // name_idx
+                    reader.uleb128();       // type_idx
+                    reader.uleb128();       // sig_idx
+                    break;
+                case DBG_END_LOCAL:
+                case DBG_RESTART_LOCAL:
+                    reader.uleb128();       // register_num
+                    break;
+                case DBG_SET_PROLOGUE_END:
+                case DBG_SET_EPILOGUE_BEGIN:
+                    break;
+                case DBG_SET_FILE:
+                    reader.uleb128();       // name_idx
+                    break;
+                default:
+                    final int adjusted = opcode - DBG_FIRST_SPECIAL;
+                    line += DBG_LINE_BASE + (adjusted % DBG_LINE_RANGE);
+                    address += adjusted / DBG_LINE_RANGE;
+                    if (builder != null) {
+                        builder.add(address, line);
+                    }
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public void generateTreeNode(DefaultMutableTreeNode parentNode, FileFormat fileFormat) {
+        final Reader reader = new Reader(this.buf, super.startPos);
+        int floatPos = reader.pos;
+
+        reader.uleb128();
+        addNode(parentNode, floatPos, reader.pos - floatPos, "line_start", this.line_start, "msg_debug_info_item__line_start", Icons.Row);
+        floatPos = reader.pos;
+
+        reader.uleb128();
+        addNode(parentNode, floatPos, reader.pos - floatPos, "parameters_size", this.parameters_size, "msg_debug_info_item__parameters_size", Icons.Size);
+        floatPos = reader.pos;
+
+        for (int i = 0; i < this.parameters_size; i++) {
+            final int nameIdx = reader.uleb128() - 1;
+            final String name = (nameIdx < 0) ? "NO_INDEX" : ((DexFile) fileFormat).get_string_ids_string(nameIdx);
+            addNode(parentNode, floatPos, reader.pos - floatPos, String.format("parameter_names[%d]", i), name, "msg_debug_info_item__parameter_names", Icons.Name);
+            floatPos = reader.pos;
+        }
+
+        parentNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                floatPos,
+                super.startPos + super.length - floatPos,
+                String.format("bytecodes [%,d bytes]", super.startPos + super.length - floatPos),
+                Icons.Data,
+                MESSAGES.getString("msg_debug_info_item")
+        )));
+    }
+
+    /**
+     * Reader of the unsigned bytes and the LEB128 values from the file
+     * buffer, without creating the value objects.
+     */
+    private static final class Reader {
+
+        final byte[] buf;
+        int pos;
+
+        Reader(final byte[] buf, final int pos) {
+            this.buf = buf;
+            this.pos = pos;
+        }
+
+        int ubyte() {
+            return this.buf[this.pos++] & 0xFF;
+        }
+
+        int uleb128() {
+            int result = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = this.buf[this.pos++];
+                result |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0 && shift < 35);
+            return result;
+        }
+
+        int sleb128() {
+            int result = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = this.buf[this.pos++];
+                result |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0 && shift < 35);
+            if (shift < 32 && (b & 0x40) != 0) {
+                result |= -1 << shift;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The positions table of a method, as two parallel arrays sorted by
+     * address.
+     */
+    public static final class Positions {
+
+        private static final Positions EMPTY = new Positions(new int[0], new int[0]);
+
+        private final int[] addresses;
+        private final int[] lines;
+
+        private Positions(final int[] addresses, final int[] lines) {
+            this.addresses = addresses;
+            this.lines = lines;
+        }
+
+        /**
+         * Number of the position entries.
+         *
+         * @return Number of the position entries
+         */
+        public int size() {
+            return this.addresses.length;
+        }
+
+        /**
+         * Get the address of an entry.
+         *
+         * @param index Index of the entry
+         * @return Address in 16-bit code units
+         */
+        public int getAddress(final int index) {
+            return this.addresses[index];
+        }
+
+        /**
+         * Get the source line of an entry.
+         *
+         * @param index Index of the entry
+         * @return Source line number
+         */
+        public int getLine(final int index) {
+            return this.lines[index];
+        }
+
+        /**
+         * Find the source line of an instruction, which is the line of the
+         * last entry at or before the address.
+         *
+         * @param address Address of the instruction, in 16-bit code units
+         * @return Source line number, or -1 if the address is before the
+         * first entry
+         */
+        public int lineOf(final int address) {
+            int index = Arrays.binarySearch(this.addresses, address);
+            if (index < 0) {
+                index = -index - 2;
+            } else {
+                // The last one of the entries at the same address
+                while (index + 1 < this.addresses.length && this.addresses[index + 1] == address) {
+                    index++;
+                }
+            }
+            return (index < 0) ? -1 : this.lines[index];
+        }
+
+        private static final class Builder {
+
+            private int[] addresses = new int[16];
+            private int[] lines = new int[16];
+            private int size;
+            private boolean sorted = true;
+
+            void add(final int address, final int line) {
+                if (this.size == this.addresses.length) {
+                    this.addresses = Arrays.copyOf(this.addresses, this.size * 2);
+                    this.lines = Arrays.copyOf(this.lines, this.size * 2);
+                }
+                if (this.size > 0 && address < this.addresses[this.size - 1]) {
+                    this.sorted = false;
+                }
+                this.addresses[this.size] = address;
+                this.lines[this.size] = line;
+                this.size++;
+            }
+
+            Positions build() {
+                if (this.size == 0) {
+                    return EMPTY;
+                }
+                if (!this.sorted) {
+                    // The address register only increases, unless it overflows in a malformed item
+                    final long[] keys = new long[this.size];
+                    for (int i = 0; i < this.size; i++) {
+                        keys[i] = ((long) this.addresses[i] << 32) | i;
+                    }
+                    Arrays.sort(keys);
+                    final int[] sortedLines = new int[this.size];
+                    for (int i = 0; i < this.size; i++) {
+                        this.addresses[i] = (int) (keys[i] >> 32);
+                        sortedLines[i] = this.lines[(int) keys[i]];
+                    }
+                    this.lines = sortedLines;
+                }
+                return new Positions(Arrays.copyOf(this.addresses, this.size), Arrays.copyOf(this.lines, this.size));
+            }
+        }
+    }
 }
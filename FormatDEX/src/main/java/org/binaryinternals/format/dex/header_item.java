@@ -44,7 +44,7 @@ public class header_item extends FileComponent implements GenerateTreeNodeDexFil
      * {@link #checksum}, and this field {@link #signature}); used to uniquely
      * identify files.
      */
-    public final Type_ubyte[] signature = new Type_ubyte[20];
+    public final byte[] signature = new byte[ChecksumVerification.SIGNATURE_LENGTH];
 
     /**
      * size of the entire file (including the {@link header_item}), in bytes.
@@ -95,9 +95,7 @@ public class header_item extends FileComponent implements GenerateTreeNodeDexFil
         super.startPos = stream.getPos();
 
         this.checksum = stream.Dex_uint();
-        for (int i = 0; i < this.signature.length; i++) {
-            this.signature[i] = stream.Dex_ubyte();
-        }
+        stream.readFully(this.signature);
         this.file_size = stream.Dex_uint();
         BytesTool.skip(stream, Type_uint.LENGTH);
         this.endian_tag = new Type_uint(stream.readUnsignedInt()); // Always read from left to right
@@ -133,14 +131,39 @@ public class header_item extends FileComponent implements GenerateTreeNodeDexFil
                 "header_item"));
         parentNode.add(headerNode);
 
+        final ChecksumVerification verification = ((DexFile) fileFormat).verification;
+
         nodeTemp = addNode(headerNode, floatPos, Type_uint.LENGTH, "checksum", this.checksum, "msg_header_item_checksum", Icons.Checksum);
+        nodeTemp.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                floatPos,
+                Type_uint.LENGTH,
+                String.format("adler32: 0x%08X - %s", verification.actualChecksum, verification.isChecksumValid() ? "OK" : "MISMATCH"),
+                Icons.Verification,
+                GenerateTreeNodeDexFile.MESSAGES.getString("msg_header_item_checksum_verification")
+        )));
         floatPos = ((JTreeNodeFileComponent)nodeTemp.getUserObject()).getLastPosPlus1();
 
-        nodeTemp = addNode(headerNode, floatPos, this.signature.length, "signature", Type_ubyte.toString(this.signature), "msg_header_item_signature", Icons.Signature);
+        nodeTemp = addNode(headerNode, floatPos, this.signature.length, "signature", ChecksumVerification.toHexString(this.signature), "msg_header_item_signature", Icons.Signature);
+        nodeTemp.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                floatPos,
+                this.signature.length,
+                "sha1: " + ChecksumVerification.toHexString(verification.actualSignature) + " - " + (verification.isSignatureValid() ? "OK" : "MISMATCH"),
+                Icons.Verification,
+                GenerateTreeNodeDexFile.MESSAGES.getString("msg_header_item_signature_verification")
+        )));
         floatPos = ((JTreeNodeFileComponent)nodeTemp.getUserObject()).getLastPosPlus1();
 
-        nodeTemp = addNode(headerNode, floatPos, Type_uint.LENGTH, "file_size", this.file_size, "msg_header_item_file_size", Icons.Size);
-        floatPos = ((JTreeNodeFileComponent)nodeTemp.getUserObject()).getLastPosPlus1();
+        final DefaultMutableTreeNode fileSizeNode = addNode(headerNode, ChecksumVerification.FILE_SIZE_OFFSET, Type_uint.LENGTH, "file_size", this.file_size, "msg_header_item_file_size", Icons.Size);
+        if (!verification.isFileSizeValid()) {
+            fileSizeNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                    ChecksumVerification.FILE_SIZE_OFFSET,
+                    Type_uint.LENGTH,
+                    "actual file size: " + verification.actualFileSize + " - MISMATCH",
+                    Icons.Verification,
+                    GenerateTreeNodeDexFile.MESSAGES.getString("msg_header_item_file_size_verification")
+            )));
+        }
+        floatPos = ((JTreeNodeFileComponent)fileSizeNode.getUserObject()).getLastPosPlus1();
 
         nodeTemp = addNode(headerNode, floatPos, Type_uint.LENGTH, "header_size", this.header_size, "msg_header_item_header_size", Icons.Size);
         floatPos = ((JTreeNodeFileComponent)nodeTemp.getUserObject()).getLastPosPlus1();
@@ -9,11 +9,15 @@ package org.binaryinternals.format.dex;
 import java.io.IOException;
 import javax.swing.tree.DefaultMutableTreeNode;
 import org.binaryinternals.commonlib.core.FileComponent;
+import org.binaryinternals.commonlib.core.FileFormat;
 import org.binaryinternals.commonlib.core.FileFormatException;
-import org.binaryinternals.commonlib.ui.GenerateTreeNode;
+import org.binaryinternals.commonlib.ui.Icons;
+import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
 import org.binaryinternals.format.dex.annotation_set_item.annotation_item;
 
 /**
+ * The <code>map_list</code> of the DEX file, which lists the entire contents
+ * of the file, in order.
  *
  * @author Amos Shi
  *
@@ -24,7 +28,7 @@ import org.binaryinternals.format.dex.annotation_set_item.annotation_item;
  * </pre>
  */
 @SuppressWarnings({"java:S101", "java:S116", "java:S1104"})
-public class map_list extends FileComponent implements GenerateTreeNode {
+public class map_list extends FileComponent implements GenerateTreeNodeDexFile {
 
     public final Type_uint size;
     public final map_item[] list;
@@ -34,6 +38,9 @@ public class map_list extends FileComponent implements GenerateTreeNode {
 
         this.size = stream.Dex_uint();
         DexFile.check_uint("map_list.size", this.size, stream.getPos());
+        if (this.size.value * map_item.ITEM_SIZE > stream.available()) {
+            throw new FileFormatException(String.format("map_list.size is too big: %d, position 0x%X", this.size.value, super.startPos));
+        }
 
         if (this.size.value > 0) {
             this.list = new map_item[(int) this.size.value];
@@ -48,11 +55,24 @@ public class map_list extends FileComponent implements GenerateTreeNode {
     }
 
     @Override
-    public void generateTreeNode(DefaultMutableTreeNode parentNode) {
-        throw new UnsupportedOperationException("Not supported yet.");
+    public void generateTreeNode(DefaultMutableTreeNode parentNode, FileFormat fileFormat) {
+        addNode(parentNode, this.startPos, Type_uint.LENGTH, "size", this.size, "msg_map_list__size", Icons.Size);
+
+        if (this.list != null) {
+            for (int i = 0; i < this.list.length; i++) {
+                final map_item item = this.list[i];
+                final TypeCodes type = TypeCodes.of(item.type.value);
+                final DefaultMutableTreeNode itemNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                        item.getStartPos(),
+                        item.getLength(),
+                        String.format("map_item[%d] %s", i, (type == null) ? item.type.toString() : type.name())));
+                parentNode.add(itemNode);
+                item.generateTreeNode(itemNode, fileFormat);
+            }
+        }
     }
 
-    public static class map_item extends FileComponent implements GenerateTreeNode {
+    public static class map_item extends FileComponent implements GenerateTreeNodeDexFile {
 
         /**
          * Item Size In Bytes.
@@ -76,42 +96,98 @@ public class map_list extends FileComponent implements GenerateTreeNode {
         }
 
         @Override
-        public void generateTreeNode(DefaultMutableTreeNode parentNode) {
-            throw new UnsupportedOperationException("Not supported yet.");
+        public void generateTreeNode(DefaultMutableTreeNode parentNode, FileFormat fileFormat) {
+            int floatPos = this.getStartPos();
+
+            addNode(parentNode, floatPos, Type_ushort.LENGTH, "type", this.type, "msg_map_item__type", Icons.Kind);
+            floatPos += Type_ushort.LENGTH;
+            addNode(parentNode, floatPos, Type_ushort.LENGTH, "unused", this.unused, "msg_map_item__unused", Icons.Empty);
+            floatPos += Type_ushort.LENGTH;
+            addNode(parentNode, floatPos, Type_uint.LENGTH, "size", this.size, "msg_map_item__size", Icons.Counter);
+            floatPos += Type_uint.LENGTH;
+            addNode(parentNode, floatPos, Type_uint.LENGTH, "offset", this.offset, "msg_map_item__offset", Icons.Offset);
         }
     }
 
+    /**
+     * Create a data item from the stream at the item offset.
+     */
+    @FunctionalInterface
+    interface ItemFactory {
+
+        FileComponent create(PosDataInputStreamDex stream, DexFile dex) throws IOException, FileFormatException;
+    }
+
     public enum TypeCodes {
-        TYPE_HEADER_ITEM(header_item.class, 0x0000),
-        TYPE_STRING_ID_ITEM(string_id_item.class, 0x0001),
-        TYPE_TYPE_ID_ITEM(type_id_item.class, 0x0002),
-        TYPE_PROTO_ID_ITEM(proto_id_item.class, 0x0003),
-        TYPE_FIELD_ID_ITEM(field_id_item.class, 0x0004),
-        TYPE_METHOD_ID_ITEM(method_id_item.class, 0x0005),
-        TYPE_CLASS_DEF_ITEM(class_def_item.class, 0x0006),
-        TYPE_CALL_SITE_ID_ITEM(null, 0x0007),
-        TYPE_METHOD_HANDLE_ITEM(method_handle_item.class, 0x0008),
-        TYPE_MAP_LIST(map_list.class, 0x1000),
-        TYPE_TYPE_LIST(type_list.class, 0x1001),
-        TYPE_ANNOTATION_SET_REF_LIST(annotation_set_ref_list.class, 0x1002),
-        TYPE_ANNOTATION_SET_ITEM(annotation_set_item.class, 0x1003),
-        TYPE_CLASS_DATA_ITEM(class_data_item.class, 0x2000),
-        TYPE_CODE_ITEM(code_item.class, 0x2001),
-        TYPE_STRING_DATA_ITEM(string_data_item.class, 0x2002),
-        TYPE_DEBUG_INFO_ITEM(debug_info_item.class, 0x2003),
-        TYPE_ANNOTATION_ITEM(annotation_item.class, 0x2004),
-        TYPE_ENCODED_ARRAY_ITEM(encoded_array_item.class, 0x2005),
-        TYPE_ANNOTATIONS_DIRECTORY_ITEM(annotations_directory_item.class, 0x2006),
-        TYPE_HIDDENAPI_CLASS_DATA_ITEM(null, 0xF000);
+        TYPE_HEADER_ITEM(header_item.class, 0x0000, 4, header_item.ITEM_SIZE, null),
+        TYPE_STRING_ID_ITEM(string_id_item.class, 0x0001, 4, string_id_item.ITEM_SIZE, null),
+        TYPE_TYPE_ID_ITEM(type_id_item.class, 0x0002, 4, type_id_item.ITEM_SIZE, null),
+        TYPE_PROTO_ID_ITEM(proto_id_item.class, 0x0003, 4, proto_id_item.ITEM_SIZE, null),
+        TYPE_FIELD_ID_ITEM(field_id_item.class, 0x0004, 4, field_id_item.ITEM_SIZE, null),
+        TYPE_METHOD_ID_ITEM(method_id_item.class, 0x0005, 4, method_id_item.ITEM_SIZE, null),
+        TYPE_CLASS_DEF_ITEM(class_def_item.class, 0x0006, 4, class_def_item.ITEM_SIZE, null),
+        TYPE_CALL_SITE_ID_ITEM(null, 0x0007, 4, Type_uint.LENGTH, null),
+        TYPE_METHOD_HANDLE_ITEM(method_handle_item.class, 0x0008, 4, method_handle_item.ITEM_SIZE, null),
+        TYPE_MAP_LIST(map_list.class, 0x1000, 4, 0, (stream, dex) -> new map_list(stream)),
+        TYPE_TYPE_LIST(type_list.class, 0x1001, 4, 0, (stream, dex) -> new type_list(stream)),
+        TYPE_ANNOTATION_SET_REF_LIST(annotation_set_ref_list.class, 0x1002, 4, 0, annotation_set_ref_list::new),
+        TYPE_ANNOTATION_SET_ITEM(annotation_set_item.class, 0x1003, 4, 0, annotation_set_item::new),
+        TYPE_CLASS_DATA_ITEM(class_data_item.class, 0x2000, 1, 0, class_data_item::new),
+        TYPE_CODE_ITEM(code_item.class, 0x2001, 4, 0, code_item::new),
+        TYPE_STRING_DATA_ITEM(string_data_item.class, 0x2002, 1, 0, (stream, dex) -> new string_data_item(stream)),
+        TYPE_DEBUG_INFO_ITEM(debug_info_item.class, 0x2003, 1, 0, (stream, dex) -> new debug_info_item(stream)),
+        TYPE_ANNOTATION_ITEM(annotation_item.class, 0x2004, 1, 0, (stream, dex) -> new annotation_item(stream)),
+        TYPE_ENCODED_ARRAY_ITEM(encoded_array_item.class, 0x2005, 1, 0, (stream, dex) -> new encoded_array_item(stream)),
+        TYPE_ANNOTATIONS_DIRECTORY_ITEM(annotations_directory_item.class, 0x2006, 4, 0, annotations_directory_item::new),
+        TYPE_HIDDENAPI_CLASS_DATA_ITEM(null, 0xF000, 4, 0, null);
 
         public final Type_ushort value;
         final Class<?> item_type;
+        /**
+         * Alignment of the items, in bytes.
+         */
+        final int alignment;
+        /**
+         * Size of each item in bytes, or 0 if the items have variable size.
+         */
+        final int item_size;
+        /**
+         * Factory of the data item, or <code>null</code> if the type is not
+         * parsed as a data item.
+         */
+        final ItemFactory factory;
 
-        private TypeCodes(Class<?> clazz, int value) {
+        private TypeCodes(Class<?> clazz, int value, int alignment, int itemSize, ItemFactory factory) {
             this.value = new Type_ushort(value);
             this.item_type = clazz;
+            this.alignment = alignment;
+            this.item_size = itemSize;
+            this.factory = factory;
+        }
+
+        /**
+         * Whether the items of this type are in the {@code data} section.
+         *
+         * @return true for the data items
+         */
+        boolean isData() {
+            return this.value.value >= TYPE_MAP_LIST.value.value;
         }
 
+        /**
+         * Get the type by its type code.
+         *
+         * @param value Type code
+         * @return The type, or <code>null</code> for unknown type code
+         */
+        public static TypeCodes of(int value) {
+            for (TypeCodes type : values()) {
+                if (type.value.value == value) {
+                    return type;
+                }
+            }
+            return null;
+        }
     }
 
 }
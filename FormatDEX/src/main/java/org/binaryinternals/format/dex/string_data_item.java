@@ -7,8 +7,8 @@
 package org.binaryinternals.format.dex;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.BytesTool;
 import org.binaryinternals.commonlib.core.FileComponent;
 import org.binaryinternals.commonlib.core.FileFormat;
 import org.binaryinternals.commonlib.core.FileFormatException;
@@ -33,38 +33,42 @@ public class string_data_item extends FileComponent implements GenerateTreeNodeD
      * in many systems). That is, this is the decoded length of the string. (The
      * encoded length is implied by the position of the 0 byte.)
      */
-    public Type_uleb128 utf16_size;
+    public final Type_uleb128 utf16_size;
 
     /**
-     * a series of MUTF-8 code units (a.k.a. octets, a.k.a. bytes) followed by a
-     * byte of value 0. See "MUTF-8 (Modified UTF-8) Encoding" above for details
-     * and discussion about the data format.
+     * Position of the MUTF-8 code units (a.k.a. octets, a.k.a. bytes),
+     * followed by a byte of value 0. See "MUTF-8 (Modified UTF-8) Encoding"
+     * above for details and discussion about the data format. The bytes are
+     * not copied from the file buffer.
      */
-    public byte[] data;
+    private final int dataPos;
+    /**
+     * Number of the MUTF-8 bytes, including the byte of value 0.
+     */
+    private final int dataLength;
+    private final byte[] buf;
 
     string_data_item(PosDataInputStreamDex stream) throws IOException, FileFormatException {
         super.startPos = stream.getPos();
         this.utf16_size = stream.Dex_uleb128();
-        if (this.utf16_size.value > 0) {
-            this.data = new byte[this.utf16_size.value];
-            int bytesRead = stream.read(this.data);
-            if (bytesRead != this.data.length) {
-                throw new IOException("Cannot read correct number of bytes for string_data_item. expected bytes = "
-                        + this.data.length + ", atual bytes read = " + bytesRead);
-            }
-        } else {
-            this.data = null;
+        this.buf = stream.getBuf();
+        this.dataPos = stream.getPos();
+        try {
+            this.dataLength = StringTable.findEnd(this.buf, this.dataPos) - this.dataPos + 1;
+        } catch (IndexOutOfBoundsException ex) {
+            throw new FileFormatException(String.format("string_data_item at 0x%X is not terminated by a byte of value 0", super.startPos), ex);
         }
+        BytesTool.skip(stream, this.dataLength);
         super.length = stream.getPos() - super.startPos;
     }
 
     /**
-     * Get the {@link #data} as a String, using platform's default charset.
+     * Get the data as a String, decoded from MUTF-8.
      *
      * @return String for the content
      */
     public String getString() {
-        return (this.data == null) ? "" : new String(this.data, StandardCharsets.UTF_8);
+        return StringTable.decode(this.buf, this.dataPos, this.utf16_size.value);
     }
 
     @Override
@@ -75,8 +79,6 @@ public class string_data_item extends FileComponent implements GenerateTreeNodeD
 
         nodeTemp = addNode(parentNode, floatPos, this.utf16_size.length, "utf16_size", utf16Size, "msg_string_data_item__utf16_size", Icons.Size);
         floatPos = ((JTreeNodeFileComponent) nodeTemp.getUserObject()).getLastPosPlus1();
-        if (utf16Size > 0) {
-            addNode(parentNode, floatPos, this.data.length, "data", this.getString(), "msg_string_data_item__data", Icons.Data);
-        }
+        addNode(parentNode, floatPos, this.dataLength, "data", this.getString(), "msg_string_data_item__data", Icons.Data);
     }
 }
@@ -18,4 +18,5 @@ module org.binaryinternals.formatelf {
     requires static org.binaryinternals.commonlib;
 
     exports org.binaryinternals.format.elf;
+    exports org.binaryinternals.format.elf.analysis;
 }
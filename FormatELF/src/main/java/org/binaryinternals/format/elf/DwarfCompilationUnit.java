@@ -0,0 +1,354 @@
+/*
+ * DwarfCompilationUnit.java    October 20, 2026, 00:45
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.nio.ByteBuffer;
+import org.binaryinternals.commonlib.core.FileFormatException;
+
+/**
+ * Header of a compilation unit in <code>.debug_info</code>, with the
+ * attributes of its root debugging information entry that locate its code
+ * and line number program. The other entries of the unit are not decoded.
+ *
+ * <pre>
+ * java:S116 - Field names should comply with a naming convention --- We respect the DWARF spec name instead
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ *
+ * @author Amos Shi
+ * @see <a href="https://dwarfstd.org/doc/DWARF5.pdf">DWARF Debugging Information Format Version 5</a>, 7.5.1
+ */
+@SuppressWarnings({"java:S116", "java:S1104"})
+public final class DwarfCompilationUnit {
+
+    static final int DW_UT_compile = 0x01;
+    static final int DW_UT_type = 0x02;
+    static final int DW_UT_skeleton = 0x04;
+    static final int DW_UT_split_compile = 0x05;
+    static final int DW_UT_split_type = 0x06;
+
+    static final int DW_AT_name = 0x03;
+    static final int DW_AT_stmt_list = 0x10;
+    static final int DW_AT_low_pc = 0x11;
+    static final int DW_AT_high_pc = 0x12;
+    static final int DW_AT_comp_dir = 0x1b;
+    static final int DW_AT_producer = 0x25;
+    static final int DW_AT_addr_base = 0x73;
+
+    static final int DW_FORM_addr = 0x01;
+    static final int DW_FORM_block2 = 0x03;
+    static final int DW_FORM_block4 = 0x04;
+    static final int DW_FORM_data2 = 0x05;
+    static final int DW_FORM_data4 = 0x06;
+    static final int DW_FORM_data8 = 0x07;
+    static final int DW_FORM_string = 0x08;
+    static final int DW_FORM_block = 0x09;
+    static final int DW_FORM_block1 = 0x0a;
+    static final int DW_FORM_data1 = 0x0b;
+    static final int DW_FORM_flag = 0x0c;
+    static final int DW_FORM_sdata = 0x0d;
+    static final int DW_FORM_strp = 0x0e;
+    static final int DW_FORM_udata = 0x0f;
+    static final int DW_FORM_ref_addr = 0x10;
+    static final int DW_FORM_ref1 = 0x11;
+    static final int DW_FORM_ref2 = 0x12;
+    static final int DW_FORM_ref4 = 0x13;
+    static final int DW_FORM_ref8 = 0x14;
+    static final int DW_FORM_ref_udata = 0x15;
+    static final int DW_FORM_indirect = 0x16;
+    static final int DW_FORM_sec_offset = 0x17;
+    static final int DW_FORM_exprloc = 0x18;
+    static final int DW_FORM_flag_present = 0x19;
+    static final int DW_FORM_strx = 0x1a;
+    static final int DW_FORM_addrx = 0x1b;
+    static final int DW_FORM_ref_sup4 = 0x1c;
+    static final int DW_FORM_strp_sup = 0x1d;
+    static final int DW_FORM_data16 = 0x1e;
+    static final int DW_FORM_line_strp = 0x1f;
+    static final int DW_FORM_ref_sig8 = 0x20;
+    static final int DW_FORM_implicit_const = 0x21;
+    static final int DW_FORM_loclistx = 0x22;
+    static final int DW_FORM_rnglistx = 0x23;
+    static final int DW_FORM_ref_sup8 = 0x24;
+    static final int DW_FORM_strx1 = 0x25;
+    static final int DW_FORM_strx2 = 0x26;
+    static final int DW_FORM_strx3 = 0x27;
+    static final int DW_FORM_strx4 = 0x28;
+    static final int DW_FORM_addrx1 = 0x29;
+    static final int DW_FORM_addrx2 = 0x2a;
+    static final int DW_FORM_addrx3 = 0x2b;
+    static final int DW_FORM_addrx4 = 0x2c;
+
+    /**
+     * Offset of the unit in <code>.debug_info</code>.
+     */
+    public final int offset;
+    /**
+     * Length of the unit, including the <code>unit_length</code> field.
+     */
+    public final long length;
+    public final int version;
+    /**
+     * The <code>unit_type</code>, which is {@link #DW_UT_compile} before
+     * DWARF 5.
+     */
+    public final int unit_type;
+    public final int address_size;
+    public final long debug_abbrev_offset;
+
+    /**
+     * <code>DW_AT_name</code> of the unit, or <code>null</code>.
+     */
+    public final String name;
+    /**
+     * <code>DW_AT_comp_dir</code> of the unit, or <code>null</code>.
+     */
+    public final String comp_dir;
+    /**
+     * <code>DW_AT_producer</code> of the unit, or <code>null</code>.
+     */
+    public final String producer;
+    /**
+     * <code>DW_AT_stmt_list</code>, offset of the line number program in
+     * <code>.debug_line</code>, or -1 if there is none.
+     */
+    public final long stmt_list;
+    /**
+     * <code>DW_AT_low_pc</code>, or 0 if there is none.
+     */
+    public final long low_pc;
+    /**
+     * End address computed from <code>DW_AT_high_pc</code>, or 0 if there
+     * is none, like when the unit has <code>DW_AT_ranges</code> instead, or
+     * when the <code>DW_AT_low_pc</code> could not be resolved.
+     */
+    public final long high_pc;
+
+    DwarfCompilationUnit(final DwarfInfo dwarf, final int offset) throws FileFormatException {
+        this.offset = offset;
+        final DwarfReader reader = new DwarfReader(dwarf.info.get(offset + 12L), offset);
+        final long unitLength = reader.unitLength();
+        this.length = unitLength + (reader.pos - offset);
+        final DwarfReader unit = new DwarfReader(dwarf.info.get(offset + this.length), reader.pos);
+        unit.dwarf64 = reader.dwarf64;
+
+        this.version = unit.u16();
+        if (this.version < 2 || this.version > 5) {
+            throw new FileFormatException(String.format("Unsupported DWARF version %d of compilation unit at 0x%X", this.version, offset));
+        }
+        if (this.version >= 5) {
+            this.unit_type = unit.u8();
+            this.address_size = unit.u8();
+            this.debug_abbrev_offset = unit.offset();
+            if (this.unit_type == DW_UT_skeleton || this.unit_type == DW_UT_split_compile) {
+                unit.u64();             // dwo_id
+            } else if (this.unit_type == DW_UT_type || this.unit_type == DW_UT_split_type) {
+                unit.u64();             // type_signature
+                unit.offset();          // type_offset
+            }
+        } else {
+            this.unit_type = DW_UT_compile;
+            this.debug_abbrev_offset = unit.offset();
+            this.address_size = unit.u8();
+        }
+
+        // The root debugging information entry
+        String nameValue = null;
+        String compDirValue = null;
+        String producerValue = null;
+        long stmtListValue = -1;
+        long lowPcValue = 0;
+        long lowPcIndex = -1;
+        long addrBase = -1;
+        long highPcValue = 0;
+        boolean highPcIsOffset = false;
+
+        final long code = unit.uleb128();
+        final DwarfReader abbrev = (code == 0) ? null : findAbbrev(dwarf.abbrev.getAll(), this.debug_abbrev_offset, code);
+        if (abbrev != null) {
+            abbrev.uleb128();           // tag
+            abbrev.u8();                // children
+            for (;;) {
+                final long attribute = abbrev.uleb128();
+                final int form = (int) abbrev.uleb128();
+                if (attribute == 0 && form == 0) {
+                    break;
+                }
+                final long implicitConst = (form == DW_FORM_implicit_const) ? abbrev.sleb128() : 0;
+                final int valuePos = unit.pos;
+                final int actualForm = (form == DW_FORM_indirect) ? (int) unit.uleb128() : form;
+                final long value = readValue(unit, actualForm, this.address_size, this.version, implicitConst);
+
+                if (attribute == DW_AT_name) {
+                    nameValue = dwarf.getString(unit.buf, valuePos, actualForm, value);
+                } else if (attribute == DW_AT_comp_dir) {
+                    compDirValue = dwarf.getString(unit.buf, valuePos, actualForm, value);
+                } else if (attribute == DW_AT_producer) {
+                    producerValue = dwarf.getString(unit.buf, valuePos, actualForm, value);
+                } else if (attribute == DW_AT_stmt_list) {
+                    stmtListValue = value;
+                } else if (attribute == DW_AT_low_pc) {
+                    if (actualForm == DW_FORM_addr) {
+                        lowPcValue = value;
+                    } else if (isAddrx(actualForm)) {
+                        lowPcIndex = value;
+                    }
+                } else if (attribute == DW_AT_addr_base) {
+                    addrBase = value;
+                } else if (attribute == DW_AT_high_pc) {
+                    highPcValue = value;
+                    highPcIsOffset = (actualForm != DW_FORM_addr);
+                }
+            }
+        }
+
+        this.name = nameValue;
+        this.comp_dir = compDirValue;
+        this.producer = producerValue;
+        this.stmt_list = stmtListValue;
+
+        // The DW_AT_addr_base could follow a DW_FORM_addrx low_pc
+        boolean lowPcDecoded = true;
+        if (lowPcIndex >= 0) {
+            lowPcValue = dwarf.getAddress(addrBase, lowPcIndex, this.address_size);
+            lowPcDecoded = lowPcValue != -1;
+        }
+        if (lowPcDecoded) {
+            this.low_pc = lowPcValue;
+            this.high_pc = (highPcIsOffset && highPcValue != 0) ? lowPcValue + highPcValue : highPcValue;
+        } else {
+            // No range rather than one made of the offset from 0
+            this.low_pc = 0;
+            this.high_pc = 0;
+        }
+    }
+
+    private static boolean isAddrx(final int form) {
+        return form == DW_FORM_addrx || form == DW_FORM_addrx1 || form == DW_FORM_addrx2
+                || form == DW_FORM_addrx3 || form == DW_FORM_addrx4;
+    }
+
+    /**
+     * Find an abbreviation declaration in <code>.debug_abbrev</code>.
+     *
+     * @return Reader positioned at the tag of the declaration, or
+     * <code>null</code> if not found
+     */
+    private static DwarfReader findAbbrev(final ByteBuffer abbrevs, final long tableOffset, final long code) {
+        final DwarfReader reader = new DwarfReader(abbrevs, (int) tableOffset);
+        long current;
+        while ((current = reader.uleb128()) != 0) {
+            if (current == code) {
+                return reader;
+            }
+            reader.uleb128();           // tag
+            reader.u8();                // children
+            for (;;) {
+                final long attribute = reader.uleb128();
+                final long form = reader.uleb128();
+                if (attribute == 0 && form == 0) {
+                    break;
+                }
+                if (form == DW_FORM_implicit_const) {
+                    reader.sleb128();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Read an attribute value.
+     *
+     * @param reader Reader positioned at the value
+     * @param form The attribute form
+     * @param addressSize Size of an address
+     * @param version DWARF version
+     * @param implicitConst Value of a {@link #DW_FORM_implicit_const}
+     * @return The value: an address, a constant, an offset or an index; 0
+     * for a block or an inline string
+     */
+    static long readValue(final DwarfReader reader, final int form, final int addressSize, final int version, final long implicitConst) {
+        switch (form) {
+            case DW_FORM_addr:
+                return reader.unsigned(addressSize);
+            case DW_FORM_data1:
+            case DW_FORM_ref1:
+            case DW_FORM_flag:
+            case DW_FORM_strx1:
+            case DW_FORM_addrx1:
+                return reader.u8();
+            case DW_FORM_data2:
+            case DW_FORM_ref2:
+            case DW_FORM_strx2:
+            case DW_FORM_addrx2:
+                return reader.u16();
+            case DW_FORM_strx3:
+            case DW_FORM_addrx3:
+                return reader.u16() | ((long) reader.u8() << 16);
+            case DW_FORM_data4:
+            case DW_FORM_ref4:
+            case DW_FORM_ref_sup4:
+            case DW_FORM_strx4:
+            case DW_FORM_addrx4:
+                return reader.u32();
+            case DW_FORM_data8:
+            case DW_FORM_ref8:
+            case DW_FORM_ref_sig8:
+            case DW_FORM_ref_sup8:
+                return reader.u64();
+            case DW_FORM_data16:
+                reader.pos += 16;
+                return 0;
+            case DW_FORM_sdata:
+                return reader.sleb128();
+            case DW_FORM_udata:
+            case DW_FORM_ref_udata:
+            case DW_FORM_strx:
+            case DW_FORM_addrx:
+            case DW_FORM_loclistx:
+            case DW_FORM_rnglistx:
+                return reader.uleb128();
+            case DW_FORM_strp:
+            case DW_FORM_line_strp:
+            case DW_FORM_strp_sup:
+            case DW_FORM_sec_offset:
+                return reader.offset();
+            case DW_FORM_ref_addr:
+                return (version <= 2) ? reader.unsigned(addressSize) : reader.offset();
+            case DW_FORM_string:
+                while (reader.u8() != 0) {
+                    // Skip the inline string
+                }
+                return 0;
+            case DW_FORM_block1:
+                reader.pos += reader.u8();
+                return 0;
+            case DW_FORM_block2:
+                reader.pos += reader.u16();
+                return 0;
+            case DW_FORM_block4:
+                reader.pos += (int) reader.u32();
+                return 0;
+            case DW_FORM_block:
+            case DW_FORM_exprloc:
+                reader.pos += (int) reader.uleb128();
+                return 0;
+            case DW_FORM_flag_present:
+                return 1;
+            case DW_FORM_implicit_const:
+                return implicitConst;
+            default:
+                throw new IllegalArgumentException(String.format("Unsupported DWARF form 0x%X at 0x%X", form, reader.pos));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [0x%X, DWARF %d]", this.name, this.offset, this.version);
+    }
+}
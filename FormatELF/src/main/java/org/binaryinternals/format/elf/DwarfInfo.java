@@ -0,0 +1,442 @@
+/*
+ * DwarfInfo.java    October 20, 2026, 00:45
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.binaryinternals.commonlib.core.FileFormatException;
+
+/**
+ * DWARF debugging information of an ELF file, decoded on demand for
+ * symbolicating addresses.
+ *
+ * <p>
+ * Debug information is often much bigger than the code, so nothing is
+ * decoded up front: the compilation units are located by their
+ * <code>unit_length</code> only, a unit header is decoded the first time the
+ * unit is used, and a line number program is executed the first time an
+ * address of its unit is looked up. The line tables are kept in a
+ * least-recently-used cache of {@link #LINE_TABLE_CACHE_SIZE} entries.
+ * </p>
+ *
+ * <p>
+ * The address ranges of the units come from <code>.debug_aranges</code> when
+ * the file has it, otherwise from the <code>DW_AT_low_pc</code> and
+ * <code>DW_AT_high_pc</code> of every unit; units described only by
+ * <code>DW_AT_ranges</code> are not covered in the latter case.
+ * </p>
+ *
+ * @author Amos Shi
+ * @see <a href="https://dwarfstd.org/doc/DWARF5.pdf">DWARF Debugging Information Format Version 5</a>
+ */
+public final class DwarfInfo {
+
+    /**
+     * Maximum number of the cached line tables.
+     */
+    static final int LINE_TABLE_CACHE_SIZE = 64;
+
+    final DwarfSection info;
+    final DwarfSection abbrev;
+    final DwarfSection line;
+    private final DwarfSection str;
+    private final DwarfSection lineStr;
+    private final DwarfSection addr;
+    private final DwarfSection aranges;
+
+    private volatile int[] unitOffsets;
+    private DwarfCompilationUnit[] units;
+
+    /**
+     * Address ranges of the units: start and end addresses with the sign bit
+     * flipped, sorted by start, and the unit index of each range.
+     */
+    private volatile long[] rangeStarts;
+    private long[] rangeEnds;
+    private int[] rangeUnits;
+
+    /**
+     * The biggest end of the ranges up to each index, to stop looking for
+     * overlapping ranges early.
+     */
+    private long[] rangeMaxEnds;
+
+    private final Map<Integer, DwarfLineTable> lineTables = new LinkedHashMap<Integer, DwarfLineTable>(16, 0.75f, true) {
+        private static final long serialVersionUID = 4876543219876500013L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, DwarfLineTable> eldest) {
+            return this.size() > LINE_TABLE_CACHE_SIZE;
+        }
+    };
+
+    private DwarfInfo(final ElfFile elf, final ByteOrder order) throws IOException, FileFormatException {
+        this.info = open(elf, "info", order);
+        this.abbrev = open(elf, "abbrev", order);
+        this.line = open(elf, "line", order);
+        this.str = open(elf, "str", order);
+        this.lineStr = open(elf, "line_str", order);
+        this.addr = open(elf, "addr", order);
+        this.aranges = open(elf, "aranges", order);
+    }
+
+    /**
+     * Open the DWARF debugging information of an ELF file.
+     *
+     * @param elf The ELF file
+     * @param order Byte order of the file
+     * @return The debugging information, or <code>null</code> if the file
+     * has no <code>.debug_info</code>
+     * @throws IOException Failed to map the debug sections
+     * @throws FileFormatException Unsupported debug section compression
+     */
+    static DwarfInfo open(final ElfFile elf, final ByteOrder order) throws IOException, FileFormatException {
+        final DwarfInfo dwarf = new DwarfInfo(elf, order);
+        return (dwarf.info == null || dwarf.abbrev == null) ? null : dwarf;
+    }
+
+    private static DwarfSection open(final ElfFile elf, final String name, final ByteOrder order) throws IOException, FileFormatException {
+        Elf_Shdr section = elf.getSection(".debug_" + name);
+        if (section == null) {
+            section = elf.getSection(".zdebug_" + name);
+        }
+        return (section == null || section.content.size == 0) ? null : DwarfSection.open(section, order, elf.elf64);
+    }
+
+    /**
+     * Number of the units in <code>.debug_info</code>.
+     *
+     * @return Number of the units
+     * @throws FileFormatException Inflating the section failed
+     */
+    public int getCompilationUnitCount() throws FileFormatException {
+        return this.getUnitOffsets().length;
+    }
+
+    private int[] getUnitOffsets() throws FileFormatException {
+        int[] result = this.unitOffsets;
+        if (result == null) {
+            synchronized (this) {
+                result = this.unitOffsets;
+                if (result == null) {
+                    result = this.scanUnits();
+                    this.units = new DwarfCompilationUnit[result.length];
+                    this.unitOffsets = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Locate the units by their <code>unit_length</code>, without decoding
+     * them.
+     */
+    private int[] scanUnits() throws FileFormatException {
+        int[] offsets = new int[16];
+        int count = 0;
+        long pos = 0;
+        final long size = this.info.size();
+        while (pos + 4 <= size) {
+            final DwarfReader reader = new DwarfReader(this.info.get(pos + 12), (int) pos);
+            final long length = reader.unitLength();
+            final long next = reader.pos + length;
+            if (length == 0 || next > size) {
+                break;
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = (int) pos;
+            pos = next;
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * Get a unit, whose header is decoded on the first call.
+     *
+     * @param index Index of the unit
+     * @return The unit
+     * @throws FileFormatException Invalid unit
+     */
+    public DwarfCompilationUnit getCompilationUnit(final int index) throws FileFormatException {
+        final int[] offsets = this.getUnitOffsets();
+        synchronized (this) {
+            DwarfCompilationUnit unit = this.units[index];
+            if (unit == null) {
+                try {
+                    unit = new DwarfCompilationUnit(this, offsets[index]);
+                } catch (IndexOutOfBoundsException | IllegalArgumentException ex) {
+                    throw new FileFormatException(String.format("Invalid compilation unit at 0x%X", offsets[index]), ex);
+                }
+                this.units[index] = unit;
+            }
+            return unit;
+        }
+    }
+
+    /**
+     * Find the unit containing an address.
+     *
+     * @param address The address
+     * @return The unit, or <code>null</code> if not found
+     * @throws FileFormatException Invalid debugging information
+     */
+    public DwarfCompilationUnit findCompilationUnit(final long address) throws FileFormatException {
+        if (this.rangeStarts == null) {
+            this.buildRanges();
+        }
+
+        // Ranges could nest or overlap, check the ones starting before the address
+        final long key = address ^ Long.MIN_VALUE;
+        int i = Arrays.binarySearch(this.rangeStarts, key);
+        if (i < 0) {
+            i = -i - 2;
+        } else {
+            while (i + 1 < this.rangeStarts.length && this.rangeStarts[i + 1] == key) {
+                i++;
+            }
+        }
+        for (; i >= 0 && key < this.rangeMaxEnds[i]; i--) {
+            if (key < this.rangeEnds[i]) {
+                return this.getCompilationUnit(this.rangeUnits[i]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the line table of a unit, from the cache or by executing its line
+     * number program.
+     *
+     * @param unit The unit
+     * @return The line table, or <code>null</code> if the unit has no line
+     * number program
+     * @throws FileFormatException Invalid line number program
+     */
+    public DwarfLineTable getLineTable(final DwarfCompilationUnit unit) throws FileFormatException {
+        if (unit.stmt_list < 0 || this.line == null) {
+            return null;
+        }
+        synchronized (this.lineTables) {
+            DwarfLineTable table = this.lineTables.get(unit.offset);
+            if (table == null) {
+                try {
+                    table = new DwarfLineTable(this, unit);
+                } catch (IndexOutOfBoundsException | IllegalArgumentException ex) {
+                    throw new FileFormatException(String.format("Invalid line number program at 0x%X", unit.stmt_list), ex);
+                }
+                this.lineTables.put(unit.offset, table);
+            }
+            return table;
+        }
+    }
+
+    /**
+     * Find the source location of an instruction address.
+     *
+     * @param address The address
+     * @return The location, or <code>null</code> if not found
+     * @throws FileFormatException Invalid debugging information
+     */
+    public DwarfLineTable.Location findLocation(final long address) throws FileFormatException {
+        final DwarfCompilationUnit unit = this.findCompilationUnit(address);
+        final DwarfLineTable table = (unit == null) ? null : this.getLineTable(unit);
+        return (table == null) ? null : table.find(address);
+    }
+
+    private synchronized void buildRanges() throws FileFormatException {
+        if (this.rangeStarts != null) {
+            return;
+        }
+
+        final int[] offsets = this.getUnitOffsets();
+        final RangeBuilder builder = new RangeBuilder();
+        if (this.aranges != null) {
+            this.readAranges(offsets, builder);
+        } else {
+            for (int i = 0; i < offsets.length; i++) {
+                final DwarfCompilationUnit unit = this.getCompilationUnit(i);
+                if (Long.compareUnsigned(unit.low_pc, unit.high_pc) < 0) {
+                    builder.add(unit.low_pc, unit.high_pc, i);
+                }
+            }
+        }
+
+        final int[] order = sortedOrder(Arrays.copyOf(builder.starts, builder.size));
+        final long[] starts = new long[builder.size];
+        final long[] ends = new long[builder.size];
+        final int[] unitIndexes = new int[builder.size];
+        final long[] maxEnds = new long[builder.size];
+        for (int i = 0; i < order.length; i++) {
+            starts[i] = builder.starts[order[i]];
+            ends[i] = builder.ends[order[i]];
+            unitIndexes[i] = builder.units[order[i]];
+            maxEnds[i] = (i == 0) ? ends[i] : Math.max(maxEnds[i - 1], ends[i]);
+        }
+        this.rangeEnds = ends;
+        this.rangeMaxEnds = maxEnds;
+        this.rangeUnits = unitIndexes;
+        this.rangeStarts = starts;
+    }
+
+    /**
+     * Read the address range sets of <code>.debug_aranges</code>.
+     */
+    private void readAranges(final int[] offsets, final RangeBuilder builder) throws FileFormatException {
+        final ByteBuffer buf = this.aranges.getAll();
+        int pos = 0;
+        try {
+            while (pos + 4 <= buf.limit()) {
+                final DwarfReader reader = new DwarfReader(buf, pos);
+                final long length = reader.unitLength();
+                final int next = (int) (reader.pos + length);
+                reader.u16();           // version
+                final long infoOffset = reader.offset();
+                final int addressSize = reader.u8();
+                reader.u8();            // segment_selector_size
+
+                // The tuples are aligned to twice the address size
+                final int tupleSize = 2 * addressSize;
+                reader.pos = pos + ((reader.pos - pos + tupleSize - 1) / tupleSize) * tupleSize;
+                final int unitIndex = Arrays.binarySearch(offsets, (int) infoOffset);
+                while (reader.pos + tupleSize <= next) {
+                    final long start = reader.unsigned(addressSize);
+                    final long size = reader.unsigned(addressSize);
+                    if (start == 0 && size == 0) {
+                        break;
+                    }
+                    if (unitIndex >= 0 && size != 0) {
+                        builder.add(start, start + size, unitIndex);
+                    }
+                }
+                pos = next;
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException ex) {
+            throw new FileFormatException(String.format("Invalid .debug_aranges at 0x%X", pos), ex);
+        }
+    }
+
+    /**
+     * Get a string attribute value.
+     *
+     * @param buf Content of the section holding the value
+     * @param valuePos Position of the value
+     * @param form Form of the value
+     * @param value The value read by {@link DwarfCompilationUnit#readValue}
+     * @return The string, or <code>null</code> if the form is not supported
+     * @throws FileFormatException Inflating a string section failed
+     */
+    String getString(final ByteBuffer buf, final int valuePos, final int form, final long value) throws FileFormatException {
+        switch (form) {
+            case DwarfCompilationUnit.DW_FORM_string:
+                return DwarfReader.cstring(buf, valuePos);
+            case DwarfCompilationUnit.DW_FORM_strp:
+                return getString(this.str, value);
+            case DwarfCompilationUnit.DW_FORM_line_strp:
+                return getString(this.lineStr, value);
+            default:
+                // DW_FORM_strx needs the DW_AT_str_offsets_base of the unit
+                return null;
+        }
+    }
+
+    /**
+     * Get an address of <code>.debug_addr</code> by the index of a
+     * <code>DW_FORM_addrx</code> value.
+     *
+     * @param base The <code>DW_AT_addr_base</code> of the unit, offset of
+     * its first address
+     * @param index Index of the address
+     * @param addressSize Size of an address
+     * @return The address, or -1 if the address is out of the section
+     * @throws FileFormatException Inflating the section failed
+     */
+    long getAddress(final long base, final long index, final int addressSize) throws FileFormatException {
+        if (this.addr == null || base < 0 || index < 0 || addressSize <= 0) {
+            return -1;
+        }
+        final long pos = base + index * addressSize;
+        if (pos < 0 || pos + addressSize > this.addr.size()) {
+            return -1;
+        }
+        return new DwarfReader(this.addr.get(pos + addressSize), (int) pos).unsigned(addressSize);
+    }
+
+    private static String getString(final DwarfSection section, final long offset) throws FileFormatException {
+        if (section == null || offset < 0 || offset >= section.size()) {
+            return null;
+        }
+
+        // Inflate a compressed section only until the end of the string
+        for (long end = offset + 256;; end = offset + (end - offset) * 2) {
+            final ByteBuffer buf = section.get(end);
+            for (int i = (int) offset; i < buf.limit(); i++) {
+                if (buf.get(i) == 0) {
+                    return DwarfReader.cstring(buf, (int) offset);
+                }
+            }
+            if (buf.limit() >= section.size()) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Sort order of unsigned keys, which have the sign bit flipped.
+     *
+     * @param keys The keys
+     * @return Indexes of the keys in ascending key order; equal keys keep
+     * their original order
+     */
+    static int[] sortedOrder(final long[] keys) {
+        final long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+
+        // Sort the indexes by the rank of their keys, packed in a long
+        final long[] ranked = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int rank = Arrays.binarySearch(sorted, keys[i]);
+            while (rank > 0 && sorted[rank - 1] == keys[i]) {
+                rank--;
+            }
+            ranked[i] = ((long) rank << 32) | i;
+        }
+        Arrays.sort(ranked);
+
+        final int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (int) ranked[i];
+        }
+        return order;
+    }
+
+    private static final class RangeBuilder {
+
+        long[] starts = new long[16];
+        long[] ends = new long[16];
+        int[] units = new int[16];
+        int size;
+
+        void add(final long start, final long end, final int unit) {
+            if (this.size == this.starts.length) {
+                this.starts = Arrays.copyOf(this.starts, this.size * 2);
+                this.ends = Arrays.copyOf(this.ends, this.size * 2);
+                this.units = Arrays.copyOf(this.units, this.size * 2);
+            }
+            this.starts[this.size] = start ^ Long.MIN_VALUE;
+            this.ends[this.size] = end ^ Long.MIN_VALUE;
+            this.units[this.size] = unit;
+            this.size++;
+        }
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * DwarfLineTable.java    October 20, 2026, 00:45
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.binaryinternals.commonlib.core.FileFormatException;
+
+/**
+ * The line number table of a compilation unit, emitted by executing its line
+ * number program in <code>.debug_line</code>.
+ *
+ * <p>
+ * The rows are kept in parallel primitive arrays, sorted by address; the
+ * sequences of the program are ordered by their start address, and the end
+ * of each sequence is a row without a file.
+ * </p>
+ *
+ * <pre>
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ *
+ * @author Amos Shi
+ * @see <a href="https://dwarfstd.org/doc/DWARF5.pdf">DWARF Debugging Information Format Version 5</a>, 6.2
+ */
+@SuppressWarnings("java:S1104")
+public final class DwarfLineTable {
+
+    static final int DW_LNS_copy = 0x01;
+    static final int DW_LNS_advance_pc = 0x02;
+    static final int DW_LNS_advance_line = 0x03;
+    static final int DW_LNS_set_file = 0x04;
+    static final int DW_LNS_set_column = 0x05;
+    static final int DW_LNS_negate_stmt = 0x06;
+    static final int DW_LNS_set_basic_block = 0x07;
+    static final int DW_LNS_const_add_pc = 0x08;
+    static final int DW_LNS_fixed_advance_pc = 0x09;
+    static final int DW_LNS_set_prologue_end = 0x0a;
+    static final int DW_LNS_set_epilogue_begin = 0x0b;
+    static final int DW_LNS_set_isa = 0x0c;
+
+    static final int DW_LNE_end_sequence = 0x01;
+    static final int DW_LNE_set_address = 0x02;
+    static final int DW_LNE_define_file = 0x03;
+
+    static final int DW_LNCT_path = 0x1;
+    static final int DW_LNCT_directory_index = 0x2;
+
+    /**
+     * Value in {@link #files} of an end of sequence row.
+     */
+    private static final int END_SEQUENCE = -1;
+
+    /**
+     * Offset of the line number program in <code>.debug_line</code>.
+     */
+    public final long offset;
+    public final int version;
+
+    /**
+     * The file names of the program, with the directories; the index is the
+     * file register value, which starts from 1 before DWARF 5.
+     */
+    private final String[] fileNames;
+
+    /**
+     * Row addresses with the sign bit flipped, so they sort as unsigned.
+     */
+    private final long[] keys;
+    private final int[] lines;
+    private final int[] columns;
+    private final int[] files;
+
+    DwarfLineTable(final DwarfInfo dwarf, final DwarfCompilationUnit unit) throws FileFormatException {
+        this.offset = unit.stmt_list;
+        final DwarfReader head = new DwarfReader(dwarf.line.get(this.offset + 12), (int) this.offset);
+        final long unitLength = head.unitLength();
+        final long end = head.pos + unitLength;
+        final DwarfReader reader = new DwarfReader(dwarf.line.get(end), head.pos);
+        reader.dwarf64 = head.dwarf64;
+
+        this.version = reader.u16();
+        if (this.version < 2 || this.version > 5) {
+            throw new FileFormatException(String.format("Unsupported line number program version %d at 0x%X", this.version, this.offset));
+        }
+        int addressSize = unit.address_size;
+        if (this.version >= 5) {
+            addressSize = reader.u8();
+            reader.u8();                // segment_selector_size
+        }
+        final long headerLength = reader.offset();
+        final int programPos = (int) (reader.pos + headerLength);
+        final int minimumInstructionLength = reader.u8();
+        if (this.version >= 4) {
+            reader.u8();                // maximum_operations_per_instruction
+        }
+        reader.u8();                    // default_is_stmt
+        final int lineBase = (byte) reader.u8();
+        final int lineRange = reader.u8();
+        final int opcodeBase = reader.u8();
+        final int[] standardOpcodeLengths = new int[opcodeBase];
+        for (int i = 1; i < opcodeBase; i++) {
+            standardOpcodeLengths[i] = reader.u8();
+        }
+        if (lineRange == 0) {
+            throw new FileFormatException(String.format("Invalid line_range 0 of line number program at 0x%X", this.offset));
+        }
+
+        this.fileNames = (this.version >= 5)
+                ? readEntries5(dwarf, reader, unit)
+                : readEntries(reader, unit);
+
+        // Execute the program
+        final Builder builder = new Builder();
+        reader.pos = programPos;
+        long address = 0;
+        int file = 1;
+        int line = 1;
+        int column = 0;
+        while (reader.pos < end) {
+            final int opcode = reader.u8();
+            if (opcode >= opcodeBase) {
+                final int adjusted = opcode - opcodeBase;
+                address += (long) (adjusted / lineRange) * minimumInstructionLength;
+                line += lineBase + (adjusted % lineRange);
+                builder.add(address, line, column, file);
+            } else if (opcode == 0) {
+                final long length = reader.uleb128();
+                final int next = (int) (reader.pos + length);
+                final int extended = (length == 0) ? 0 : reader.u8();
+                if (extended == DW_LNE_end_sequence) {
+                    builder.add(address, line, column, END_SEQUENCE);
+                    builder.endSequence();
+                    address = 0;
+                    file = 1;
+                    line = 1;
+                    column = 0;
+                } else if (extended == DW_LNE_set_address) {
+                    address = reader.unsigned((int) length - 1);
+                }
+                reader.pos = next;
+            } else {
+                switch (opcode) {
+                    case DW_LNS_copy:
+                        builder.add(address, line, column, file);
+                        break;
+                    case DW_LNS_advance_pc:
+                        address += reader.uleb128() * minimumInstructionLength;
+                        break;
+                    case DW_LNS_advance_line:
+                        line += (int) reader.sleb128();
+                        break;
+                    case DW_LNS_set_file:
+                        file = (int) reader.uleb128();
+                        break;
+                    case DW_LNS_set_column:
+                        column = (int) reader.uleb128();
+                        break;
+                    case DW_LNS_const_add_pc:
+                        address += (long) ((255 - opcodeBase) / lineRange) * minimumInstructionLength;
+                        break;
+                    case DW_LNS_fixed_advance_pc:
+                        address += reader.u16();
+                        break;
+                    case DW_LNS_negate_stmt:
+                    case DW_LNS_set_basic_block:
+                    case DW_LNS_set_prologue_end:
+                    case DW_LNS_set_epilogue_begin:
+                        break;
+                    default:
+                        // DW_LNS_set_isa, and opcodes unknown to us
+                        for (int i = 0; i < standardOpcodeLengths[opcode]; i++) {
+                            reader.uleb128();
+                        }
+                        break;
+                }
+            }
+        }
+        builder.endSequence();
+        builder.sort();
+
+        this.keys = builder.keys;
+        this.lines = builder.lines;
+        this.columns = builder.columns;
+        this.files = builder.files;
+    }
+
+    /**
+     * Read the directories and file names of a version 2 to 4 header.
+     */
+    private static String[] readEntries(final DwarfReader reader, final DwarfCompilationUnit unit) {
+        final List<String> directories = new ArrayList<>();
+        directories.add(unit.comp_dir);
+        while (reader.buf.get(reader.pos) != 0) {
+            directories.add(reader.cstring());
+        }
+        reader.pos++;
+
+        final List<String> names = new ArrayList<>();
+        names.add(unit.name);
+        while (reader.buf.get(reader.pos) != 0) {
+            final String fileName = reader.cstring();
+            final long directory = reader.uleb128();
+            reader.uleb128();           // modification time
+            reader.uleb128();           // file length
+            names.add(join(directory < directories.size() ? directories.get((int) directory) : null, fileName));
+        }
+        reader.pos++;
+        return names.toArray(new String[0]);
+    }
+
+    /**
+     * Read the directories and file names of a version 5 header, which are
+     * described by entry formats.
+     */
+    private static String[] readEntries5(final DwarfInfo dwarf, final DwarfReader reader, final DwarfCompilationUnit unit) throws FileFormatException {
+        final String[][] directories = readEntryTable(dwarf, reader, unit);
+        final String[][] names = readEntryTable(dwarf, reader, unit);
+        final String[] result = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            String directory = null;
+            if (names[i][1] != null) {
+                final int index = Integer.parseInt(names[i][1]);
+                directory = (index < directories.length) ? directories[index][0] : null;
+            }
+            result[i] = join(directory, names[i][0]);
+        }
+        return result;
+    }
+
+    /**
+     * Read a version 5 directory or file name table.
+     *
+     * @return The path and the directory index of each entry
+     */
+    private static String[][] readEntryTable(final DwarfInfo dwarf, final DwarfReader reader, final DwarfCompilationUnit unit) throws FileFormatException {
+        final int formatCount = reader.u8();
+        final long[] contentTypes = new long[formatCount];
+        final int[] forms = new int[formatCount];
+        for (int i = 0; i < formatCount; i++) {
+            contentTypes[i] = reader.uleb128();
+            forms[i] = (int) reader.uleb128();
+        }
+
+        final long count = reader.uleb128();
+        if (count > reader.buf.limit() - reader.pos) {
+            throw new FileFormatException(String.format("Invalid entry count %d of line number program at 0x%X", count, reader.pos));
+        }
+        final String[][] entries = new String[(int) count][2];
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < formatCount; j++) {
+                final int valuePos = reader.pos;
+                final long value = DwarfCompilationUnit.readValue(reader, forms[j], unit.address_size, 5, 0);
+                if (contentTypes[j] == DW_LNCT_path) {
+                    entries[i][0] = dwarf.getString(reader.buf, valuePos, forms[j], value);
+                } else if (contentTypes[j] == DW_LNCT_directory_index) {
+                    entries[i][1] = Long.toString(value);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static String join(final String directory, final String fileName) {
+        if (fileName == null || directory == null || directory.isEmpty() || fileName.startsWith("/")) {
+            return fileName;
+        }
+        return directory.endsWith("/") ? directory + fileName : directory + '/' + fileName;
+    }
+
+    /**
+     * Number of the rows, including the end of sequence rows.
+     *
+     * @return Number of the rows
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Find the source location of an address.
+     *
+     * @param address The instruction address
+     * @return The location, or <code>null</code> if the address is not in
+     * any sequence of the program
+     */
+    public Location find(final long address) {
+        int i = Arrays.binarySearch(this.keys, address ^ Long.MIN_VALUE);
+        if (i < 0) {
+            i = -i - 2;
+        } else {
+            while (i + 1 < this.keys.length && this.keys[i + 1] == this.keys[i]) {
+                i++;
+            }
+        }
+        if (i < 0 || this.files[i] == END_SEQUENCE) {
+            return null;
+        }
+        final int file = this.files[i];
+        return new Location(
+                this.keys[i] ^ Long.MIN_VALUE,
+                (file >= 0 && file < this.fileNames.length) ? this.fileNames[file] : null,
+                this.lines[i],
+                this.columns[i]);
+    }
+
+    /**
+     * A source location of an instruction address.
+     */
+    public static final class Location {
+
+        /**
+         * Address of the line table row, at or before the looked up address.
+         */
+        public final long address;
+        /**
+         * Source file path, or <code>null</code> if unknown.
+         */
+        public final String file;
+        public final int line;
+        /**
+         * Column number, 0 if unknown.
+         */
+        public final int column;
+
+        Location(final long address, final String file, final int line, final int column) {
+            this.address = address;
+            this.file = file;
+            this.line = line;
+            this.column = column;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s:%d", this.file, this.line);
+        }
+    }
+
+    /**
+     * Collector of the rows, which sorts the sequences by start address.
+     */
+    private static final class Builder {
+
+        long[] keys = new long[64];
+        int[] lines = new int[64];
+        int[] columns = new int[64];
+        int[] files = new int[64];
+        int size;
+
+        /**
+         * Start row of each sequence, and the row after the last sequence.
+         */
+        int[] sequences = new int[]{0, 0, 0, 0, 0, 0, 0, 0};
+        int sequenceCount;
+
+        void add(final long address, final int line, final int column, final int file) {
+            if (this.size == this.keys.length) {
+                this.keys = Arrays.copyOf(this.keys, this.size * 2);
+                this.lines = Arrays.copyOf(this.lines, this.size * 2);
+                this.columns = Arrays.copyOf(this.columns, this.size * 2);
+                this.files = Arrays.copyOf(this.files, this.size * 2);
+            }
+            this.keys[this.size] = address ^ Long.MIN_VALUE;
+            this.lines[this.size] = line;
+            this.columns[this.size] = column;
+            this.files[this.size] = file;
+            this.size++;
+        }
+
+        void endSequence() {
+            if (this.size == this.sequences[this.sequenceCount]) {
+                return;
+            }
+            if (this.sequenceCount + 2 > this.sequences.length) {
+                this.sequences = Arrays.copyOf(this.sequences, this.sequences.length * 2);
+            }
+            this.sequenceCount++;
+            this.sequences[this.sequenceCount] = this.size;
+        }
+
+        /**
+         * Order the sequences by their start address, and trim the arrays.
+         */
+        void sort() {
+            final long[] starts = new long[this.sequenceCount];
+            for (int i = 0; i < this.sequenceCount; i++) {
+                starts[i] = this.keys[this.sequences[i]];
+            }
+            final int[] order = DwarfInfo.sortedOrder(starts);
+
+            final long[] sortedKeys = new long[this.size];
+            final int[] sortedLines = new int[this.size];
+            final int[] sortedColumns = new int[this.size];
+            final int[] sortedFiles = new int[this.size];
+            int pos = 0;
+            for (int sequence : order) {
+                final int start = this.sequences[sequence];
+                final int length = this.sequences[sequence + 1] - start;
+                System.arraycopy(this.keys, start, sortedKeys, pos, length);
+                System.arraycopy(this.lines, start, sortedLines, pos, length);
+                System.arraycopy(this.columns, start, sortedColumns, pos, length);
+                System.arraycopy(this.files, start, sortedFiles, pos, length);
+                pos += length;
+            }
+            this.keys = sortedKeys;
+            this.lines = sortedLines;
+            this.columns = sortedColumns;
+            this.files = sortedFiles;
+        }
+    }
+}
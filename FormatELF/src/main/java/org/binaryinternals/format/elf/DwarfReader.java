@@ -0,0 +1,176 @@
+/*
+ * DwarfReader.java    October 20, 2026, 00:45
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reader of the DWARF data encodings from a debug section content, without
+ * creating the value objects.
+ *
+ * @author Amos Shi
+ * @see <a href="https://dwarfstd.org/doc/DWARF5.pdf">DWARF Debugging Information Format Version 5</a>
+ */
+final class DwarfReader {
+
+    /**
+     * The <code>unit_length</code> value of the 64-bit DWARF format.
+     */
+    static final long DWARF64_ESCAPE = 0xffffffffL;
+
+    final ByteBuffer buf;
+    int pos;
+
+    /**
+     * Whether the unit is in the 64-bit DWARF format, where the section
+     * offsets are 8 bytes.
+     */
+    boolean dwarf64;
+
+    DwarfReader(final ByteBuffer buf, final int pos) {
+        this.buf = buf;
+        this.pos = pos;
+    }
+
+    int u8() {
+        return this.buf.get(this.pos++) & 0xFF;
+    }
+
+    int u16() {
+        final int v = this.buf.getShort(this.pos) & 0xFFFF;
+        this.pos += 2;
+        return v;
+    }
+
+    long u32() {
+        final long v = this.buf.getInt(this.pos) & 0xFFFFFFFFL;
+        this.pos += 4;
+        return v;
+    }
+
+    long u64() {
+        final long v = this.buf.getLong(this.pos);
+        this.pos += 8;
+        return v;
+    }
+
+    /**
+     * Read an unsigned value of 1, 2, 4 or 8 bytes.
+     *
+     * @param size Number of bytes
+     * @return The value
+     */
+    long unsigned(final int size) {
+        switch (size) {
+            case 1:
+                return this.u8();
+            case 2:
+                return this.u16();
+            case 4:
+                return this.u32();
+            case 8:
+                return this.u64();
+            default:
+                throw new IllegalArgumentException(String.format("Unsupported size %d at 0x%X", size, this.pos));
+        }
+    }
+
+    long uleb128() {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = this.buf.get(this.pos++);
+            if (shift < 64) {
+                result |= (long) (b & 0x7F) << shift;
+            }
+            shift += 7;
+        } while (b < 0);
+        return result;
+    }
+
+    long sleb128() {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = this.buf.get(this.pos++);
+            if (shift < 64) {
+                result |= (long) (b & 0x7F) << shift;
+            }
+            shift += 7;
+        } while (b < 0);
+        if (shift < 64 && (b & 0x40) != 0) {
+            result |= -1L << shift;
+        }
+        return result;
+    }
+
+    /**
+     * Read a <code>unit_length</code>, which also decides the 32-bit or
+     * 64-bit DWARF format of the unit.
+     *
+     * @return The length of the unit after the <code>unit_length</code>
+     */
+    long unitLength() {
+        final long length = this.u32();
+        this.dwarf64 = (length == DWARF64_ESCAPE);
+        return this.dwarf64 ? this.u64() : length;
+    }
+
+    /**
+     * Read a section offset, 4 or 8 bytes depending on the DWARF format.
+     *
+     * @return The offset
+     */
+    long offset() {
+        return this.dwarf64 ? this.u64() : this.u32();
+    }
+
+    /**
+     * Size of a section offset in the current DWARF format.
+     *
+     * @return 4 or 8
+     */
+    int offsetSize() {
+        return this.dwarf64 ? 8 : 4;
+    }
+
+    /**
+     * Read a null-terminated UTF-8 string.
+     *
+     * @return The string
+     */
+    String cstring() {
+        final String s = cstring(this.buf, this.pos);
+        while (this.buf.get(this.pos) != 0) {
+            this.pos++;
+        }
+        this.pos++;
+        return s;
+    }
+
+    /**
+     * Get a null-terminated UTF-8 string.
+     *
+     * @param buf The section content
+     * @param start Position of the string
+     * @return The string
+     */
+    static String cstring(final ByteBuffer buf, final int start) {
+        int end = start;
+        while (buf.get(end) != 0) {
+            end++;
+        }
+        final byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buf.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
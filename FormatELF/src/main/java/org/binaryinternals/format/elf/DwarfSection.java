@@ -0,0 +1,192 @@
+/*
+ * DwarfSection.java    October 20, 2026, 00:45
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.binaryinternals.commonlib.core.FileFormatException;
+
+/**
+ * Content of a DWARF debug section, like <code>.debug_info</code>.
+ *
+ * <p>
+ * A compressed section, either with the <code>SHF_COMPRESSED</code> flag or
+ * a GNU style <code>.zdebug_*</code> section, is inflated from the mapped
+ * content in a streaming fashion, only as far as the data is used: decoding
+ * the first compilation unit does not inflate the whole section.
+ * </p>
+ *
+ * @author Amos Shi
+ */
+final class DwarfSection {
+
+    /**
+     * Flag of <code>sh_flags</code>, section with compressed data.
+     */
+    static final long SHF_COMPRESSED = 0x800;
+
+    /**
+     * Size of <code>Elf64_Chdr</code>, the header of a
+     * <code>SHF_COMPRESSED</code> section.
+     */
+    static final int ELF64_CHDR_SIZE = 24;
+
+    /**
+     * Size of <code>Elf32_Chdr</code>.
+     */
+    static final int ELF32_CHDR_SIZE = 12;
+
+    /**
+     * <code>ch_type</code> of a zlib compressed section.
+     */
+    static final int ELFCOMPRESS_ZLIB = 1;
+
+    private static final int INFLATE_CHUNK = 64 << 10;
+
+    private final String name;
+    private final ByteOrder order;
+
+    /**
+     * Content of an uncompressed section, or <code>null</code>.
+     */
+    private final ByteBuffer plain;
+
+    private final int uncompressedSize;
+    private final Inflater inflater;
+    private byte[] inflated;
+    private int inflatedSize;
+
+    private DwarfSection(final String name, final ByteBuffer plain, final ByteBuffer compressed, final long size, final ByteOrder order)
+            throws FileFormatException {
+        this.name = name;
+        this.order = order;
+        this.plain = plain;
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            throw new FileFormatException(String.format("Invalid uncompressed size of section %s. value=%d", name, size));
+        }
+        this.uncompressedSize = (int) size;
+        if (compressed == null) {
+            this.inflater = null;
+        } else {
+            this.inflater = new Inflater();
+            this.inflater.setInput(compressed);
+            this.inflated = new byte[(int) Math.min(size, INFLATE_CHUNK)];
+        }
+    }
+
+    /**
+     * Open a debug section.
+     *
+     * @param section The section, named <code>.debug_*</code> or
+     * <code>.zdebug_*</code>
+     * @param order Byte order of the file
+     * @param elf64 Whether the file is 64-bit ELF, for the compression header
+     * @return The section content
+     * @throws IOException Failed to map the section
+     * @throws FileFormatException Unsupported compression
+     */
+    static DwarfSection open(final Elf_Shdr section, final ByteOrder order, final boolean elf64) throws IOException, FileFormatException {
+        final ByteBuffer buf = section.content.getBuffer();
+        if ((section.sh_flags & SHF_COMPRESSED) != 0) {
+            // Elf64_Chdr: ch_type, ch_reserved, ch_size, ch_addralign
+            // Elf32_Chdr: ch_type, ch_size, ch_addralign
+            final int headerSize = elf64 ? ELF64_CHDR_SIZE : ELF32_CHDR_SIZE;
+            if (buf.limit() < headerSize) {
+                throw new FileFormatException(String.format("Invalid compressed section %s", section.getName()));
+            }
+            final int type = buf.getInt(0);
+            if (type != ELFCOMPRESS_ZLIB) {
+                throw new FileFormatException(String.format("Unsupported compression type of section %s. ch_type=%d", section.getName(), type));
+            }
+            final long size = elf64 ? buf.getLong(8) : buf.getInt(4) & 0xFFFFFFFFL;
+            buf.position(headerSize);
+            return new DwarfSection(section.getName(), null, buf.slice(), size, order);
+        }
+        if (section.getName().startsWith(".zdebug")) {
+            // "ZLIB", followed by the uncompressed size in big endian
+            buf.order(ByteOrder.BIG_ENDIAN);
+            if (buf.limit() < 12 || buf.getInt(0) != 0x5A4C4942) {
+                throw new FileFormatException(String.format("Invalid compressed section %s", section.getName()));
+            }
+            final long size = buf.getLong(4);
+            buf.position(12);
+            return new DwarfSection(section.getName(), null, buf.slice(), size, order);
+        }
+        return new DwarfSection(section.getName(), buf.order(order), null, buf.limit(), order);
+    }
+
+    /**
+     * Section name.
+     *
+     * @return Section name
+     */
+    String getName() {
+        return this.name;
+    }
+
+    /**
+     * Uncompressed size of the section.
+     *
+     * @return Size in bytes
+     */
+    int size() {
+        return this.uncompressedSize;
+    }
+
+    /**
+     * Get the section content, with at least the bytes before a position
+     * available.
+     *
+     * @param end The position, which is limited to the section size
+     * @return The content, in the byte order of the file; its limit could be
+     * less than the section size for a compressed section
+     * @throws FileFormatException Inflating the section failed
+     */
+    synchronized ByteBuffer get(final long end) throws FileFormatException {
+        if (this.plain != null) {
+            return this.plain.duplicate().order(this.order);
+        }
+
+        final int target = (int) Math.min(Math.max(end, 0), this.uncompressedSize);
+        if (this.inflatedSize < target) {
+            if (this.inflated.length < target) {
+                this.inflated = Arrays.copyOf(this.inflated, (int) Math.min(this.uncompressedSize,
+                        Math.max((long) target + INFLATE_CHUNK, this.inflated.length * 2L)));
+            }
+            try {
+                while (this.inflatedSize < target) {
+                    final int n = this.inflater.inflate(this.inflated, this.inflatedSize, this.inflated.length - this.inflatedSize);
+                    if (n == 0 && (this.inflater.finished() || this.inflater.needsInput() || this.inflater.needsDictionary())) {
+                        throw new FileFormatException(String.format("The compressed section %s is truncated at %d of %d bytes",
+                                this.name, this.inflatedSize, this.uncompressedSize));
+                    }
+                    this.inflatedSize += n;
+                }
+            } catch (DataFormatException ex) {
+                throw new FileFormatException(String.format("Failed to inflate section %s", this.name), ex);
+            }
+            if (this.inflatedSize == this.uncompressedSize) {
+                this.inflater.end();
+            }
+        }
+        return ByteBuffer.wrap(this.inflated, 0, this.inflatedSize).order(this.order);
+    }
+
+    /**
+     * Get the whole section content, inflating all of a compressed section.
+     *
+     * @return The content, in the byte order of the file
+     * @throws FileFormatException Inflating the section failed
+     */
+    ByteBuffer getAll() throws FileFormatException {
+        return this.get(this.size());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * ElfContent.java    October 19, 2026, 23:55
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.binaryinternals.commonlib.core.BytesTool;
+import org.binaryinternals.commonlib.core.FileFormatException;
+
+/**
+ * Content of an ELF file. A small file is read into memory; a big one, like
+ * a core dump, is memory mapped range by range when the range is used, so
+ * only the parts really needed are read from disk.
+ *
+ * @author Amos Shi
+ */
+final class ElfContent {
+
+    /**
+     * Files up to this size are read into memory.
+     */
+    static final long IN_MEMORY_LIMIT = 64L << 20;
+
+    /**
+     * Number of bytes at the beginning of a big file shown in the binary
+     * viewer, which covers the ELF header and usually the program header
+     * table.
+     */
+    static final int HEAD_SIZE = 64 << 10;
+
+    /**
+     * Number of bytes at the beginning of a file opened only to be scanned,
+     * which covers the ELF header.
+     */
+    static final int SCAN_HEAD_SIZE = 4 << 10;
+
+    /**
+     * The whole file, or <code>null</code> if the file is mapped.
+     */
+    private final byte[] bytes;
+    private final Path path;
+
+    /**
+     * Size of the file in bytes.
+     */
+    final long size;
+
+    /**
+     * The first bytes of the file, or the whole file if it is in memory.
+     */
+    final byte[] head;
+
+    private ElfContent(final byte[] bytes, final Path path, final long size, final byte[] head) {
+        this.bytes = bytes;
+        this.path = path;
+        this.size = size;
+        this.head = head;
+    }
+
+    /**
+     * Open an ELF file.
+     *
+     * @param file The file
+     * @return Content of the file
+     * @throws IOException Failed to read the file
+     * @throws FileFormatException The file is empty
+     */
+    static ElfContent open(final File file) throws IOException, FileFormatException {
+        return open(file, IN_MEMORY_LIMIT, HEAD_SIZE);
+    }
+
+    /**
+     * Open an ELF file.
+     *
+     * @param file The file
+     * @param inMemoryLimit Files up to this size are read into memory
+     * @param headSize Number of bytes read at the beginning of a mapped file
+     * @return Content of the file
+     * @throws IOException Failed to read the file
+     * @throws FileFormatException The file is empty
+     */
+    static ElfContent open(final File file, final long inMemoryLimit, final int headSize) throws IOException, FileFormatException {
+        final long size = file.length();
+        if (size == 0) {
+            throw new FileFormatException(String.format("The file content is empty. name = %s", file.getPath()));
+        }
+        if (size <= inMemoryLimit) {
+            final byte[] bytes = BytesTool.readFileAsBytes(file);
+            return new ElfContent(bytes, null, bytes.length, bytes);
+        }
+
+        final ElfContent mapped = new ElfContent(null, file.toPath(), size, null);
+        return new ElfContent(null, mapped.path, size, mapped.read(0, (int) Math.min(size, headSize)));
+    }
+
+    /**
+     * Content of an ELF file in memory.
+     *
+     * @param bytes The file content
+     * @return Content of the file
+     */
+    static ElfContent of(final byte[] bytes) {
+        return new ElfContent(bytes, null, bytes.length, bytes);
+    }
+
+    /**
+     * Get a read-only buffer of a range, without copying the bytes.
+     *
+     * @param offset File offset of the range
+     * @param length Length of the range
+     * @return The buffer, in big endian order
+     * @throws IOException The range is out of the file, or mapping failed
+     */
+    ByteBuffer map(final long offset, final int length) throws IOException {
+        this.checkRange(offset, length);
+        if (this.bytes != null) {
+            return ByteBuffer.wrap(this.bytes, (int) offset, length).slice().asReadOnlyBuffer();
+        }
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        }
+    }
+
+    /**
+     * Read a range into a new array, for the small tables of the file.
+     *
+     * @param offset File offset of the range
+     * @param length Length of the range
+     * @return The bytes
+     * @throws IOException The range is out of the file, or reading failed
+     */
+    byte[] read(final long offset, final int length) throws IOException {
+        this.checkRange(offset, length);
+        if (this.bytes != null) {
+            return Arrays.copyOfRange(this.bytes, (int) offset, (int) offset + length);
+        }
+        final byte[] result = new byte[length];
+        this.map(offset, length).get(result);
+        return result;
+    }
+
+    private void checkRange(final long offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > this.size) {
+            throw new IOException(String.format("The range is out of the file: offset=0x%X, length=%d, file size=%d", offset, length, this.size));
+        }
+    }
+}
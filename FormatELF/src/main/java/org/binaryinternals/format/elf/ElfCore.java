@@ -0,0 +1,441 @@
+/*
+ * ElfCore.java    October 20, 2026, 01:20
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.binaryinternals.format.elf.Elf_Ehdr.ELF_Machine;
+import org.binaryinternals.format.elf.ElfNote.ELF_CoreNoteType;
+
+/**
+ * Process state of a core dump, decoded from the notes of its
+ * {@link Elf_Phdr.ELF_SegmentType#PT_NOTE} segments: the threads from
+ * {@link ELF_CoreNoteType#NT_PRSTATUS}, the mapped files from
+ * {@link ELF_CoreNoteType#NT_FILE}, and the auxiliary vector from
+ * {@link ELF_CoreNoteType#NT_AUXV}.
+ *
+ * <p>
+ * Only the note descriptors are read; the memory of the process stays in the
+ * file, see {@link ElfFile#getMemory(long, int)}. The <code>long</code>
+ * fields of the structures, like the registers, are 4 bytes in a 32-bit core
+ * dump.
+ * </p>
+ *
+ * <pre>
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ *
+ * @author Amos Shi
+ * @see <a href="https://github.com/torvalds/linux/blob/master/include/linux/elfcore.h">include/linux/elfcore.h</a>
+ */
+@SuppressWarnings("java:S1104")
+public final class ElfCore {
+
+    /**
+     * Offset of <code>pr_cursig</code> in <code>struct elf_prstatus</code>.
+     */
+    static final int PRSTATUS_CURSIG = 12;
+
+    /**
+     * Offset of <code>pr_pid</code> in <code>struct elf_prstatus</code>.
+     */
+    static final int PRSTATUS_PID = 32;
+    static final int PRSTATUS32_PID = 24;
+
+    /**
+     * Offset of <code>pr_reg</code> in <code>struct elf_prstatus</code>.
+     */
+    static final int PRSTATUS_REG = 112;
+    static final int PRSTATUS32_REG = 72;
+
+    /**
+     * Offset of <code>pr_fname</code> in <code>struct elf_prpsinfo</code>.
+     * In 32-bit, it depends on the size of <code>__kernel_uid_t</code>,
+     * which is 16-bit on x86 and ARM.
+     */
+    static final int PRPSINFO_FNAME = 40;
+    static final int PRPSINFO32_FNAME = 32;
+    static final int PRPSINFO32_FNAME_UID16 = 28;
+    static final int PRPSINFO_FNAME_SIZE = 16;
+    static final int PRPSINFO_PSARGS_SIZE = 80;
+
+    /**
+     * Register names of <code>pr_reg</code> on x86-64, the
+     * <code>struct user_regs_struct</code>.
+     */
+    static final String[] REGISTERS_X86_64 = {
+        "r15", "r14", "r13", "r12", "rbp", "rbx", "r11", "r10", "r9", "r8",
+        "rax", "rcx", "rdx", "rsi", "rdi", "orig_rax", "rip", "cs", "eflags", "rsp",
+        "ss", "fs_base", "gs_base", "ds", "es", "fs", "gs"
+    };
+
+    /**
+     * Register names of <code>pr_reg</code> on AArch64, the
+     * <code>struct user_pt_regs</code>.
+     */
+    static final String[] REGISTERS_AARCH64;
+
+    /**
+     * Register names of <code>pr_reg</code> on x86, the
+     * <code>struct user_regs_struct</code>.
+     */
+    static final String[] REGISTERS_X86 = {
+        "ebx", "ecx", "edx", "esi", "edi", "ebp", "eax", "ds", "es", "fs",
+        "gs", "orig_eax", "eip", "cs", "eflags", "esp", "ss"
+    };
+
+    /**
+     * Register names of <code>pr_reg</code> on ARM, the
+     * <code>struct pt_regs</code>.
+     */
+    static final String[] REGISTERS_ARM = {
+        "r0", "r1", "r2", "r3", "r4", "r5", "r6", "r7", "r8", "r9",
+        "r10", "fp", "ip", "sp", "lr", "pc", "cpsr", "orig_r0"
+    };
+
+    static {
+        REGISTERS_AARCH64 = new String[34];
+        for (int i = 0; i < 31; i++) {
+            REGISTERS_AARCH64[i] = "x" + i;
+        }
+        REGISTERS_AARCH64[31] = "sp";
+        REGISTERS_AARCH64[32] = "pc";
+        REGISTERS_AARCH64[33] = "pstate";
+    }
+
+    /**
+     * Threads of the process, the first one is the thread which received
+     * the signal.
+     */
+    public final List<PrStatus> threads;
+
+    /**
+     * Files mapped into the process memory.
+     */
+    public final List<MappedFile> files;
+
+    /**
+     * The auxiliary vector, as pairs of <code>a_type</code> and
+     * <code>a_val</code>, without the <code>AT_NULL</code> end.
+     */
+    public final long[] auxv;
+
+    /**
+     * The <code>pr_fname</code> of <code>NT_PRPSINFO</code>, or
+     * <code>null</code>.
+     */
+    public final String processName;
+
+    /**
+     * The <code>pr_psargs</code> of <code>NT_PRPSINFO</code>, or
+     * <code>null</code>.
+     */
+    public final String processArgs;
+
+    ElfCore(final List<ElfNote> notes, final int machine, final boolean elf64) throws IOException {
+        final List<PrStatus> threadList = new ArrayList<>();
+        final List<MappedFile> fileList = new ArrayList<>();
+        long[] auxvValue = new long[0];
+        String nameValue = null;
+        String argsValue = null;
+
+        for (ElfNote note : notes) {
+            if (!"CORE".equals(note.name) || note.desc.size == 0) {
+                continue;
+            }
+            final ByteBuffer desc = note.desc.getBuffer();
+            final long type = note.n_type;
+            try {
+                if (type == ELF_CoreNoteType.NT_PRSTATUS.value) {
+                    threadList.add(new PrStatus(note, desc, machine, elf64));
+                } else if (type == ELF_CoreNoteType.NT_PRPSINFO.value) {
+                    final int fname = elf64 ? PRPSINFO_FNAME
+                            : (machine == ELF_Machine.x86.value || machine == ELF_Machine.ARM.value) ? PRPSINFO32_FNAME_UID16
+                            : PRPSINFO32_FNAME;
+                    nameValue = cstring(desc, fname, PRPSINFO_FNAME_SIZE);
+                    argsValue = cstring(desc, fname + PRPSINFO_FNAME_SIZE, PRPSINFO_PSARGS_SIZE).trim();
+                } else if (type == ELF_CoreNoteType.NT_AUXV.value) {
+                    auxvValue = readAuxv(desc, elf64);
+                } else if (type == ELF_CoreNoteType.NT_FILE.value) {
+                    readFiles(desc, fileList, elf64);
+                }
+            } catch (IndexOutOfBoundsException ex) {
+                throw new IOException(String.format("Invalid %s note at offset 0x%X", note.getTypeName(), note.desc.offset), ex);
+            }
+        }
+
+        this.threads = Collections.unmodifiableList(threadList);
+        this.files = Collections.unmodifiableList(fileList);
+        this.auxv = auxvValue;
+        this.processName = nameValue;
+        this.processArgs = argsValue;
+    }
+
+    private static long[] readAuxv(final ByteBuffer desc, final boolean elf64) {
+        final int size = elf64 ? 8 : 4;
+        int n = 0;
+        while ((n + 1) * 2 * size <= desc.limit() && getLong(desc, n * 2 * size, elf64) != ELF_AuxvType.AT_NULL.value) {
+            n++;
+        }
+        final long[] result = new long[n * 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = getLong(desc, i * size, elf64);
+        }
+        return result;
+    }
+
+    /**
+     * Read a C <code>long</code> of the process, which is 4 bytes in 32-bit.
+     */
+    private static long getLong(final ByteBuffer buf, final int pos, final boolean elf64) {
+        return elf64 ? buf.getLong(pos) : buf.getInt(pos) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Read the <code>NT_FILE</code> note: the count and the page size,
+     * followed by the start, end and file offset in pages of each mapping,
+     * and then the file names.
+     */
+    private static void readFiles(final ByteBuffer desc, final List<MappedFile> fileList, final boolean elf64) {
+        final int size = elf64 ? 8 : 4;
+        final long count = getLong(desc, 0, elf64);
+        final long pageSize = getLong(desc, size, elf64);
+        // Divide instead of multiplying the count, which could overflow
+        if (count < 0 || desc.limit() < 2 * size || count > (desc.limit() - 2 * size) / (3 * size)) {
+            throw new IndexOutOfBoundsException(String.format("Invalid file count %d", count));
+        }
+        int namePos = (int) (2 * size + count * 3 * size);
+        for (int i = 0; i < count; i++) {
+            final int entry = 2 * size + i * 3 * size;
+            final String fileName = cstring(desc, namePos, desc.limit() - namePos);
+            namePos += fileName.getBytes(StandardCharsets.UTF_8).length + 1;
+            fileList.add(new MappedFile(getLong(desc, entry, elf64), getLong(desc, entry + size, elf64),
+                    getLong(desc, entry + 2 * size, elf64) * pageSize, fileName));
+        }
+    }
+
+    private static String cstring(final ByteBuffer buf, final int start, final int maxLength) {
+        int end = start;
+        while (end < start + maxLength && end < buf.limit() && buf.get(end) != 0) {
+            end++;
+        }
+        final byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buf.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Register names of a machine.
+     *
+     * @param machine The {@link Elf_Ehdr#e_machine}
+     * @param count Number of the registers
+     * @return Register names
+     */
+    static String[] registerNames(final int machine, final int count) {
+        if (machine == ELF_Machine.amd64.value && count == REGISTERS_X86_64.length) {
+            return REGISTERS_X86_64;
+        } else if (machine == ELF_Machine.AArch64.value && count == REGISTERS_AARCH64.length) {
+            return REGISTERS_AARCH64;
+        } else if (machine == ELF_Machine.x86.value && count == REGISTERS_X86.length) {
+            return REGISTERS_X86;
+        } else if (machine == ELF_Machine.ARM.value && count == REGISTERS_ARM.length) {
+            return REGISTERS_ARM;
+        }
+        final String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = "reg" + i;
+        }
+        return names;
+    }
+
+    /**
+     * The state of a thread, from a {@link ELF_CoreNoteType#NT_PRSTATUS}
+     * note.
+     */
+    public static final class PrStatus {
+
+        /**
+         * The note.
+         */
+        public final ElfNote note;
+        /**
+         * <code>pr_cursig</code>, the current signal.
+         */
+        public final int signal;
+        /**
+         * <code>pr_pid</code>, the thread ID.
+         */
+        public final int pid;
+        /**
+         * <code>pr_ppid</code>.
+         */
+        public final int ppid;
+        /**
+         * Names of the {@link #registers}.
+         */
+        public final String[] registerNames;
+        /**
+         * Values of <code>pr_reg</code>, the general purpose registers.
+         */
+        public final long[] registers;
+
+        PrStatus(final ElfNote note, final ByteBuffer desc, final int machine, final boolean elf64) {
+            this.note = note;
+            this.signal = desc.getShort(PRSTATUS_CURSIG);
+            final int pidPos = elf64 ? PRSTATUS_PID : PRSTATUS32_PID;
+            this.pid = desc.getInt(pidPos);
+            this.ppid = desc.getInt(pidPos + 4);
+
+            // pr_reg is followed by the int pr_fpvalid, and the padding of the structure
+            final int regPos = elf64 ? PRSTATUS_REG : PRSTATUS32_REG;
+            final int size = elf64 ? 8 : 4;
+            final int count;
+            if (machine == ELF_Machine.amd64.value && elf64) {
+                count = REGISTERS_X86_64.length;
+            } else if (machine == ELF_Machine.AArch64.value && elf64) {
+                count = REGISTERS_AARCH64.length;
+            } else if (machine == ELF_Machine.x86.value && !elf64) {
+                count = REGISTERS_X86.length;
+            } else if (machine == ELF_Machine.ARM.value && !elf64) {
+                count = REGISTERS_ARM.length;
+            } else {
+                count = Math.max(0, (desc.limit() - regPos - size) / size);
+            }
+            this.registers = new long[count];
+            for (int i = 0; i < count; i++) {
+                this.registers[i] = getLong(desc, regPos + i * size, elf64);
+            }
+            this.registerNames = registerNames(machine, count);
+        }
+
+        /**
+         * Get a register value by name.
+         *
+         * @param name Register name, like <code>rip</code>
+         * @return The value
+         * @throws IllegalArgumentException No such register
+         */
+        public long getRegister(final String name) {
+            for (int i = 0; i < this.registerNames.length; i++) {
+                if (this.registerNames[i].equals(name)) {
+                    return this.registers[i];
+                }
+            }
+            throw new IllegalArgumentException("No such register: " + name);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(String.format("pid %d, ppid %d, signal %d%n", this.pid, this.ppid, this.signal));
+            for (int i = 0; i < this.registers.length; i++) {
+                sb.append(String.format("%-10s 0x%016x%n", this.registerNames[i], this.registers[i]));
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * A file mapped into the process memory, from the
+     * {@link ELF_CoreNoteType#NT_FILE} note.
+     */
+    public static final class MappedFile {
+
+        /**
+         * Start address of the mapping.
+         */
+        public final long start;
+        /**
+         * End address of the mapping, exclusive.
+         */
+        public final long end;
+        /**
+         * Offset in the file of the mapping start, in bytes.
+         */
+        public final long fileOffset;
+        public final String fileName;
+
+        MappedFile(final long start, final long end, final long fileOffset, final String fileName) {
+            this.start = start;
+            this.end = end;
+            this.fileOffset = fileOffset;
+            this.fileName = fileName;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("0x%016x-0x%016x 0x%08x %s", this.start, this.end, this.fileOffset, this.fileName);
+        }
+    }
+
+    /**
+     * Enum type for <code>a_type</code> of {@link #auxv}.
+     *
+     * @see
+     * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/auxvec.h">include/uapi/linux/auxvec.h</a>
+     */
+    public enum ELF_AuxvType {
+        AT_NULL(0),
+        AT_IGNORE(1),
+        AT_EXECFD(2),
+        AT_PHDR(3),
+        AT_PHENT(4),
+        AT_PHNUM(5),
+        AT_PAGESZ(6),
+        AT_BASE(7),
+        AT_FLAGS(8),
+        AT_ENTRY(9),
+        AT_NOTELF(10),
+        AT_UID(11),
+        AT_EUID(12),
+        AT_GID(13),
+        AT_EGID(14),
+        AT_PLATFORM(15),
+        AT_HWCAP(16),
+        AT_CLKTCK(17),
+        AT_SECURE(23),
+        AT_BASE_PLATFORM(24),
+        AT_RANDOM(25),
+        AT_HWCAP2(26),
+        AT_RSEQ_FEATURE_SIZE(27),
+        AT_RSEQ_ALIGN(28),
+        AT_EXECFN(31),
+        AT_SYSINFO_EHDR(33),
+        AT_MINSIGSTKSZ(51);
+
+        /**
+         * Inner value of the enumeration item.
+         */
+        public final int value;
+
+        private ELF_AuxvType(final int i) {
+            this.value = i;
+        }
+
+        /**
+         * Name of the value.
+         *
+         * @param v {@link #value} of an enum
+         * @return Enum name if found, else <code>Unknown</code>
+         */
+        public static String nameOf(long v) {
+            for (ELF_AuxvType item : ELF_AuxvType.values()) {
+                if (item.value == v) {
+                    return item.name();
+                }
+            }
+
+            return ELF_AuxvType.class.getName() + " Unknown";
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * ElfDynamic.java    October 20, 2026, 03:10
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The dynamic section of a dynamically linked object, the
+ * {@link Elf_Shdr.ELF_SectionType#SHT_DYNAMIC} section or the
+ * {@link Elf_Phdr.ELF_SegmentType#PT_DYNAMIC} segment. In this class
+ * definition, we respect the name defined in Linux source code.
+ *
+ * <pre>
+ *   typedef struct {
+ *     Elf64_Sxword d_tag;		// entry tag value
+ *     union {
+ *       Elf64_Xword d_val;
+ *       Elf64_Addr d_ptr;
+ *     } d_un;
+ *   } Elf64_Dyn;
+ * </pre>
+ *
+ * <p>
+ * The entries are kept as two columns of <code>d_tag</code> and
+ * <code>d_val</code>, up to the <code>DT_NULL</code> end. The string values
+ * which tell the dependencies, {@link #needed}, {@link #soname},
+ * {@link #runpath} and {@link #rpath}, are resolved from the string table
+ * when the section is read.
+ * </p>
+ *
+ * <pre>
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ *
+ * @author Amos Shi
+ * @see
+ * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+ */
+@SuppressWarnings("java:S1104")
+public final class ElfDynamic {
+
+    /**
+     * Size of <code>Elf64_Dyn</code> in bytes.
+     */
+    public static final int SIZE = 16;
+
+    /**
+     * Size of <code>Elf32_Dyn</code> in bytes.
+     */
+    public static final int SIZE32 = 8;
+
+    /**
+     * Content of the dynamic section.
+     */
+    public final ElfSlice content;
+
+    /**
+     * Libraries of the {@link ELF_DynamicTag#DT_NEEDED} entries, in the
+     * order of the entries, which is the order of loading.
+     */
+    public final List<String> needed;
+
+    /**
+     * The {@link ELF_DynamicTag#DT_SONAME}, or <code>null</code>.
+     */
+    public final String soname;
+
+    /**
+     * Directories of the {@link ELF_DynamicTag#DT_RUNPATH}.
+     */
+    public final List<String> runpath;
+
+    /**
+     * Directories of the {@link ELF_DynamicTag#DT_RPATH}, which is ignored by
+     * the dynamic linker if there is a {@link #runpath}.
+     */
+    public final List<String> rpath;
+
+    private final long[] tags;
+    private final long[] values;
+    private final ByteBuffer strtab;
+
+    private ElfDynamic(final ElfSlice content, final long[] tags, final long[] values, final ByteBuffer strtab) {
+        this.content = content;
+        this.tags = tags;
+        this.values = values;
+        this.strtab = strtab;
+
+        final List<String> neededList = new ArrayList<>();
+        String name = null;
+        List<String> runpathList = Collections.emptyList();
+        List<String> rpathList = Collections.emptyList();
+        for (int i = 0; i < tags.length; i++) {
+            if (tags[i] == ELF_DynamicTag.DT_NEEDED.value) {
+                neededList.add(this.getString(i));
+            } else if (tags[i] == ELF_DynamicTag.DT_SONAME.value) {
+                name = this.getString(i);
+            } else if (tags[i] == ELF_DynamicTag.DT_RUNPATH.value) {
+                runpathList = splitPath(this.getString(i));
+            } else if (tags[i] == ELF_DynamicTag.DT_RPATH.value) {
+                rpathList = splitPath(this.getString(i));
+            }
+        }
+        this.needed = Collections.unmodifiableList(neededList);
+        this.soname = name;
+        this.runpath = runpathList;
+        this.rpath = rpathList;
+    }
+
+    /**
+     * Read the entries of a dynamic section.
+     *
+     * @param file The ELF file
+     * @param content Content of the dynamic section
+     * @param strtabSection The string table section linked by the dynamic
+     * section, or <code>null</code> to find the string table by the
+     * {@link ELF_DynamicTag#DT_STRTAB} address
+     * @return The dynamic section
+     * @throws IOException The section or its string table is out of the file
+     */
+    static ElfDynamic read(final ElfFile file, final ElfSlice content, final Elf_Shdr strtabSection) throws IOException {
+        final ElfReader input = new ElfReader(content.getBuffer(), content.offset, file.elf64);
+        final int entsize = file.elf64 ? SIZE : SIZE32;
+        long[] tags = new long[input.remaining() / entsize];
+        long[] values = new long[tags.length];
+        int count = 0;
+        try {
+            while (count < tags.length) {
+                tags[count] = input.sxword();
+                values[count] = input.xword();
+                if (tags[count] == ELF_DynamicTag.DT_NULL.value) {
+                    break;
+                }
+                count++;
+            }
+        } catch (BufferUnderflowException ex) {
+            throw new IOException(String.format("The dynamic section at offset 0x%X is truncated", content.offset), ex);
+        }
+        tags = Arrays.copyOf(tags, count);
+        values = Arrays.copyOf(values, count);
+
+        ByteBuffer strtab = null;
+        if (strtabSection != null && strtabSection.sh_type == Elf_Shdr.ELF_SectionType.SHT_STRTAB.value) {
+            strtab = strtabSection.content.getBuffer();
+        } else {
+            final long addr = getValue(tags, values, ELF_DynamicTag.DT_STRTAB.value);
+            final long size = getValue(tags, values, ELF_DynamicTag.DT_STRSZ.value);
+            if (addr != -1 && size > 0 && size <= Integer.MAX_VALUE) {
+                strtab = file.getMemory(addr, (int) size);
+            }
+        }
+        if (strtab == null) {
+            throw new IOException(String.format("The dynamic section at offset 0x%X has no string table", content.offset));
+        }
+        return new ElfDynamic(content, tags, values, strtab);
+    }
+
+    private static long getValue(final long[] tags, final long[] values, final long tag) {
+        for (int i = 0; i < tags.length; i++) {
+            if (tags[i] == tag) {
+                return values[i];
+            }
+        }
+        return -1;
+    }
+
+    private static List<String> splitPath(final String path) {
+        return path.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(path.split(":")));
+    }
+
+    /**
+     * Number of the entries, without the <code>DT_NULL</code> end.
+     *
+     * @return Number of the entries
+     */
+    public int size() {
+        return this.tags.length;
+    }
+
+    /**
+     * Get the <code>d_tag</code> of an entry.
+     *
+     * @param index Index of the entry
+     * @return The tag, see {@link ELF_DynamicTag}
+     */
+    public long getTag(final int index) {
+        return this.tags[index];
+    }
+
+    /**
+     * Get the <code>d_val</code> or <code>d_ptr</code> of an entry.
+     *
+     * @param index Index of the entry
+     * @return The value
+     */
+    public long getValue(final int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Get the value of the first entry of a tag.
+     *
+     * @param tag The tag
+     * @return The value, or -1 if there is no entry of the tag
+     */
+    public long getValue(final ELF_DynamicTag tag) {
+        return getValue(this.tags, this.values, tag.value);
+    }
+
+    /**
+     * Get the string value of an entry, like a {@link ELF_DynamicTag#DT_NEEDED}.
+     *
+     * @param index Index of the entry
+     * @return The string in the string table
+     */
+    public String getString(final int index) {
+        return Elf_Shdr.getString(this.strtab, this.values[index]);
+    }
+
+    private static boolean isStringTag(final long tag) {
+        return tag == ELF_DynamicTag.DT_NEEDED.value
+                || tag == ELF_DynamicTag.DT_SONAME.value
+                || tag == ELF_DynamicTag.DT_RPATH.value
+                || tag == ELF_DynamicTag.DT_RUNPATH.value
+                || tag == ELF_DynamicTag.DT_AUXILIARY.value
+                || tag == ELF_DynamicTag.DT_FILTER.value;
+    }
+
+    /**
+     * The entries, one per line, in the same way as
+     * <code>readelf -d</code>.
+     *
+     * @return The entries
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(this.tags.length * 48);
+        for (int i = 0; i < this.tags.length; i++) {
+            final String value = isStringTag(this.tags[i])
+                    ? String.format("[%s]", this.getString(i))
+                    : String.format("0x%x", this.values[i]);
+            sb.append(String.format("0x%016x %-20s %s%n", this.tags[i], ELF_DynamicTag.nameOf(this.tags[i]), value));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Enum type for <code>d_tag</code>.
+     */
+    public enum ELF_DynamicTag {
+        DT_NULL(0),
+        DT_NEEDED(1),
+        DT_PLTRELSZ(2),
+        DT_PLTGOT(3),
+        DT_HASH(4),
+        DT_STRTAB(5),
+        DT_SYMTAB(6),
+        DT_RELA(7),
+        DT_RELASZ(8),
+        DT_RELAENT(9),
+        DT_STRSZ(10),
+        DT_SYMENT(11),
+        DT_INIT(12),
+        DT_FINI(13),
+        DT_SONAME(14),
+        DT_RPATH(15),
+        DT_SYMBOLIC(16),
+        DT_REL(17),
+        DT_RELSZ(18),
+        DT_RELENT(19),
+        DT_PLTREL(20),
+        DT_DEBUG(21),
+        DT_TEXTREL(22),
+        DT_JMPREL(23),
+        DT_BIND_NOW(24),
+        DT_INIT_ARRAY(25),
+        DT_FINI_ARRAY(26),
+        DT_INIT_ARRAYSZ(27),
+        DT_FINI_ARRAYSZ(28),
+        DT_RUNPATH(29),
+        DT_FLAGS(30),
+        DT_PREINIT_ARRAY(32),
+        DT_PREINIT_ARRAYSZ(33),
+        DT_SYMTAB_SHNDX(34),
+        DT_RELRSZ(35),
+        DT_RELR(36),
+        DT_RELRENT(37),
+        DT_GNU_HASH(0x6ffffef5),
+        DT_VERSYM(0x6ffffff0),
+        DT_RELACOUNT(0x6ffffff9),
+        DT_RELCOUNT(0x6ffffffa),
+        DT_FLAGS_1(0x6ffffffb),
+        DT_VERDEF(0x6ffffffc),
+        DT_VERDEFNUM(0x6ffffffd),
+        DT_VERNEED(0x6ffffffe),
+        DT_VERNEEDNUM(0x6fffffff),
+        DT_AUXILIARY(0x7ffffffd),
+        DT_FILTER(0x7fffffff);
+
+        /**
+         * Inner value of the enumeration item.
+         */
+        public final int value;
+
+        private ELF_DynamicTag(final int i) {
+            this.value = i;
+        }
+
+        /**
+         * Name of the value.
+         *
+         * @param v {@link #value} of an enum
+         * @return Enum name if found, else <code>Unknown</code>
+         */
+        public static String nameOf(long v) {
+            for (ELF_DynamicTag item : ELF_DynamicTag.values()) {
+                if (item.value == v) {
+                    return item.name();
+                }
+            }
+
+            return ELF_DynamicTag.class.getName() + " Unknown";
+        }
+    }
+}
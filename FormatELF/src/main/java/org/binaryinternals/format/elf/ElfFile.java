@@ -8,18 +8,39 @@ package org.binaryinternals.format.elf;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import javax.swing.tree.DefaultMutableTreeNode;
-import org.binaryinternals.commonlib.core.BytesTool;
 import org.binaryinternals.commonlib.core.FileFormat;
 import org.binaryinternals.commonlib.core.FileFormatException;
 import org.binaryinternals.commonlib.core.PosByteArrayInputStream;
 import org.binaryinternals.commonlib.core.PosDataInputStream;
+import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
+import org.binaryinternals.format.elf.Identification.ElfClass;
+import org.binaryinternals.format.elf.Identification.Endianness;
 
 /**
  * File for Executable and Linkable Format (ELF).
  *
- * ELF file would be different on different CPU architecture. Here we assume
- * the CPU is 64-bit x86 based.
+ * ELF file would be different on different CPU architecture. Both the 32-bit
+ * and 64-bit classes are supported, in either byte order, as told by the
+ * {@link Identification#EI_CLASS} and {@link Identification#EI_DATA}; the
+ * structures are read through one {@link ElfReader}, which sizes the fields by
+ * the class.
+ *
+ * <p>
+ * Only the headers and the program and section header tables are read when
+ * the file is parsed; the content of a section or segment is an
+ * {@link ElfSlice}, which is memory mapped when it is used. A file bigger than
+ * {@link ElfContent#IN_MEMORY_LIMIT} is never read into memory as a whole, and
+ * only its beginning is in the {@link #fileByteArray}.
+ * </p>
  *
  * @author Amos Shi
  * @see <a href="https://en.wikipedia.org/wiki/Executable_and_Linkable_Format">Executable and Linkable Format</a>
@@ -31,17 +52,450 @@ import org.binaryinternals.commonlib.core.PosDataInputStream;
 public class ElfFile extends FileFormat {
     
     public final Identification ident;
-    public final Elf64_Ehdr header;
+    public final Elf_Ehdr header;
+
+    /**
+     * Entries of the program header table.
+     */
+    public final List<Elf_Phdr> programHeaders;
+
+    /**
+     * Entries of the section header table, with the names resolved.
+     */
+    public final List<Elf_Shdr> sectionHeaders;
+
+    /**
+     * Symbol tables created on demand, by section index.
+     */
+    private final Map<Integer, SymbolTable> symbolTables = new HashMap<>();
+
+    /**
+     * Relocation tables created on demand, by section index.
+     */
+    private final Map<Integer, RelocationTable> relocationTables = new HashMap<>();
+
+    /**
+     * Whether the file is {@link ElfClass#ELFCLASS64}, else
+     * {@link ElfClass#ELFCLASS32}.
+     */
+    final boolean elf64;
+
+    /**
+     * Byte order of the file.
+     */
+    final ByteOrder order;
+
+    private DwarfInfo dwarfInfo;
+    private boolean dwarfInfoOpened;
+
+    private final ElfContent content;
+    private List<ElfNote> notes;
+    private ElfDynamic dynamic;
+    private boolean dynamicRead;
+    private ElfCore core;
+
+    /**
+     * The {@link Elf_Phdr.ELF_SegmentType#PT_LOAD} segments with file
+     * content, sorted by <code>p_vaddr</code>; the addresses have the sign
+     * bit flipped, so they sort as unsigned.
+     */
+    private volatile long[] loadStarts;
+    private Elf_Phdr[] loadSegments;
 
     public ElfFile(File file) throws IOException, FileFormatException {
-        super(file);
+        this(file, ElfContent.open(file));
+    }
+
+    /**
+     * Open an ELF file to be scanned, like by a batch analysis over many
+     * files: whatever the file size, only the beginning of the file is read,
+     * and the tables and sections are mapped when they are used, so only the
+     * pages really used are read from disk.
+     *
+     * @param file The ELF file
+     * @return The ELF file
+     * @throws IOException Failed to read the file
+     * @throws FileFormatException The file is not a valid ELF file
+     */
+    public static ElfFile openMapped(final File file) throws IOException, FileFormatException {
+        return new ElfFile(file, ElfContent.open(file, 0, ElfContent.SCAN_HEAD_SIZE));
+    }
+
+    private ElfFile(File file, ElfContent content) throws IOException, FileFormatException {
+        super(content.head, file.getName(), file.getCanonicalPath());
+        this.content = content;
 
         PosDataInputStream input = new PosDataInputStream(new PosByteArrayInputStream(this.fileByteArray));
         this.ident = new Identification(input);
+        if (this.ident.EI_CLASS != ElfClass.ELFCLASS32 && this.ident.EI_CLASS != ElfClass.ELFCLASS64) {
+            throw new FileFormatException("Invalid EI_CLASS in ELF file. value=" + this.ident.EI_CLASS);
+        }
+        this.elf64 = this.ident.EI_CLASS == ElfClass.ELFCLASS64;
+        this.order = (this.ident.EI_DATA == Endianness.ELFDATA2LSB) ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+
+        final ElfReader reader = new ElfReader(this.fileByteArray, 0, this.order, this.elf64);
+        reader.skip(Identification.EI_NIDENT);
+        this.header = new Elf_Ehdr(reader);
+
+        this.sectionHeaders = Collections.unmodifiableList(this.readSectionHeaders(content));
+        this.programHeaders = Collections.unmodifiableList(this.readProgramHeaders(content));
+    }
+
+    /**
+     * Read the section header table, and resolve the section names through
+     * the <code>e_shstrndx</code>.
+     */
+    private List<Elf_Shdr> readSectionHeaders(final ElfContent content) throws IOException, FileFormatException {
+        final long shoff = this.header.e_shoff;
+        if (shoff == 0) {
+            return new ArrayList<>(0);
+        }
+        final int entsize = this.header.e_shentsize;
+        if (entsize < (this.elf64 ? Elf_Shdr.SIZE : Elf_Shdr.SIZE32)) {
+            throw new FileFormatException(String.format("Invalid e_shentsize in ELF file header. value=%d", entsize));
+        }
+
+        // The real number is in the sh_size of section 0 if there are too many sections
+        long shnum = this.header.e_shnum;
+        if (shnum == 0) {
+            shnum = new Elf_Shdr(this.readTable(content, shoff, 1, entsize, "section header"), 0, content, this.order).sh_size;
+        }
+        final ElfReader input = this.readTable(content, shoff, shnum, entsize, "section header");
+        final List<Elf_Shdr> sections = new ArrayList<>((int) shnum);
+        for (int i = 0; i < shnum; i++) {
+            input.seek(i * entsize);
+            sections.add(new Elf_Shdr(input, i, content, this.order));
+        }
+
+        int shstrndx = this.header.e_shstrndx;
+        if (shstrndx == Elf_Shdr.SHN_XINDEX && !sections.isEmpty()) {
+            shstrndx = (int) sections.get(0).sh_link;
+        }
+        if (shstrndx > 0 && shstrndx < sections.size()) {
+            final ElfSlice strtab = sections.get(shstrndx).content;
+            if (strtab.size > 0 && strtab.size <= Integer.MAX_VALUE && strtab.offset >= 0 && strtab.offset + strtab.size <= content.size) {
+                final ByteBuffer buf = strtab.getBuffer();
+                for (Elf_Shdr section : sections) {
+                    section.resolveName(buf);
+                }
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * Read the program header table.
+     */
+    private List<Elf_Phdr> readProgramHeaders(final ElfContent content) throws IOException, FileFormatException {
+        final long phoff = this.header.e_phoff;
+        if (phoff == 0) {
+            return new ArrayList<>(0);
+        }
+        final int entsize = this.header.e_phentsize;
+        if (entsize < (this.elf64 ? Elf_Phdr.SIZE : Elf_Phdr.SIZE32)) {
+            throw new FileFormatException(String.format("Invalid e_phentsize in ELF file header. value=%d", entsize));
+        }
+
+        // The real number is in the sh_info of section 0 if there are too many segments
+        long phnum = this.header.e_phnum;
+        if (phnum == Elf_Phdr.PN_XNUM && !this.sectionHeaders.isEmpty()) {
+            phnum = this.sectionHeaders.get(0).sh_info;
+        }
+        final ElfReader input = this.readTable(content, phoff, phnum, entsize, "program header");
+        final List<Elf_Phdr> segments = new ArrayList<>((int) phnum);
+        for (int i = 0; i < phnum; i++) {
+            input.seek(i * entsize);
+            segments.add(new Elf_Phdr(input, i, content, this.order));
+        }
+        return segments;
+    }
+
+    /**
+     * Map a table from the file, which is the only part of the file read
+     * besides the headers. The entries are read from the mapped buffer
+     * without being copied.
+     */
+    private ElfReader readTable(final ElfContent content, final long offset, final long num, final int entsize, final String name)
+            throws IOException, FileFormatException {
+        final long size = num * entsize;
+        if (offset < 0 || size > Integer.MAX_VALUE || offset + size > content.size) {
+            throw new FileFormatException(String.format("The %s table is out of the file. offset=0x%X, number=%d, entry size=%d, file size=%d",
+                    name, offset, num, entsize, content.size));
+        }
+        return new ElfReader(content.map(offset, (int) size).order(this.order), offset, this.elf64);
+    }
+
+    /**
+     * Get a section by name.
+     *
+     * @param name Section name, like <code>.text</code>
+     * @return The first section with the name, or <code>null</code> if not
+     * found
+     */
+    public Elf_Shdr getSection(final String name) {
+        for (Elf_Shdr section : this.sectionHeaders) {
+            if (section.getName().equals(name)) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the symbols of a symbol table section, which is created on the
+     * first call.
+     *
+     * @param section A {@link Elf_Shdr.ELF_SectionType#SHT_SYMTAB} or
+     * {@link Elf_Shdr.ELF_SectionType#SHT_DYNSYM} section
+     * @return The symbol table
+     * @throws IOException Failed to map the sections
+     * @throws FileFormatException The section is not a valid symbol table
+     */
+    public synchronized SymbolTable getSymbolTable(final Elf_Shdr section) throws IOException, FileFormatException {
+        SymbolTable table = this.symbolTables.get(section.index);
+        if (table == null) {
+            final long link = section.sh_link;
+            if (!isSymbolTable(section) || link <= 0 || link >= this.sectionHeaders.size()) {
+                throw new FileFormatException(String.format("Section %s is not a valid symbol table", section.getName()));
+            }
+
+            // Prefer the GNU hash, which has a bloom filter
+            Elf_Shdr hash = null;
+            for (Elf_Shdr s : this.sectionHeaders) {
+                if (s.sh_link == section.index
+                        && (s.sh_type == Elf_Shdr.ELF_SectionType.SHT_GNU_HASH.value
+                        || (s.sh_type == Elf_Shdr.ELF_SectionType.SHT_HASH.value && hash == null))) {
+                    hash = s;
+                }
+            }
+            table = new SymbolTable(section, this.sectionHeaders.get((int) link), hash, this.elf64);
+            this.symbolTables.put(section.index, table);
+        }
+        return table;
+    }
+
+    /**
+     * Get the symbols of a symbol table section by name, like
+     * <code>.symtab</code> or <code>.dynsym</code>.
+     *
+     * @param name Section name
+     * @return The symbol table, or <code>null</code> if there is no such
+     * section
+     * @throws IOException Failed to map the sections
+     * @throws FileFormatException The section is not a valid symbol table
+     */
+    public SymbolTable getSymbolTable(final String name) throws IOException, FileFormatException {
+        final Elf_Shdr section = this.getSection(name);
+        return (section == null) ? null : this.getSymbolTable(section);
+    }
+
+    /**
+     * Get the relocations of a relocation section, which are decoded when
+     * they are iterated. The table is created on the first call.
+     *
+     * @param section A relocation section, see
+     * {@link RelocationTable.RelocationFormat}
+     * @return The relocation table
+     * @throws IOException Failed to map the sections
+     * @throws FileFormatException The section is not a valid relocation
+     * section
+     */
+    public synchronized RelocationTable getRelocationTable(final Elf_Shdr section) throws IOException, FileFormatException {
+        RelocationTable table = this.relocationTables.get(section.index);
+        if (table == null) {
+            // The RELR sections link no symbol table
+            final long link = section.sh_link;
+            SymbolTable symbols = null;
+            if (link > 0 && link < this.sectionHeaders.size() && isSymbolTable(this.sectionHeaders.get((int) link))) {
+                symbols = this.getSymbolTable(this.sectionHeaders.get((int) link));
+            }
+            table = new RelocationTable(section, symbols, this.header.e_machine, this.elf64);
+            this.relocationTables.put(section.index, table);
+        }
+        return table;
+    }
+
+    /**
+     * Get the DWARF debugging information, which is decoded on demand.
+     *
+     * @return The debugging information, or <code>null</code> if the file
+     * has no <code>.debug_info</code>
+     * @throws IOException Failed to map the debug sections
+     * @throws FileFormatException Unsupported debug section compression
+     */
+    public synchronized DwarfInfo getDwarfInfo() throws IOException, FileFormatException {
+        if (!this.dwarfInfoOpened) {
+            this.dwarfInfo = DwarfInfo.open(this, this.order);
+            this.dwarfInfoOpened = true;
+        }
+        return this.dwarfInfo;
+    }
 
-        PosDataInputStreamElf inputElf = new PosDataInputStreamElf(new PosByteArrayInputStream(this.fileByteArray), this.ident.EI_DATA);
-        BytesTool.skip(input, Identification.EI_NIDENT);
-        this.header = new Elf64_Ehdr(inputElf);
+    /**
+     * Get the notes of the {@link Elf_Phdr.ELF_SegmentType#PT_NOTE}
+     * segments, or of the {@link Elf_Shdr.ELF_SectionType#SHT_NOTE}
+     * sections if there is no program header. The notes are parsed on the
+     * first call.
+     *
+     * @return The notes
+     * @throws IOException Read the notes failed
+     */
+    public synchronized List<ElfNote> getNotes() throws IOException {
+        if (this.notes == null) {
+            final List<ElfNote> result = new ArrayList<>();
+            if (!this.programHeaders.isEmpty()) {
+                for (Elf_Phdr segment : this.programHeaders) {
+                    if (segment.p_type == Elf_Phdr.ELF_SegmentType.PT_NOTE.value) {
+                        result.addAll(ElfNote.parse(segment.content, this.content, this.order));
+                    }
+                }
+            } else {
+                for (Elf_Shdr section : this.sectionHeaders) {
+                    if (section.sh_type == Elf_Shdr.ELF_SectionType.SHT_NOTE.value) {
+                        result.addAll(ElfNote.parse(section.content, this.content, this.order));
+                    }
+                }
+            }
+            this.notes = Collections.unmodifiableList(result);
+        }
+        return this.notes;
+    }
+
+    /**
+     * Get the dynamic section, the {@link Elf_Shdr.ELF_SectionType#SHT_DYNAMIC}
+     * section, or the {@link Elf_Phdr.ELF_SegmentType#PT_DYNAMIC} segment if
+     * there is no section header. The entries are read on the first call.
+     *
+     * @return The dynamic section, or <code>null</code> if the file is not
+     * dynamically linked
+     * @throws IOException Read the dynamic section failed
+     */
+    public synchronized ElfDynamic getDynamic() throws IOException {
+        if (!this.dynamicRead) {
+            for (Elf_Shdr section : this.sectionHeaders) {
+                if (section.sh_type == Elf_Shdr.ELF_SectionType.SHT_DYNAMIC.value) {
+                    final long link = section.sh_link;
+                    final Elf_Shdr strtab = (link > 0 && link < this.sectionHeaders.size()) ? this.sectionHeaders.get((int) link) : null;
+                    this.dynamic = ElfDynamic.read(this, section.content, strtab);
+                    break;
+                }
+            }
+            if (this.dynamic == null) {
+                for (Elf_Phdr segment : this.programHeaders) {
+                    if (segment.p_type == Elf_Phdr.ELF_SegmentType.PT_DYNAMIC.value) {
+                        this.dynamic = ElfDynamic.read(this, segment.content, null);
+                        break;
+                    }
+                }
+            }
+            this.dynamicRead = true;
+        }
+        return this.dynamic;
+    }
+
+    /**
+     * Get the process state of a core dump, which is decoded on the first
+     * call.
+     *
+     * @return The process state, or <code>null</code> if the file is not a
+     * core dump
+     * @throws IOException Read the notes failed
+     */
+    public synchronized ElfCore getCore() throws IOException {
+        if (this.core == null && this.header.e_type == Elf_Ehdr.ELF_FileType.ET_CORE.value) {
+            this.core = new ElfCore(this.getNotes(), this.header.e_machine, this.elf64);
+        }
+        return this.core;
+    }
+
+    /**
+     * Map a virtual address to its file offset, through the
+     * {@link Elf_Phdr.ELF_SegmentType#PT_LOAD} segments.
+     *
+     * @param vaddr The virtual address
+     * @return The file offset, or -1 if the address is not in the file, like
+     * when its segment is not dumped in a core dump
+     */
+    public long toFileOffset(final long vaddr) {
+        final Elf_Phdr segment = this.findLoadSegment(vaddr);
+        return (segment == null) ? -1 : segment.p_offset + (vaddr - segment.p_vaddr);
+    }
+
+    /**
+     * Get the memory content at a virtual address, mapped from the file.
+     *
+     * @param vaddr The virtual address
+     * @param length Maximum number of bytes
+     * @return The content, which stops at the end of the segment
+     * @throws IOException The address is not in the file, or mapping failed
+     */
+    public ByteBuffer getMemory(final long vaddr, final int length) throws IOException {
+        final Elf_Phdr segment = this.findLoadSegment(vaddr);
+        if (segment == null) {
+            throw new IOException(String.format("The address 0x%016x is not in the file", vaddr));
+        }
+        final long pos = vaddr - segment.p_vaddr;
+        return segment.content.getBuffer(pos, (int) Math.min(length, segment.content.size - pos));
+    }
+
+    private Elf_Phdr findLoadSegment(final long vaddr) {
+        long[] starts = this.loadStarts;
+        if (starts == null) {
+            starts = this.buildLoadIndex();
+        }
+
+        final long key = vaddr ^ Long.MIN_VALUE;
+        int i = Arrays.binarySearch(starts, key);
+        if (i < 0) {
+            i = -i - 2;
+        }
+        if (i < 0) {
+            return null;
+        }
+        final Elf_Phdr segment = this.loadSegments[i];
+        return (Long.compareUnsigned(vaddr - segment.p_vaddr, segment.p_filesz) < 0) ? segment : null;
+    }
+
+    private synchronized long[] buildLoadIndex() {
+        if (this.loadStarts != null) {
+            return this.loadStarts;
+        }
+
+        final List<Elf_Phdr> segments = new ArrayList<>();
+        for (Elf_Phdr segment : this.programHeaders) {
+            if (segment.p_type == Elf_Phdr.ELF_SegmentType.PT_LOAD.value && segment.p_filesz != 0) {
+                segments.add(segment);
+            }
+        }
+        segments.sort((a, b) -> Long.compareUnsigned(a.p_vaddr, b.p_vaddr));
+
+        final long[] starts = new long[segments.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = segments.get(i).p_vaddr ^ Long.MIN_VALUE;
+        }
+        this.loadSegments = segments.toArray(new Elf_Phdr[0]);
+        this.loadStarts = starts;
+        return starts;
+    }
+
+    static boolean isSymbolTable(final Elf_Shdr section) {
+        return section.sh_type == Elf_Shdr.ELF_SectionType.SHT_SYMTAB.value
+                || section.sh_type == Elf_Shdr.ELF_SectionType.SHT_DYNSYM.value;
+    }
+
+    static boolean isRelocationTable(final Elf_Shdr section) {
+        return RelocationTable.RelocationFormat.of(section.sh_type) != null;
+    }
+
+    /**
+     * Convert a file offset or size to a position in the tree nodes, which
+     * is an <code>int</code>.
+     *
+     * @param value File offset or size
+     * @return The value, or {@link Integer#MAX_VALUE} if it is too big
+     */
+    static int toIntPos(final long value) {
+        return (value < 0 || value > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) value;
     }
 
     @Override
@@ -53,5 +507,168 @@ public class ElfFile extends FileFormat {
     public void generateTreeNode(DefaultMutableTreeNode parentNode) {
         this.ident.generateTreeNode(parentNode);
         this.header.generateTreeNode(parentNode);
+
+        if (!this.programHeaders.isEmpty()) {
+            DefaultMutableTreeNode phNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                    toIntPos(this.header.e_phoff),
+                    this.programHeaders.size() * this.header.e_phentsize,
+                    String.format("Program Headers [%d]", this.programHeaders.size()),
+                    "The program header table tells the system how to create a process image."
+            ));
+            parentNode.add(phNode);
+            for (Elf_Phdr segment : this.programHeaders) {
+                segment.generateTreeNode(phNode);
+            }
+        }
+
+        if (!this.sectionHeaders.isEmpty()) {
+            DefaultMutableTreeNode shNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                    toIntPos(this.header.e_shoff),
+                    this.sectionHeaders.size() * this.header.e_shentsize,
+                    String.format("Section Headers [%d]", this.sectionHeaders.size()),
+                    "The section header table describes the sections of the file."
+            ));
+            parentNode.add(shNode);
+            for (Elf_Shdr section : this.sectionHeaders) {
+                section.generateTreeNode(shNode);
+                if (isSymbolTable(section) && section.sh_entsize > 0) {
+                    JTreeNodeFileComponent symbolsComp = new JTreeNodeFileComponent(
+                            toIntPos(section.content.offset),
+                            toIntPos(section.content.size),
+                            String.format("symbols [%,d]", section.content.size / section.sh_entsize),
+                            "Symbols of the symbol table, which are read from the file when they are displayed.");
+                    symbolsComp.setDetailPanel(new JPanelElfSymbols(this, section));
+                    ((DefaultMutableTreeNode) shNode.getLastChild()).add(new DefaultMutableTreeNode(symbolsComp));
+                } else if (isRelocationTable(section) && section.content.size > 0) {
+                    // The packed relocations are counted only when they are displayed
+                    final boolean table = section.sh_type == Elf_Shdr.ELF_SectionType.SHT_REL.value
+                            || section.sh_type == Elf_Shdr.ELF_SectionType.SHT_RELA.value;
+                    JTreeNodeFileComponent relocationsComp = new JTreeNodeFileComponent(
+                            toIntPos(section.content.offset),
+                            toIntPos(section.content.size),
+                            (table && section.sh_entsize > 0)
+                                    ? String.format("relocations [%,d]", section.content.size / section.sh_entsize)
+                                    : "relocations",
+                            "Relocations of the section, which are decoded from the file when they are displayed.");
+                    relocationsComp.setDetailPanel(new JPanelElfRelocations(this, section));
+                    ((DefaultMutableTreeNode) shNode.getLastChild()).add(new DefaultMutableTreeNode(relocationsComp));
+                }
+            }
+        }
+
+        this.generateTreeNodeDynamic(parentNode);
+        this.generateTreeNodeNotes(parentNode);
+        if (this.header.e_type == Elf_Ehdr.ELF_FileType.ET_CORE.value) {
+            this.generateTreeNodeCore(parentNode);
+        }
+    }
+
+    private void generateTreeNodeDynamic(DefaultMutableTreeNode parentNode) {
+        final ElfDynamic dyn;
+        try {
+            dyn = this.getDynamic();
+        } catch (IOException ex) {
+            parentNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(0, 0,
+                    String.format("Dynamic: %s", ex.getMessage()))));
+            return;
+        }
+        if (dyn == null) {
+            return;
+        }
+
+        JTreeNodeFileComponent dynamicComp = new JTreeNodeFileComponent(
+                toIntPos(dyn.content.offset),
+                toIntPos(dyn.content.size),
+                String.format("Dynamic [%d]", dyn.size()),
+                "The dynamic section, with the libraries needed and the information for the dynamic linker.");
+        dynamicComp.setDetailPanel(new JPanelElfText(dyn::toString));
+        parentNode.add(new DefaultMutableTreeNode(dynamicComp));
+    }
+
+    private void generateTreeNodeNotes(DefaultMutableTreeNode parentNode) {
+        final List<ElfNote> noteList;
+        try {
+            noteList = this.getNotes();
+        } catch (IOException ex) {
+            parentNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(0, 0,
+                    String.format("Notes: %s", ex.getMessage()))));
+            return;
+        }
+        if (noteList.isEmpty()) {
+            return;
+        }
+
+        DefaultMutableTreeNode notesNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                noteList.get(0).getStartPos(),
+                0,
+                String.format("Notes [%d]", noteList.size()),
+                "The notes of the PT_NOTE segments."
+        ));
+        parentNode.add(notesNode);
+        for (ElfNote note : noteList) {
+            note.generateTreeNode(notesNode);
+        }
+    }
+
+    private void generateTreeNodeCore(DefaultMutableTreeNode parentNode) {
+        final ElfCore coreDump;
+        try {
+            coreDump = this.getCore();
+        } catch (IOException ex) {
+            parentNode.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(0, 0,
+                    String.format("Core Dump: %s", ex.getMessage()))));
+            return;
+        }
+
+        DefaultMutableTreeNode coreNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                0,
+                0,
+                String.format("Core Dump: %s", coreDump.processArgs),
+                "Process state of the core dump."
+        ));
+        parentNode.add(coreNode);
+
+        DefaultMutableTreeNode threadsNode = new DefaultMutableTreeNode(new JTreeNodeFileComponent(0, 0,
+                String.format("Threads [%d]", coreDump.threads.size())));
+        coreNode.add(threadsNode);
+        for (int i = 0; i < coreDump.threads.size(); i++) {
+            final ElfCore.PrStatus thread = coreDump.threads.get(i);
+            JTreeNodeFileComponent threadComp = new JTreeNodeFileComponent(
+                    ElfFile.toIntPos(thread.note.desc.offset),
+                    ElfFile.toIntPos(thread.note.desc.size),
+                    String.format("[%d] pid %d, signal %d", i, thread.pid, thread.signal),
+                    "Thread state from the NT_PRSTATUS note, with the general purpose registers.");
+            threadComp.setDetailPanel(new JPanelElfText(thread::toString));
+            threadsNode.add(new DefaultMutableTreeNode(threadComp));
+        }
+
+        JTreeNodeFileComponent filesComp = new JTreeNodeFileComponent(0, 0,
+                String.format("Mapped Files [%d]", coreDump.files.size()),
+                "Files mapped into the process memory, from the NT_FILE note.");
+        filesComp.setDetailPanel(new JPanelElfText(() -> {
+            final StringBuilder sb = new StringBuilder();
+            for (ElfCore.MappedFile f : coreDump.files) {
+                sb.append(f).append('\n');
+            }
+            return sb.toString();
+        }));
+        coreNode.add(new DefaultMutableTreeNode(filesComp));
+
+        JTreeNodeFileComponent auxvComp = new JTreeNodeFileComponent(0, 0,
+                String.format("Auxiliary Vector [%d]", coreDump.auxv.length / 2),
+                "The auxiliary vector of the process, from the NT_AUXV note.");
+        auxvComp.setDetailPanel(new JPanelElfText(() -> {
+            final StringBuilder sb = new StringBuilder();
+            for (int i = 0; i + 1 < coreDump.auxv.length; i += 2) {
+                sb.append(String.format("%-20s 0x%016x%n", ElfCore.ELF_AuxvType.nameOf(coreDump.auxv[i]), coreDump.auxv[i + 1]));
+            }
+            return sb.toString();
+        }));
+        coreNode.add(new DefaultMutableTreeNode(auxvComp));
+
+        JTreeNodeFileComponent memoryComp = new JTreeNodeFileComponent(0, 0, "Memory",
+                "Process memory by virtual address, mapped to the file through the PT_LOAD segments.");
+        memoryComp.setDetailPanel(new JPanelElfMemory(this));
+        coreNode.add(new DefaultMutableTreeNode(memoryComp));
     }
 }
@@ -0,0 +1,287 @@
+/*
+ * ElfNote.java    October 20, 2026, 01:20
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.FileComponent;
+import org.binaryinternals.commonlib.ui.GenerateTreeNode;
+import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
+
+/**
+ * A note of a {@link Elf_Phdr.ELF_SegmentType#PT_NOTE} segment or a
+ * {@link Elf_Shdr.ELF_SectionType#SHT_NOTE} section. In this class
+ * definition, we respect the name defined in Linux source code.
+ *
+ * <pre>
+ *   typedef struct elf64_note {
+ *     Elf64_Word n_namesz;	// Name size
+ *     Elf64_Word n_descsz;	// Content size
+ *     Elf64_Word n_type;	// Content type
+ *   } Elf64_Nhdr;
+ * </pre>
+ *
+ * <p>
+ * The <code>Elf32_Nhdr</code> is the same as the <code>Elf64_Nhdr</code>.
+ * </p>
+ *
+ * <p>
+ * The header is followed by the name and the descriptor, each padded to 4
+ * bytes. The descriptor is not read with the header, see {@link #desc}.
+ * </p>
+ *
+ * @author Amos Shi
+ *
+ * @see
+ * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+ *
+ * <pre>
+ * java:S116 - Field names should comply with a naming convention --- We respect the name from ELF C programming language source code
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ */
+@SuppressWarnings({"java:S116", "java:S1104"})
+public class ElfNote extends FileComponent implements GenerateTreeNode {
+
+    /**
+     * Size of the note header in bytes.
+     */
+    public static final int NHDR_SIZE = 12;
+
+    /**
+     * Name size.
+     */
+    public final long n_namesz;
+    /**
+     * Content size.
+     */
+    public final long n_descsz;
+    /**
+     * Content type, whose meaning depends on the {@link #name}.
+     */
+    public final long n_type;
+
+    /**
+     * Name of the note owner, like <code>CORE</code> or <code>GNU</code>.
+     */
+    public final String name;
+
+    /**
+     * The descriptor, the content of the note.
+     */
+    public final ElfSlice desc;
+
+    private ElfNote(final ElfReader input, final ElfContent file, final ByteOrder order) throws IOException {
+        super.startPos = ElfFile.toIntPos(input.getPos());
+        final long fileOffset = input.getPos();
+
+        this.n_namesz = input.word();
+        this.n_descsz = input.word();
+        this.n_type = input.word();
+        if (align4(this.n_namesz) + this.n_descsz > input.remaining()) {
+            throw new IOException(String.format("The note at offset 0x%X is out of its segment", fileOffset));
+        }
+
+        final byte[] nameBytes = new byte[(int) this.n_namesz];
+        for (int i = 0; i < nameBytes.length; i++) {
+            nameBytes[i] = (byte) input.u8();
+        }
+        int nameLength = nameBytes.length;
+        while (nameLength > 0 && nameBytes[nameLength - 1] == 0) {
+            nameLength--;
+        }
+        this.name = new String(nameBytes, 0, nameLength, StandardCharsets.US_ASCII);
+        input.skip((int) (align4(this.n_namesz) - this.n_namesz));
+
+        this.desc = new ElfSlice(file, input.getPos(), this.n_descsz, order);
+        input.skip((int) Math.min(align4(this.n_descsz), input.remaining()));
+
+        super.length = (int) (input.getPos() - fileOffset);
+    }
+
+    private static long align4(final long size) {
+        return (size + 3) & ~3L;
+    }
+
+    /**
+     * Parse the notes of a segment or section.
+     *
+     * @param content The segment or section content
+     * @param file The ELF file content
+     * @param order Byte order of the file
+     * @return The notes
+     * @throws IOException Read the notes failed
+     */
+    static List<ElfNote> parse(final ElfSlice content, final ElfContent file, final ByteOrder order) throws IOException {
+        if (content.size > Integer.MAX_VALUE) {
+            throw new IOException(String.format("The notes are too big: %,d bytes at offset 0x%X", content.size, content.offset));
+        }
+
+        // The note header is the same in both classes
+        final ElfReader input = new ElfReader(content.getBuffer(), content.offset, true);
+        final List<ElfNote> notes = new ArrayList<>();
+        while (input.remaining() >= NHDR_SIZE) {
+            notes.add(new ElfNote(input, file, order));
+        }
+        return notes;
+    }
+
+    /**
+     * Enum type for field {@link #n_type} of the notes named
+     * <code>CORE</code> or <code>LINUX</code> in a core dump.
+     *
+     * @see
+     * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+     */
+    public enum ELF_CoreNoteType {
+        NT_PRSTATUS(1),
+        NT_PRFPREG(2),
+        NT_PRPSINFO(3),
+        NT_TASKSTRUCT(4),
+        NT_AUXV(6),
+        NT_X86_XSTATE(0x202),
+        NT_ARM_TLS(0x401),
+        NT_ARM_HW_BREAK(0x402),
+        NT_ARM_HW_WATCH(0x403),
+        NT_ARM_SYSTEM_CALL(0x404),
+        NT_ARM_SVE(0x405),
+        NT_ARM_PAC_MASK(0x406),
+        NT_SIGINFO(0x53494749),
+        NT_FILE(0x46494c45),
+        NT_PRXFPREG(0x46e62b7f);
+
+        /**
+         * Inner value of the enumeration item.
+         */
+        public final int value;
+
+        private ELF_CoreNoteType(final int i) {
+            this.value = i;
+        }
+
+        /**
+         * Name of the value.
+         *
+         * @param v {@link #value} of an enum
+         * @return Enum name if found, else <code>Unknown</code>
+         */
+        public static String nameOf(long v) {
+            for (ELF_CoreNoteType item : ELF_CoreNoteType.values()) {
+                if (item.value == v) {
+                    return item.name();
+                }
+            }
+
+            return ELF_CoreNoteType.class.getName() + " Unknown";
+        }
+    }
+
+    /**
+     * Enum type for field {@link #n_type} of the notes named
+     * <code>GNU</code>.
+     */
+    public enum ELF_GnuNoteType {
+        NT_GNU_ABI_TAG(1),
+        NT_GNU_HWCAP(2),
+        NT_GNU_BUILD_ID(3),
+        NT_GNU_GOLD_VERSION(4),
+        NT_GNU_PROPERTY_TYPE_0(5);
+
+        /**
+         * Inner value of the enumeration item.
+         */
+        public final int value;
+
+        private ELF_GnuNoteType(final int i) {
+            this.value = i;
+        }
+
+        /**
+         * Name of the value.
+         *
+         * @param v {@link #value} of an enum
+         * @return Enum name if found, else <code>Unknown</code>
+         */
+        public static String nameOf(long v) {
+            for (ELF_GnuNoteType item : ELF_GnuNoteType.values()) {
+                if (item.value == v) {
+                    return item.name();
+                }
+            }
+
+            return ELF_GnuNoteType.class.getName() + " Unknown";
+        }
+    }
+
+    /**
+     * Name of the {@link #n_type}, which depends on the {@link #name}.
+     *
+     * @return Type name
+     */
+    public String getTypeName() {
+        return "GNU".equals(this.name)
+                ? ELF_GnuNoteType.nameOf(this.n_type)
+                : ELF_CoreNoteType.nameOf(this.n_type);
+    }
+
+    @Override
+    public void generateTreeNode(DefaultMutableTreeNode parentNode) {
+        int currentPos = this.startPos;
+
+        DefaultMutableTreeNode node = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                this.startPos,
+                this.length,
+                String.format("%s %s", this.name, this.getTypeName()),
+                "A note, which carries vendor or system specific information."
+        ));
+        parentNode.add(node);
+
+        // n_namesz
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                ElfReader.WORD,
+                String.format("n_namesz = 0x%08X (%d)", this.n_namesz, this.n_namesz),
+                "Size of the name, including the terminating null byte.")));
+        currentPos += ElfReader.WORD;
+
+        // n_descsz
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                ElfReader.WORD,
+                String.format("n_descsz = 0x%08X (%d)", this.n_descsz, this.n_descsz),
+                "Size of the descriptor.")));
+        currentPos += ElfReader.WORD;
+
+        // n_type
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                ElfReader.WORD,
+                String.format("n_type = 0x%08X (%d): %s", this.n_type, this.n_type, this.getTypeName()),
+                "Type of the descriptor, whose meaning depends on the name.")));
+        currentPos += ElfReader.WORD;
+
+        // name
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                (int) this.n_namesz,
+                String.format("name = %s", this.name),
+                "Name of the note owner.")));
+
+        // desc
+        JTreeNodeFileComponent descComp = new JTreeNodeFileComponent(
+                ElfFile.toIntPos(this.desc.offset),
+                ElfFile.toIntPos(this.desc.size),
+                String.format("desc %s", this.desc),
+                "The descriptor, the content of the note.");
+        descComp.setDetailPanel(new JPanelElfSlice(this.desc, false));
+        node.add(new DefaultMutableTreeNode(descComp));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * ElfReader.java    October 20, 2026, 02:10
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Reader of the ELF structures of both classes and both byte orders.
+ *
+ * <p>
+ * The <code>Elf32_*</code> and <code>Elf64_*</code> structures differ only in
+ * the size of the addresses, offsets and some of the sizes; the structure
+ * classes, like {@link Elf_Shdr}, read their fields through
+ * {@link #addr()}, {@link #off()} and {@link #xword()}, which are 4 or 8
+ * bytes by the {@link #elf64} class. The byte order is the order of the
+ * buffer, and the values are read as primitives, without a wrapper object
+ * for each field.
+ * </p>
+ *
+ * <pre>
+ *   typedef __u32    Elf32_Addr;        typedef __u64    Elf64_Addr;
+ *   typedef __u16    Elf32_Half;        typedef __u16    Elf64_Half;
+ *   typedef __u32    Elf32_Off;         typedef __u64    Elf64_Off;
+ *   typedef __s32    Elf32_Sword;       typedef __s32    Elf64_Sword;
+ *   typedef __u32    Elf32_Word;        typedef __u32    Elf64_Word;
+ *                                       typedef __u64    Elf64_Xword;
+ *                                       typedef __s64    Elf64_Sxword;
+ * </pre>
+ *
+ * @author Amos Shi
+ * @see
+ * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+ */
+final class ElfReader {
+
+    /**
+     * Size of <code>Elf32_Word</code> and <code>Elf64_Word</code>.
+     */
+    static final int WORD = 4;
+
+    /**
+     * Size of <code>Elf32_Half</code> and <code>Elf64_Half</code>.
+     */
+    static final int HALF = 2;
+
+    /**
+     * Whether the structures are <code>Elf64_*</code>, else
+     * <code>Elf32_*</code>.
+     */
+    final boolean elf64;
+
+    private final ByteBuffer buf;
+    private final long base;
+    private int pos;
+
+    /**
+     * Reader of a buffer.
+     *
+     * @param buf Content to read, in the byte order of the file; it is read
+     * from its position 0
+     * @param base File offset of the buffer position 0
+     * @param elf64 Whether the file is {@link Identification.ElfClass#ELFCLASS64}
+     */
+    ElfReader(final ByteBuffer buf, final long base, final boolean elf64) {
+        this.buf = buf;
+        this.base = base;
+        this.elf64 = elf64;
+    }
+
+    /**
+     * Reader of a file content in memory.
+     *
+     * @param bytes Content to read
+     * @param base File offset of the first byte
+     * @param order Byte order of the file
+     * @param elf64 Whether the file is {@link Identification.ElfClass#ELFCLASS64}
+     */
+    ElfReader(final byte[] bytes, final long base, final ByteOrder order, final boolean elf64) {
+        this(ByteBuffer.wrap(bytes).order(order), base, elf64);
+    }
+
+    /**
+     * Size of an address, an offset and a <code>Xword</code> of the class.
+     *
+     * @return 8 for 64-bit ELF, 4 for 32-bit ELF
+     */
+    int addrSize() {
+        return this.elf64 ? 8 : 4;
+    }
+
+    /**
+     * File offset of the next byte to read.
+     *
+     * @return File offset
+     */
+    long getPos() {
+        return this.base + this.pos;
+    }
+
+    /**
+     * Position of the next byte to read in the buffer.
+     *
+     * @return Buffer position
+     */
+    int position() {
+        return this.pos;
+    }
+
+    /**
+     * Move to a position in the buffer.
+     *
+     * @param position Buffer position
+     */
+    void seek(final int position) {
+        this.pos = position;
+    }
+
+    /**
+     * Skip bytes.
+     *
+     * @param n Number of bytes
+     */
+    void skip(final int n) {
+        this.pos += n;
+    }
+
+    /**
+     * Number of bytes left in the buffer.
+     *
+     * @return Number of bytes
+     */
+    int remaining() {
+        return this.buf.limit() - this.pos;
+    }
+
+    /**
+     * Read an <code>unsigned char</code>.
+     *
+     * @return The value
+     */
+    int u8() {
+        this.check(1);
+        return this.buf.get(this.pos++) & 0xFF;
+    }
+
+    /**
+     * Read a <code>Half</code>.
+     *
+     * @return The value
+     */
+    int half() {
+        this.check(HALF);
+        final int value = this.buf.getShort(this.pos) & 0xFFFF;
+        this.pos += HALF;
+        return value;
+    }
+
+    /**
+     * Read a <code>Word</code>.
+     *
+     * @return The value
+     */
+    long word() {
+        this.check(WORD);
+        final long value = this.buf.getInt(this.pos) & 0xFFFFFFFFL;
+        this.pos += WORD;
+        return value;
+    }
+
+    /**
+     * Read an <code>Addr</code>, 4 or 8 bytes by the class.
+     *
+     * @return The value, which is negative if it is bigger than
+     * {@link Long#MAX_VALUE}
+     */
+    long addr() {
+        return this.elf64 ? this.u64() : this.word();
+    }
+
+    /**
+     * Read an <code>Off</code>, 4 or 8 bytes by the class.
+     *
+     * @return The value, which is negative if it is bigger than
+     * {@link Long#MAX_VALUE}
+     */
+    long off() {
+        return this.elf64 ? this.u64() : this.word();
+    }
+
+    /**
+     * Read an <code>Elf64_Xword</code>, or the <code>Elf32_Word</code> of
+     * the same field in a 32-bit structure.
+     *
+     * @return The value, which is negative if it is bigger than
+     * {@link Long#MAX_VALUE}
+     */
+    long xword() {
+        return this.elf64 ? this.u64() : this.word();
+    }
+
+    /**
+     * Read an <code>Elf64_Sxword</code>, or the <code>Elf32_Sword</code> of
+     * the same field in a 32-bit structure.
+     *
+     * @return The value
+     */
+    long sxword() {
+        if (this.elf64) {
+            return this.u64();
+        }
+        this.check(WORD);
+        final long value = this.buf.getInt(this.pos);
+        this.pos += WORD;
+        return value;
+    }
+
+    private long u64() {
+        this.check(8);
+        final long value = this.buf.getLong(this.pos);
+        this.pos += 8;
+        return value;
+    }
+
+    private void check(final int n) {
+        if (this.pos < 0 || this.pos + n > this.buf.limit()) {
+            throw new BufferUnderflowException();
+        }
+    }
+}
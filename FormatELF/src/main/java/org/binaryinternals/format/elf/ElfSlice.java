@@ -0,0 +1,92 @@
+/*
+ * ElfSlice.java    October 19, 2026, 23:55
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A range of an ELF file, like the content of a section or a segment. The
+ * range is mapped the first time its buffer is used; the bytes are never
+ * copied.
+ *
+ * <pre>
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ *
+ * @author Amos Shi
+ */
+@SuppressWarnings("java:S1104")
+public final class ElfSlice {
+
+    /**
+     * File offset of the range.
+     */
+    public final long offset;
+
+    /**
+     * Size of the range in bytes.
+     */
+    public final long size;
+
+    private final ElfContent content;
+    private final ByteOrder order;
+    private volatile ByteBuffer buffer;
+
+    ElfSlice(final ElfContent content, final long offset, final long size, final ByteOrder order) {
+        this.content = content;
+        this.offset = offset;
+        this.size = size;
+        this.order = order;
+    }
+
+    /**
+     * Get the whole range as a read-only buffer, in the byte order of the
+     * file. The range is mapped on the first call.
+     *
+     * @return A new buffer view of the range, positioned at 0
+     * @throws IOException The range is bigger than 2 GB, or mapping failed
+     */
+    public ByteBuffer getBuffer() throws IOException {
+        ByteBuffer result = this.buffer;
+        if (result == null) {
+            if (this.size > Integer.MAX_VALUE) {
+                throw new IOException(String.format("The range is too big to be mapped at once: %,d bytes, offset 0x%X", this.size, this.offset));
+            }
+            result = this.content.map(this.offset, (int) this.size);
+            this.buffer = result;
+        }
+        return result.duplicate().order(this.order);
+    }
+
+    /**
+     * Get part of the range as a read-only buffer, in the byte order of the
+     * file, for ranges too big to be mapped at once.
+     *
+     * @param pos Position relative to the start of the range
+     * @param length Number of bytes
+     * @return The buffer, positioned at 0
+     * @throws IOException The part is out of the range, or mapping failed
+     */
+    public ByteBuffer getBuffer(final long pos, final int length) throws IOException {
+        if (pos < 0 || length < 0 || pos + length > this.size) {
+            throw new IOException(String.format("The part is out of the range: pos=0x%X, length=%d, range size=%d", pos, length, this.size));
+        }
+        if (this.buffer != null) {
+            final ByteBuffer whole = this.getBuffer();
+            whole.position((int) pos).limit((int) pos + length);
+            return whole.slice().order(this.order);
+        }
+        return this.content.map(this.offset + pos, length).order(this.order);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[0x%X, %,d bytes]", this.offset, this.size);
+    }
+}
@@ -6,20 +6,16 @@
  */
 package org.binaryinternals.format.elf;
 
-import java.io.IOException;
+import java.nio.BufferUnderflowException;
 import javax.swing.tree.DefaultMutableTreeNode;
 import org.binaryinternals.commonlib.core.FileComponent;
 import org.binaryinternals.commonlib.core.FileFormatException;
 import org.binaryinternals.commonlib.ui.GenerateTreeNode;
 import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
-import org.binaryinternals.format.elf.Elf64Type.Elf64_Addr;
-import org.binaryinternals.format.elf.Elf64Type.Elf64_Half;
-import org.binaryinternals.format.elf.Elf64Type.Elf64_Off;
-import org.binaryinternals.format.elf.Elf64Type.Elf64_Word;
 
 /**
- * ELF header for 64-bit system. In this class definition, we respect the name
- * defined in Linux source code.
+ * ELF header for 32-bit and 64-bit system. In this class definition, we
+ * respect the name defined in Linux source code.
  *
  * <pre>
  *   typedef struct elf64_hdr {
@@ -40,6 +36,11 @@ import org.binaryinternals.format.elf.Elf64Type.Elf64_Word;
  *   } Elf64_Ehdr;
  * </pre>
  *
+ * <p>
+ * The <code>Elf32_Ehdr</code> has the same fields, with 32-bit
+ * <code>e_entry</code>, <code>e_phoff</code> and <code>e_shoff</code>.
+ * </p>
+ *
  * @author Amos Shi
  *
  * @see
@@ -51,52 +52,62 @@ import org.binaryinternals.format.elf.Elf64Type.Elf64_Word;
  * </pre>
  */
 @SuppressWarnings({"java:S101", "java:S116"})
-public class Elf64_Ehdr extends FileComponent implements GenerateTreeNode {
+public class Elf_Ehdr extends FileComponent implements GenerateTreeNode {
 
     /**
      * ELF file types.
      */
-    public final Elf64_Half e_type;
-    public final Elf64_Half e_machine;
-    public final Elf64_Word e_version;
+    public final int e_type;
+    public final int e_machine;
+    public final long e_version;
     /**
      * Entry point virtual address
      */
-    public final Elf64_Addr e_entry;
+    public final long e_entry;
     /**
      * Program header table file offset
      */
-    public final Elf64_Off e_phoff;
+    public final long e_phoff;
     /**
      * Section header table file offset
      */
-    public final Elf64_Off e_shoff;
-    public final Elf64_Word e_flags;
-    public final Elf64_Half e_ehsize;
-    public final Elf64_Half e_phentsize;
-    public final Elf64_Half e_phnum;
-    public final Elf64_Half e_shentsize;
-    public final Elf64_Half e_shnum;
-    public final Elf64_Half e_shstrndx;
-
-    Elf64_Ehdr(final PosDataInputStreamElf input) throws IOException, FileFormatException {
-        super.startPos = input.getPos();
-
-        this.e_type = input.read_Elf64_Half();
-        this.e_machine = input.read_Elf64_Half();
-        this.e_version = input.read_Elf64_Word();
-        this.e_entry = input.read_Elf64_Addr();
-        this.e_phoff = input.read_Elf64_Off();
-        this.e_shoff = input.read_Elf64_Off();
-        this.e_flags = input.read_Elf64_Word();
-        this.e_ehsize = input.read_Elf64_Half();
-        this.e_phentsize = input.read_Elf64_Half();
-        this.e_phnum = input.read_Elf64_Half();
-        this.e_shentsize = input.read_Elf64_Half();
-        this.e_shnum = input.read_Elf64_Half();
-        this.e_shstrndx = input.read_Elf64_Half();
-
-        super.length = input.getPos() - super.startPos;
+    public final long e_shoff;
+    public final long e_flags;
+    public final int e_ehsize;
+    public final int e_phentsize;
+    public final int e_phnum;
+    public final int e_shentsize;
+    public final int e_shnum;
+    public final int e_shstrndx;
+
+    /**
+     * Size of the addresses and offsets, 4 or 8.
+     */
+    private final int addrSize;
+
+    Elf_Ehdr(final ElfReader input) throws FileFormatException {
+        super.startPos = (int) input.getPos();
+        this.addrSize = input.addrSize();
+
+        try {
+            this.e_type = input.half();
+            this.e_machine = input.half();
+            this.e_version = input.word();
+            this.e_entry = input.addr();
+            this.e_phoff = input.off();
+            this.e_shoff = input.off();
+            this.e_flags = input.word();
+            this.e_ehsize = input.half();
+            this.e_phentsize = input.half();
+            this.e_phnum = input.half();
+            this.e_shentsize = input.half();
+            this.e_shnum = input.half();
+            this.e_shstrndx = input.half();
+        } catch (BufferUnderflowException ex) {
+            throw new FileFormatException("The ELF file header is truncated", ex);
+        }
+
+        super.length = (int) input.getPos() - super.startPos;
     }
 
     /**
@@ -309,116 +320,117 @@ public class Elf64_Ehdr extends FileComponent implements GenerateTreeNode {
     @Override
     public void generateTreeNode(DefaultMutableTreeNode parentNode) {
         int currentPos = this.startPos;
+        final String addrFormat = (this.addrSize == 8) ? "0x%016X" : "0x%08X";
 
         DefaultMutableTreeNode node = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 this.startPos,
                 this.length,
-                String.format("ELF64 Header [0x%08X, %d]", this.startPos, this.length),
-                "The ELF header on 64-bit CPU architecture."
+                String.format("ELF%d Header [0x%08X, %d]", this.addrSize * 8, this.startPos, this.length),
+                String.format("The ELF header on %d-bit CPU architecture.", this.addrSize * 8)
         ));
         parentNode.add(node);
 
         // e_type
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Half.LENGTH,
-                String.format("e_type = 0x%04X (%d): %s", this.e_type.value, this.e_type.value, ELF_FileType.nameOf(this.e_type.value)),
+                ElfReader.HALF,
+                String.format("e_type = 0x%04X (%d): %s", this.e_type, this.e_type, ELF_FileType.nameOf(this.e_type)),
                 "Identifies object file type.")));
-        currentPos += Elf64_Half.LENGTH;
+        currentPos += ElfReader.HALF;
 
         // e_machine
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Half.LENGTH,
-                String.format("e_machine = 0x%04X (%d): %s", this.e_machine.value, this.e_machine.value, ELF_Machine.nameOf(this.e_machine.value)),
+                ElfReader.HALF,
+                String.format("e_machine = 0x%04X (%d): %s", this.e_machine, this.e_machine, ELF_Machine.nameOf(this.e_machine)),
                 "Specifies target instruction set architecture.")));
-        currentPos += Elf64_Half.LENGTH;
+        currentPos += ElfReader.HALF;
 
         // e_version
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Word.LENGTH,
-                String.format("e_version = 0x%08X (%d)", this.e_version.value, this.e_version.value),
+                ElfReader.WORD,
+                String.format("e_version = 0x%08X (%d)", this.e_version, this.e_version),
                 "Set to 1 for the original version of ELF.")));
-        currentPos += Elf64_Word.LENGTH;
+        currentPos += ElfReader.WORD;
 
         // e_entry
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Addr.LENGTH,
-                String.format("e_entry = 0x%016X (%d)", this.e_entry.value, this.e_entry.value),
+                this.addrSize,
+                String.format("e_entry = " + addrFormat + " (%s)", this.e_entry, Long.toUnsignedString(this.e_entry)),
                 "This is the memory address of the entry point from where the process starts executing. This field is either 32 or 64 bits long depending on the format defined earlier.")));
-        currentPos += Elf64_Addr.LENGTH;
+        currentPos += this.addrSize;
 
         // e_phoff
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Off.LENGTH,
-                String.format("e_phoff = 0x%016X (%d)", this.e_phoff.value, this.e_phoff.value),
+                this.addrSize,
+                String.format("e_phoff = " + addrFormat + " (%s)", this.e_phoff, Long.toUnsignedString(this.e_phoff)),
                 "Points to the start of the program header table. It usually follows the file header immediately, making the offset 0x34 or 0x40 for 32- and 64-bit ELF executables, respectively.")));
-        currentPos += Elf64_Off.LENGTH;
+        currentPos += this.addrSize;
 
         // e_shoff
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Off.LENGTH,
-                String.format("e_shoff = 0x%016X (%d)", this.e_shoff.value, this.e_shoff.value),
+                this.addrSize,
+                String.format("e_shoff = " + addrFormat + " (%s)", this.e_shoff, Long.toUnsignedString(this.e_shoff)),
                 "Points to the start of the section header table.")));
-        currentPos += Elf64_Off.LENGTH;
+        currentPos += this.addrSize;
 
         // e_flags
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Word.LENGTH,
-                String.format("e_flags = 0x%08X (%d)", this.e_flags.value, this.e_flags.value),
+                ElfReader.WORD,
+                String.format("e_flags = 0x%08X (%d)", this.e_flags, this.e_flags),
                 "Interpretation of this field depends on the target architecture.")));
-        currentPos += Elf64_Word.LENGTH;
+        currentPos += ElfReader.WORD;
 
         // e_ehsize
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Half.LENGTH,
-                String.format("e_ehsize = 0x%04X (%d)", this.e_ehsize.value, this.e_ehsize.value),
+                ElfReader.HALF,
+                String.format("e_ehsize = 0x%04X (%d)", this.e_ehsize, this.e_ehsize),
                 "Contains the size of this header, normally 64 Bytes for 64-bit and 52 Bytes for 32-bit format.")));
-        currentPos += Elf64_Half.LENGTH;
+        currentPos += ElfReader.HALF;
 
         // e_phentsize
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Half.LENGTH,
-                String.format("e_phentsize = 0x%04X (%d)", this.e_phentsize.value, this.e_phentsize.value),
+                ElfReader.HALF,
+                String.format("e_phentsize = 0x%04X (%d)", this.e_phentsize, this.e_phentsize),
                 "Contains the size of a program header table entry.")));
-        currentPos += Elf64_Half.LENGTH;
+        currentPos += ElfReader.HALF;
 
         // e_phnum
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Half.LENGTH,
-                String.format("e_phnum = 0x%04X (%d)", this.e_phnum.value, this.e_phnum.value),
+                ElfReader.HALF,
+                String.format("e_phnum = 0x%04X (%d)", this.e_phnum, this.e_phnum),
                 "Contains the number of entries in the program header table.")));
-        currentPos += Elf64_Half.LENGTH;
+        currentPos += ElfReader.HALF;
 
         // e_shentsize
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Half.LENGTH,
-                String.format("e_shentsize = 0x%04X (%d)", this.e_shentsize.value, this.e_shentsize.value),
+                ElfReader.HALF,
+                String.format("e_shentsize = 0x%04X (%d)", this.e_shentsize, this.e_shentsize),
                 "Contains the size of a section header table entry.")));
-        currentPos += Elf64_Half.LENGTH;
+        currentPos += ElfReader.HALF;
 
         // e_shnum
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Half.LENGTH,
-                String.format("e_shnum = 0x%04X (%d)", this.e_shnum.value, this.e_shnum.value),
+                ElfReader.HALF,
+                String.format("e_shnum = 0x%04X (%d)", this.e_shnum, this.e_shnum),
                 "Contains the number of entries in the section header table.")));
-        currentPos += Elf64_Half.LENGTH;
+        currentPos += ElfReader.HALF;
 
         // e_shstrndx
         node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
                 currentPos,
-                Elf64_Half.LENGTH,
-                String.format("e_shstrndx = 0x%04X (%d)", this.e_shstrndx.value, this.e_shstrndx.value),
+                ElfReader.HALF,
+                String.format("e_shstrndx = 0x%04X (%d)", this.e_shstrndx, this.e_shstrndx),
                 "Contains index of the section header table entry that contains the section names.")));
     }
 }
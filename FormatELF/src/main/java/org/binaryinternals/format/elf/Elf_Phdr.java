@@ -0,0 +1,316 @@
+/*
+ * Elf_Phdr.java    October 19, 2026, 23:58
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.nio.ByteOrder;
+import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.FileComponent;
+import org.binaryinternals.commonlib.ui.GenerateTreeNode;
+import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
+
+/**
+ * Program header for 32-bit and 64-bit system, an entry of the program header
+ * table. In this class definition, we respect the name defined in Linux source
+ * code.
+ *
+ * <pre>
+ *   typedef struct elf64_phdr {
+ *     Elf64_Word p_type;
+ *     Elf64_Word p_flags;
+ *     Elf64_Off p_offset;		// Segment file offset
+ *     Elf64_Addr p_vaddr;		// Segment virtual address
+ *     Elf64_Addr p_paddr;		// Segment physical address
+ *     Elf64_Xword p_filesz;		// Segment size in file
+ *     Elf64_Xword p_memsz;		// Segment size in memory
+ *     Elf64_Xword p_align;		// Segment alignment, file &amp; memory
+ *   } Elf64_Phdr;
+ *
+ *   typedef struct elf32_phdr {
+ *     Elf32_Word p_type;
+ *     Elf32_Off p_offset;
+ *     Elf32_Addr p_vaddr;
+ *     Elf32_Addr p_paddr;
+ *     Elf32_Word p_filesz;
+ *     Elf32_Word p_memsz;
+ *     Elf32_Word p_flags;
+ *     Elf32_Word p_align;
+ *   } Elf32_Phdr;
+ * </pre>
+ *
+ * <p>
+ * The segment content is not read with the header, see {@link #content}.
+ * </p>
+ *
+ * @author Amos Shi
+ *
+ * @see
+ * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+ *
+ * <pre>
+ * java:S101 - Class names should comply with a naming convention --- We respect the name from ELF C programming language source code
+ * java:S116 - Field names should comply with a naming convention --- We respect the name from ELF C programming language source code
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ */
+@SuppressWarnings({"java:S101", "java:S116", "java:S1104"})
+public class Elf_Phdr extends FileComponent implements GenerateTreeNode {
+
+    /**
+     * Size of the <code>Elf64_Phdr</code> in bytes; the
+     * <code>e_phentsize</code> could be bigger.
+     */
+    public static final int SIZE = 56;
+
+    /**
+     * Size of the <code>Elf32_Phdr</code> in bytes.
+     */
+    public static final int SIZE32 = 32;
+
+    /**
+     * Value of {@link Elf_Ehdr#e_phnum} meaning the real number is in the
+     * <code>sh_info</code> of the section header 0.
+     */
+    public static final int PN_XNUM = 0xffff;
+
+    public static final int PF_X = 0x1;
+    public static final int PF_W = 0x2;
+    public static final int PF_R = 0x4;
+
+    /**
+     * Type of segment.
+     *
+     * @see ELF_SegmentType
+     */
+    public final long p_type;
+    /**
+     * Segment flags, see {@link #PF_R}, {@link #PF_W} and {@link #PF_X}.
+     */
+    public final long p_flags;
+    /**
+     * Segment file offset.
+     */
+    public final long p_offset;
+    /**
+     * Segment virtual address.
+     */
+    public final long p_vaddr;
+    /**
+     * Segment physical address.
+     */
+    public final long p_paddr;
+    /**
+     * Segment size in file.
+     */
+    public final long p_filesz;
+    /**
+     * Segment size in memory.
+     */
+    public final long p_memsz;
+    /**
+     * Segment alignment, file and memory.
+     */
+    public final long p_align;
+
+    /**
+     * Index of the segment in the program header table.
+     */
+    public final int index;
+
+    /**
+     * Content of the segment in the file, which is mapped from the file when
+     * used.
+     */
+    public final ElfSlice content;
+
+    private final int addrSize;
+
+    Elf_Phdr(final ElfReader input, final int index, final ElfContent file, final ByteOrder order) {
+        super.startPos = (int) input.getPos();
+        this.addrSize = input.addrSize();
+
+        this.p_type = input.word();
+        if (input.elf64) {
+            this.p_flags = input.word();
+            this.p_offset = input.off();
+            this.p_vaddr = input.addr();
+            this.p_paddr = input.addr();
+            this.p_filesz = input.xword();
+            this.p_memsz = input.xword();
+            this.p_align = input.xword();
+        } else {
+            this.p_offset = input.off();
+            this.p_vaddr = input.addr();
+            this.p_paddr = input.addr();
+            this.p_filesz = input.word();
+            this.p_memsz = input.word();
+            this.p_flags = input.word();
+            this.p_align = input.word();
+        }
+
+        super.length = (int) input.getPos() - super.startPos;
+        this.index = index;
+        this.content = new ElfSlice(file, this.p_offset, this.p_filesz, order);
+    }
+
+    /**
+     * Readable letters of the {@link #p_flags}, the same as
+     * <code>readelf</code>.
+     *
+     * @param flags Value of {@link #p_flags}
+     * @return Flag letters
+     */
+    static String flagsString(final long flags) {
+        return String.format("%c%c%c",
+                (flags & PF_R) != 0 ? 'R' : ' ',
+                (flags & PF_W) != 0 ? 'W' : ' ',
+                (flags & PF_X) != 0 ? 'E' : ' ');
+    }
+
+    /**
+     * Enum type for field {@link #p_type}.
+     *
+     * @see
+     * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+     */
+    public enum ELF_SegmentType {
+        PT_NULL(0),
+        PT_LOAD(1),
+        PT_DYNAMIC(2),
+        PT_INTERP(3),
+        PT_NOTE(4),
+        PT_SHLIB(5),
+        PT_PHDR(6),
+        PT_TLS(7),
+        PT_GNU_EH_FRAME(0x6474e550),
+        PT_GNU_STACK(0x6474e551),
+        PT_GNU_RELRO(0x6474e552),
+        PT_GNU_PROPERTY(0x6474e553);
+
+        /**
+         * Inner value of the enumeration item.
+         */
+        public final int value;
+
+        private ELF_SegmentType(final int i) {
+            this.value = i;
+        }
+
+        /**
+         * Name of the value.
+         *
+         * @param v {@link #value} of an enum
+         * @return Enum name if found, else <code>Unknown</code>
+         */
+        public static String nameOf(long v) {
+            for (ELF_SegmentType item : ELF_SegmentType.values()) {
+                if (item.value == v) {
+                    return item.name();
+                }
+            }
+
+            return ELF_SegmentType.class.getName() + " Unknown";
+        }
+    }
+
+    @Override
+    public void generateTreeNode(DefaultMutableTreeNode parentNode) {
+        int currentPos = this.startPos;
+        final String addrFormat = (this.addrSize == 8) ? "0x%016X" : "0x%08X";
+
+        DefaultMutableTreeNode node = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                this.startPos,
+                this.length,
+                String.format("[%d] %s", this.index, ELF_SegmentType.nameOf(this.p_type)),
+                "Program header, which describes a segment used at runtime."
+        ));
+        parentNode.add(node);
+
+        // p_type
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                ElfReader.WORD,
+                String.format("p_type = 0x%08X (%d): %s", this.p_type, this.p_type, ELF_SegmentType.nameOf(this.p_type)),
+                "Identifies the type of the segment.")));
+        currentPos += ElfReader.WORD;
+
+        // p_flags, after p_type in Elf64_Phdr
+        if (this.addrSize == 8) {
+            this.addFlagsNode(node, currentPos);
+            currentPos += ElfReader.WORD;
+        }
+
+        // p_offset
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("p_offset = " + addrFormat + " (%s)", this.p_offset, Long.toUnsignedString(this.p_offset)),
+                "Offset of the segment in the file image.")));
+        currentPos += this.addrSize;
+
+        // p_vaddr
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("p_vaddr = " + addrFormat + " (%s)", this.p_vaddr, Long.toUnsignedString(this.p_vaddr)),
+                "Virtual address of the segment in memory.")));
+        currentPos += this.addrSize;
+
+        // p_paddr
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("p_paddr = " + addrFormat + " (%s)", this.p_paddr, Long.toUnsignedString(this.p_paddr)),
+                "On systems where physical address is relevant, reserved for segment's physical address.")));
+        currentPos += this.addrSize;
+
+        // p_filesz
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("p_filesz = " + addrFormat + " (%s)", this.p_filesz, Long.toUnsignedString(this.p_filesz)),
+                "Size in bytes of the segment in the file image. May be 0.")));
+        currentPos += this.addrSize;
+
+        // p_memsz
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("p_memsz = " + addrFormat + " (%s)", this.p_memsz, Long.toUnsignedString(this.p_memsz)),
+                "Size in bytes of the segment in memory. May be 0.")));
+        currentPos += this.addrSize;
+
+        // p_flags, before p_align in Elf32_Phdr
+        if (this.addrSize != 8) {
+            this.addFlagsNode(node, currentPos);
+            currentPos += ElfReader.WORD;
+        }
+
+        // p_align
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("p_align = " + addrFormat + " (%s)", this.p_align, Long.toUnsignedString(this.p_align)),
+                "0 and 1 specify no alignment. Otherwise should be a positive, integral power of 2, with p_vaddr equating p_offset modulus p_align.")));
+
+        // Segment content
+        JTreeNodeFileComponent contentComp = new JTreeNodeFileComponent(
+                ElfFile.toIntPos(this.content.offset),
+                ElfFile.toIntPos(this.content.size),
+                String.format("content %s", this.content),
+                "Content of the segment, which is read from the file when it is displayed.");
+        contentComp.setDetailPanel(new JPanelElfSlice(this.content, false));
+        node.add(new DefaultMutableTreeNode(contentComp));
+    }
+
+    private void addFlagsNode(final DefaultMutableTreeNode node, final int pos) {
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                pos,
+                ElfReader.WORD,
+                String.format("p_flags = 0x%08X (%d): %s", this.p_flags, this.p_flags, flagsString(this.p_flags)),
+                "Segment-dependent flags: R (readable), W (writable), E (executable).")));
+    }
+}
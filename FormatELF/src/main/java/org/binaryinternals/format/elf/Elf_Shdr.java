@@ -0,0 +1,380 @@
+/*
+ * Elf_Shdr.java    October 19, 2026, 23:58
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import javax.swing.tree.DefaultMutableTreeNode;
+import org.binaryinternals.commonlib.core.FileComponent;
+import org.binaryinternals.commonlib.ui.GenerateTreeNode;
+import org.binaryinternals.commonlib.ui.JTreeNodeFileComponent;
+
+/**
+ * Section header for 32-bit and 64-bit system, an entry of the section header
+ * table. In this class definition, we respect the name defined in Linux source
+ * code.
+ *
+ * <pre>
+ *   typedef struct elf64_shdr {
+ *     Elf64_Word sh_name;		// Section name, index in string tbl
+ *     Elf64_Word sh_type;		// Type of section
+ *     Elf64_Xword sh_flags;		// Miscellaneous section attributes
+ *     Elf64_Addr sh_addr;		// Section virtual addr at execution
+ *     Elf64_Off sh_offset;		// Section file offset
+ *     Elf64_Xword sh_size;		// Size of section in bytes
+ *     Elf64_Word sh_link;		// Index of another section
+ *     Elf64_Word sh_info;		// Additional section information
+ *     Elf64_Xword sh_addralign;	// Section alignment
+ *     Elf64_Xword sh_entsize;	// Entry size if section holds table
+ *   } Elf64_Shdr;
+ * </pre>
+ *
+ * <p>
+ * The <code>Elf32_Shdr</code> has the same fields, with 32-bit
+ * <code>sh_flags</code>, <code>sh_addr</code>, <code>sh_offset</code>,
+ * <code>sh_size</code>, <code>sh_addralign</code> and <code>sh_entsize</code>.
+ * </p>
+ *
+ * <p>
+ * The section content is not read with the header, see {@link #content}.
+ * </p>
+ *
+ * @author Amos Shi
+ *
+ * @see
+ * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+ *
+ * <pre>
+ * java:S101 - Class names should comply with a naming convention --- We respect the name from ELF C programming language source code
+ * java:S116 - Field names should comply with a naming convention --- We respect the name from ELF C programming language source code
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ */
+@SuppressWarnings({"java:S101", "java:S116", "java:S1104"})
+public class Elf_Shdr extends FileComponent implements GenerateTreeNode {
+
+    /**
+     * Size of the <code>Elf64_Shdr</code> in bytes; the
+     * <code>e_shentsize</code> could be bigger.
+     */
+    public static final int SIZE = 64;
+
+    /**
+     * Size of the <code>Elf32_Shdr</code> in bytes.
+     */
+    public static final int SIZE32 = 40;
+
+    /**
+     * Section index in {@link Elf_Ehdr#e_shnum} or
+     * {@link Elf_Ehdr#e_shstrndx} meaning the real value is in the section
+     * header 0.
+     */
+    public static final int SHN_XINDEX = 0xffff;
+
+    /**
+     * Section name, index in the section name string table.
+     */
+    public final long sh_name;
+    /**
+     * Type of section.
+     *
+     * @see ELF_SectionType
+     */
+    public final long sh_type;
+    /**
+     * Miscellaneous section attributes.
+     */
+    public final long sh_flags;
+    /**
+     * Section virtual address at execution.
+     */
+    public final long sh_addr;
+    /**
+     * Section file offset.
+     */
+    public final long sh_offset;
+    /**
+     * Size of section in bytes.
+     */
+    public final long sh_size;
+    /**
+     * Index of another section.
+     */
+    public final long sh_link;
+    /**
+     * Additional section information.
+     */
+    public final long sh_info;
+    /**
+     * Section alignment.
+     */
+    public final long sh_addralign;
+    /**
+     * Entry size if section holds table.
+     */
+    public final long sh_entsize;
+
+    /**
+     * Index of the section in the section header table.
+     */
+    public final int index;
+
+    /**
+     * Content of the section, which is mapped from the file when used. It is
+     * empty for a {@link ELF_SectionType#SHT_NOBITS} section.
+     */
+    public final ElfSlice content;
+
+    private final int addrSize;
+    private String name = "";
+
+    Elf_Shdr(final ElfReader input, final int index, final ElfContent file, final ByteOrder order) {
+        super.startPos = (int) input.getPos();
+        this.addrSize = input.addrSize();
+
+        this.sh_name = input.word();
+        this.sh_type = input.word();
+        this.sh_flags = input.xword();
+        this.sh_addr = input.addr();
+        this.sh_offset = input.off();
+        this.sh_size = input.xword();
+        this.sh_link = input.word();
+        this.sh_info = input.word();
+        this.sh_addralign = input.xword();
+        this.sh_entsize = input.xword();
+
+        super.length = (int) input.getPos() - super.startPos;
+        this.index = index;
+        this.content = new ElfSlice(file, this.sh_offset,
+                (this.sh_type == ELF_SectionType.SHT_NOBITS.value) ? 0 : this.sh_size, order);
+    }
+
+    /**
+     * Section name, resolved from the section name string table.
+     *
+     * @return Section name, or empty string if there is no name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Resolve the {@link #sh_name} in the section name string table.
+     *
+     * @param strtab Content of the section name string table
+     */
+    void resolveName(final ByteBuffer strtab) {
+        this.name = getString(strtab, this.sh_name);
+    }
+
+    /**
+     * Get a null-terminated string from a string table.
+     *
+     * @param strtab Content of the string table
+     * @param offset Offset of the string in the table
+     * @return The string, or a placeholder if the offset is out of the table
+     */
+    static String getString(final ByteBuffer strtab, final long offset) {
+        if (offset < 0 || offset >= strtab.limit()) {
+            return String.format("<corrupt: 0x%X>", offset);
+        }
+
+        int end = (int) offset;
+        while (end < strtab.limit() && strtab.get(end) != 0) {
+            end++;
+        }
+        final byte[] bytes = new byte[end - (int) offset];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = strtab.get((int) offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Readable letters of the {@link #sh_flags}, the same as
+     * <code>readelf</code>.
+     *
+     * @param flags Value of {@link #sh_flags}
+     * @return Flag letters
+     */
+    static String flagsString(final long flags) {
+        final String letters = "WAX?MSILOGTC";
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < letters.length(); i++) {
+            if ((flags & (1L << i)) != 0 && letters.charAt(i) != '?') {
+                sb.append(letters.charAt(i));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Enum type for field {@link #sh_type}.
+     *
+     * @see
+     * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+     */
+    public enum ELF_SectionType {
+        SHT_NULL(0),
+        SHT_PROGBITS(1),
+        SHT_SYMTAB(2),
+        SHT_STRTAB(3),
+        SHT_RELA(4),
+        SHT_HASH(5),
+        SHT_DYNAMIC(6),
+        SHT_NOTE(7),
+        SHT_NOBITS(8),
+        SHT_REL(9),
+        SHT_SHLIB(10),
+        SHT_DYNSYM(11),
+        SHT_INIT_ARRAY(14),
+        SHT_FINI_ARRAY(15),
+        SHT_PREINIT_ARRAY(16),
+        SHT_GROUP(17),
+        SHT_SYMTAB_SHNDX(18),
+        SHT_RELR(19),
+        SHT_ANDROID_REL(0x60000001),
+        SHT_ANDROID_RELA(0x60000002),
+        SHT_GNU_ATTRIBUTES(0x6ffffff5),
+        SHT_GNU_HASH(0x6ffffff6),
+        SHT_GNU_LIBLIST(0x6ffffff7),
+        SHT_CHECKSUM(0x6ffffff8),
+        SHT_GNU_verdef(0x6ffffffd),
+        SHT_GNU_verneed(0x6ffffffe),
+        SHT_GNU_versym(0x6fffffff),
+        SHT_ANDROID_RELR(0x6fffff00),
+        SHT_X86_64_UNWIND(0x70000001);
+
+        /**
+         * Inner value of the enumeration item.
+         */
+        public final int value;
+
+        private ELF_SectionType(final int i) {
+            this.value = i;
+        }
+
+        /**
+         * Name of the value.
+         *
+         * @param v {@link #value} of an enum
+         * @return Enum name if found, else <code>Unknown</code>
+         */
+        public static String nameOf(long v) {
+            for (ELF_SectionType item : ELF_SectionType.values()) {
+                if (item.value == v) {
+                    return item.name();
+                }
+            }
+
+            return ELF_SectionType.class.getName() + " Unknown";
+        }
+    }
+
+    @Override
+    public void generateTreeNode(DefaultMutableTreeNode parentNode) {
+        int currentPos = this.startPos;
+        final String addrFormat = (this.addrSize == 8) ? "0x%016X" : "0x%08X";
+
+        DefaultMutableTreeNode node = new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                this.startPos,
+                this.length,
+                String.format("[%d] %s", this.index, this.name),
+                "Section header, which describes a section of the file."
+        ));
+        parentNode.add(node);
+
+        // sh_name
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                ElfReader.WORD,
+                String.format("sh_name = 0x%08X (%d): %s", this.sh_name, this.sh_name, this.name),
+                "An offset to a string in the .shstrtab section that represents the name of this section.")));
+        currentPos += ElfReader.WORD;
+
+        // sh_type
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                ElfReader.WORD,
+                String.format("sh_type = 0x%08X (%d): %s", this.sh_type, this.sh_type, ELF_SectionType.nameOf(this.sh_type)),
+                "Identifies the type of this header.")));
+        currentPos += ElfReader.WORD;
+
+        // sh_flags
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("sh_flags = " + addrFormat + ": %s", this.sh_flags, flagsString(this.sh_flags)),
+                "Identifies the attributes of the section: W (write), A (alloc), X (execute), M (merge), S (strings), I (info), L (link order), O (extra OS processing required), G (group), T (TLS), C (compressed).")));
+        currentPos += this.addrSize;
+
+        // sh_addr
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("sh_addr = " + addrFormat + " (%s)", this.sh_addr, Long.toUnsignedString(this.sh_addr)),
+                "Virtual address of the section in memory, for sections that are loaded.")));
+        currentPos += this.addrSize;
+
+        // sh_offset
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("sh_offset = " + addrFormat + " (%s)", this.sh_offset, Long.toUnsignedString(this.sh_offset)),
+                "Offset of the section in the file image.")));
+        currentPos += this.addrSize;
+
+        // sh_size
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("sh_size = " + addrFormat + " (%s)", this.sh_size, Long.toUnsignedString(this.sh_size)),
+                "Size in bytes of the section in the file image. May be 0.")));
+        currentPos += this.addrSize;
+
+        // sh_link
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                ElfReader.WORD,
+                String.format("sh_link = 0x%08X (%d)", this.sh_link, this.sh_link),
+                "Contains the section index of an associated section. This field is used for several purposes, depending on the type of section.")));
+        currentPos += ElfReader.WORD;
+
+        // sh_info
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                ElfReader.WORD,
+                String.format("sh_info = 0x%08X (%d)", this.sh_info, this.sh_info),
+                "Contains extra information about the section. This field is used for several purposes, depending on the type of section.")));
+        currentPos += ElfReader.WORD;
+
+        // sh_addralign
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("sh_addralign = " + addrFormat + " (%s)", this.sh_addralign, Long.toUnsignedString(this.sh_addralign)),
+                "Contains the required alignment of the section. This field must be a power of two.")));
+        currentPos += this.addrSize;
+
+        // sh_entsize
+        node.add(new DefaultMutableTreeNode(new JTreeNodeFileComponent(
+                currentPos,
+                this.addrSize,
+                String.format("sh_entsize = " + addrFormat + " (%s)", this.sh_entsize, Long.toUnsignedString(this.sh_entsize)),
+                "Contains the size, in bytes, of each entry, for sections that contain fixed-size entries. Otherwise, this field contains zero.")));
+
+        // Section content
+        JTreeNodeFileComponent contentComp = new JTreeNodeFileComponent(
+                ElfFile.toIntPos(this.content.offset),
+                ElfFile.toIntPos(this.content.size),
+                String.format("content %s", this.content),
+                "Content of the section, which is read from the file when it is displayed.");
+        contentComp.setDetailPanel(new JPanelElfSlice(this.content, this.sh_type == ELF_SectionType.SHT_STRTAB.value));
+        node.add(new DefaultMutableTreeNode(contentComp));
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Elf_Sym.java    October 20, 2026, 00:20
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import org.binaryinternals.commonlib.core.FileComponent;
+
+/**
+ * Symbol for 32-bit and 64-bit system, an entry of a symbol table. In this
+ * class definition, we respect the name defined in Linux source code.
+ *
+ * <pre>
+ *   typedef struct elf64_sym {
+ *     Elf64_Word st_name;		// Symbol name, index in string tbl
+ *     unsigned char	st_info;	// Type and binding attributes
+ *     unsigned char	st_other;	// No defined meaning, 0
+ *     Elf64_Half st_shndx;		// Associated section index
+ *     Elf64_Addr st_value;		// Value of the symbol
+ *     Elf64_Xword st_size;		// Associated symbol size
+ *   } Elf64_Sym;
+ *
+ *   typedef struct elf32_sym {
+ *     Elf32_Word st_name;
+ *     Elf32_Addr st_value;
+ *     Elf32_Word st_size;
+ *     unsigned char	st_info;
+ *     unsigned char	st_other;
+ *     Elf32_Half st_shndx;
+ *   } Elf32_Sym;
+ * </pre>
+ *
+ * <p>
+ * A symbol table could have millions of entries, so it is not parsed into
+ * objects of this class; see {@link SymbolTable}, which reads the entries
+ * from the mapped section content. This class is for a single entry only.
+ * </p>
+ *
+ * @author Amos Shi
+ *
+ * @see
+ * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+ *
+ * <pre>
+ * java:S101 - Class names should comply with a naming convention --- We respect the name from ELF C programming language source code
+ * java:S116 - Field names should comply with a naming convention --- We respect the name from ELF C programming language source code
+ * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+ * </pre>
+ */
+@SuppressWarnings({"java:S101", "java:S116", "java:S1104"})
+public class Elf_Sym extends FileComponent {
+
+    /**
+     * Size of the <code>Elf64_Sym</code> in bytes.
+     */
+    public static final int SIZE = 24;
+
+    static final int OFFSET_ST_NAME = 0;
+    static final int OFFSET_ST_INFO = 4;
+    static final int OFFSET_ST_OTHER = 5;
+    static final int OFFSET_ST_SHNDX = 6;
+    static final int OFFSET_ST_VALUE = 8;
+    static final int OFFSET_ST_SIZE = 16;
+
+    /**
+     * Size of the <code>Elf32_Sym</code> in bytes.
+     */
+    public static final int SIZE32 = 16;
+
+    static final int OFFSET32_ST_VALUE = 4;
+    static final int OFFSET32_ST_SIZE = 8;
+    static final int OFFSET32_ST_INFO = 12;
+    static final int OFFSET32_ST_OTHER = 13;
+    static final int OFFSET32_ST_SHNDX = 14;
+
+    /**
+     * Undefined section index, for an undefined symbol.
+     */
+    public static final int SHN_UNDEF = 0;
+
+    /**
+     * Symbol name, index in string table.
+     */
+    public final long st_name;
+    /**
+     * Type and binding attributes, see {@link ELF_SymbolBind} and
+     * {@link ELF_SymbolType}.
+     */
+    public final int st_info;
+    /**
+     * Symbol visibility.
+     */
+    public final int st_other;
+    /**
+     * Associated section index.
+     */
+    public final int st_shndx;
+    /**
+     * Value of the symbol.
+     */
+    public final long st_value;
+    /**
+     * Associated symbol size.
+     */
+    public final long st_size;
+
+    Elf_Sym(final ElfReader input) {
+        super.startPos = (int) input.getPos();
+
+        this.st_name = input.word();
+        if (input.elf64) {
+            this.st_info = input.u8();
+            this.st_other = input.u8();
+            this.st_shndx = input.half();
+            this.st_value = input.addr();
+            this.st_size = input.xword();
+        } else {
+            this.st_value = input.addr();
+            this.st_size = input.word();
+            this.st_info = input.u8();
+            this.st_other = input.u8();
+            this.st_shndx = input.half();
+        }
+
+        super.length = (int) input.getPos() - super.startPos;
+    }
+
+    /**
+     * Binding attribute of {@link #st_info}, <code>ELF_ST_BIND</code>.
+     *
+     * @param info Value of {@link #st_info}
+     * @return The binding attribute
+     */
+    public static int bindOf(final int info) {
+        return (info & 0xFF) >> 4;
+    }
+
+    /**
+     * Type of {@link #st_info}, <code>ELF_ST_TYPE</code>.
+     *
+     * @param info Value of {@link #st_info}
+     * @return The type
+     */
+    public static int typeOf(final int info) {
+        return info & 0xf;
+    }
+
+    /**
+     * Enum type for the binding attribute of {@link #st_info}.
+     *
+     * @see
+     * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+     */
+    public enum ELF_SymbolBind {
+        STB_LOCAL(0),
+        STB_GLOBAL(1),
+        STB_WEAK(2),
+        STB_GNU_UNIQUE(10);
+
+        /**
+         * Inner value of the enumeration item.
+         */
+        public final int value;
+
+        private ELF_SymbolBind(final int i) {
+            this.value = i;
+        }
+
+        /**
+         * Name of the value.
+         *
+         * @param v {@link #value} of an enum
+         * @return Enum name if found, else <code>Unknown</code>
+         */
+        public static String nameOf(int v) {
+            for (ELF_SymbolBind item : ELF_SymbolBind.values()) {
+                if (item.value == v) {
+                    return item.name();
+                }
+            }
+
+            return ELF_SymbolBind.class.getName() + " Unknown";
+        }
+    }
+
+    /**
+     * Enum type for the type of {@link #st_info}.
+     *
+     * @see
+     * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+     */
+    public enum ELF_SymbolType {
+        STT_NOTYPE(0),
+        STT_OBJECT(1),
+        STT_FUNC(2),
+        STT_SECTION(3),
+        STT_FILE(4),
+        STT_COMMON(5),
+        STT_TLS(6),
+        STT_GNU_IFUNC(10);
+
+        /**
+         * Inner value of the enumeration item.
+         */
+        public final int value;
+
+        private ELF_SymbolType(final int i) {
+            this.value = i;
+        }
+
+        /**
+         * Name of the value.
+         *
+         * @param v {@link #value} of an enum
+         * @return Enum name if found, else <code>Unknown</code>
+         */
+        public static String nameOf(int v) {
+            for (ELF_SymbolType item : ELF_SymbolType.values()) {
+                if (item.value == v) {
+                    return item.name();
+                }
+            }
+
+            return ELF_SymbolType.class.getName() + " Unknown";
+        }
+    }
+}
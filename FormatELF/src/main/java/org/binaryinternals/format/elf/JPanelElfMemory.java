@@ -0,0 +1,84 @@
+/*
+ * JPanelElfMemory.java    October 20, 2026, 01:20
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.awt.BorderLayout;
+import java.awt.Font;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import javax.swing.JTextField;
+
+/**
+ * Panel navigating the process memory by virtual address, which is mapped to
+ * the file through the {@link Elf_Phdr.ELF_SegmentType#PT_LOAD} segments.
+ * Only the displayed page is read from the file.
+ *
+ * @author Amos Shi
+ * @see ElfFile#getMemory(long, int)
+ */
+class JPanelElfMemory extends JPanel {
+
+    private static final long serialVersionUID = 4876543219876500015L;
+
+    /**
+     * Number of bytes displayed.
+     */
+    static final int PAGE_SIZE = 4096;
+
+    private final transient ElfFile elfFile;
+    private final JTextField addressField = new JTextField(20);
+    private final JTextArea textArea = new JTextArea();
+
+    /**
+     * Constructor.
+     *
+     * @param elfFile The ELF file
+     */
+    JPanelElfMemory(final ElfFile elfFile) {
+        this.elfFile = elfFile;
+        this.setLayout(new BorderLayout());
+
+        final JPanel toolbar = new JPanel();
+        toolbar.add(new JLabel("Virtual address: 0x"));
+        toolbar.add(this.addressField);
+        final JButton go = new JButton("Go");
+        toolbar.add(go);
+        this.add(toolbar, BorderLayout.NORTH);
+
+        this.textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, this.textArea.getFont().getSize()));
+        this.textArea.setEditable(false);
+        this.add(new JScrollPane(this.textArea), BorderLayout.CENTER);
+
+        go.addActionListener(e -> this.show(this.addressField.getText()));
+        this.addressField.addActionListener(e -> this.show(this.addressField.getText()));
+    }
+
+    private void show(final String address) {
+        String text;
+        try {
+            final long vaddr = Long.parseUnsignedLong(address.trim().replaceFirst("^0[xX]", ""), 16);
+            final long fileOffset = this.elfFile.toFileOffset(vaddr);
+            if (fileOffset < 0) {
+                text = String.format("The address 0x%016x is not in the file", vaddr);
+            } else {
+                final ByteBuffer buf = this.elfFile.getMemory(vaddr, PAGE_SIZE);
+                text = String.format("File offset 0x%X%n%n", fileOffset) + JPanelElfSlice.toHexDump(buf, vaddr);
+            }
+        } catch (NumberFormatException ex) {
+            text = String.format("Invalid address: %s", address);
+        } catch (IOException ex) {
+            text = String.format("Failed to read the memory: %s", ex.getMessage());
+        }
+        this.textArea.setText(text);
+        this.textArea.setCaretPosition(0);
+    }
+}
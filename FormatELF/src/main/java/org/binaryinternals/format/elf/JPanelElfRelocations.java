@@ -0,0 +1,189 @@
+/*
+ * JPanelElfRelocations.java    October 20, 2026, 04:30
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.awt.BorderLayout;
+import java.awt.Font;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import javax.swing.AbstractListModel;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JSplitPane;
+import javax.swing.JTextArea;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.format.elf.RelocationTable.Relocation;
+
+/**
+ * Panel showing the relocations of a relocation section, like
+ * <code>readelf -r</code>, with the statistics of the relocations on top.
+ *
+ * <p>
+ * The relocations are shown in a list which only formats the visible rows:
+ * the rows are decoded block by block from the {@link RelocationTable}
+ * iterator when they are scrolled into view, so a section of millions of
+ * relocations is never decoded into memory as a whole.
+ * </p>
+ *
+ * @author Amos Shi
+ */
+class JPanelElfRelocations extends JPanel {
+
+    private static final long serialVersionUID = 4876543219876500016L;
+
+    /**
+     * Number of the symbols listed in the statistics.
+     */
+    static final int TOP_SYMBOLS = 20;
+
+    private final transient ElfFile elfFile;
+    private final transient Elf_Shdr section;
+    private boolean generated;
+
+    /**
+     * Constructor.
+     *
+     * @param elfFile The ELF file
+     * @param section The relocation section
+     */
+    JPanelElfRelocations(final ElfFile elfFile, final Elf_Shdr section) {
+        this.elfFile = elfFile;
+        this.section = section;
+        this.setLayout(new BorderLayout());
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (this.generated) {
+            return;
+        }
+        this.generated = true;
+
+        final RelocationTable table;
+        String statistics;
+        try {
+            table = this.elfFile.getRelocationTable(this.section);
+            statistics = table.getStatistics().toString(TOP_SYMBOLS);
+        } catch (IOException | FileFormatException | IllegalStateException ex) {
+            final JTextArea textArea = new JTextArea(String.format("Failed to read the relocations: %s", ex.getMessage()));
+            textArea.setEditable(false);
+            this.add(textArea, BorderLayout.CENTER);
+            return;
+        }
+
+        final Font font = new Font(Font.MONOSPACED, Font.PLAIN, this.getFont().getSize());
+        final JTextArea statisticsArea = new JTextArea(statistics);
+        statisticsArea.setFont(font);
+        statisticsArea.setEditable(false);
+
+        final RelocationListModel model = new RelocationListModel(table);
+        final JList<String> list = new JList<>(model);
+        list.setFont(font);
+        // A prototype value keeps the list from measuring every row
+        list.setPrototypeCellValue(model.header);
+        final JLabel header = new JLabel(model.header);
+        header.setFont(font);
+        final JScrollPane listPane = new JScrollPane(list);
+        listPane.setColumnHeaderView(header);
+
+        final JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(statisticsArea), listPane);
+        splitPane.setResizeWeight(0.3);
+        this.add(splitPane, BorderLayout.CENTER);
+    }
+
+    /**
+     * List model formatting the relocations of one block of rows at a time.
+     */
+    private static final class RelocationListModel extends AbstractListModel<String> {
+
+        private static final long serialVersionUID = 4876543219876500017L;
+
+        /**
+         * Number of the rows decoded at a time.
+         */
+        static final int BLOCK_SIZE = 1024;
+
+        final String header;
+        private final transient RelocationTable table;
+        private final String rowFormat;
+        private final int size;
+        private final String[] block = new String[BLOCK_SIZE];
+        private int blockStart = -1;
+        private transient Iterator<Relocation> iterator;
+
+        /**
+         * Index of the relocation the {@link #iterator} returns next.
+         */
+        private int next;
+
+        RelocationListModel(final RelocationTable table) {
+            this.table = table;
+            final int width = table.elf64 ? 16 : 8;
+            this.rowFormat = "%9d  %0" + width + "x  %0" + width + "x  %-24s %s";
+            this.header = String.format("%9s  %-" + width + "s  %-" + width + "s  %-24s %s", "Num", "Offset", "Info", "Type", "Symbol + Addend");
+            this.size = table.size();
+        }
+
+        @Override
+        public int getSize() {
+            return this.size;
+        }
+
+        @Override
+        public String getElementAt(final int index) {
+            if (this.blockStart < 0 || index < this.blockStart || index >= this.blockStart + BLOCK_SIZE) {
+                this.load(index - index % BLOCK_SIZE);
+            }
+            return this.block[index - this.blockStart];
+        }
+
+        private void load(final int start) {
+            if (this.iterator == null || start < this.next) {
+                this.iterator = this.table.iterator(start);
+                this.next = start;
+            }
+            this.blockStart = start;
+            int i = 0;
+            try {
+                while (this.next < start && this.iterator.hasNext()) {
+                    this.iterator.next();
+                    this.next++;
+                }
+                for (; i < BLOCK_SIZE; i++) {
+                    this.block[i] = this.iterator.hasNext() ? this.format(this.iterator.next()) : "";
+                    this.next++;
+                }
+            } catch (IllegalStateException ex) {
+                Arrays.fill(this.block, i, BLOCK_SIZE, ex.getMessage());
+                this.iterator = null;
+            }
+        }
+
+        private String format(final Relocation r) {
+            final int symbol = r.getSymbol();
+            final StringBuilder target = new StringBuilder();
+            if (symbol != 0) {
+                target.append((this.table.symbols != null && symbol < this.table.symbols.size())
+                        ? this.table.symbols.getName(symbol) : String.format("#%d", symbol));
+            }
+            if (this.table.format.hasAddend()) {
+                final long addend = r.getAddend();
+                if (target.length() > 0) {
+                    target.append(addend < 0 ? " - " : " + ");
+                } else if (addend < 0) {
+                    target.append('-');
+                }
+                target.append(String.format("%x", (addend < 0) ? -addend : addend));
+            }
+            return String.format(this.rowFormat, r.getIndex(), r.getOffset(), r.getInfo(), this.table.typeNameOf(r.getType()), target);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * JPanelElfSlice.java    October 19, 2026, 23:58
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.awt.BorderLayout;
+import java.awt.Font;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+
+/**
+ * Panel displaying the content of a section or segment. The content is mapped
+ * from the file when the panel is displayed the first time, so creating the
+ * panel for each section of an ELF file is cheap.
+ *
+ * @author Amos Shi
+ */
+class JPanelElfSlice extends JPanel {
+
+    private static final long serialVersionUID = 4876543219876500011L;
+
+    /**
+     * Maximum number of bytes displayed.
+     */
+    static final int MAX_DISPLAY_SIZE = 64 << 10;
+
+    private final transient ElfSlice slice;
+    private final boolean strings;
+    private boolean generated;
+
+    /**
+     * Constructor.
+     *
+     * @param slice The content to display
+     * @param strings The content is a string table, display the strings
+     * instead of the bytes
+     */
+    JPanelElfSlice(final ElfSlice slice, final boolean strings) {
+        this.slice = slice;
+        this.strings = strings;
+        this.setLayout(new BorderLayout());
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (this.generated) {
+            return;
+        }
+        this.generated = true;
+
+        String text;
+        try {
+            final ByteBuffer buf = this.slice.getBuffer(0, (int) Math.min(this.slice.size, MAX_DISPLAY_SIZE));
+            text = this.strings ? toStrings(buf) : toHexDump(buf, this.slice.offset);
+            if (this.slice.size > MAX_DISPLAY_SIZE) {
+                text += String.format("%n... %,d bytes more", this.slice.size - MAX_DISPLAY_SIZE);
+            }
+        } catch (IOException ex) {
+            text = String.format("Failed to read the content: %s", ex.getMessage());
+        }
+        final JTextArea textArea = new JTextArea(text);
+        textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, textArea.getFont().getSize()));
+        textArea.setEditable(false);
+        this.add(new JScrollPane(textArea), BorderLayout.CENTER);
+    }
+
+    /**
+     * Hex and ASCII dump, 16 bytes per line.
+     *
+     * @param buf The bytes
+     * @param offset File offset of the first byte
+     * @return The dump
+     */
+    static String toHexDump(final ByteBuffer buf, final long offset) {
+        final StringBuilder sb = new StringBuilder();
+        for (int line = 0; line < buf.limit(); line += 16) {
+            sb.append(String.format("%08X  ", offset + line));
+            for (int i = line; i < line + 16; i++) {
+                sb.append(i < buf.limit() ? String.format("%02X ", buf.get(i) & 0xFF) : "   ");
+            }
+            sb.append(' ');
+            for (int i = line; i < line + 16 && i < buf.limit(); i++) {
+                final int b = buf.get(i) & 0xFF;
+                sb.append((b >= 0x20 && b < 0x7F) ? (char) b : '.');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The null-terminated strings of a string table, one per line.
+     *
+     * @param buf The string table
+     * @return The strings, with their offsets
+     */
+    static String toStrings(final ByteBuffer buf) {
+        final StringBuilder sb = new StringBuilder();
+        int start = 0;
+        while (start < buf.limit()) {
+            int end = start;
+            while (end < buf.limit() && buf.get(end) != 0) {
+                end++;
+            }
+            sb.append(String.format("[%6X]  %s%n", start, Elf_Shdr.getString(buf, start)));
+            start = end + 1;
+        }
+        return sb.toString();
+    }
+}
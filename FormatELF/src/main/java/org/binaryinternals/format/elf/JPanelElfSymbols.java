@@ -0,0 +1,91 @@
+/*
+ * JPanelElfSymbols.java    October 20, 2026, 00:20
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.awt.BorderLayout;
+import java.awt.Font;
+import java.io.IOException;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.format.elf.Elf_Sym.ELF_SymbolBind;
+import org.binaryinternals.format.elf.Elf_Sym.ELF_SymbolType;
+
+/**
+ * Panel listing the symbols of a symbol table section, like
+ * <code>readelf -s</code>. The symbol table is created when the panel is
+ * displayed the first time.
+ *
+ * @author Amos Shi
+ */
+class JPanelElfSymbols extends JPanel {
+
+    private static final long serialVersionUID = 4876543219876500012L;
+
+    /**
+     * Maximum number of symbols listed.
+     */
+    static final int MAX_DISPLAY_SYMBOLS = 10000;
+
+    private final transient ElfFile elfFile;
+    private final transient Elf_Shdr section;
+    private boolean generated;
+
+    /**
+     * Constructor.
+     *
+     * @param elfFile The ELF file
+     * @param section The symbol table section
+     */
+    JPanelElfSymbols(final ElfFile elfFile, final Elf_Shdr section) {
+        this.elfFile = elfFile;
+        this.section = section;
+        this.setLayout(new BorderLayout());
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (this.generated) {
+            return;
+        }
+        this.generated = true;
+
+        String text;
+        try {
+            text = toText(this.elfFile.getSymbolTable(this.section));
+        } catch (IOException | FileFormatException ex) {
+            text = String.format("Failed to read the symbol table: %s", ex.getMessage());
+        }
+        final JTextArea textArea = new JTextArea(text);
+        textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, textArea.getFont().getSize()));
+        textArea.setEditable(false);
+        this.add(new JScrollPane(textArea), BorderLayout.CENTER);
+    }
+
+    static String toText(final SymbolTable symbols) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%7s  %-16s %8s %-14s %-14s %5s  %s%n", "Num", "Value", "Size", "Type", "Bind", "Ndx", "Name"));
+        final int n = Math.min(symbols.size(), MAX_DISPLAY_SYMBOLS);
+        for (int i = 0; i < n; i++) {
+            final int info = symbols.getInfo(i);
+            sb.append(String.format("%7d  %016x %8d %-14s %-14s %5d  %s%n",
+                    i,
+                    symbols.getValue(i),
+                    symbols.getSize(i),
+                    ELF_SymbolType.nameOf(Elf_Sym.typeOf(info)),
+                    ELF_SymbolBind.nameOf(Elf_Sym.bindOf(info)),
+                    symbols.getSectionIndex(i),
+                    symbols.getName(i)));
+        }
+        if (symbols.size() > n) {
+            sb.append(String.format("... %,d symbols more%n", symbols.size() - n));
+        }
+        return sb.toString();
+    }
+}
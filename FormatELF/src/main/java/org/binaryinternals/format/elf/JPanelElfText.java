@@ -0,0 +1,58 @@
+/*
+ * JPanelElfText.java    October 20, 2026, 01:20
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.awt.BorderLayout;
+import java.awt.Font;
+import java.util.concurrent.Callable;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+
+/**
+ * Panel displaying a text, which is generated when the panel is displayed the
+ * first time, like the registers of a thread in a core dump.
+ *
+ * @author Amos Shi
+ */
+class JPanelElfText extends JPanel {
+
+    private static final long serialVersionUID = 4876543219876500014L;
+
+    private final transient Callable<String> generator;
+    private boolean generated;
+
+    /**
+     * Constructor.
+     *
+     * @param generator Generator of the text
+     */
+    JPanelElfText(final Callable<String> generator) {
+        this.generator = generator;
+        this.setLayout(new BorderLayout());
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (this.generated) {
+            return;
+        }
+        this.generated = true;
+
+        String text;
+        try {
+            text = this.generator.call();
+        } catch (Exception ex) {
+            text = String.format("Failed to read the content: %s", ex.getMessage());
+        }
+        final JTextArea textArea = new JTextArea(text);
+        textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, textArea.getFont().getSize()));
+        textArea.setEditable(false);
+        this.add(new JScrollPane(textArea), BorderLayout.CENTER);
+    }
+}
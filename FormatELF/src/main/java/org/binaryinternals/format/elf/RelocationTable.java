@@ -0,0 +1,843 @@
+/*
+ * RelocationTable.java    October 20, 2026, 04:30
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.format.elf.Elf_Ehdr.ELF_Machine;
+import org.binaryinternals.format.elf.Elf_Shdr.ELF_SectionType;
+
+/**
+ * Relocations of a relocation section: the {@link ELF_SectionType#SHT_REL}
+ * and {@link ELF_SectionType#SHT_RELA} tables, the
+ * {@link ELF_SectionType#SHT_RELR} relative relocation bitmaps, and the
+ * Android packed relocations of {@link ELF_SectionType#SHT_ANDROID_REL} and
+ * {@link ELF_SectionType#SHT_ANDROID_RELA}.
+ *
+ * <pre>
+ *   typedef struct elf64_rela {
+ *     Elf64_Addr r_offset;	// Location at which to apply the action
+ *     Elf64_Xword r_info;	// index and type of relocation
+ *     Elf64_Sxword r_addend;	// Constant addend used to compute value
+ *   } Elf64_Rela;
+ * </pre>
+ *
+ * <p>
+ * A relocation section of a big native library could have millions of
+ * entries, and the packed formats can only be decoded from the start, so
+ * the relocations are decoded by an iterator over the mapped section
+ * content, see {@link #iterator()}, which updates one {@link Relocation}
+ * object instead of creating one per entry. The per type and per symbol
+ * counts are gathered by one pass, see {@link #getStatistics()}.
+ * </p>
+ *
+ * @author Amos Shi
+ * @see
+ * <a href="https://github.com/torvalds/linux/blob/master/include/uapi/linux/elf.h">include/uapi/linux/elf.h</a>
+ * @see
+ * <a href="https://android.googlesource.com/platform/bionic/+/main/linker/linker_reloc_iterators.h">bionic/linker/linker_reloc_iterators.h</a>
+ */
+public final class RelocationTable {
+
+    /**
+     * Size of <code>Elf64_Rel</code> in bytes.
+     */
+    public static final int REL_SIZE = 16;
+    public static final int REL_SIZE32 = 8;
+
+    /**
+     * Size of <code>Elf64_Rela</code> in bytes.
+     */
+    public static final int RELA_SIZE = 24;
+    public static final int RELA_SIZE32 = 12;
+
+    /**
+     * Magic number at the beginning of Android packed relocations.
+     */
+    static final String APS2_MAGIC = "APS2";
+
+    static final int RELOCATION_GROUPED_BY_INFO_FLAG = 1;
+    static final int RELOCATION_GROUPED_BY_OFFSET_DELTA_FLAG = 2;
+    static final int RELOCATION_GROUPED_BY_ADDEND_FLAG = 4;
+    static final int RELOCATION_GROUP_HAS_ADDEND_FLAG = 8;
+
+    private static final Map<Integer, Map<Integer, String>> TYPE_NAMES = new HashMap<>();
+
+    static {
+        TYPE_NAMES.put(ELF_Machine.amd64.value, typeNames("R_X86_64_",
+                0, "NONE", 1, "64", 2, "PC32", 3, "GOT32", 4, "PLT32", 5, "COPY", 6, "GLOB_DAT", 7, "JUMP_SLOT",
+                8, "RELATIVE", 9, "GOTPCREL", 10, "32", 11, "32S", 12, "16", 13, "PC16", 14, "8", 15, "PC8",
+                16, "DTPMOD64", 17, "DTPOFF64", 18, "TPOFF64", 19, "TLSGD", 20, "TLSLD", 21, "DTPOFF32",
+                22, "GOTTPOFF", 23, "TPOFF32", 24, "PC64", 25, "GOTOFF64", 26, "GOTPC32", 32, "SIZE32",
+                33, "SIZE64", 34, "GOTPC32_TLSDESC", 35, "TLSDESC_CALL", 36, "TLSDESC", 37, "IRELATIVE",
+                41, "GOTPCRELX", 42, "REX_GOTPCRELX"));
+        TYPE_NAMES.put(ELF_Machine.x86.value, typeNames("R_386_",
+                0, "NONE", 1, "32", 2, "PC32", 3, "GOT32", 4, "PLT32", 5, "COPY", 6, "GLOB_DAT", 7, "JUMP_SLOT",
+                8, "RELATIVE", 9, "GOTOFF", 10, "GOTPC", 14, "TLS_TPOFF", 35, "TLS_DTPMOD32", 36, "TLS_DTPOFF32",
+                37, "TLS_TPOFF32", 41, "TLS_DESC", 42, "IRELATIVE", 43, "GOT32X"));
+        TYPE_NAMES.put(ELF_Machine.AArch64.value, typeNames("R_AARCH64_",
+                0, "NONE", 257, "ABS64", 258, "ABS32", 260, "PREL64", 261, "PREL32", 282, "JUMP26", 283, "CALL26",
+                1024, "COPY", 1025, "GLOB_DAT", 1026, "JUMP_SLOT", 1027, "RELATIVE", 1028, "TLS_DTPMOD",
+                1029, "TLS_DTPREL", 1030, "TLS_TPREL", 1031, "TLSDESC", 1032, "IRELATIVE"));
+        TYPE_NAMES.put(ELF_Machine.ARM.value, typeNames("R_ARM_",
+                0, "NONE", 2, "ABS32", 3, "REL32", 17, "TLS_DTPMOD32", 18, "TLS_DTPOFF32", 19, "TLS_TPOFF32",
+                20, "COPY", 21, "GLOB_DAT", 22, "JUMP_SLOT", 23, "RELATIVE", 160, "IRELATIVE"));
+    }
+
+    /**
+     * The relocation section.
+     */
+    public final Elf_Shdr section;
+
+    /**
+     * The symbol table linked by <code>sh_link</code>, or <code>null</code>.
+     */
+    public final SymbolTable symbols;
+
+    /**
+     * Format of the relocations, by the section type.
+     */
+    public final RelocationFormat format;
+
+    private final ByteBuffer content;
+    private final int machine;
+    final boolean elf64;
+    private final int entsize;
+
+    /**
+     * Position of the first packed relocation group in the section, after
+     * the header, and the initial <code>r_offset</code> of the header.
+     */
+    private final int packedStart;
+    private final long packedOffset;
+
+    private volatile int count = -1;
+    private volatile Statistics statistics;
+
+    /**
+     * Constructor.
+     *
+     * @param section The relocation section
+     * @param symbols The symbol table linked by the section, or
+     * <code>null</code>
+     * @param machine The <code>e_machine</code> of the file
+     * @param elf64 Whether the file is 64-bit ELF
+     * @throws IOException Failed to map the section
+     * @throws FileFormatException Invalid <code>sh_entsize</code>, or
+     * invalid packed relocation header
+     */
+    RelocationTable(final Elf_Shdr section, final SymbolTable symbols, final int machine, final boolean elf64)
+            throws IOException, FileFormatException {
+        this.section = section;
+        this.symbols = symbols;
+        this.machine = machine;
+        this.elf64 = elf64;
+        this.format = RelocationFormat.of(section.sh_type);
+        if (this.format == null) {
+            throw new FileFormatException(String.format("Section %s is not a relocation section", section.getName()));
+        }
+        this.content = section.content.getBuffer();
+
+        final int minSize;
+        switch (this.format) {
+            case REL:
+                minSize = elf64 ? REL_SIZE : REL_SIZE32;
+                break;
+            case RELA:
+                minSize = elf64 ? RELA_SIZE : RELA_SIZE32;
+                break;
+            case RELR:
+                minSize = elf64 ? 8 : 4;
+                break;
+            default:
+                minSize = 1;
+                break;
+        }
+        final long size = (this.format == RelocationFormat.REL || this.format == RelocationFormat.RELA || section.sh_entsize != 0)
+                ? section.sh_entsize : minSize;
+        if (size < minSize || size > Integer.MAX_VALUE) {
+            throw new FileFormatException(String.format("Invalid sh_entsize of relocation section %s. value=%d", section.getName(), section.sh_entsize));
+        }
+        this.entsize = (int) size;
+
+        if (this.format.isPacked()) {
+            final ElfReader reader = this.newReader();
+            final StringBuilder magic = new StringBuilder();
+            try {
+                for (int i = 0; i < APS2_MAGIC.length(); i++) {
+                    magic.append((char) reader.u8());
+                }
+                if (!APS2_MAGIC.contentEquals(magic)) {
+                    throw new FileFormatException(String.format("Invalid packed relocation magic in section %s: %s", section.getName(), magic));
+                }
+                final long n = sleb128(reader);
+                if (n < 0 || n > Integer.MAX_VALUE) {
+                    throw new FileFormatException(String.format("Invalid packed relocation count in section %s: %d", section.getName(), n));
+                }
+                this.count = (int) n;
+                this.packedOffset = sleb128(reader);
+            } catch (BufferUnderflowException ex) {
+                throw new FileFormatException(String.format("The packed relocation header of section %s is truncated", section.getName()), ex);
+            }
+            this.packedStart = reader.position();
+        } else {
+            this.packedStart = 0;
+            this.packedOffset = 0;
+        }
+    }
+
+    private ElfReader newReader() {
+        return new ElfReader(this.content.duplicate().order(this.content.order()), this.section.content.offset, this.elf64);
+    }
+
+    private static long sleb128(final ElfReader reader) {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = reader.u8();
+            if (shift < 64) {
+                result |= (long) (b & 0x7F) << shift;
+            }
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        if (shift < 64 && (b & 0x40) != 0) {
+            result |= -1L << shift;
+        }
+        return result;
+    }
+
+    /**
+     * Number of the relocations. For a {@link RelocationFormat#RELR}
+     * section, the bitmaps are counted on the first call.
+     *
+     * @return Number of the relocations
+     */
+    public int size() {
+        int result = this.count;
+        if (result < 0) {
+            if (this.format == RelocationFormat.RELR) {
+                result = this.countRelr();
+            } else {
+                result = this.content.limit() / this.entsize;
+            }
+            this.count = result;
+        }
+        return result;
+    }
+
+    private int countRelr() {
+        final ElfReader reader = this.newReader();
+        final int bits = this.elf64 ? 63 : 31;
+        long result = 0;
+        while (reader.remaining() >= this.entsize) {
+            final int pos = reader.position();
+            final long entry = reader.addr();
+            reader.seek(pos + this.entsize);
+            result += ((entry & 1) == 0) ? 1 : Long.bitCount((entry >>> 1) & ((1L << bits) - 1));
+        }
+        return (int) Math.min(result, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get an iterator decoding the relocations from the start. The same
+     * {@link Relocation} object is returned by every call of
+     * {@link Iterator#next()}, updated to the current entry, so copy the
+     * values needed before moving to the next entry. Malformed packed
+     * relocations stop the iteration with an
+     * {@link IllegalStateException}.
+     *
+     * @return The relocation iterator
+     */
+    public Iterator<Relocation> iterator() {
+        return this.iterator(0);
+    }
+
+    /**
+     * Get an iterator decoding the relocations from an index. The
+     * {@link RelocationFormat#REL} and {@link RelocationFormat#RELA} tables
+     * are read from the index directly; the other formats are decoded from
+     * the start and the entries before the index are skipped.
+     *
+     * @param fromIndex Index of the first relocation returned
+     * @return The relocation iterator
+     */
+    public Iterator<Relocation> iterator(final int fromIndex) {
+        final RelocationIterator it;
+        switch (this.format) {
+            case REL:
+            case RELA:
+                it = new TableIterator(fromIndex);
+                break;
+            case RELR:
+                it = new RelrIterator();
+                break;
+            default:
+                it = new PackedIterator();
+                break;
+        }
+        while (it.relocation.index + 1 < fromIndex && it.hasNext()) {
+            it.next();
+        }
+        return it;
+    }
+
+    /**
+     * Get the statistics of the relocations, which are gathered by one pass
+     * over the relocations on the first call.
+     *
+     * @return The statistics
+     * @throws IllegalStateException The packed relocations are malformed
+     */
+    public Statistics getStatistics() {
+        Statistics result = this.statistics;
+        if (result == null) {
+            result = new Statistics(this);
+            this.statistics = result;
+        }
+        return result;
+    }
+
+    /**
+     * Name of a relocation type, like <code>R_X86_64_RELATIVE</code>.
+     *
+     * @param machine The <code>e_machine</code> of the file
+     * @param type The relocation type
+     * @return The name, or the number if the type is not known
+     */
+    public static String typeNameOf(final int machine, final int type) {
+        final Map<Integer, String> names = TYPE_NAMES.get(machine);
+        final String name = (names == null) ? null : names.get(type);
+        return (name == null) ? String.format("R_%d", type) : name;
+    }
+
+    /**
+     * Name of a relocation type of this file.
+     *
+     * @param type The relocation type
+     * @return The name, see {@link #typeNameOf(int, int)}
+     */
+    public String typeNameOf(final int type) {
+        return typeNameOf(this.machine, type);
+    }
+
+    /**
+     * The relative relocation type of a machine, which is the type of the
+     * {@link RelocationFormat#RELR} relocations.
+     */
+    private static int relativeTypeOf(final int machine) {
+        if (machine == ELF_Machine.amd64.value || machine == ELF_Machine.x86.value) {
+            return 8;
+        } else if (machine == ELF_Machine.AArch64.value) {
+            return 1027;
+        } else if (machine == ELF_Machine.ARM.value) {
+            return 23;
+        }
+        return 0;
+    }
+
+    private static Map<Integer, String> typeNames(final String prefix, final Object... pairs) {
+        final Map<Integer, String> names = new HashMap<>();
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            names.put((Integer) pairs[i], prefix + pairs[i + 1]);
+        }
+        return names;
+    }
+
+    /**
+     * Format of a relocation section.
+     */
+    public enum RelocationFormat {
+        REL(ELF_SectionType.SHT_REL),
+        RELA(ELF_SectionType.SHT_RELA),
+        RELR(ELF_SectionType.SHT_RELR),
+        ANDROID_REL(ELF_SectionType.SHT_ANDROID_REL),
+        ANDROID_RELA(ELF_SectionType.SHT_ANDROID_RELA);
+
+        /**
+         * Section type of the format.
+         */
+        public final ELF_SectionType sectionType;
+
+        private RelocationFormat(final ELF_SectionType sectionType) {
+            this.sectionType = sectionType;
+        }
+
+        /**
+         * Whether the relocations have <code>r_addend</code>.
+         *
+         * @return true for the <code>RELA</code> formats
+         */
+        public boolean hasAddend() {
+            return this == RELA || this == ANDROID_RELA;
+        }
+
+        boolean isPacked() {
+            return this == ANDROID_REL || this == ANDROID_RELA;
+        }
+
+        /**
+         * Format of a section type. The
+         * {@link ELF_SectionType#SHT_ANDROID_RELR} is the same as
+         * {@link ELF_SectionType#SHT_RELR}.
+         *
+         * @param sectionType The <code>sh_type</code>
+         * @return The format, or <code>null</code> if the section is not a
+         * relocation section
+         */
+        public static RelocationFormat of(final long sectionType) {
+            if (sectionType == ELF_SectionType.SHT_ANDROID_RELR.value) {
+                return RELR;
+            }
+            for (RelocationFormat item : RelocationFormat.values()) {
+                if (item.sectionType.value == sectionType) {
+                    return item;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One relocation, updated by the iterator for each entry.
+     */
+    public static final class Relocation {
+
+        private final boolean elf64;
+        private int index = -1;
+        private long offset;
+        private long info;
+        private long addend;
+
+        private Relocation(final boolean elf64) {
+            this.elf64 = elf64;
+        }
+
+        /**
+         * Get the index of the relocation in the section.
+         *
+         * @return Index of the relocation
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * Get the <code>r_offset</code>.
+         *
+         * @return Virtual address, or section offset in a relocatable file,
+         * of the location to relocate
+         */
+        public long getOffset() {
+            return this.offset;
+        }
+
+        /**
+         * Get the <code>r_info</code>.
+         *
+         * @return Symbol index and relocation type
+         */
+        public long getInfo() {
+            return this.info;
+        }
+
+        /**
+         * Get the relocation type of the {@link #getInfo()}.
+         *
+         * @return The relocation type, see {@link RelocationTable#typeNameOf(int)}
+         */
+        public int getType() {
+            return this.elf64 ? (int) this.info : (int) (this.info & 0xFF);
+        }
+
+        /**
+         * Get the symbol index of the {@link #getInfo()}.
+         *
+         * @return Index in the linked symbol table, 0 for no symbol
+         */
+        public int getSymbol() {
+            return (int) (this.elf64 ? this.info >>> 32 : (this.info & 0xFFFFFFFFL) >>> 8);
+        }
+
+        /**
+         * Get the <code>r_addend</code>.
+         *
+         * @return The addend, 0 if the format has no addend
+         */
+        public long getAddend() {
+            return this.addend;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d: offset 0x%x, info 0x%x, addend 0x%x", this.index, this.offset, this.info, this.addend);
+        }
+    }
+
+    /**
+     * Base of the iterators, which update one {@link Relocation}.
+     */
+    private abstract class RelocationIterator implements Iterator<Relocation> {
+
+        final Relocation relocation = new Relocation(RelocationTable.this.elf64);
+        final ElfReader reader = RelocationTable.this.newReader();
+
+        @Override
+        public boolean hasNext() {
+            return this.relocation.index + 1 < RelocationTable.this.size();
+        }
+
+        @Override
+        public Relocation next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                this.decode();
+            } catch (BufferUnderflowException ex) {
+                throw new IllegalStateException(String.format("The relocations of section %s are truncated at relocation %d",
+                        RelocationTable.this.section.getName(), this.relocation.index + 1), ex);
+            }
+            this.relocation.index++;
+            return this.relocation;
+        }
+
+        /**
+         * Decode the next entry into the {@link #relocation}.
+         */
+        abstract void decode();
+    }
+
+    /**
+     * Iterator of the {@link RelocationFormat#REL} and
+     * {@link RelocationFormat#RELA} tables.
+     */
+    private final class TableIterator extends RelocationIterator {
+
+        TableIterator(final int fromIndex) {
+            final int start = Math.max(0, Math.min(fromIndex, RelocationTable.this.size()));
+            this.relocation.index = start - 1;
+            this.reader.seek(start * RelocationTable.this.entsize);
+        }
+
+        @Override
+        void decode() {
+            final int pos = this.reader.position();
+            this.relocation.offset = this.reader.addr();
+            this.relocation.info = this.reader.xword();
+            this.relocation.addend = RelocationTable.this.format.hasAddend() ? this.reader.sxword() : 0;
+            this.reader.seek(pos + RelocationTable.this.entsize);
+        }
+    }
+
+    /**
+     * Iterator of the {@link RelocationFormat#RELR} bitmaps: an even entry
+     * is the address of a relocation, and an odd entry is a bitmap of the
+     * relocations in the following words.
+     */
+    private final class RelrIterator extends RelocationIterator {
+
+        private final int wordSize = RelocationTable.this.elf64 ? 8 : 4;
+        private final int bits = RelocationTable.this.elf64 ? 63 : 31;
+        private final long type = relativeTypeOf(RelocationTable.this.machine);
+        private long base;
+        private long bitmap;
+        private int bit;
+
+        /**
+         * Whether the {@link #bitmap} is in use, even if it has no bit set,
+         * so that the {@link #base} moves past its words when it is done.
+         */
+        private boolean inBitmap;
+
+        @Override
+        void decode() {
+            while (true) {
+                if (this.inBitmap) {
+                    while (this.bit < this.bits) {
+                        final int b = this.bit++;
+                        if ((this.bitmap & (1L << b)) != 0) {
+                            this.set(this.base + (long) b * this.wordSize);
+                            return;
+                        }
+                    }
+                    this.base += (long) this.bits * this.wordSize;
+                    this.inBitmap = false;
+                }
+
+                final int pos = this.reader.position();
+                final long entry = this.reader.addr();
+                this.reader.seek(pos + RelocationTable.this.entsize);
+                if ((entry & 1) == 0) {
+                    this.set(entry);
+                    this.base = entry + this.wordSize;
+                    return;
+                }
+                this.bitmap = (entry >>> 1) & ((1L << this.bits) - 1);
+                this.bit = 0;
+                this.inBitmap = true;
+            }
+        }
+
+        private void set(final long address) {
+            this.relocation.offset = RelocationTable.this.elf64 ? address : address & 0xFFFFFFFFL;
+            this.relocation.info = this.type;
+            this.relocation.addend = 0;
+        }
+    }
+
+    /**
+     * Iterator of the Android packed relocations, which are groups of
+     * SLEB128 values sharing the offset delta, the info or the addend.
+     */
+    private final class PackedIterator extends RelocationIterator {
+
+        private final boolean rela = RelocationTable.this.format.hasAddend();
+        private long groupSize;
+        private long groupFlags;
+        private long groupOffsetDelta;
+        private long groupIndex;
+
+        PackedIterator() {
+            this.reader.seek(RelocationTable.this.packedStart);
+            this.relocation.offset = RelocationTable.this.packedOffset;
+        }
+
+        @Override
+        void decode() {
+            final Relocation r = this.relocation;
+            if (this.groupIndex == this.groupSize) {
+                this.readGroup();
+            }
+            if ((this.groupFlags & RELOCATION_GROUPED_BY_OFFSET_DELTA_FLAG) != 0) {
+                r.offset += this.groupOffsetDelta;
+            } else {
+                r.offset += sleb128(this.reader);
+            }
+            if ((this.groupFlags & RELOCATION_GROUPED_BY_INFO_FLAG) == 0) {
+                r.info = sleb128(this.reader);
+            }
+            if (this.rela && (this.groupFlags & RELOCATION_GROUP_HAS_ADDEND_FLAG) != 0
+                    && (this.groupFlags & RELOCATION_GROUPED_BY_ADDEND_FLAG) == 0) {
+                r.addend += sleb128(this.reader);
+            }
+            if (!RelocationTable.this.elf64) {
+                r.offset &= 0xFFFFFFFFL;
+            }
+            this.groupIndex++;
+        }
+
+        private void readGroup() {
+            final Relocation r = this.relocation;
+            this.groupSize = sleb128(this.reader);
+            this.groupFlags = sleb128(this.reader);
+            if (this.groupSize <= 0) {
+                throw new IllegalStateException(String.format("Invalid packed relocation group size %d in section %s",
+                        this.groupSize, RelocationTable.this.section.getName()));
+            }
+            if ((this.groupFlags & RELOCATION_GROUPED_BY_OFFSET_DELTA_FLAG) != 0) {
+                this.groupOffsetDelta = sleb128(this.reader);
+            }
+            if ((this.groupFlags & RELOCATION_GROUPED_BY_INFO_FLAG) != 0) {
+                r.info = sleb128(this.reader);
+            }
+            if ((this.groupFlags & RELOCATION_GROUP_HAS_ADDEND_FLAG) != 0 && (this.groupFlags & RELOCATION_GROUPED_BY_ADDEND_FLAG) != 0) {
+                if (!this.rela) {
+                    throw new IllegalStateException(String.format("Addend found in the packed REL section %s",
+                            RelocationTable.this.section.getName()));
+                }
+                r.addend += sleb128(this.reader);
+            } else if ((this.groupFlags & RELOCATION_GROUP_HAS_ADDEND_FLAG) == 0) {
+                r.addend = 0;
+            }
+            this.groupIndex = 0;
+        }
+    }
+
+    /**
+     * Counts of the relocations by type and by symbol, which tell the load
+     * time cost: a relative relocation only adds the load base, while a
+     * symbolic one needs a symbol lookup.
+     *
+     * <pre>
+     * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+     * </pre>
+     */
+    @SuppressWarnings("java:S1104")
+    public static final class Statistics {
+
+        /**
+         * Maximum relocation type counted in an array; bigger types are
+         * counted in a map.
+         */
+        static final int MAX_ARRAY_TYPE = 4096;
+
+        /**
+         * Maximum symbol index counted if there is no linked symbol table.
+         */
+        static final int MAX_UNLINKED_SYMBOL = 1 << 20;
+
+        /**
+         * Number of the relocations.
+         */
+        public final int count;
+
+        /**
+         * Number of the relocations without a symbol.
+         */
+        public final int relative;
+
+        /**
+         * Number of the distinct symbols referenced.
+         */
+        public final int distinctSymbols;
+
+        /**
+         * Relocation type to the number of relocations, sorted by the type.
+         */
+        public final Map<Integer, Integer> typeCounts;
+
+        private final RelocationTable table;
+
+        /**
+         * Number of relocations by the symbol index.
+         */
+        private final int[] symbolCounts;
+
+        private Statistics(final RelocationTable table) {
+            this.table = table;
+            int[] bySymbol = new int[(table.symbols == null) ? 16 : Math.max(1, table.symbols.size())];
+            final int[] byType = new int[MAX_ARRAY_TYPE];
+            final Map<Integer, Integer> otherTypes = new HashMap<>();
+            int total = 0;
+            int noSymbol = 0;
+
+            final Iterator<Relocation> it = table.iterator();
+            while (it.hasNext()) {
+                final Relocation r = it.next();
+                final int type = r.getType();
+                if (type >= 0 && type < MAX_ARRAY_TYPE) {
+                    byType[type]++;
+                } else {
+                    otherTypes.merge(type, 1, Integer::sum);
+                }
+                final int symbol = r.getSymbol();
+                if (symbol == 0) {
+                    noSymbol++;
+                } else {
+                    if (symbol >= bySymbol.length && table.symbols == null && symbol < MAX_UNLINKED_SYMBOL) {
+                        bySymbol = Arrays.copyOf(bySymbol, Math.max(symbol + 1, bySymbol.length * 2));
+                    }
+                    if (symbol < bySymbol.length) {
+                        bySymbol[symbol]++;
+                    }
+                }
+                total++;
+            }
+
+            final Map<Integer, Integer> types = new TreeMap<>(otherTypes);
+            for (int i = 0; i < byType.length; i++) {
+                if (byType[i] != 0) {
+                    types.put(i, byType[i]);
+                }
+            }
+            int distinct = 0;
+            for (int c : bySymbol) {
+                if (c != 0) {
+                    distinct++;
+                }
+            }
+            this.count = total;
+            this.relative = noSymbol;
+            this.distinctSymbols = distinct;
+            this.typeCounts = Collections.unmodifiableMap(types);
+            this.symbolCounts = bySymbol;
+        }
+
+        /**
+         * Number of the relocations referencing a symbol.
+         *
+         * @return Number of the symbolic relocations
+         */
+        public int getSymbolic() {
+            return this.count - this.relative;
+        }
+
+        /**
+         * Number of the relocations of a symbol.
+         *
+         * @param symbol Index in the linked symbol table
+         * @return Number of the relocations
+         */
+        public int getSymbolCount(final int symbol) {
+            return (symbol >= 0 && symbol < this.symbolCounts.length) ? this.symbolCounts[symbol] : 0;
+        }
+
+        /**
+         * Get the symbols referenced by the most relocations.
+         *
+         * @param n Maximum number of the symbols
+         * @return Symbol indexes, by the number of relocations descending
+         */
+        public int[] getTopSymbols(final int n) {
+            final long[] keys = new long[this.distinctSymbols];
+            int k = 0;
+            for (int i = 0; i < this.symbolCounts.length; i++) {
+                if (this.symbolCounts[i] != 0) {
+                    // Count descending, then index ascending
+                    keys[k++] = ((long) (Integer.MAX_VALUE - this.symbolCounts[i]) << 32) | i;
+                }
+            }
+            Arrays.sort(keys);
+            final int[] result = new int[Math.min(n, keys.length)];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (int) keys[i];
+            }
+            return result;
+        }
+
+        /**
+         * Text of the statistics, with the symbols referenced by the most
+         * relocations.
+         *
+         * @param topSymbols Maximum number of the symbols listed
+         * @return The text
+         */
+        public String toString(final int topSymbols) {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Relocations: %,d, relative: %,d, symbolic: %,d, distinct symbols: %,d%n",
+                    this.count, this.relative, this.getSymbolic(), this.distinctSymbols));
+            for (Map.Entry<Integer, Integer> item : this.typeCounts.entrySet()) {
+                sb.append(String.format("    %-28s %,12d%n", this.table.typeNameOf(item.getKey()), item.getValue()));
+            }
+            final int[] top = this.getTopSymbols(topSymbols);
+            if (top.length > 0) {
+                sb.append(String.format("Symbols by relocations:%n"));
+                for (int symbol : top) {
+                    final String name = (this.table.symbols != null && symbol < this.table.symbols.size())
+                            ? this.table.symbols.getName(symbol) : String.format("#%d", symbol);
+                    sb.append(String.format("    %-40s %,12d%n", name, this.symbolCounts[symbol]));
+                }
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return this.toString(20);
+        }
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ * SymbolTable.java    October 20, 2026, 00:20
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.format.elf.Elf_Shdr.ELF_SectionType;
+
+/**
+ * Symbols of a {@link ELF_SectionType#SHT_SYMTAB} or
+ * {@link ELF_SectionType#SHT_DYNSYM} section, with the names in the string
+ * table linked by <code>sh_link</code>.
+ *
+ * <p>
+ * A symbol table of a big binary could have millions of entries, so no
+ * object is created per symbol: each field is a column read from the mapped
+ * section content by the symbol index, like {@link #getValue(int)}. The
+ * column offsets are chosen once by the ELF class, for
+ * <code>Elf32_Sym</code> or <code>Elf64_Sym</code>.
+ * </p>
+ *
+ * <p>
+ * Name lookup uses the <code>.gnu.hash</code> or <code>.hash</code> section
+ * of the binary if there is one for the table, otherwise a hash index built
+ * on the first lookup. Address lookup uses an index of the defined symbols
+ * sorted by address, built on the first lookup.
+ * </p>
+ *
+ * @author Amos Shi
+ * @see <a href="https://flapenguin.me/elf-dt-gnu-hash">ELF: symbol lookup via DT_GNU_HASH</a>
+ */
+public final class SymbolTable {
+
+    /**
+     * The symbol table section.
+     */
+    public final Elf_Shdr section;
+
+    private final ByteBuffer symbols;
+    private final ByteBuffer strtab;
+    private final int entsize;
+    private final int count;
+    private final boolean elf64;
+
+    private final int offsetInfo;
+    private final int offsetOther;
+    private final int offsetShndx;
+    private final int offsetValue;
+    private final int offsetSize;
+
+    /**
+     * The <code>.gnu.hash</code> or <code>.hash</code> section content, or
+     * <code>null</code>.
+     */
+    private final ByteBuffer hash;
+    private final boolean gnuHash;
+
+    private volatile int[] nameIndex;
+    private volatile long[] addressKeys;
+    private volatile int[] addressIndex;
+
+    /**
+     * Biggest end address of the symbols up to each position of the address
+     * index, with the sign bit flipped as the keys.
+     */
+    private volatile long[] addressMaxEnds;
+
+    /**
+     * Constructor.
+     *
+     * @param section The symbol table section
+     * @param strtab The string table section linked by the section
+     * @param hashSection The <code>.gnu.hash</code> or <code>.hash</code>
+     * section of the symbol table, or <code>null</code>
+     * @param elf64 Whether the file is 64-bit ELF
+     * @throws IOException Failed to map the sections
+     * @throws FileFormatException Invalid <code>sh_entsize</code>
+     */
+    SymbolTable(final Elf_Shdr section, final Elf_Shdr strtab, final Elf_Shdr hashSection, final boolean elf64)
+            throws IOException, FileFormatException {
+        this.section = section;
+        this.elf64 = elf64;
+        this.entsize = (int) section.sh_entsize;
+        if (section.sh_entsize < (elf64 ? Elf_Sym.SIZE : Elf_Sym.SIZE32) || section.sh_entsize > Integer.MAX_VALUE) {
+            throw new FileFormatException(String.format("Invalid sh_entsize of symbol table %s. value=%d", section.getName(), section.sh_entsize));
+        }
+        this.symbols = section.content.getBuffer();
+        this.count = this.symbols.limit() / this.entsize;
+        this.strtab = strtab.content.getBuffer();
+        this.hash = (hashSection == null) ? null : hashSection.content.getBuffer();
+        this.gnuHash = (hashSection != null) && hashSection.sh_type == ELF_SectionType.SHT_GNU_HASH.value;
+
+        this.offsetInfo = elf64 ? Elf_Sym.OFFSET_ST_INFO : Elf_Sym.OFFSET32_ST_INFO;
+        this.offsetOther = elf64 ? Elf_Sym.OFFSET_ST_OTHER : Elf_Sym.OFFSET32_ST_OTHER;
+        this.offsetShndx = elf64 ? Elf_Sym.OFFSET_ST_SHNDX : Elf_Sym.OFFSET32_ST_SHNDX;
+        this.offsetValue = elf64 ? Elf_Sym.OFFSET_ST_VALUE : Elf_Sym.OFFSET32_ST_VALUE;
+        this.offsetSize = elf64 ? Elf_Sym.OFFSET_ST_SIZE : Elf_Sym.OFFSET32_ST_SIZE;
+    }
+
+    /**
+     * Number of the symbols.
+     *
+     * @return Number of the symbols
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Get a symbol as an object, for displaying a single entry.
+     *
+     * @param index Symbol index
+     * @return The symbol
+     */
+    public Elf_Sym get(final int index) {
+        final ElfReader reader = new ElfReader(this.symbols, this.section.content.offset, this.elf64);
+        reader.seek(this.pos(index));
+        return new Elf_Sym(reader);
+    }
+
+    /**
+     * The {@link Elf_Sym#st_name} of a symbol.
+     *
+     * @param index Symbol index
+     * @return Offset of the name in the string table
+     */
+    public long getNameOffset(final int index) {
+        return this.symbols.getInt(this.pos(index) + Elf_Sym.OFFSET_ST_NAME) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Name of a symbol.
+     *
+     * @param index Symbol index
+     * @return Symbol name
+     */
+    public String getName(final int index) {
+        return Elf_Shdr.getString(this.strtab, this.getNameOffset(index));
+    }
+
+    /**
+     * The {@link Elf_Sym#st_info} of a symbol.
+     *
+     * @param index Symbol index
+     * @return Type and binding attributes
+     */
+    public int getInfo(final int index) {
+        return this.symbols.get(this.pos(index) + this.offsetInfo) & 0xFF;
+    }
+
+    /**
+     * The {@link Elf_Sym#st_other} of a symbol.
+     *
+     * @param index Symbol index
+     * @return Symbol visibility
+     */
+    public int getOther(final int index) {
+        return this.symbols.get(this.pos(index) + this.offsetOther) & 0xFF;
+    }
+
+    /**
+     * The {@link Elf_Sym#st_shndx} of a symbol.
+     *
+     * @param index Symbol index
+     * @return Associated section index
+     */
+    public int getSectionIndex(final int index) {
+        return this.symbols.getShort(this.pos(index) + this.offsetShndx) & 0xFFFF;
+    }
+
+    /**
+     * The {@link Elf_Sym#st_value} of a symbol.
+     *
+     * @param index Symbol index
+     * @return Value of the symbol, usually the address
+     */
+    public long getValue(final int index) {
+        final int p = this.pos(index) + this.offsetValue;
+        return this.elf64 ? this.symbols.getLong(p) : this.symbols.getInt(p) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * The {@link Elf_Sym#st_size} of a symbol.
+     *
+     * @param index Symbol index
+     * @return Associated symbol size
+     */
+    public long getSize(final int index) {
+        final int p = this.pos(index) + this.offsetSize;
+        return this.elf64 ? this.symbols.getLong(p) : this.symbols.getInt(p) & 0xFFFFFFFFL;
+    }
+
+    private int pos(final int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException(String.format("Invalid symbol index %d, size %d", index, this.count));
+        }
+        return index * this.entsize;
+    }
+
+    /**
+     * Find a symbol by name.
+     *
+     * @param name Symbol name
+     * @return Index of a symbol with the name, or -1 if not found
+     */
+    public int indexOf(final String name) {
+        final byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        if (this.hash != null) {
+            try {
+                return this.gnuHash ? this.lookupGnuHash(key) : this.lookupHash(key);
+            } catch (IndexOutOfBoundsException ex) {
+                // The hash section is corrupted, fall back to our own index
+            }
+        }
+        return this.lookupNameIndex(key);
+    }
+
+    /**
+     * Lookup through a <code>.gnu.hash</code> section: a bloom filter, the
+     * buckets, and the hash values of the symbols, which are sorted by
+     * bucket starting from <code>symoffset</code>.
+     */
+    private int lookupGnuHash(final byte[] key) {
+        final ByteBuffer h = this.hash;
+        final int nbuckets = h.getInt(0);
+        final int symoffset = h.getInt(4);
+        final int bloomSize = h.getInt(8);
+        final int bloomShift = h.getInt(12);
+        if (nbuckets == 0) {
+            return -1;
+        }
+        final int hashValue = gnuHash(key, 0, key.length);
+
+        // The bloom filter words are 64-bit in ELF64, 32-bit in ELF32
+        final int bloomBytes = this.elf64 ? 8 : 4;
+        if (bloomSize > 0) {
+            final int bits = bloomBytes * 8;
+            final int wordPos = 16 + bloomBytes * (int) (Integer.toUnsignedLong(hashValue) / bits % bloomSize);
+            final long word = this.elf64 ? h.getLong(wordPos) : h.getInt(wordPos) & 0xFFFFFFFFL;
+            final long mask = (1L << (hashValue & (bits - 1))) | (1L << ((hashValue >>> bloomShift) & (bits - 1)));
+            if ((word & mask) != mask) {
+                return -1;
+            }
+        }
+
+        final int bucketsPos = 16 + bloomBytes * bloomSize;
+        final int chainPos = bucketsPos + 4 * nbuckets;
+        int index = h.getInt(bucketsPos + 4 * Integer.remainderUnsigned(hashValue, nbuckets));
+        if (index == 0 || index < symoffset) {
+            return -1;
+        }
+        while (index < this.count) {
+            final int chainHash = h.getInt(chainPos + 4 * (index - symoffset));
+            if ((chainHash | 1) == (hashValue | 1) && this.nameEquals(index, key)) {
+                return index;
+            }
+            if ((chainHash & 1) != 0) {
+                break;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Lookup through a SysV <code>.hash</code> section: the buckets and the
+     * chains, indexed by symbol index.
+     */
+    private int lookupHash(final byte[] key) {
+        final ByteBuffer h = this.hash;
+        final int nbucket = h.getInt(0);
+        final int nchain = h.getInt(4);
+        if (nbucket == 0) {
+            return -1;
+        }
+        final int chainPos = 8 + 4 * nbucket;
+        int index = h.getInt(8 + 4 * (int) (elfHash(key) % nbucket));
+        for (int i = 0; index != 0 && i < nchain; i++) {
+            if (this.nameEquals(index, key)) {
+                return index;
+            }
+            index = h.getInt(chainPos + 4 * index);
+        }
+        return -1;
+    }
+
+    /**
+     * Lookup through an open addressing hash index of all the symbols, for a
+     * table without a hash section, like <code>.symtab</code>.
+     */
+    private int lookupNameIndex(final byte[] key) {
+        int[] table = this.nameIndex;
+        if (table == null) {
+            table = this.buildNameIndex();
+            this.nameIndex = table;
+        }
+        final int mask = table.length - 1;
+        for (int slot = gnuHash(key, 0, key.length) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            if (this.nameEquals(table[slot] - 1, key)) {
+                return table[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private int[] buildNameIndex() {
+        // Slots hold symbol index + 1, so 0 is an empty slot
+        final int[] table = new int[Integer.highestOneBit(Math.max(1, this.count)) << 2];
+        final int mask = table.length - 1;
+        final int limit = this.strtab.limit();
+        for (int i = 1; i < this.count; i++) {
+            final long start = this.getNameOffset(i);
+            if (start == 0 || start >= limit) {
+                continue;
+            }
+            int end = (int) start;
+            while (end < limit && this.strtab.get(end) != 0) {
+                end++;
+            }
+            int slot = gnuHash(this.strtab, (int) start, end) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private boolean nameEquals(final int index, final byte[] key) {
+        final long start = this.getNameOffset(index);
+        if (start + key.length >= this.strtab.limit()) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (this.strtab.get((int) start + i) != key[i]) {
+                return false;
+            }
+        }
+        return this.strtab.get((int) start + key.length) == 0;
+    }
+
+    /**
+     * The GNU hash function, <code>h * 33 + c</code>.
+     */
+    static int gnuHash(final byte[] name, final int start, final int end) {
+        int h = 5381;
+        for (int i = start; i < end; i++) {
+            h = h * 33 + (name[i] & 0xFF);
+        }
+        return h;
+    }
+
+    private static int gnuHash(final ByteBuffer buf, final int start, final int end) {
+        int h = 5381;
+        for (int i = start; i < end; i++) {
+            h = h * 33 + (buf.get(i) & 0xFF);
+        }
+        return h;
+    }
+
+    /**
+     * The SysV ELF hash function.
+     */
+    static long elfHash(final byte[] name) {
+        long h = 0;
+        for (byte b : name) {
+            h = (h << 4) + (b & 0xFF);
+            final long g = h & 0xf0000000L;
+            if (g != 0) {
+                h ^= g >>> 24;
+            }
+            h &= ~g;
+        }
+        return h;
+    }
+
+    /**
+     * Find the symbol containing an address: the defined symbol with the
+     * biggest {@link Elf_Sym#st_value} not above the address, whose size
+     * covers the address, or whose value is the address. A zero size symbol
+     * inside a function, like a local label or an ARM mapping symbol, only
+     * matches its own address and does not hide the function.
+     *
+     * @param address The address
+     * @return Symbol index, or -1 if not found
+     */
+    public int indexOfAddress(final long address) {
+        long[] keys = this.addressKeys;
+        if (keys == null) {
+            this.buildAddressIndex();
+            keys = this.addressKeys;
+        }
+        final int[] indexes = this.addressIndex;
+        final long[] maxEnds = this.addressMaxEnds;
+
+        // Keys are the values with the sign bit flipped, to sort unsigned
+        final long key = address ^ Long.MIN_VALUE;
+        int i = Arrays.binarySearch(keys, key);
+        if (i < 0) {
+            i = -i - 2;
+        } else {
+            while (i + 1 < keys.length && keys[i + 1] == keys[i]) {
+                i++;
+            }
+        }
+        // No symbol at or before a position ends above the address when the
+        // max end is not above it, except the symbols at the address itself
+        for (; i >= 0 && (keys[i] == key || key < maxEnds[i]); i--) {
+            final int index = indexes[i];
+            final long size = this.getSize(index);
+            if (this.getValue(index) == address || Long.compareUnsigned(address - this.getValue(index), size) < 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private synchronized void buildAddressIndex() {
+        if (this.addressKeys != null) {
+            return;
+        }
+
+        int n = 0;
+        final long[] values = new long[this.count];
+        for (int i = 1; i < this.count; i++) {
+            if (this.isAddressSymbol(i)) {
+                values[n++] = this.getValue(i) ^ Long.MIN_VALUE;
+            }
+        }
+        final long[] keys = Arrays.copyOf(values, n);
+        Arrays.sort(keys);
+
+        // Sort the symbol indexes by the rank of their values, packed in a long
+        final long[] ranked = new long[n];
+        n = 0;
+        for (int i = 1; i < this.count; i++) {
+            if (this.isAddressSymbol(i)) {
+                int rank = Arrays.binarySearch(keys, this.getValue(i) ^ Long.MIN_VALUE);
+                while (rank > 0 && keys[rank - 1] == keys[rank]) {
+                    rank--;
+                }
+                ranked[n++] = ((long) rank << 32) | i;
+            }
+        }
+        Arrays.sort(ranked);
+        final int[] indexes = new int[n];
+        final long[] maxEnds = new long[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = (int) ranked[i];
+            final long value = this.getValue(indexes[i]);
+            long end = value + this.getSize(indexes[i]);
+            if (Long.compareUnsigned(end, value) < 0) {
+                end = -1;
+            }
+            end ^= Long.MIN_VALUE;
+            maxEnds[i] = (i == 0) ? end : Math.max(maxEnds[i - 1], end);
+        }
+
+        this.addressIndex = indexes;
+        this.addressMaxEnds = maxEnds;
+        this.addressKeys = keys;
+    }
+
+    private boolean isAddressSymbol(final int index) {
+        final int type = Elf_Sym.typeOf(this.getInfo(index));
+        return this.getSectionIndex(index) != Elf_Sym.SHN_UNDEF
+                && type != Elf_Sym.ELF_SymbolType.STT_SECTION.value
+                && type != Elf_Sym.ELF_SymbolType.STT_FILE.value
+                && type != Elf_Sym.ELF_SymbolType.STT_TLS.value;
+    }
+}
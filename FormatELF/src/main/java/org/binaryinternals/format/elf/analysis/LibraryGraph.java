@@ -0,0 +1,590 @@
+/*
+ * LibraryGraph.java    October 20, 2026, 03:40
+ *
+ * Copyright 2026, BinaryInternals.org. All rights reserved.
+ * Use is subject to license terms.
+ */
+package org.binaryinternals.format.elf.analysis;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.binaryinternals.commonlib.core.FileFormatException;
+import org.binaryinternals.format.elf.ElfDynamic;
+import org.binaryinternals.format.elf.ElfFile;
+import org.binaryinternals.format.elf.Elf_Ehdr;
+import org.binaryinternals.format.elf.Elf_Sym;
+import org.binaryinternals.format.elf.Identification;
+import org.binaryinternals.format.elf.SymbolTable;
+
+/**
+ * Shared library dependency graph of the executables and shared libraries in
+ * a directory tree, like the <code>/usr/lib</code> of a container image,
+ * built from the {@link ElfDynamic.ELF_DynamicTag#DT_NEEDED},
+ * {@link ElfDynamic.ELF_DynamicTag#DT_SONAME},
+ * {@link ElfDynamic.ELF_DynamicTag#DT_RUNPATH} and
+ * {@link ElfDynamic.ELF_DynamicTag#DT_RPATH} of each file.
+ *
+ * <p>
+ * Only the headers, the dynamic section and the <code>.dynsym</code> of each
+ * file are read, through {@link ElfFile#openMapped(File)}, and the files are
+ * read in parallel. A needed library is found by its soname or file name,
+ * among the objects of the same machine and class, preferring the run path
+ * directories of the requiring object. The graph reports the libraries
+ * needed but not found; the undefined symbols not defined by any loaded
+ * library are checked by {@link #findUnresolvedSymbols()}, which looks the
+ * symbols up and so is kept separate from {@link #build(Collection)}.
+ * </p>
+ *
+ * @author Amos Shi
+ * @see <a href="https://man7.org/linux/man-pages/man8/ld.so.8.html">ld.so(8)</a>
+ */
+public final class LibraryGraph {
+
+    private static final Logger LOG = Logger.getLogger(LibraryGraph.class.getName());
+
+    /**
+     * The dynamic string token of the directory containing the object.
+     */
+    static final String ORIGIN = "$ORIGIN";
+    static final String ORIGIN_BRACED = "${ORIGIN}";
+
+    /**
+     * Mask of the symbol visibility in <code>st_other</code>.
+     */
+    static final int STV_MASK = 0x3;
+    static final int STV_INTERNAL = 1;
+    static final int STV_HIDDEN = 2;
+
+    private final Map<String, ElfObject> objects = new TreeMap<>();
+    private final Map<String, String> failures = new TreeMap<>();
+
+    /**
+     * Objects by soname and by file name, including the names of the
+     * symbolic links to the file.
+     */
+    private final Map<String, List<ElfObject>> byName = new HashMap<>();
+
+    private LibraryGraph() {
+    }
+
+    /**
+     * Build the graph from the ELF files in a directory tree. Symbolic links
+     * to files are followed, and are names of the linked file.
+     *
+     * @param directory Directory like <code>/usr/lib</code>
+     * @return The library graph
+     * @throws IOException Failed to walk the directory
+     */
+    public static LibraryGraph build(final Path directory) throws IOException {
+        try (Stream<Path> stream = Files.walk(directory)) {
+            return build(stream
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .map(Path::toFile)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Build the graph from files. Files which are not executables or shared
+     * libraries are ignored, and ELF files failed to be parsed are reported
+     * by {@link #getFailures()}. Files which are the same file through
+     * symbolic links are read once.
+     *
+     * @param files The files
+     * @return The library graph
+     */
+    public static LibraryGraph build(final Collection<File> files) {
+        final LibraryGraph graph = new LibraryGraph();
+        final Map<Path, List<File>> aliases = new LinkedHashMap<>();
+        for (File file : files) {
+            try {
+                aliases.computeIfAbsent(file.toPath().toRealPath(), k -> new ArrayList<>(1)).add(file);
+            } catch (IOException | InvalidPathException ex) {
+                graph.failures.put(file.getPath(), ex.toString());
+            }
+        }
+
+        final Map<Path, Object> parsed = new ConcurrentHashMap<>();
+        aliases.keySet().parallelStream().forEach(path -> {
+            try {
+                final ElfObject object = readObject(path);
+                if (object != null) {
+                    parsed.put(path, object);
+                }
+            } catch (IOException | FileFormatException | RuntimeException ex) {
+                LOG.log(Level.WARNING, String.format("Failed to read the dynamic section of %s", path), ex);
+                parsed.put(path, ex.toString());
+            }
+        });
+
+        for (Map.Entry<Path, List<File>> item : aliases.entrySet()) {
+            final Object result = parsed.get(item.getKey());
+            if (result instanceof ElfObject) {
+                final ElfObject object = (ElfObject) result;
+                graph.objects.put(object.path, object);
+                final Set<String> names = new LinkedHashSet<>();
+                if (object.soname != null) {
+                    names.add(object.soname);
+                }
+                names.add(item.getKey().getFileName().toString());
+                for (File file : item.getValue()) {
+                    names.add(file.getName());
+                }
+                for (String name : names) {
+                    graph.byName.computeIfAbsent(name, k -> new ArrayList<>(1)).add(object);
+                }
+            } else if (result != null) {
+                graph.failures.put(item.getKey().toString(), (String) result);
+            }
+        }
+        for (List<ElfObject> list : graph.byName.values()) {
+            list.sort((a, b) -> a.path.compareTo(b.path));
+        }
+        for (ElfObject object : graph.objects.values()) {
+            for (String name : object.needed) {
+                final ElfObject library = graph.findLibrary(object, name);
+                if (library != null) {
+                    object.dependencies.put(name, library);
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Read the dynamic section and the <code>.dynsym</code> of an executable
+     * or a shared library.
+     *
+     * @param path The file
+     * @return The object, or <code>null</code> if the file is not an ELF
+     * executable or shared library
+     * @throws IOException Failed to read the file
+     * @throws FileFormatException Invalid ELF file
+     */
+    public static ElfObject readObject(final Path path) throws IOException, FileFormatException {
+        if (!isElf(path)) {
+            return null;
+        }
+        final ElfFile elf = ElfFile.openMapped(path.toFile());
+        if (elf.header.e_type != Elf_Ehdr.ELF_FileType.ET_EXEC.value && elf.header.e_type != Elf_Ehdr.ELF_FileType.ET_DYN.value) {
+            return null;
+        }
+        return new ElfObject(path, elf);
+    }
+
+    private static boolean isElf(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer magic = ByteBuffer.allocate(Identification.EI_MAG_SIZE);
+            while (magic.hasRemaining() && channel.read(magic) > 0) {
+                // Read until the magic number is complete or the end of the file
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == Identification.MAGIC_NUMBER;
+        }
+    }
+
+    /**
+     * Find a needed library of an object. The candidates are the objects of
+     * the same machine and class with the name as soname or file name; the
+     * one in the run path directories of the object is preferred, then the
+     * one in the directory of the object, then the first one by path.
+     */
+    private ElfObject findLibrary(final ElfObject object, final String needed) {
+        final List<ElfObject> candidates = new ArrayList<>();
+        final List<ElfObject> named = this.byName.get(Paths.get(needed).getFileName().toString());
+        if (named != null) {
+            for (ElfObject candidate : named) {
+                if (candidate.machine == object.machine && candidate.elfClass == object.elfClass) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        if (candidates.size() <= 1) {
+            return candidates.isEmpty() ? null : candidates.get(0);
+        }
+
+        // The RPATH is ignored if there is a RUNPATH
+        final List<String> dirs = object.runpath.isEmpty() ? object.rpath : object.runpath;
+        for (String dir : dirs) {
+            final Path searchDir = toSearchDir(object, dir);
+            for (ElfObject candidate : candidates) {
+                if (searchDir != null && candidate.directory.endsWith(searchDir)) {
+                    return candidate;
+                }
+            }
+        }
+        for (ElfObject candidate : candidates) {
+            if (candidate.directory.equals(object.directory)) {
+                return candidate;
+            }
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * Convert a run path directory to a path to match the directories of the
+     * objects. The <code>$ORIGIN</code> is the directory of the object; an
+     * absolute directory is relative to the root of the scanned tree, which
+     * is unknown, so it is matched as a path suffix.
+     */
+    private static Path toSearchDir(final ElfObject object, final String dir) {
+        try {
+            String rest = null;
+            if (dir.startsWith(ORIGIN)) {
+                rest = dir.substring(ORIGIN.length());
+            } else if (dir.startsWith(ORIGIN_BRACED)) {
+                rest = dir.substring(ORIGIN_BRACED.length());
+            }
+            if (rest != null) {
+                return object.directory.resolve(rest.replaceFirst("^/+", "")).normalize();
+            }
+            final Path path = Paths.get(dir).normalize();
+            return path.isAbsolute() ? path.getRoot().relativize(path) : path;
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Get all the executables and shared libraries.
+     *
+     * @return Real path to object, sorted by the path
+     */
+    public Map<String, ElfObject> getObjects() {
+        return Collections.unmodifiableMap(this.objects);
+    }
+
+    /**
+     * Get an object by its path.
+     *
+     * @param path Real path of the file
+     * @return The object, or <code>null</code> if not found
+     */
+    public ElfObject getObject(final String path) {
+        return this.objects.get(path);
+    }
+
+    /**
+     * Get the files failed to be read.
+     *
+     * @return File path to the error message
+     */
+    public Map<String, String> getFailures() {
+        return Collections.unmodifiableMap(this.failures);
+    }
+
+    /**
+     * Get the objects directly needing a library.
+     *
+     * @param path Real path of the library
+     * @return Paths of the objects whose needed library is found as the
+     * library
+     */
+    public List<String> getNeededBy(final String path) {
+        final List<String> result = new ArrayList<>();
+        for (ElfObject object : this.objects.values()) {
+            for (ElfObject library : object.dependencies.values()) {
+                if (library.path.equals(path)) {
+                    result.add(object.path);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the libraries loaded for an object, in the breadth-first order of
+     * the dynamic linker, without the object itself.
+     *
+     * @param path Real path of the object
+     * @return Paths of the libraries found
+     */
+    public List<String> getLoadOrder(final String path) {
+        final ElfObject object = this.objects.get(path);
+        if (object == null) {
+            return Collections.emptyList();
+        }
+        final List<ElfObject> order = loadOrder(object);
+        return order.subList(1, order.size()).stream().map(o -> o.path).collect(Collectors.toList());
+    }
+
+    /**
+     * The object followed by the libraries loaded for it, breadth first.
+     */
+    private static List<ElfObject> loadOrder(final ElfObject object) {
+        final Set<ElfObject> loaded = new LinkedHashSet<>();
+        final Deque<ElfObject> pending = new ArrayDeque<>();
+        loaded.add(object);
+        pending.add(object);
+        while (!pending.isEmpty()) {
+            for (ElfObject library : pending.poll().dependencies.values()) {
+                if (loaded.add(library)) {
+                    pending.add(library);
+                }
+            }
+        }
+        return new ArrayList<>(loaded);
+    }
+
+    /**
+     * Get the libraries needed but not found.
+     *
+     * @return Missing library name to the paths of the requiring objects
+     */
+    public Map<String, List<String>> getMissingLibraries() {
+        final Map<String, List<String>> result = new TreeMap<>();
+        for (ElfObject object : this.objects.values()) {
+            for (String name : object.needed) {
+                if (!object.dependencies.containsKey(name)) {
+                    result.computeIfAbsent(name, k -> new ArrayList<>()).add(object.path);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the undefined symbols of each object which are not defined by the
+     * object or by the libraries loaded for it, looked up through the
+     * <code>.gnu.hash</code> or <code>.hash</code> of the libraries. The
+     * objects are checked in parallel.
+     *
+     * <p>
+     * Weak undefined symbols are optional and are not reported. The symbol
+     * versions are not checked. An object is not checked if a library it
+     * needs is missing, which is reported by {@link #getMissingLibraries()},
+     * or if it or a loaded library has no <code>.dynsym</code>. A library
+     * may rely on symbols of the executable loading it, like a plugin, and
+     * then its symbols are reported too.
+     * </p>
+     *
+     * @return Object path to its unresolved symbol names, sorted by path
+     */
+    public Map<String, List<String>> findUnresolvedSymbols() {
+        final Map<String, Object> found = new ConcurrentHashMap<>();
+        this.objects.values().parallelStream().forEach(object -> {
+            try {
+                final List<String> symbols = findUnresolvedSymbols(object);
+                if (symbols != null && !symbols.isEmpty()) {
+                    found.put(object.path, symbols);
+                }
+            } catch (RuntimeException ex) {
+                LOG.log(Level.WARNING, String.format("Failed to look up the symbols of %s", object.path), ex);
+                found.put(object.path, ex.toString());
+            }
+        });
+
+        final Map<String, List<String>> result = new TreeMap<>();
+        for (Map.Entry<String, Object> item : found.entrySet()) {
+            if (item.getValue() instanceof String) {
+                result.put(item.getKey(), Collections.singletonList((String) item.getValue()));
+            } else {
+                @SuppressWarnings("unchecked")
+                final List<String> symbols = (List<String>) item.getValue();
+                result.put(item.getKey(), symbols);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the unresolved symbols of an object.
+     *
+     * @return The symbol names, or <code>null</code> if the object is not
+     * checked
+     */
+    private static List<String> findUnresolvedSymbols(final ElfObject object) {
+        final List<ElfObject> scope = loadOrder(object);
+        for (ElfObject library : scope) {
+            if (library.dynsym == null || !library.dependencies.keySet().containsAll(library.needed)) {
+                return null;
+            }
+        }
+
+        final SymbolTable table = object.dynsym;
+        final List<String> result = new ArrayList<>();
+        for (int i = 1; i < table.size(); i++) {
+            if (table.getSectionIndex(i) != Elf_Sym.SHN_UNDEF
+                    || Elf_Sym.bindOf(table.getInfo(i)) != Elf_Sym.ELF_SymbolBind.STB_GLOBAL.value) {
+                continue;
+            }
+            final String name = table.getName(i);
+            if (!name.isEmpty() && !isDefined(scope, name)) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isDefined(final List<ElfObject> scope, final String name) {
+        for (ElfObject library : scope) {
+            final SymbolTable table = library.dynsym;
+            final int index = table.indexOf(name);
+            if (index > 0 && table.getSectionIndex(index) != Elf_Sym.SHN_UNDEF
+                    && (table.getOther(index) & STV_MASK) != STV_HIDDEN
+                    && (table.getOther(index) & STV_MASK) != STV_INTERNAL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generate a text report of the graph, without the unresolved symbols.
+     *
+     * @return The report
+     */
+    public StringBuilder generateReport() {
+        final StringBuilder sb = new StringBuilder(this.objects.size() * 128);
+        sb.append(String.format("Objects: %,d%n", this.objects.size()));
+        for (ElfObject object : this.objects.values()) {
+            sb.append(String.format("%n%s%s%n", object.path, object.soname == null ? "" : "  (" + object.soname + ")"));
+            for (String name : object.needed) {
+                final ElfObject library = object.dependencies.get(name);
+                sb.append(String.format("    needs %s => %s%n", name, library == null ? "not found" : library.path));
+            }
+            if (!object.runpath.isEmpty()) {
+                sb.append(String.format("    runpath: %s%n", String.join(":", object.runpath)));
+            }
+            if (!object.rpath.isEmpty()) {
+                sb.append(String.format("    rpath: %s%n", String.join(":", object.rpath)));
+            }
+        }
+        sb.append(String.format("%nMissing libraries: %s%n", this.getMissingLibraries()));
+        if (!this.failures.isEmpty()) {
+            sb.append(String.format("Failures: %s%n", this.failures));
+        }
+        return sb;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LibraryGraph: %d object(s), %d failure(s)", this.objects.size(), this.failures.size());
+    }
+
+    /**
+     * An executable or shared library, with its dynamic section.
+     *
+     * <pre>
+     * java:S1104 - Class variable fields should not have public accessibility --- No, we like the simplified final value manner
+     * </pre>
+     */
+    @SuppressWarnings("java:S1104")
+    public static final class ElfObject {
+
+        /**
+         * Real path of the file.
+         */
+        public final String path;
+
+        /**
+         * The <code>e_type</code>, see {@link Elf_Ehdr.ELF_FileType}.
+         */
+        public final int type;
+
+        /**
+         * The <code>e_machine</code>, see {@link Elf_Ehdr.ELF_Machine}.
+         */
+        public final int machine;
+
+        public final Identification.ElfClass elfClass;
+
+        /**
+         * The {@link ElfDynamic#soname}, or <code>null</code>.
+         */
+        public final String soname;
+
+        /**
+         * The {@link ElfDynamic#needed}, which is empty for a statically
+         * linked executable.
+         */
+        public final List<String> needed;
+
+        /**
+         * The {@link ElfDynamic#runpath}.
+         */
+        public final List<String> runpath;
+
+        /**
+         * The {@link ElfDynamic#rpath}.
+         */
+        public final List<String> rpath;
+
+        final Path directory;
+
+        /**
+         * The <code>.dynsym</code>, or <code>null</code>.
+         */
+        final SymbolTable dynsym;
+
+        /**
+         * The needed libraries found, by the needed name.
+         */
+        final Map<String, ElfObject> dependencies = new LinkedHashMap<>();
+
+        ElfObject(final Path path, final ElfFile elf) throws IOException, FileFormatException {
+            this.path = path.toString();
+            this.directory = path.getParent();
+            this.type = elf.header.e_type;
+            this.machine = elf.header.e_machine;
+            this.elfClass = elf.ident.EI_CLASS;
+
+            final ElfDynamic dynamic = elf.getDynamic();
+            if (dynamic == null) {
+                this.soname = null;
+                this.needed = Collections.emptyList();
+                this.runpath = Collections.emptyList();
+                this.rpath = Collections.emptyList();
+            } else {
+                this.soname = dynamic.soname;
+                this.needed = dynamic.needed;
+                this.runpath = dynamic.runpath;
+                this.rpath = dynamic.rpath;
+            }
+            this.dynsym = elf.getSymbolTable(".dynsym");
+        }
+
+        /**
+         * Get the needed libraries found.
+         *
+         * @return Needed name to the real path of the library
+         */
+        public Map<String, String> getDependencies() {
+            final Map<String, String> result = new LinkedHashMap<>();
+            for (Map.Entry<String, ElfObject> item : this.dependencies.entrySet()) {
+                result.put(item.getKey(), item.getValue().path);
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return (this.soname == null) ? this.path : String.format("%s (%s)", this.path, this.soname);
+        }
+    }
+}